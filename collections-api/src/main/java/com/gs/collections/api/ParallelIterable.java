@@ -23,10 +23,21 @@ import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFloatToFloatFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.FloatObjectToFloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntIntToIntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongLongToLongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -34,6 +45,8 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.MutableSet;
@@ -84,45 +97,40 @@ public interface ParallelIterable<T>
      */
     <V> ParallelIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
-//    /**
-//     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
-//     */
-//    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-//
-//    /**
-//     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-//     */
-//    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-//
-//    /**
-//     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-//     */
-//    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-//
-//    /**
-//     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-//     */
-//    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-//
-//    /**
-//     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-//     */
-//    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-//
-//    /**
-//     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-//     */
-//    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-//
-//    /**
-//     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-//     */
-//    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-//
-//    /**
-//     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-//     */
-//    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+    /**
+     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     */
+    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
+
+    /**
+     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     */
+    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
+
+    /**
+     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     */
+    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
+
+    /**
+     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     */
+    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
+
+    /**
+     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     */
+    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
+
+    /**
+     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     */
+    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
+
+    /**
+     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     */
+    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
 
     void forEach(Procedure<? super T> procedure);
 
@@ -200,6 +208,71 @@ public interface ParallelIterable<T>
 
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * @see RichIterable#sumByInt(Function, IntFunction)
+     * @since 5.2
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * @see RichIterable#sumByFloat(Function, FloatFunction)
+     * @since 5.2
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * @see RichIterable#sumByLong(Function, LongFunction)
+     * @since 5.2
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * @see RichIterable#sumByDouble(Function, DoubleFunction)
+     * @since 5.2
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function);
+
+    /**
+     * Folds each batch with the accumulator, starting from a new value created by the zeroValueFactory, and then
+     * reduces the results of the batches with the combiner. The combiner must be associative, and the value created by
+     * the zeroValueFactory must be its identity. The results of the batches are combined in order when the iterable
+     * is ordered.
+     *
+     * @since 5.2
+     */
+    <V> V injectInto(
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> accumulator,
+            Function2<? super V, ? super V, ? extends V> combiner);
+
+    /**
+     * Same as {@link #injectInto(Function0, Function2, Function2)}, but accumulates into an int.
+     *
+     * @since 5.2
+     */
+    int injectIntoInt(int zeroValue, IntObjectToIntFunction<? super T> accumulator, IntIntToIntFunction combiner);
+
+    /**
+     * Same as {@link #injectInto(Function0, Function2, Function2)}, but accumulates into a long.
+     *
+     * @since 5.2
+     */
+    long injectIntoLong(long zeroValue, LongObjectToLongFunction<? super T> accumulator, LongLongToLongFunction combiner);
+
+    /**
+     * Same as {@link #injectInto(Function0, Function2, Function2)}, but accumulates into a float.
+     *
+     * @since 5.2
+     */
+    float injectIntoFloat(float zeroValue, FloatObjectToFloatFunction<? super T> accumulator, FloatFloatToFloatFunction combiner);
+
+    /**
+     * Same as {@link #injectInto(Function0, Function2, Function2)}, but accumulates into a double.
+     *
+     * @since 5.2
+     */
+    double injectIntoDouble(double zeroValue, DoubleObjectToDoubleFunction<? super T> accumulator, DoubleDoubleToDoubleFunction combiner);
+
     String makeString();
 
     String makeString(String separator);
@@ -50,6 +50,8 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -1184,6 +1186,38 @@ public interface
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Groups the elements by the groupBy function and returns, for each key, the long sum of evaluating function for
+     * each element with that key.
+     *
+     * @since 5.2
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * Groups the elements by the groupBy function and returns, for each key, the double sum of evaluating function
+     * for each element with that key.
+     *
+     * @since 5.2
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * Groups the elements by the groupBy function and returns, for each key, the long sum of evaluating function for
+     * each element with that key.
+     *
+     * @since 5.2
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * Groups the elements by the groupBy function and returns, for each key, the double sum of evaluating function
+     * for each element with that key.
+     *
+     * @since 5.2
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function);
+
     /**
      * Returns a string representation of this collection by delegating to {@link #makeString(String)} and defaulting
      * the separator parameter to the characters <tt>", "</tt> (comma and space).
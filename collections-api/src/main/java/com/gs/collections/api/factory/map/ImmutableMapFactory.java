@@ -65,4 +65,21 @@ public interface ImmutableMapFactory
     <K, V> ImmutableMap<K, V> ofAll(Map<K, V> map);
 
     <K, V> ImmutableMap<K, V> withAll(Map<K, V> map);
+
+    /**
+     * Same as {@link #withAllFrozen(java.util.Map)}.
+     *
+     * @since 5.2
+     */
+    <K, V> ImmutableMap<K, V> ofAllFrozen(Map<K, V> map);
+
+    /**
+     * Returns an ImmutableMap with the entries of the map, built for fast lookups at the cost of a slower build. Larger
+     * maps are stored in dense arrays indexed by a minimal perfect hash function over the keys, so each lookup compares
+     * a single key, unless several keys share a hash code. Meant for reference data that is built once and read many
+     * times.
+     *
+     * @since 5.2
+     */
+    <K, V> ImmutableMap<K, V> withAllFrozen(Map<K, V> map);
 }
@@ -68,4 +68,21 @@ public interface ImmutableSetFactory
     <T> ImmutableSet<T> ofAll(Iterable<? extends T> items);
 
     <T> ImmutableSet<T> withAll(Iterable<? extends T> items);
+
+    /**
+     * Same as {@link #withAllFrozen(Iterable)}.
+     *
+     * @since 5.2
+     */
+    <T> ImmutableSet<T> ofAllFrozen(Iterable<? extends T> items);
+
+    /**
+     * Returns an ImmutableSet with the distinct items, built for fast lookups at the cost of a slower build. Larger sets
+     * are stored in a dense array indexed by a minimal perfect hash function over the items, so each lookup compares a
+     * single item, unless several items share a hash code. Meant for reference data that is built once and read many
+     * times.
+     *
+     * @since 5.2
+     */
+    <T> ImmutableSet<T> withAllFrozen(Iterable<? extends T> items);
 }
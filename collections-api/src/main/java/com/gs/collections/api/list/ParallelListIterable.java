@@ -17,13 +17,16 @@
 package com.gs.collections.api.list;
 
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.multimap.list.ListMultimap;
+import com.gs.collections.api.partition.list.PartitionList;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
 
 /**
  * A ParallelIterable is RichIterable which will defer evaluation for certain methods like select, reject, collect, etc.
@@ -75,6 +78,48 @@ public interface ParallelListIterable<T>
 
     <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function);
 
+    /**
+     * Evaluates the iterable in parallel and splits its elements by the predicate, in a single pass. Both sides keep
+     * the order of the iterable.
+     *
+     * @since 5.2
+     */
+    PartitionList<T> partition(Predicate<? super T> predicate);
+
+    /**
+     * @since 5.2
+     */
+    <P> PartitionList<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    /**
+     * Creates a parallel iterable that pairs each element with its index in the current iterable.
+     *
+     * @since 5.2
+     */
+    ParallelListIterable<Pair<T, Integer>> zipWithIndex();
+
+    /**
+     * Creates a parallel iterable of the first count elements of the current iterable.
+     *
+     * @since 5.2
+     */
+    ParallelListIterable<T> take(int count);
+
+    /**
+     * Creates a parallel iterable of the elements of the current iterable after the first count.
+     *
+     * @since 5.2
+     */
+    ParallelListIterable<T> drop(int count);
+
+    /**
+     * Creates a parallel iterable of the elements of the current iterable in chunks of the given size, in order. The
+     * last chunk is smaller if the elements don't divide evenly.
+     *
+     * @since 5.2
+     */
+    ParallelListIterable<RichIterable<T>> chunk(int size);
+
     //    /**
 //     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
 //     */
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.map;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A ParallelMapIterable is a parallel view over the entries of a map. The map is split into batches which are
+ * processed on the ExecutorService passed to asParallel(). Views over the keys, the values and the key-value pairs
+ * are themselves ParallelIterables, so they can be further filtered and transformed lazily.
+ * All code blocks passed in must be stateless or thread-safe.
+ *
+ * @since 5.2
+ */
+@Beta
+public interface ParallelMapIterable<K, V>
+{
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    /**
+     * Returns the first key-value pair found which satisfies the predicate, or null if there is none. There is no
+     * guarantee about which pair is returned if more than one satisfies the predicate.
+     */
+    Pair<K, V> detect(Predicate2<? super K, ? super V> predicate);
+
+    ParallelUnsortedSetIterable<K> keysView();
+
+    ParallelIterable<V> valuesView();
+
+    ParallelUnsortedSetIterable<Pair<K, V>> keyValuesView();
+}
@@ -18,7 +18,9 @@ package com.gs.collections.api.set.sorted;
 
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
@@ -130,4 +132,26 @@ public interface ImmutableSortedSet<T>
     ImmutableSortedSet<T> symmetricDifference(SetIterable<? extends T> setB);
 
     ImmutableSortedSet<SortedSetIterable<T>> powerSet();
+
+    /**
+     * Returns the element at the index in the sort order of this set.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size of this set
+     * @since 5.2
+     */
+    T get(int index);
+
+    /**
+     * Returns the index of the object in the sort order of this set, which is the number of elements that are less
+     * than it, or -1 if this set does not contain the object.
+     *
+     * @since 5.2
+     */
+    int indexOf(Object object);
+
+    /**
+     * @since 5.2
+     */
+    @Beta
+    ParallelSortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize);
 }
@@ -29,6 +29,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.Bag;
 import com.gs.collections.api.bag.MutableBag;
@@ -78,6 +79,14 @@ import com.gs.collections.impl.block.procedure.MultimapEachPutProcedure;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
 import com.gs.collections.impl.collection.AbstractMutableBag;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.AbstractParallelSortedBag;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.CollectSortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.RootSortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.SelectSortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.SortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.list.ListBatch;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -732,7 +741,7 @@ public class TreeBag<T>
         {
             throw new IllegalArgumentException();
         }
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asParallel() not implemented yet");
+        return new TreeBagParallelIterable(executorService, batchSize);
     }
 
     @Override
@@ -1364,4 +1373,280 @@ public class TreeBag<T>
             this.currentKeyPosition--;
         }
     }
+
+    /**
+     * A batch covering every occurrence of the keys in a contiguous range of the backing map.
+     */
+    private final class TreeBagRangeBatch extends AbstractBatch<T> implements RootSortedBagBatch<T>
+    {
+        private final MutableSortedMap<T, Counter> chunk;
+
+        private TreeBagRangeBatch(MutableSortedMap<T, Counter> chunk)
+        {
+            this.chunk = chunk;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            for (Map.Entry<T, Counter> entry : this.chunk.entrySet())
+            {
+                T each = entry.getKey();
+                int occurrences = entry.getValue().getCount();
+                for (int i = 0; i < occurrences; i++)
+                {
+                    procedure.value(each);
+                }
+            }
+        }
+
+        public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+        {
+            for (Map.Entry<T, Counter> entry : this.chunk.entrySet())
+            {
+                procedure.value(entry.getKey(), entry.getValue().getCount());
+            }
+        }
+
+        @Override
+        public int count(Predicate<? super T> predicate)
+        {
+            int count = 0;
+            for (Map.Entry<T, Counter> entry : this.chunk.entrySet())
+            {
+                if (predicate.accept(entry.getKey()))
+                {
+                    count += entry.getValue().getCount();
+                }
+            }
+            return count;
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return this.chunk.keySet().anySatisfy(predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return this.chunk.keySet().allSatisfy(predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return this.chunk.keySet().detect(predicate);
+        }
+
+        public SortedBagBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectSortedBagBatch<T>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectSortedBagBatch<T, V>(this, function);
+        }
+    }
+
+    /**
+     * A batch covering a slice of the occurrences of a single key whose count is too large for one batch.
+     */
+    private final class TreeBagOccurrencesBatch extends AbstractBatch<T> implements RootSortedBagBatch<T>
+    {
+        private final T item;
+        private final int occurrences;
+
+        private TreeBagOccurrencesBatch(T item, int occurrences)
+        {
+            this.item = item;
+            this.occurrences = occurrences;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            for (int i = 0; i < this.occurrences; i++)
+            {
+                procedure.value(this.item);
+            }
+        }
+
+        public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+        {
+            procedure.value(this.item, this.occurrences);
+        }
+
+        @Override
+        public int count(Predicate<? super T> predicate)
+        {
+            return predicate.accept(this.item) ? this.occurrences : 0;
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return predicate.accept(this.item);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return predicate.accept(this.item);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return predicate.accept(this.item) ? this.item : null;
+        }
+
+        public SortedBagBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectSortedBagBatch<T>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectSortedBagBatch<T, V>(this, function);
+        }
+    }
+
+    private final class TreeBagParallelIterable extends AbstractParallelSortedBag<T, RootSortedBagBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private TreeBagParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootSortedBagBatch<T>> split()
+        {
+            return new TreeBagParallelBatchLazyIterable();
+        }
+
+        @Override
+        protected Comparator<? super T> comparator()
+        {
+            return TreeBag.this.comparator();
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return detect(this, predicate);
+        }
+
+        /**
+         * Splits the bag into batches of roughly batchSize occurrences, in key order. Consecutive keys are grouped into
+         * a subMap view until their occurrences reach batchSize; a key that alone has batchSize or more occurrences is
+         * split into several batches of batchSize occurrences, so a heavily skewed bag still spreads evenly.
+         */
+        private class TreeBagParallelBatchIterator implements Iterator<RootSortedBagBatch<T>>
+        {
+            private final Iterator<Map.Entry<T, Counter>> iterator = TreeBag.this.items.entrySet().iterator();
+            private Map.Entry<T, Counter> nextEntry = this.advance();
+            private T heavyItem;
+            private int heavyOccurrencesRemaining;
+
+            private Map.Entry<T, Counter> advance()
+            {
+                return this.iterator.hasNext() ? this.iterator.next() : null;
+            }
+
+            public boolean hasNext()
+            {
+                return this.heavyOccurrencesRemaining > 0 || this.nextEntry != null;
+            }
+
+            public RootSortedBagBatch<T> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                int batchSize = TreeBagParallelIterable.this.batchSize;
+                if (this.heavyOccurrencesRemaining == 0 && this.nextEntry.getValue().getCount() >= batchSize)
+                {
+                    this.heavyItem = this.nextEntry.getKey();
+                    this.heavyOccurrencesRemaining = this.nextEntry.getValue().getCount();
+                    this.nextEntry = this.advance();
+                }
+                if (this.heavyOccurrencesRemaining > 0)
+                {
+                    int occurrences = Math.min(batchSize, this.heavyOccurrencesRemaining);
+                    this.heavyOccurrencesRemaining -= occurrences;
+                    return new TreeBagOccurrencesBatch(this.heavyItem, occurrences);
+                }
+
+                T chunkStart = this.nextEntry.getKey();
+                int chunkOccurrences = 0;
+                while (this.nextEntry != null
+                        && chunkOccurrences < batchSize
+                        && this.nextEntry.getValue().getCount() < batchSize)
+                {
+                    chunkOccurrences += this.nextEntry.getValue().getCount();
+                    this.nextEntry = this.advance();
+                }
+                if (this.nextEntry == null)
+                {
+                    return new TreeBagRangeBatch(TreeBag.this.items.tailMap(chunkStart));
+                }
+                return new TreeBagRangeBatch(TreeBag.this.items.subMap(chunkStart, this.nextEntry.getKey()));
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class TreeBagParallelBatchLazyIterable
+                extends AbstractLazyIterable<RootSortedBagBatch<T>>
+        {
+            public void forEach(Procedure<? super RootSortedBagBatch<T>> procedure)
+            {
+                for (RootSortedBagBatch<T> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootSortedBagBatch<T>, ? super P> procedure, P parameter)
+            {
+                for (RootSortedBagBatch<T> chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootSortedBagBatch<T>> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootSortedBagBatch<T>> iterator()
+            {
+                return new TreeBagParallelBatchIterator();
+            }
+        }
+    }
 }
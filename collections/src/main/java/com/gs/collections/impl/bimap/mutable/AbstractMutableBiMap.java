@@ -63,6 +63,8 @@ import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.multimap.set.MutableSetMultimap;
@@ -707,6 +709,26 @@ abstract class AbstractMutableBiMap<K, V> implements MutableBiMap<K, V>
         return this.delegate.sumOfDouble(function);
     }
 
+    public <VV> ObjectLongMap<VV> sumByInt(Function<? super V, ? extends VV> groupBy, IntFunction<? super V> function)
+    {
+        return this.delegate.sumByInt(groupBy, function);
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByFloat(Function<? super V, ? extends VV> groupBy, FloatFunction<? super V> function)
+    {
+        return this.delegate.sumByFloat(groupBy, function);
+    }
+
+    public <VV> ObjectLongMap<VV> sumByLong(Function<? super V, ? extends VV> groupBy, LongFunction<? super V> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByDouble(Function<? super V, ? extends VV> groupBy, DoubleFunction<? super V> function)
+    {
+        return this.delegate.sumByDouble(groupBy, function);
+    }
+
     public String makeString()
     {
         return this.delegate.makeString();
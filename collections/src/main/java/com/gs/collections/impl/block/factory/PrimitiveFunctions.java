@@ -16,6 +16,8 @@
 
 package com.gs.collections.impl.block.factory;
 
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
 import com.gs.collections.api.block.function.primitive.ByteFunction;
 import com.gs.collections.api.block.function.primitive.CharFunction;
@@ -24,6 +26,8 @@ import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
 import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
 
 public final class PrimitiveFunctions
 {
@@ -117,6 +121,34 @@ public final class PrimitiveFunctions
         return UNBOX_FLOAT_TO_FLOAT;
     }
 
+    public static <T, V> Function2<MutableObjectLongMap<V>, T, MutableObjectLongMap<V>> sumByIntFunction(
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function)
+    {
+        return new SumByIntFunction<T, V>(groupBy, function);
+    }
+
+    public static <T, V> Function2<MutableObjectDoubleMap<V>, T, MutableObjectDoubleMap<V>> sumByFloatFunction(
+            Function<? super T, ? extends V> groupBy,
+            FloatFunction<? super T> function)
+    {
+        return new SumByFloatFunction<T, V>(groupBy, function);
+    }
+
+    public static <T, V> Function2<MutableObjectLongMap<V>, T, MutableObjectLongMap<V>> sumByLongFunction(
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return new SumByLongFunction<T, V>(groupBy, function);
+    }
+
+    public static <T, V> Function2<MutableObjectDoubleMap<V>, T, MutableObjectDoubleMap<V>> sumByDoubleFunction(
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return new SumByDoubleFunction<T, V>(groupBy, function);
+    }
+
     private static class IntegerIsPositive
             implements BooleanFunction<Integer>
     {
@@ -269,4 +301,88 @@ public final class PrimitiveFunctions
             return number.doubleValue();
         }
     }
+
+    private static class SumByIntFunction<T, V>
+            implements Function2<MutableObjectLongMap<V>, T, MutableObjectLongMap<V>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super T, ? extends V> groupBy;
+        private final IntFunction<? super T> function;
+
+        private SumByIntFunction(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        public MutableObjectLongMap<V> value(MutableObjectLongMap<V> map, T each)
+        {
+            map.addToValue(this.groupBy.valueOf(each), this.function.intValueOf(each));
+            return map;
+        }
+    }
+
+    private static class SumByFloatFunction<T, V>
+            implements Function2<MutableObjectDoubleMap<V>, T, MutableObjectDoubleMap<V>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super T, ? extends V> groupBy;
+        private final FloatFunction<? super T> function;
+
+        private SumByFloatFunction(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        public MutableObjectDoubleMap<V> value(MutableObjectDoubleMap<V> map, T each)
+        {
+            map.addToValue(this.groupBy.valueOf(each), this.function.floatValueOf(each));
+            return map;
+        }
+    }
+
+    private static class SumByLongFunction<T, V>
+            implements Function2<MutableObjectLongMap<V>, T, MutableObjectLongMap<V>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super T, ? extends V> groupBy;
+        private final LongFunction<? super T> function;
+
+        private SumByLongFunction(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        public MutableObjectLongMap<V> value(MutableObjectLongMap<V> map, T each)
+        {
+            map.addToValue(this.groupBy.valueOf(each), this.function.longValueOf(each));
+            return map;
+        }
+    }
+
+    private static class SumByDoubleFunction<T, V>
+            implements Function2<MutableObjectDoubleMap<V>, T, MutableObjectDoubleMap<V>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super T, ? extends V> groupBy;
+        private final DoubleFunction<? super T> function;
+
+        private SumByDoubleFunction(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        public MutableObjectDoubleMap<V> value(MutableObjectDoubleMap<V> map, T each)
+        {
+            map.addToValue(this.groupBy.valueOf(each), this.function.doubleValueOf(each));
+            return map;
+        }
+    }
 }
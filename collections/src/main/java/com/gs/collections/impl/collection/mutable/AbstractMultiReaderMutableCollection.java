@@ -56,6 +56,8 @@ import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
@@ -986,6 +988,58 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().sumByInt(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().sumByFloat(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().sumByLong(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().sumByDouble(groupBy, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     public <IV, P> IV injectIntoWith(
             IV injectValue,
             Function3<? super IV, ? super T, ? super P, ? extends IV> function,
@@ -1712,6 +1766,26 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.sumOfDouble(function);
         }
 
+        public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+
+        public <V> ObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+        {
+            return this.delegate.sumByFloat(groupBy, function);
+        }
+
+        public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+
+        public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+
         public <IV, P> IV injectIntoWith(
                 IV injectValue,
                 Function3<? super IV, ? super T, ? super P, ? extends IV> function,
@@ -61,6 +61,10 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.ImmutableMultimap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -72,11 +76,40 @@ import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.factory.Procedures2;
+import com.gs.collections.impl.block.procedure.CollectIfProcedure;
+import com.gs.collections.impl.block.procedure.CollectProcedure;
 import com.gs.collections.impl.block.procedure.CountProcedure;
+import com.gs.collections.impl.block.procedure.FlatCollectProcedure;
+import com.gs.collections.impl.block.procedure.InjectIntoProcedure;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.block.procedure.MaxByProcedure;
+import com.gs.collections.impl.block.procedure.MinByProcedure;
+import com.gs.collections.impl.block.procedure.MultimapEachPutProcedure;
+import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.PartitionProcedure;
+import com.gs.collections.impl.block.procedure.RejectProcedure;
+import com.gs.collections.impl.block.procedure.SelectProcedure;
+import com.gs.collections.impl.block.procedure.ZipWithIndexProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectBooleanProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectByteProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectCharProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectDoubleProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectFloatProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectLongProcedure;
+import com.gs.collections.impl.block.procedure.primitive.CollectShortProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoDoubleProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoFloatProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoLongProcedure;
+import com.gs.collections.impl.block.procedure.primitive.SumOfDoubleProcedure;
+import com.gs.collections.impl.block.procedure.primitive.SumOfFloatProcedure;
+import com.gs.collections.impl.block.procedure.primitive.SumOfIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.SumOfLongProcedure;
 import com.gs.collections.impl.factory.Bags;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.primitive.CollectBooleanIterable;
@@ -88,8 +121,11 @@ import com.gs.collections.impl.lazy.primitive.CollectIntIterable;
 import com.gs.collections.impl.lazy.primitive.CollectLongIterable;
 import com.gs.collections.impl.lazy.primitive.CollectShortIterable;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.partition.list.PartitionFastList;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
@@ -220,12 +256,13 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends Collection<T>> R select(Predicate<? super T> predicate, R target)
     {
-        return IterableIterate.select(this, predicate, target);
+        this.forEach(new SelectProcedure<T>(predicate, target));
+        return target;
     }
 
     public <P, R extends Collection<T>> R selectWith(Predicate2<? super T, ? super P> predicate, P parameter, R targetCollection)
     {
-        return IterableIterate.selectWith(this, predicate, parameter, targetCollection);
+        return this.select(Predicates.bind(predicate, parameter), targetCollection);
     }
 
     public LazyIterable<T> reject(Predicate<? super T> predicate)
@@ -240,22 +277,25 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends Collection<T>> R reject(Predicate<? super T> predicate, R target)
     {
-        return IterableIterate.reject(this, predicate, target);
+        this.forEach(new RejectProcedure<T>(predicate, target));
+        return target;
     }
 
     public <P, R extends Collection<T>> R rejectWith(Predicate2<? super T, ? super P> predicate, P parameter, R targetCollection)
     {
-        return IterableIterate.rejectWith(this, predicate, parameter, targetCollection);
+        return this.reject(Predicates.bind(predicate, parameter), targetCollection);
     }
 
     public PartitionMutableList<T> partition(Predicate<? super T> predicate)
     {
-        return IterableIterate.partition(this, predicate);
+        PartitionMutableList<T> partitionMutableList = new PartitionFastList<T>();
+        this.forEach(new PartitionProcedure<T>(predicate, partitionMutableList));
+        return partitionMutableList;
     }
 
     public <P> PartitionMutableList<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        return IterableIterate.partitionWith(this, predicate, parameter);
+        return this.partition(Predicates.bind(predicate, parameter));
     }
 
     public <S> LazyIterable<S> selectInstancesOf(Class<S> clazz)
@@ -275,7 +315,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableBooleanCollection> R collectBoolean(BooleanFunction<? super T> booleanFunction, R target)
     {
-        return IterableIterate.collectBoolean(this, booleanFunction, target);
+        this.forEach(new CollectBooleanProcedure<T>(booleanFunction, target));
+        return target;
     }
 
     public LazyByteIterable collectByte(ByteFunction<? super T> byteFunction)
@@ -285,7 +326,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableByteCollection> R collectByte(ByteFunction<? super T> byteFunction, R target)
     {
-        return IterableIterate.collectByte(this, byteFunction, target);
+        this.forEach(new CollectByteProcedure<T>(byteFunction, target));
+        return target;
     }
 
     public LazyCharIterable collectChar(CharFunction<? super T> charFunction)
@@ -295,7 +337,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableCharCollection> R collectChar(CharFunction<? super T> charFunction, R target)
     {
-        return IterableIterate.collectChar(this, charFunction, target);
+        this.forEach(new CollectCharProcedure<T>(charFunction, target));
+        return target;
     }
 
     public LazyDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
@@ -305,7 +348,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableDoubleCollection> R collectDouble(DoubleFunction<? super T> doubleFunction, R target)
     {
-        return IterableIterate.collectDouble(this, doubleFunction, target);
+        this.forEach(new CollectDoubleProcedure<T>(doubleFunction, target));
+        return target;
     }
 
     public LazyFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
@@ -315,7 +359,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableFloatCollection> R collectFloat(FloatFunction<? super T> floatFunction, R target)
     {
-        return IterableIterate.collectFloat(this, floatFunction, target);
+        this.forEach(new CollectFloatProcedure<T>(floatFunction, target));
+        return target;
     }
 
     public LazyIntIterable collectInt(IntFunction<? super T> intFunction)
@@ -325,7 +370,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableIntCollection> R collectInt(IntFunction<? super T> intFunction, R target)
     {
-        return IterableIterate.collectInt(this, intFunction, target);
+        this.forEach(new CollectIntProcedure<T>(intFunction, target));
+        return target;
     }
 
     public LazyLongIterable collectLong(LongFunction<? super T> longFunction)
@@ -335,7 +381,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableLongCollection> R collectLong(LongFunction<? super T> longFunction, R target)
     {
-        return IterableIterate.collectLong(this, longFunction, target);
+        this.forEach(new CollectLongProcedure<T>(longFunction, target));
+        return target;
     }
 
     public LazyShortIterable collectShort(ShortFunction<? super T> shortFunction)
@@ -345,12 +392,14 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends MutableShortCollection> R collectShort(ShortFunction<? super T> shortFunction, R target)
     {
-        return IterableIterate.collectShort(this, shortFunction, target);
+        this.forEach(new CollectShortProcedure<T>(shortFunction, target));
+        return target;
     }
 
     public <V, R extends Collection<V>> R collect(Function<? super T, ? extends V> function, R target)
     {
-        return IterableIterate.collect(this, function, target);
+        this.forEach(new CollectProcedure<T, V>(function, target));
+        return target;
     }
 
     public <P, V> LazyIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
@@ -360,7 +409,7 @@ public abstract class AbstractLazyIterable<T>
 
     public <P, V, R extends Collection<V>> R collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter, R targetCollection)
     {
-        return IterableIterate.collectWith(this, function, parameter, targetCollection);
+        return this.collect(Functions.bind(function, parameter), targetCollection);
     }
 
     public <V> LazyIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
@@ -375,7 +424,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <V, R extends Collection<V>> R flatCollect(Function<? super T, ? extends Iterable<V>> function, R target)
     {
-        return IterableIterate.flatCollect(this, function, target);
+        this.forEach(new FlatCollectProcedure<T, V>(function, target));
+        return target;
     }
 
     public <V> LazyIterable<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
@@ -385,7 +435,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <V, R extends Collection<V>> R collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function, R target)
     {
-        return IterableIterate.collectIf(this, predicate, function, target);
+        this.forEach(new CollectIfProcedure<T, V>(target, function, predicate));
+        return target;
     }
 
     public LazyIterable<T> take(int count)
@@ -435,12 +486,16 @@ public abstract class AbstractLazyIterable<T>
 
     public <V extends Comparable<? super V>> T minBy(Function<? super T, ? extends V> function)
     {
-        return IterableIterate.minBy(this, function);
+        MinByProcedure<T, V> procedure = new MinByProcedure<T, V>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public <V extends Comparable<? super V>> T maxBy(Function<? super T, ? extends V> function)
     {
-        return IterableIterate.maxBy(this, function);
+        MaxByProcedure<T, V> procedure = new MaxByProcedure<T, V>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
@@ -464,7 +519,7 @@ public abstract class AbstractLazyIterable<T>
 
     public <P> int countWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        return IterableIterate.countWith(this, predicate, parameter);
+        return this.count(Predicates.bind(predicate, parameter));
     }
 
     public boolean anySatisfy(Predicate<? super T> predicate)
@@ -499,47 +554,89 @@ public abstract class AbstractLazyIterable<T>
 
     public <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function)
     {
-        return IterableIterate.injectInto(injectedValue, this, function);
+        InjectIntoProcedure<T, IV> procedure = new InjectIntoProcedure<T, IV>(injectedValue, function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public int injectInto(int injectedValue, IntObjectToIntFunction<? super T> function)
     {
-        return IterableIterate.injectInto(injectedValue, this, function);
+        InjectIntoIntProcedure<T> procedure = new InjectIntoIntProcedure<T>(injectedValue, function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public long injectInto(long injectedValue, LongObjectToLongFunction<? super T> function)
     {
-        return IterableIterate.injectInto(injectedValue, this, function);
+        InjectIntoLongProcedure<T> procedure = new InjectIntoLongProcedure<T>(injectedValue, function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public double injectInto(double injectedValue, DoubleObjectToDoubleFunction<? super T> function)
     {
-        return IterableIterate.injectInto(injectedValue, this, function);
+        InjectIntoDoubleProcedure<T> procedure = new InjectIntoDoubleProcedure<T>(injectedValue, function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public float injectInto(float injectedValue, FloatObjectToFloatFunction<? super T> function)
     {
-        return IterableIterate.injectInto(injectedValue, this, function);
+        InjectIntoFloatProcedure<T> procedure = new InjectIntoFloatProcedure<T>(injectedValue, function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public long sumOfInt(IntFunction<? super T> function)
     {
-        return IterableIterate.sumOfInt(this, function);
+        SumOfIntProcedure<T> procedure = new SumOfIntProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public double sumOfFloat(FloatFunction<? super T> function)
     {
-        return IterableIterate.sumOfFloat(this, function);
+        SumOfFloatProcedure<T> procedure = new SumOfFloatProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public long sumOfLong(LongFunction<? super T> function)
     {
-        return IterableIterate.sumOfLong(this, function);
+        SumOfLongProcedure<T> procedure = new SumOfLongProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
     }
 
     public double sumOfDouble(DoubleFunction<? super T> function)
     {
-        return IterableIterate.sumOfDouble(this, function);
+        SumOfDoubleProcedure<T> procedure = new SumOfDoubleProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        MutableObjectLongMap<V> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByIntFunction(groupBy, function));
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+    {
+        MutableObjectDoubleMap<V> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByFloatFunction(groupBy, function));
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        MutableObjectLongMap<V> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByLongFunction(groupBy, function));
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        MutableObjectDoubleMap<V> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
     }
 
     public MutableList<T> toList()
@@ -663,26 +760,28 @@ public abstract class AbstractLazyIterable<T>
 
     public <V> ImmutableMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        return IterableIterate.groupBy(this, function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+        return this.groupBy(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
     }
 
     public <V, R extends MutableMultimap<V, T>> R groupBy(
             Function<? super T, ? extends V> function,
             R target)
     {
-        return IterableIterate.groupBy(this, function, target);
+        this.forEach(MultimapPutProcedure.on(target, function));
+        return target;
     }
 
     public <V> ImmutableMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        return IterableIterate.groupByEach(this, function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+        return this.groupByEach(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
     }
 
     public <V, R extends MutableMultimap<V, T>> R groupByEach(
             Function<? super T, ? extends Iterable<V>> function,
             R target)
     {
-        return IterableIterate.groupByEach(this, function, target);
+        this.forEach(MultimapEachPutProcedure.on(target, function));
+        return target;
     }
 
     public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
@@ -707,7 +806,8 @@ public abstract class AbstractLazyIterable<T>
 
     public <R extends Collection<Pair<T, Integer>>> R zipWithIndex(R target)
     {
-        return IterableIterate.zipWithIndex(this, target);
+        this.forEach(ZipWithIndexProcedure.<T, R>create(target));
+        return target;
     }
 
     public LazyIterable<RichIterable<T>> chunk(int size)
@@ -22,8 +22,11 @@ import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.impl.block.factory.Procedures;
+import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.iterator.ChunkIterator;
-import com.gs.collections.impl.utility.internal.IterableIterate;
+import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -54,16 +57,64 @@ public class ChunkIterable<T>
 
     public void forEach(Procedure<? super RichIterable<T>> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        ChunkProcedure<T> chunkProcedure = new ChunkProcedure<T>(this.iterable, this.size, procedure);
+        Iterate.forEach(this.iterable, chunkProcedure);
+        chunkProcedure.flush();
     }
 
     public void forEachWithIndex(ObjectIntProcedure<? super RichIterable<T>> objectIntProcedure)
     {
-        IterableIterate.forEachWithIndex(this, objectIntProcedure);
+        this.forEach(Procedures.fromObjectIntProcedure(objectIntProcedure));
     }
 
     public <P> void forEachWith(Procedure2<? super RichIterable<T>, ? super P> procedure, P parameter)
     {
-        IterableIterate.forEachWith(this, procedure, parameter);
+        this.forEach(Procedures.bind(procedure, parameter));
+    }
+
+    /**
+     * Collects the elements pushed into it into chunks of the same species as the source iterable, and passes each
+     * full chunk on. The last, possibly partial, chunk is passed on by {@link #flush()}.
+     */
+    private static final class ChunkProcedure<T> implements Procedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Iterable<T> iterable;
+        private final int size;
+        private final Procedure<? super RichIterable<T>> procedure;
+        private MutableCollection<T> chunk;
+
+        private ChunkProcedure(Iterable<T> iterable, int size, Procedure<? super RichIterable<T>> procedure)
+        {
+            this.iterable = iterable;
+            this.size = size;
+            this.procedure = procedure;
+        }
+
+        public void value(T each)
+        {
+            if (this.chunk == null)
+            {
+                this.chunk = this.iterable instanceof MutableCollection
+                        ? ((MutableCollection<T>) this.iterable).newEmpty()
+                        : Lists.mutable.<T>of();
+            }
+            this.chunk.add(each);
+            if (this.chunk.size() == this.size)
+            {
+                this.flush();
+            }
+        }
+
+        public void flush()
+        {
+            if (this.chunk != null)
+            {
+                MutableCollection<T> fullChunk = this.chunk;
+                this.chunk = null;
+                this.procedure.value(fullChunk);
+            }
+        }
     }
 }
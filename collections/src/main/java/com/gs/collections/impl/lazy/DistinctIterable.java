@@ -19,11 +19,16 @@ package com.gs.collections.impl.lazy;
 import java.util.Iterator;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.block.factory.Procedures;
+import com.gs.collections.impl.block.procedure.IfProcedure;
 import com.gs.collections.impl.lazy.iterator.DistinctIterator;
-import com.gs.collections.impl.utility.internal.IterableIterate;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -50,17 +55,24 @@ public class DistinctIterable<T>
 
     public void forEach(Procedure<? super T> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        final MutableSet<T> seenSoFar = UnifiedSet.newSet();
+        Iterate.forEach(this.adapted, new IfProcedure<T>(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return seenSoFar.add(each);
+            }
+        }, procedure));
     }
 
     public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
     {
-        IterableIterate.forEachWithIndex(this, objectIntProcedure);
+        this.forEach(Procedures.fromObjectIntProcedure(objectIntProcedure));
     }
 
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
-        IterableIterate.forEachWith(this, procedure, parameter);
+        this.forEach(Procedures.bind(procedure, parameter));
     }
 
     public Iterator<T> iterator()
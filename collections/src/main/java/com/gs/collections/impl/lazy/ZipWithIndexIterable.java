@@ -22,12 +22,14 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.lazy.iterator.ZipWithIndexIterator;
-import com.gs.collections.impl.utility.internal.IterableIterate;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.Immutable;
 
 /**
- * A CollectIterable is an iterable that transforms a source iterable on a condition as it iterates.
+ * A ZipWithIndexIterable is an iterable that pairs each element of a source iterable with its index as it iterates.
  */
 @Immutable
 public class ZipWithIndexIterable<T>
@@ -45,18 +47,24 @@ public class ZipWithIndexIterable<T>
         return new ZipWithIndexIterator<T>(this.iterable);
     }
 
-    public void forEach(Procedure<? super Pair<T, Integer>> procedure)
+    public void forEach(final Procedure<? super Pair<T, Integer>> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        Iterate.forEachWithIndex(this.iterable, new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int index)
+            {
+                procedure.value(Tuples.pair(each, Integer.valueOf(index)));
+            }
+        });
     }
 
     public void forEachWithIndex(ObjectIntProcedure<? super Pair<T, Integer>> objectIntProcedure)
     {
-        IterableIterate.forEachWithIndex(this, objectIntProcedure);
+        this.forEach(Procedures.fromObjectIntProcedure(objectIntProcedure));
     }
 
     public <P> void forEachWith(Procedure2<? super Pair<T, Integer>, ? super P> procedure, P parameter)
     {
-        IterableIterate.forEachWith(this, procedure, parameter);
+        this.forEach(Procedures.bind(procedure, parameter));
     }
 }
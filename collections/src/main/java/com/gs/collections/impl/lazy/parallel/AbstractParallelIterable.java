@@ -20,31 +20,50 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFloatToFloatFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.FloatObjectToFloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntIntToIntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongLongToLongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
@@ -52,192 +71,85 @@ import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.block.procedure.InjectIntoProcedure;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoDoubleProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoFloatProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.InjectIntoLongProcedure;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectShortIterable;
 import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.parallel.ParallelArrayIterate;
 import com.gs.collections.impl.set.mutable.SetAdapter;
-import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 
 @Beta
 public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements ParallelIterable<T>
 {
-    protected static <T> void forEach(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Procedure<? super T> procedure)
+    protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Procedure<? super T> procedure)
     {
-        LazyIterable<Future<?>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<?>>()
+        BatchIterate.forEach(parallelIterable.getExecutorService(), parallelIterable.split(), new Procedure<RootBatch<T>>()
         {
-            public Future<?> valueOf(final RootBatch<T> chunk)
+            public void value(RootBatch<T> chunk)
             {
-                return parallelIterable.getExecutorService().submit(new Runnable()
-                {
-                    public void run()
-                    {
-                        chunk.forEach(procedure);
-                    }
-                });
+                chunk.forEach(procedure);
             }
         });
-        // The call to to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<?>> futuresList = futures.toList();
-        for (Future<?> future : futuresList)
-        {
-            try
-            {
-                future.get();
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
     }
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
-        final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
-        {
-            public Future<Boolean> valueOf(final RootBatch<T> batch)
-            {
-                return completionService.submit(new Callable<Boolean>()
-                {
-                    public Boolean call()
-                    {
-                        return batch.anySatisfy(predicate);
-                    }
-                });
-            }
-        }, UnifiedSet.<Future<Boolean>>newSet());
-
-        while (futures.notEmpty())
+        return BatchIterate.anySatisfy(parallelIterable.getExecutorService(), parallelIterable.split(), new Predicate2<RootBatch<T>, ShortCircuit>()
         {
-            try
-            {
-                Future<Boolean> future = completionService.take();
-                if (future.get())
-                {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return true;
-                }
-                futures.remove(future);
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
+            public boolean accept(RootBatch<T> batch, ShortCircuit shortCircuit)
             {
-                throw new RuntimeException(e);
+                return batch.anySatisfy(shortCircuit.stopWhenCancelled(predicate, true));
             }
-        }
-        return false;
+        });
     }
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
-        final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
+        return !BatchIterate.anySatisfy(parallelIterable.getExecutorService(), parallelIterable.split(), new Predicate2<RootBatch<T>, ShortCircuit>()
         {
-            public Future<Boolean> valueOf(final RootBatch<T> batch)
+            public boolean accept(RootBatch<T> batch, ShortCircuit shortCircuit)
             {
-                return completionService.submit(new Callable<Boolean>()
-                {
-                    public Boolean call()
-                    {
-                        return batch.allSatisfy(predicate);
-                    }
-                });
-            }
-        }, UnifiedSet.<Future<Boolean>>newSet());
-
-        while (futures.notEmpty())
-        {
-            try
-            {
-                Future<Boolean> future = completionService.take();
-                if (!future.get())
-                {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return false;
-                }
-                futures.remove(future);
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
+                return !batch.allSatisfy(shortCircuit.stopWhenCancelled(predicate, false));
             }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
-        return true;
+        });
     }
 
-    protected static <T> T detect(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
+    protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
-        LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
-        LazyIterable<Future<T>> futures = chunks.collect(new Function<RootBatch<T>, Future<T>>()
+        return BatchIterate.detect(parallelIterable.getExecutorService(), parallelIterable.split(), new Function2<RootBatch<T>, ShortCircuit, T>()
         {
-            public Future<T> valueOf(final RootBatch<T> chunk)
+            public T value(RootBatch<T> batch, ShortCircuit shortCircuit)
             {
-                return parallelIterable.getExecutorService().submit(new Callable<T>()
-                {
-                    public T call()
-                    {
-                        return chunk.detect(predicate);
-                    }
-                });
+                return batch.detect(shortCircuit.stopWhenCancelled(predicate, true));
             }
         });
-        // The call to to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
-        for (Future<T> future : futuresList)
-        {
-            try
-            {
-                T eachResult = future.get();
-                if (eachResult != null)
-                {
-                    for (Future<T> eachFutureToCancel : futuresList)
-                    {
-                        eachFutureToCancel.cancel(true);
-                    }
-                    return eachResult;
-                }
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
-        return null;
     }
 
     public abstract ExecutorService getExecutorService();
@@ -258,87 +170,49 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private <S, V> void collectCombineOrdered(final Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    private <S, V> void collectCombineOrdered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<V>> futures = chunks.collect(new Function<Batch<T>, Future<V>>()
-        {
-            public Future<V> valueOf(final Batch<T> chunk)
-            {
-                return AbstractParallelIterable.this.getExecutorService().submit(new Callable<V>()
-                {
-                    public V call()
-                    {
-                        return function.valueOf(chunk);
-                    }
-                });
-            }
-        });
-        // The call to to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<V>> futuresList = futures.toList();
-        for (Future<V> future : futuresList)
-        {
-            try
-            {
-                combineProcedure.value(state, future.get());
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
+        BatchIterate.collectCombineOrdered(this.getExecutorService(), this.split(), function, combineProcedure, state);
     }
 
-    private <S, V> void collectCombineUnordered(final Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    private <S, V> void collectCombineUnordered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        MutableList<Callable<V>> callables = chunks.collect(new Function<Batch<T>, Callable<V>>()
-        {
-            public Callable<V> valueOf(final Batch<T> chunk)
-            {
-                return new Callable<V>()
-                {
-                    public V call()
-                    {
-                        return function.valueOf(chunk);
-                    }
-                };
-            }
-        }).toList();
+        BatchIterate.collectCombineUnordered(this.getExecutorService(), this.split(), function, combineProcedure, state);
+    }
 
-        final ExecutorCompletionService<V> completionService = new ExecutorCompletionService<V>(this.getExecutorService());
-        callables.forEach(new Procedure<Callable<V>>()
-        {
-            public void value(Callable<V> callable)
-            {
-                completionService.submit(callable);
-            }
-        });
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new ParallelCollectByteIterable<T>(this, function, this.isOrdered());
+    }
 
-        int numTasks = callables.size();
-        while (numTasks > 0)
-        {
-            try
-            {
-                Future<V> future = completionService.take();
-                combineProcedure.value(state, future.get());
-                numTasks--;
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
-            catch (ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
-        }
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new ParallelCollectCharIterable<T>(this, function, this.isOrdered());
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new ParallelCollectDoubleIterable<T>(this, function, this.isOrdered());
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new ParallelCollectFloatIterable<T>(this, function, this.isOrdered());
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new ParallelCollectIntIterable<T>(this, function, this.isOrdered());
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new ParallelCollectLongIterable<T>(this, function, this.isOrdered());
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new ParallelCollectShortIterable<T>(this, function, this.isOrdered());
     }
 
     @Override
@@ -493,12 +367,48 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableList<T> toSortedList()
     {
-        return this.toList().toSortedList();
+        return this.toSortedList(null);
     }
 
-    public MutableList<T> toSortedList(Comparator<? super T> comparator)
+    public MutableList<T> toSortedList(final Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        Function<Batch<T>, FastList<T>> map = new Function<Batch<T>, FastList<T>>()
+        {
+            public FastList<T> valueOf(Batch<T> batch)
+            {
+                FastList<T> list = FastList.newList();
+                batch.forEach(CollectionAddProcedure.on(list));
+                return list.sortThis(comparator);
+            }
+        };
+        Procedure2<MutableList<FastList<T>>, FastList<T>> reduce = new Procedure2<MutableList<FastList<T>>, FastList<T>>()
+        {
+            public void value(MutableList<FastList<T>> accumulator, FastList<T> each)
+            {
+                accumulator.add(each);
+            }
+        };
+        MutableList<FastList<T>> sortedBatches = FastList.newList();
+        this.collectCombine(map, reduce, sortedBatches);
+
+        int size = 0;
+        int[] runEnds = new int[sortedBatches.size()];
+        for (int i = 0; i < runEnds.length; i++)
+        {
+            size += sortedBatches.get(i).size();
+            runEnds[i] = size;
+        }
+        T[] result = (T[]) new Object[size];
+        for (int i = 0; i < runEnds.length; i++)
+        {
+            FastList<T> sortedBatch = sortedBatches.get(i);
+            if (sortedBatch.notEmpty())
+            {
+                sortedBatch.toArray(result, 0, sortedBatch.size() - 1, runEnds[i] - sortedBatch.size());
+            }
+        }
+        ParallelArrayIterate.mergeSortedRuns(result, runEnds, comparator, this.getExecutorService());
+        return FastList.newListWith(result);
     }
 
     public <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function)
@@ -664,4 +574,225 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
     {
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".sumOfDouble() not implemented yet");
     }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.sumByToLongMap(PrimitiveFunctions.<T, V>sumByIntFunction(groupBy, function));
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.sumByToDoubleMap(PrimitiveFunctions.<T, V>sumByFloatFunction(groupBy, function));
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.sumByToLongMap(PrimitiveFunctions.<T, V>sumByLongFunction(groupBy, function));
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.sumByToDoubleMap(PrimitiveFunctions.<T, V>sumByDoubleFunction(groupBy, function));
+    }
+
+    private <V> ObjectLongMap<V> sumByToLongMap(final Function2<MutableObjectLongMap<V>, T, MutableObjectLongMap<V>> accumulator)
+    {
+        Function<Batch<T>, MutableObjectLongMap<V>> map = new Function<Batch<T>, MutableObjectLongMap<V>>()
+        {
+            public MutableObjectLongMap<V> valueOf(Batch<T> batch)
+            {
+                MutableObjectLongMap<V> batchResult = ObjectLongHashMap.newMap();
+                batch.forEach(new InjectIntoProcedure<T, MutableObjectLongMap<V>>(batchResult, accumulator));
+                return batchResult;
+            }
+        };
+        Procedure2<MutableObjectLongMap<V>, MutableObjectLongMap<V>> reduce = new Procedure2<MutableObjectLongMap<V>, MutableObjectLongMap<V>>()
+        {
+            public void value(final MutableObjectLongMap<V> result, MutableObjectLongMap<V> batchResult)
+            {
+                batchResult.forEachKeyValue(new ObjectLongProcedure<V>()
+                {
+                    public void value(V key, long value)
+                    {
+                        result.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        MutableObjectLongMap<V> result = ObjectLongHashMap.newMap();
+        this.collectCombine(map, reduce, result);
+        return result;
+    }
+
+    private <V> ObjectDoubleMap<V> sumByToDoubleMap(final Function2<MutableObjectDoubleMap<V>, T, MutableObjectDoubleMap<V>> accumulator)
+    {
+        Function<Batch<T>, MutableObjectDoubleMap<V>> map = new Function<Batch<T>, MutableObjectDoubleMap<V>>()
+        {
+            public MutableObjectDoubleMap<V> valueOf(Batch<T> batch)
+            {
+                MutableObjectDoubleMap<V> batchResult = ObjectDoubleHashMap.newMap();
+                batch.forEach(new InjectIntoProcedure<T, MutableObjectDoubleMap<V>>(batchResult, accumulator));
+                return batchResult;
+            }
+        };
+        Procedure2<MutableObjectDoubleMap<V>, MutableObjectDoubleMap<V>> reduce = new Procedure2<MutableObjectDoubleMap<V>, MutableObjectDoubleMap<V>>()
+        {
+            public void value(final MutableObjectDoubleMap<V> result, MutableObjectDoubleMap<V> batchResult)
+            {
+                batchResult.forEachKeyValue(new ObjectDoubleProcedure<V>()
+                {
+                    public void value(V key, double value)
+                    {
+                        result.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        MutableObjectDoubleMap<V> result = ObjectDoubleHashMap.newMap();
+        this.collectCombine(map, reduce, result);
+        return result;
+    }
+
+    public <V> V injectInto(
+            final Function0<? extends V> zeroValueFactory,
+            final Function2<? super V, ? super T, ? extends V> accumulator,
+            Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        Function<Batch<T>, V> map = new Function<Batch<T>, V>()
+        {
+            public V valueOf(Batch<T> batch)
+            {
+                InjectIntoProcedure<T, V> procedure = new InjectIntoProcedure<T, V>(zeroValueFactory.value(), accumulator);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        Procedure2<MutableList<V>, V> reduce = new Procedure2<MutableList<V>, V>()
+        {
+            public void value(MutableList<V> batchResults, V each)
+            {
+                batchResults.add(each);
+            }
+        };
+        MutableList<V> batchResults = FastList.newList();
+        this.collectCombine(map, reduce, batchResults);
+        V result = zeroValueFactory.value();
+        for (int i = 0; i < batchResults.size(); i++)
+        {
+            result = combiner.value(result, batchResults.get(i));
+        }
+        return result;
+    }
+
+    public int injectIntoInt(final int zeroValue, final IntObjectToIntFunction<? super T> accumulator, IntIntToIntFunction combiner)
+    {
+        Function<Batch<T>, Integer> map = new Function<Batch<T>, Integer>()
+        {
+            public Integer valueOf(Batch<T> batch)
+            {
+                InjectIntoIntProcedure<T> procedure = new InjectIntoIntProcedure<T>(zeroValue, accumulator);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        Procedure2<IntArrayList, Integer> reduce = new Procedure2<IntArrayList, Integer>()
+        {
+            public void value(IntArrayList batchResults, Integer each)
+            {
+                batchResults.add(each);
+            }
+        };
+        IntArrayList batchResults = new IntArrayList();
+        this.collectCombine(map, reduce, batchResults);
+        int result = zeroValue;
+        for (int i = 0; i < batchResults.size(); i++)
+        {
+            result = combiner.valueOf(result, batchResults.get(i));
+        }
+        return result;
+    }
+
+    public long injectIntoLong(final long zeroValue, final LongObjectToLongFunction<? super T> accumulator, LongLongToLongFunction combiner)
+    {
+        Function<Batch<T>, Long> map = new Function<Batch<T>, Long>()
+        {
+            public Long valueOf(Batch<T> batch)
+            {
+                InjectIntoLongProcedure<T> procedure = new InjectIntoLongProcedure<T>(zeroValue, accumulator);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        Procedure2<LongArrayList, Long> reduce = new Procedure2<LongArrayList, Long>()
+        {
+            public void value(LongArrayList batchResults, Long each)
+            {
+                batchResults.add(each);
+            }
+        };
+        LongArrayList batchResults = new LongArrayList();
+        this.collectCombine(map, reduce, batchResults);
+        long result = zeroValue;
+        for (int i = 0; i < batchResults.size(); i++)
+        {
+            result = combiner.valueOf(result, batchResults.get(i));
+        }
+        return result;
+    }
+
+    public float injectIntoFloat(final float zeroValue, final FloatObjectToFloatFunction<? super T> accumulator, FloatFloatToFloatFunction combiner)
+    {
+        Function<Batch<T>, Float> map = new Function<Batch<T>, Float>()
+        {
+            public Float valueOf(Batch<T> batch)
+            {
+                InjectIntoFloatProcedure<T> procedure = new InjectIntoFloatProcedure<T>(zeroValue, accumulator);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        Procedure2<FloatArrayList, Float> reduce = new Procedure2<FloatArrayList, Float>()
+        {
+            public void value(FloatArrayList batchResults, Float each)
+            {
+                batchResults.add(each);
+            }
+        };
+        FloatArrayList batchResults = new FloatArrayList();
+        this.collectCombine(map, reduce, batchResults);
+        float result = zeroValue;
+        for (int i = 0; i < batchResults.size(); i++)
+        {
+            result = combiner.valueOf(result, batchResults.get(i));
+        }
+        return result;
+    }
+
+    public double injectIntoDouble(final double zeroValue, final DoubleObjectToDoubleFunction<? super T> accumulator, DoubleDoubleToDoubleFunction combiner)
+    {
+        Function<Batch<T>, Double> map = new Function<Batch<T>, Double>()
+        {
+            public Double valueOf(Batch<T> batch)
+            {
+                InjectIntoDoubleProcedure<T> procedure = new InjectIntoDoubleProcedure<T>(zeroValue, accumulator);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        Procedure2<DoubleArrayList, Double> reduce = new Procedure2<DoubleArrayList, Double>()
+        {
+            public void value(DoubleArrayList batchResults, Double each)
+            {
+                batchResults.add(each);
+            }
+        };
+        DoubleArrayList batchResults = new DoubleArrayList();
+        this.collectCombine(map, reduce, batchResults);
+        double result = zeroValue;
+        for (int i = 0; i < batchResults.size(); i++)
+        {
+            result = combiner.valueOf(result, batchResults.get(i));
+        }
+        return result;
+    }
 }
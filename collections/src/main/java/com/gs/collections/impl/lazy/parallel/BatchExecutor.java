@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+
+/**
+ * A BatchExecutor is an ExecutorService that knows how to run the batches of a parallel iterable itself. When the
+ * ExecutorService passed to asParallel() implements BatchExecutor, {@link BatchIterate} hands the batches over to it
+ * instead of submitting one Future per batch. This allows engines such as fork-join to split the batches recursively
+ * and balance them by work stealing.
+ */
+@Beta
+public interface BatchExecutor
+{
+    <B> void forEach(LazyIterable<B> batches, Procedure<? super B> procedure);
+
+    /**
+     * Applies the function to each batch and passes the results to the combineProcedure on the calling thread, in
+     * the order of the batches.
+     */
+    <B, S, V> void collectCombine(LazyIterable<B> batches, Function<? super B, V> function, Procedure2<S, V> combineProcedure, S state);
+
+    /**
+     * Returns true if the predicate accepts any batch. Each batch is passed a {@link ShortCircuit} for its index.
+     * Once a batch is accepted, all the batches must be cancelled through it with {@link ShortCircuit#cancelAll()},
+     * and batches that have not started may be skipped.
+     */
+    <B> boolean anySatisfy(LazyIterable<B> batches, Predicate2<? super B, ? super ShortCircuit> predicate);
+
+    /**
+     * Returns the first non-null result of applying the function to the batches, in the order of the batches, or null.
+     * Each batch is passed a {@link ShortCircuit} for its index. Once a batch finds a result, the batches after it
+     * must be cancelled with {@link ShortCircuit#cancelLaterBatches()}. The result of a batch that was cancelled is
+     * meaningless and must be ignored.
+     */
+    <B, V> V detect(LazyIterable<B> batches, Function2<? super B, ? super ShortCircuit, V> function);
+}
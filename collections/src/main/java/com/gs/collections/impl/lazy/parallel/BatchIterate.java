@@ -0,0 +1,331 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * BatchIterate runs a block of code against each batch produced by a parallel iterable's split() on an
+ * ExecutorService, and combines the per-batch results on the calling thread. It is shared by the object and the
+ * primitive parallel iterables so that they use the same submission and combination strategy.
+ * <p/>
+ * If the ExecutorService is a {@link BatchExecutor}, the batches are handed over to it instead.
+ */
+@Beta
+public final class BatchIterate
+{
+    private BatchIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <B> void forEach(final ExecutorService executorService, LazyIterable<B> batches, final Procedure<? super B> procedure)
+    {
+        if (executorService instanceof BatchExecutor)
+        {
+            ((BatchExecutor) executorService).forEach(batches, procedure);
+            return;
+        }
+        LazyIterable<Future<?>> futures = batches.collect(new Function<B, Future<?>>()
+        {
+            public Future<?> valueOf(final B batch)
+            {
+                return executorService.submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        procedure.value(batch);
+                    }
+                });
+            }
+        });
+        // The call to to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        MutableList<Future<?>> futuresList = futures.toList();
+        for (Future<?> future : futuresList)
+        {
+            BatchIterate.get(future);
+        }
+    }
+
+    public static <B, S, V> void collectCombineOrdered(
+            final ExecutorService executorService,
+            LazyIterable<B> batches,
+            final Function<? super B, V> function,
+            Procedure2<S, V> combineProcedure,
+            S state)
+    {
+        if (executorService instanceof BatchExecutor)
+        {
+            ((BatchExecutor) executorService).collectCombine(batches, function, combineProcedure, state);
+            return;
+        }
+        LazyIterable<Future<V>> futures = batches.collect(new Function<B, Future<V>>()
+        {
+            public Future<V> valueOf(final B batch)
+            {
+                return executorService.submit(new Callable<V>()
+                {
+                    public V call()
+                    {
+                        return function.valueOf(batch);
+                    }
+                });
+            }
+        });
+        // The call to to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        MutableList<Future<V>> futuresList = futures.toList();
+        for (Future<V> future : futuresList)
+        {
+            combineProcedure.value(state, BatchIterate.get(future));
+        }
+    }
+
+    public static <B, S, V> void collectCombineUnordered(
+            ExecutorService executorService,
+            LazyIterable<B> batches,
+            final Function<? super B, V> function,
+            Procedure2<S, V> combineProcedure,
+            S state)
+    {
+        if (executorService instanceof BatchExecutor)
+        {
+            ((BatchExecutor) executorService).collectCombine(batches, function, combineProcedure, state);
+            return;
+        }
+        MutableList<Callable<V>> callables = batches.collect(new Function<B, Callable<V>>()
+        {
+            public Callable<V> valueOf(final B batch)
+            {
+                return new Callable<V>()
+                {
+                    public V call()
+                    {
+                        return function.valueOf(batch);
+                    }
+                };
+            }
+        }).toList();
+
+        final ExecutorCompletionService<V> completionService = new ExecutorCompletionService<V>(executorService);
+        callables.forEach(new Procedure<Callable<V>>()
+        {
+            public void value(Callable<V> callable)
+            {
+                completionService.submit(callable);
+            }
+        });
+
+        int numTasks = callables.size();
+        while (numTasks > 0)
+        {
+            try
+            {
+                Future<V> future = completionService.take();
+                combineProcedure.value(state, future.get());
+                numTasks--;
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the predicate accepts any batch. Once a batch is accepted, the other batches are cancelled
+     * through their {@link ShortCircuit}, and the futures that have not started yet are cancelled.
+     */
+    public static <B> boolean anySatisfy(ExecutorService executorService, LazyIterable<B> batches, final Predicate2<? super B, ? super ShortCircuit> predicate)
+    {
+        if (executorService instanceof BatchExecutor)
+        {
+            return ((BatchExecutor) executorService).anySatisfy(batches, predicate);
+        }
+        MutableList<B> batchList = batches.toList();
+        ShortCircuit shortCircuit = new ShortCircuit();
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(executorService);
+        MutableList<Future<Boolean>> futures = FastList.newList(batchList.size());
+        for (int i = 0; i < batchList.size(); i++)
+        {
+            final B batch = batchList.get(i);
+            final ShortCircuit batchShortCircuit = shortCircuit.forBatch(i);
+            futures.add(completionService.submit(new Callable<Boolean>()
+            {
+                public Boolean call()
+                {
+                    if (batchShortCircuit.isCancelled())
+                    {
+                        return Boolean.TRUE;
+                    }
+                    boolean result = predicate.accept(batch, batchShortCircuit);
+                    if (result)
+                    {
+                        batchShortCircuit.cancelAll();
+                    }
+                    return result;
+                }
+            }));
+        }
+
+        for (int numTasks = futures.size(); numTasks > 0; numTasks--)
+        {
+            try
+            {
+                if (completionService.take().get())
+                {
+                    BatchIterate.cancel(futures);
+                    return true;
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first non-null result of applying the function to the batches, in the order of the batches, or null.
+     * As soon as a batch finds a result, the batches after it are cancelled through their {@link ShortCircuit}, and
+     * their futures are cancelled if they have not started yet. The batches before it still run to completion, since
+     * they may find an earlier result.
+     */
+    public static <B, V> V detect(ExecutorService executorService, LazyIterable<B> batches, final Function2<? super B, ? super ShortCircuit, V> function)
+    {
+        if (executorService instanceof BatchExecutor)
+        {
+            return ((BatchExecutor) executorService).detect(batches, function);
+        }
+        MutableList<B> batchList = batches.toList();
+        int size = batchList.size();
+        final Object[] results = new Object[size];
+        ShortCircuit shortCircuit = new ShortCircuit();
+        CompletionService<Integer> completionService = new ExecutorCompletionService<Integer>(executorService);
+        MutableList<Future<Integer>> futures = FastList.newList(size);
+        for (int i = 0; i < size; i++)
+        {
+            final B batch = batchList.get(i);
+            final ShortCircuit batchShortCircuit = shortCircuit.forBatch(i);
+            futures.add(completionService.submit(new Callable<Integer>()
+            {
+                public Integer call()
+                {
+                    if (!batchShortCircuit.isCancelled())
+                    {
+                        V result = function.value(batch, batchShortCircuit);
+                        // A batch that was cancelled while running returns a meaningless result
+                        if (result != null && !batchShortCircuit.isCancelled())
+                        {
+                            results[batchShortCircuit.getBatchIndex()] = result;
+                            batchShortCircuit.cancelLaterBatches();
+                        }
+                    }
+                    return batchShortCircuit.getBatchIndex();
+                }
+            }));
+        }
+
+        boolean[] done = new boolean[size];
+        int firstNotDone = 0;
+        int cancelledFrom = size;
+        while (firstNotDone < Math.min(size, shortCircuit.getCutoff()))
+        {
+            try
+            {
+                done[completionService.take().get()] = true;
+            }
+            catch (CancellationException ignored)
+            {
+                // Only batches after the cutoff are cancelled, and they are not waited for
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+            int cutoff = shortCircuit.getCutoff();
+            if (cutoff < cancelledFrom - 1)
+            {
+                BatchIterate.cancel(futures.subList(cutoff + 1, cancelledFrom));
+                cancelledFrom = cutoff + 1;
+            }
+            while (firstNotDone < size && done[firstNotDone])
+            {
+                firstNotDone++;
+            }
+        }
+        int cutoff = shortCircuit.getCutoff();
+        return cutoff < size ? (V) results[cutoff] : null;
+    }
+
+    private static <V> void cancel(List<Future<V>> futures)
+    {
+        for (Future<V> future : futures)
+        {
+            future.cancel(false);
+        }
+    }
+
+    private static <V> V get(Future<V> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
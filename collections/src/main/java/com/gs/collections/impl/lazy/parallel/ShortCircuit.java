@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+
+/**
+ * A ShortCircuit lets the batches of a parallel anySatisfy, allSatisfy or detect stop each other once the result is
+ * known. All the ShortCircuits of one evaluation share a cutoff, which is the index of the first batch that found the
+ * answer. A batch after the cutoff can no longer change the result and is cancelled.
+ * <p/>
+ * Batches cooperate by wrapping their predicate with {@link #stopWhenCancelled(Predicate, boolean)}, which checks the
+ * cutoff once per block of elements and, once cancelled, answers with the value that ends the batch's loop. The result
+ * of a cancelled batch is meaningless and is ignored by {@link BatchIterate}.
+ */
+@Beta
+public final class ShortCircuit
+{
+    private static final int BLOCK_MASK = 1023;
+
+    private final AtomicInteger cutoff;
+    private final int batchIndex;
+
+    public ShortCircuit()
+    {
+        this(new AtomicInteger(Integer.MAX_VALUE), 0);
+    }
+
+    private ShortCircuit(AtomicInteger cutoff, int batchIndex)
+    {
+        this.cutoff = cutoff;
+        this.batchIndex = batchIndex;
+    }
+
+    /**
+     * Returns a ShortCircuit for the batch at the specified index, sharing the cutoff of this one.
+     */
+    public ShortCircuit forBatch(int batchIndex)
+    {
+        return new ShortCircuit(this.cutoff, batchIndex);
+    }
+
+    public int getBatchIndex()
+    {
+        return this.batchIndex;
+    }
+
+    /**
+     * Returns true if a batch before this one has found the answer.
+     */
+    public boolean isCancelled()
+    {
+        return this.cutoff.get() < this.batchIndex;
+    }
+
+    /**
+     * Returns true if any batch has found the answer.
+     */
+    public boolean isAnyFound()
+    {
+        return this.cutoff.get() != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Cancels all the batches, for results such as anySatisfy that do not depend on which batch found them.
+     */
+    public void cancelAll()
+    {
+        this.cutoff.set(-1);
+    }
+
+    /**
+     * Cancels the batches after this one, for results such as detect that must come from the first batch in order.
+     */
+    public void cancelLaterBatches()
+    {
+        int current = this.cutoff.get();
+        while (this.batchIndex < current && !this.cutoff.compareAndSet(current, this.batchIndex))
+        {
+            current = this.cutoff.get();
+        }
+    }
+
+    /**
+     * Returns the index of the first batch that found the answer, or {@code Integer.MAX_VALUE} if none has.
+     */
+    public int getCutoff()
+    {
+        return this.cutoff.get();
+    }
+
+    /**
+     * Returns a predicate that delegates to the specified one until this batch is cancelled, and then returns
+     * {@code resultWhenCancelled}. Use true with anySatisfy and detect and false with allSatisfy.
+     */
+    public <T> Predicate<T> stopWhenCancelled(Predicate<? super T> predicate, boolean resultWhenCancelled)
+    {
+        return new ShortCircuitPredicate<T>(this, predicate, resultWhenCancelled);
+    }
+
+    public <T1, T2> Predicate2<T1, T2> stopWhenCancelled(Predicate2<? super T1, ? super T2> predicate, boolean resultWhenCancelled)
+    {
+        return new ShortCircuitPredicate2<T1, T2>(this, predicate, resultWhenCancelled);
+    }
+
+    /**
+     * Returns true once every block of elements if this batch is cancelled. The count is owned by the caller, so
+     * that the check stays cheap within a batch's loop.
+     */
+    public boolean isCancelled(int elementCount)
+    {
+        return (elementCount & BLOCK_MASK) == 0 && this.isCancelled();
+    }
+
+    private static final class ShortCircuitPredicate<T> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ShortCircuit shortCircuit;
+        private final Predicate<? super T> predicate;
+        private final boolean resultWhenCancelled;
+        private int count;
+
+        private ShortCircuitPredicate(ShortCircuit shortCircuit, Predicate<? super T> predicate, boolean resultWhenCancelled)
+        {
+            this.shortCircuit = shortCircuit;
+            this.predicate = predicate;
+            this.resultWhenCancelled = resultWhenCancelled;
+        }
+
+        public boolean accept(T each)
+        {
+            if (this.shortCircuit.isCancelled(++this.count))
+            {
+                return this.resultWhenCancelled;
+            }
+            return this.predicate.accept(each);
+        }
+    }
+
+    private static final class ShortCircuitPredicate2<T1, T2> implements Predicate2<T1, T2>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ShortCircuit shortCircuit;
+        private final Predicate2<? super T1, ? super T2> predicate;
+        private final boolean resultWhenCancelled;
+        private int count;
+
+        private ShortCircuitPredicate2(ShortCircuit shortCircuit, Predicate2<? super T1, ? super T2> predicate, boolean resultWhenCancelled)
+        {
+            this.shortCircuit = shortCircuit;
+            this.predicate = predicate;
+            this.resultWhenCancelled = resultWhenCancelled;
+        }
+
+        public boolean accept(T1 argument1, T2 argument2)
+        {
+            if (this.shortCircuit.isCancelled(++this.count))
+            {
+                return this.resultWhenCancelled;
+            }
+            return this.predicate.accept(argument1, argument2);
+        }
+    }
+}
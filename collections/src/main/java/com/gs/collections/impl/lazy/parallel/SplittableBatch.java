@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.tuple.Twin;
+
+/**
+ * A {@link RootBatch} over a range of indices, which can be split into two halves of the range. Executors use it to
+ * spread a batch that holds expensive elements over more than one thread.
+ *
+ * @param <B> the batch type of the halves, which is the same as the batch type of this batch
+ * @since 5.2
+ */
+@Beta
+public interface SplittableBatch<B>
+{
+    /**
+     * Returns the number of indices covered by this batch, which is an upper bound on its number of elements.
+     */
+    int size();
+
+    /**
+     * Returns the first and the second half of this batch, in order.
+     */
+    Twin<B> split();
+}
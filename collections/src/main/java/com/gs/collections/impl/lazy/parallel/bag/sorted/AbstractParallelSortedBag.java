@@ -0,0 +1,423 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag.sorted;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.sorted.ParallelSortedBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.BagAddOccurrencesProcedure;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.BatchIterate;
+import com.gs.collections.impl.multimap.bag.sorted.TreeBagMultimap;
+
+@Beta
+public abstract class AbstractParallelSortedBag<T, B extends SortedBagBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelSortedBag<T>
+{
+    @Override
+    protected boolean isOrdered()
+    {
+        return true;
+    }
+
+    /**
+     * The comparator of the underlying sorted bag, used to order the values of the multimaps built by groupBy.
+     */
+    protected abstract Comparator<? super T> comparator();
+
+    /**
+     * Reports each distinct element once with its total count.  A key with more occurrences than the batch size is
+     * spread over adjacent batches, so the first and last elements of each batch are held back, and their partial
+     * counts are merged in batch order on the calling thread.
+     */
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> procedure)
+    {
+        Function<B, BoundaryOccurrencesProcedure<T>> map = new Function<B, BoundaryOccurrencesProcedure<T>>()
+        {
+            public BoundaryOccurrencesProcedure<T> valueOf(B batch)
+            {
+                BoundaryOccurrencesProcedure<T> result = new BoundaryOccurrencesProcedure<T>(procedure);
+                batch.forEachWithOccurrences(result);
+                return result;
+            }
+        };
+        OccurrencesMerger<T> state = new OccurrencesMerger<T>(this.comparator(), procedure);
+        BatchIterate.collectCombineOrdered(this.getExecutorService(), this.split(), map, new MergeBoundaryOccurrencesProcedure<T>(), state);
+        state.flush();
+    }
+
+    public ParallelUnsortedSetIterable<T> asUnique()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asUnique() not implemented yet");
+    }
+
+    public ParallelSortedBag<T> select(Predicate<? super T> predicate)
+    {
+        return new ParallelSelectSortedBag<T>(this, predicate);
+    }
+
+    public <P> ParallelSortedBag<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    public <S> ParallelSortedBag<S> selectInstancesOf(Class<S> clazz)
+    {
+        return (ParallelSortedBag<S>) this.select(Predicates.instanceOf(clazz));
+    }
+
+    public ParallelSortedBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.select(Predicates.not(predicate));
+    }
+
+    public <P> ParallelSortedBag<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    public <V> ParallelListIterable<V> collect(Function<? super T, ? extends V> function)
+    {
+        return new ParallelCollectSortedBag<T, V>(this, function);
+    }
+
+    public <P, V> ParallelListIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collect(Functions.bind(function, parameter));
+    }
+
+    public <V> ParallelListIterable<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.select(predicate).collect(function);
+    }
+
+    public <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".flatCollect() not implemented yet");
+    }
+
+    @Override
+    public MutableBag<T> toBag()
+    {
+        MutableBag<T> result = HashBag.<T>newBag().asSynchronized();
+        this.forEachWithOccurrences(BagAddOccurrencesProcedure.on(result));
+        return result;
+    }
+
+    public <V> TreeBagMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
+    {
+        Function<B, TreeBagMultimap<V, T>> map = new Function<B, TreeBagMultimap<V, T>>()
+        {
+            public TreeBagMultimap<V, T> valueOf(B batch)
+            {
+                final TreeBagMultimap<V, T> result = TreeBagMultimap.newMultimap(AbstractParallelSortedBag.this.comparator());
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        V key = function.valueOf(each);
+                        for (int i = 0; i < occurrences; i++)
+                        {
+                            result.put(key, each);
+                        }
+                    }
+                });
+                return result;
+            }
+        };
+        TreeBagMultimap<V, T> state = TreeBagMultimap.newMultimap(this.comparator());
+        BatchIterate.collectCombineUnordered(this.getExecutorService(), this.split(), map, new MultimapPutAllProcedure<V, T>(), state);
+        return state;
+    }
+
+    public <V> TreeBagMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
+    {
+        Function<B, TreeBagMultimap<V, T>> map = new Function<B, TreeBagMultimap<V, T>>()
+        {
+            public TreeBagMultimap<V, T> valueOf(B batch)
+            {
+                final TreeBagMultimap<V, T> result = TreeBagMultimap.newMultimap(AbstractParallelSortedBag.this.comparator());
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        Iterable<V> keys = function.valueOf(each);
+                        for (V key : keys)
+                        {
+                            for (int i = 0; i < occurrences; i++)
+                            {
+                                result.put(key, each);
+                            }
+                        }
+                    }
+                });
+                return result;
+            }
+        };
+        TreeBagMultimap<V, T> state = TreeBagMultimap.newMultimap(this.comparator());
+        BatchIterate.collectCombineUnordered(this.getExecutorService(), this.split(), map, new MultimapPutAllProcedure<V, T>(), state);
+        return state;
+    }
+
+    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".groupByUniqueKey() not implemented yet");
+    }
+
+    @Override
+    public long sumOfInt(final IntFunction<? super T> function)
+    {
+        Function<B, Long> map = new Function<B, Long>()
+        {
+            public Long valueOf(B batch)
+            {
+                final long[] sum = new long[1];
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        sum[0] += (long) function.intValueOf(each) * (long) occurrences;
+                    }
+                });
+                return sum[0];
+            }
+        };
+        long[] state = new long[1];
+        BatchIterate.collectCombineUnordered(this.getExecutorService(), this.split(), map, new LongSumProcedure(), state);
+        return state[0];
+    }
+
+    @Override
+    public long sumOfLong(final LongFunction<? super T> function)
+    {
+        Function<B, Long> map = new Function<B, Long>()
+        {
+            public Long valueOf(B batch)
+            {
+                final long[] sum = new long[1];
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        sum[0] += function.longValueOf(each) * (long) occurrences;
+                    }
+                });
+                return sum[0];
+            }
+        };
+        long[] state = new long[1];
+        BatchIterate.collectCombineUnordered(this.getExecutorService(), this.split(), map, new LongSumProcedure(), state);
+        return state[0];
+    }
+
+    @Override
+    public double sumOfFloat(final FloatFunction<? super T> function)
+    {
+        Function<B, Double> map = new Function<B, Double>()
+        {
+            public Double valueOf(B batch)
+            {
+                final double[] sum = new double[1];
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        sum[0] += (double) function.floatValueOf(each) * (double) occurrences;
+                    }
+                });
+                return sum[0];
+            }
+        };
+        double[] state = new double[1];
+        BatchIterate.collectCombineOrdered(this.getExecutorService(), this.split(), map, new DoubleSumProcedure(), state);
+        return state[0];
+    }
+
+    @Override
+    public double sumOfDouble(final DoubleFunction<? super T> function)
+    {
+        Function<B, Double> map = new Function<B, Double>()
+        {
+            public Double valueOf(B batch)
+            {
+                final double[] sum = new double[1];
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        sum[0] += function.doubleValueOf(each) * (double) occurrences;
+                    }
+                });
+                return sum[0];
+            }
+        };
+        double[] state = new double[1];
+        BatchIterate.collectCombineOrdered(this.getExecutorService(), this.split(), map, new DoubleSumProcedure(), state);
+        return state[0];
+    }
+
+    /**
+     * Passes on the elements of a batch, except for its first and last ones, which may be partial counts of a key
+     * shared with the neighbouring batches.
+     */
+    private static final class BoundaryOccurrencesProcedure<T> implements ObjectIntProcedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ObjectIntProcedure<? super T> procedure;
+        private int size;
+        private T first;
+        private int firstOccurrences;
+        private T last;
+        private int lastOccurrences;
+
+        private BoundaryOccurrencesProcedure(ObjectIntProcedure<? super T> procedure)
+        {
+            this.procedure = procedure;
+        }
+
+        public void value(T each, int occurrences)
+        {
+            if (this.size == 0)
+            {
+                this.first = each;
+                this.firstOccurrences = occurrences;
+            }
+            else
+            {
+                if (this.size > 1)
+                {
+                    this.procedure.value(this.last, this.lastOccurrences);
+                }
+                this.last = each;
+                this.lastOccurrences = occurrences;
+            }
+            this.size++;
+        }
+    }
+
+    /**
+     * Combines the held back elements of consecutive batches, adding up the counts of equal neighbours.
+     */
+    private static final class OccurrencesMerger<T>
+    {
+        private final Comparator<T> comparator;
+        private final ObjectIntProcedure<? super T> procedure;
+        private boolean hasPending;
+        private T pending;
+        private int pendingOccurrences;
+
+        private OccurrencesMerger(Comparator<? super T> comparator, ObjectIntProcedure<? super T> procedure)
+        {
+            this.comparator = comparator == null ? Comparators.<T>naturalOrder() : (Comparator<T>) comparator;
+            this.procedure = procedure;
+        }
+
+        private void merge(BoundaryOccurrencesProcedure<T> batch)
+        {
+            if (batch.size > 0)
+            {
+                this.add(batch.first, batch.firstOccurrences);
+            }
+            if (batch.size > 1)
+            {
+                this.add(batch.last, batch.lastOccurrences);
+            }
+        }
+
+        private void add(T each, int occurrences)
+        {
+            if (this.hasPending && this.comparator.compare(this.pending, each) == 0)
+            {
+                this.pendingOccurrences += occurrences;
+                return;
+            }
+            this.flush();
+            this.hasPending = true;
+            this.pending = each;
+            this.pendingOccurrences = occurrences;
+        }
+
+        private void flush()
+        {
+            if (this.hasPending)
+            {
+                this.procedure.value(this.pending, this.pendingOccurrences);
+                this.hasPending = false;
+                this.pending = null;
+            }
+        }
+    }
+
+    private static final class MergeBoundaryOccurrencesProcedure<T> implements Procedure2<OccurrencesMerger<T>, BoundaryOccurrencesProcedure<T>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public void value(OccurrencesMerger<T> accumulator, BoundaryOccurrencesProcedure<T> each)
+        {
+            accumulator.merge(each);
+        }
+    }
+
+    private static final class MultimapPutAllProcedure<K, V> implements Procedure2<TreeBagMultimap<K, V>, TreeBagMultimap<K, V>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public void value(TreeBagMultimap<K, V> accumulator, TreeBagMultimap<K, V> each)
+        {
+            accumulator.putAll(each);
+        }
+    }
+
+    private static final class LongSumProcedure implements Procedure2<long[], Long>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public void value(long[] accumulator, Long each)
+        {
+            accumulator[0] += each;
+        }
+    }
+
+    private static final class DoubleSumProcedure implements Procedure2<double[], Double>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public void value(double[] accumulator, Double each)
+        {
+            accumulator[0] += each;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * A root batch over a range of {@link IndexedListBatches} that has already been evaluated, so that its elements can
+ * be accessed by index.
+ */
+@Beta
+abstract class AbstractIndexedListBatch<T> extends AbstractBatch<T> implements RootListBatch<T>
+{
+    protected abstract int size();
+
+    protected abstract T get(int index);
+
+    public void forEach(Procedure<? super T> procedure)
+    {
+        int size = this.size();
+        for (int i = 0; i < size; i++)
+        {
+            procedure.value(this.get(i));
+        }
+    }
+
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        int size = this.size();
+        for (int i = 0; i < size; i++)
+        {
+            if (predicate.accept(this.get(i)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        int size = this.size();
+        for (int i = 0; i < size; i++)
+        {
+            if (!predicate.accept(this.get(i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public T detect(Predicate<? super T> predicate)
+    {
+        int size = this.size();
+        for (int i = 0; i < size; i++)
+        {
+            T each = this.get(i);
+            if (predicate.accept(each))
+            {
+                return each;
+            }
+        }
+        return null;
+    }
+
+    public ListBatch<T> select(Predicate<? super T> predicate)
+    {
+        return new SelectListBatch<T>(this, predicate);
+    }
+
+    public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+    {
+        return new CollectListBatch<T, V>(this, function);
+    }
+
+    public UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+    {
+        return new DistinctBatch<T>(this, distinct);
+    }
+}
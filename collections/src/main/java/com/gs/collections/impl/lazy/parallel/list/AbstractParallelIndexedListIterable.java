@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+
+/**
+ * Base class for the parallel list iterables that depend on the index of each element. Splitting first evaluates the
+ * batches of the source in parallel, to learn at which index each batch starts.
+ */
+@Beta
+abstract class AbstractParallelIndexedListIterable<T, V> extends AbstractParallelListIterable<V, RootListBatch<V>>
+{
+    private final AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable;
+
+    protected AbstractParallelIndexedListIterable(AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable)
+    {
+        this.parallelIterable = parallelIterable;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelIterable.getExecutorService();
+    }
+
+    @Override
+    public LazyIterable<RootListBatch<V>> split()
+    {
+        return this.split(this.evaluate(this.parallelIterable)).asLazy();
+    }
+
+    protected IndexedListBatches<T> evaluate(AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable)
+    {
+        return IndexedListBatches.evaluate(parallelIterable);
+    }
+
+    protected abstract MutableList<RootListBatch<V>> split(IndexedListBatches<T> batches);
+
+    public void forEach(Procedure<? super V> procedure)
+    {
+        forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return allSatisfy(this, predicate);
+    }
+
+    public V detect(Predicate<? super V> predicate)
+    {
+        return detect(this, predicate);
+    }
+}
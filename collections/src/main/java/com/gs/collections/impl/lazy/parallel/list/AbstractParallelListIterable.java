@@ -16,18 +16,27 @@
 
 package com.gs.collections.impl.lazy.parallel.list;
 
+import java.util.List;
+
+import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.multimap.list.ListMultimap;
+import com.gs.collections.api.partition.list.PartitionList;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.PartitionProcedure;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.Batch;
+import com.gs.collections.impl.partition.list.PartitionFastList;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -38,6 +47,21 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
         return true;
     }
 
+    /**
+     * Returns the random access list whose elements this iterable holds, in order, if it splits that list into batches
+     * of {@link #getRootBatchSize()} consecutive elements, or null otherwise. Operations that depend on the index of
+     * each element split such a list on its indices, instead of evaluating its batches first.
+     */
+    protected List<T> getRootList()
+    {
+        return null;
+    }
+
+    protected int getRootBatchSize()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + " has no root list");
+    }
+
     public ParallelUnsortedSetIterable<T> asUnique()
     {
         return new ParallelListDistinctIterable<T>(this);
@@ -88,6 +112,55 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".flatCollect() not implemented yet");
     }
 
+    public PartitionList<T> partition(final Predicate<? super T> predicate)
+    {
+        Function<Batch<T>, PartitionFastList<T>> map = new Function<Batch<T>, PartitionFastList<T>>()
+        {
+            public PartitionFastList<T> valueOf(Batch<T> batch)
+            {
+                PartitionFastList<T> batchResult = new PartitionFastList<T>();
+                batch.forEach(new PartitionProcedure<T>(predicate, batchResult));
+                return batchResult;
+            }
+        };
+        Procedure2<PartitionFastList<T>, PartitionFastList<T>> reduce = new Procedure2<PartitionFastList<T>, PartitionFastList<T>>()
+        {
+            public void value(PartitionFastList<T> result, PartitionFastList<T> batchResult)
+            {
+                result.getSelected().addAll(batchResult.getSelected());
+                result.getRejected().addAll(batchResult.getRejected());
+            }
+        };
+        PartitionFastList<T> result = new PartitionFastList<T>();
+        this.collectCombine(map, reduce, result);
+        return result;
+    }
+
+    public <P> PartitionList<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.partition(Predicates.bind(predicate, parameter));
+    }
+
+    public ParallelListIterable<Pair<T, Integer>> zipWithIndex()
+    {
+        return new ParallelZipWithIndexListIterable<T>(this);
+    }
+
+    public ParallelListIterable<T> take(int count)
+    {
+        return new ParallelTakeListIterable<T>(this, count);
+    }
+
+    public ParallelListIterable<T> drop(int count)
+    {
+        return new ParallelDropListIterable<T>(this, count);
+    }
+
+    public ParallelListIterable<RichIterable<T>> chunk(int size)
+    {
+        return new ParallelChunkListIterable<T>(this, size);
+    }
+
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".groupBy() not implemented yet");
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * The chunks that start within one batch. The last of them may take its remaining elements from the following
+ * batches.
+ */
+@Beta
+final class ChunkListBatch<T> extends AbstractIndexedListBatch<RichIterable<T>>
+{
+    private final IndexedListBatches<T> batches;
+    private final int firstChunkIndex;
+    private final int chunkCount;
+    private final int chunkSize;
+
+    ChunkListBatch(IndexedListBatches<T> batches, int firstChunkIndex, int chunkCount, int chunkSize)
+    {
+        this.batches = batches;
+        this.firstChunkIndex = firstChunkIndex;
+        this.chunkCount = chunkCount;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected int size()
+    {
+        return this.chunkCount;
+    }
+
+    @Override
+    protected RichIterable<T> get(int index)
+    {
+        int fromIndex = (this.firstChunkIndex + index) * this.chunkSize;
+        return this.batches.copyRange(fromIndex, Math.min(fromIndex + this.chunkSize, this.batches.size()));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.BatchIterate;
+import com.gs.collections.impl.lazy.parallel.RootBatch;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * The batches of a parallel list iterable, along with the index of the first element of each batch. Index-aware
+ * operations like zipWithIndex, take, drop and chunk are split on these offsets. A list that is split by index is
+ * split here arithmetically. The batches of any other iterable are evaluated in parallel into lists first.
+ */
+@Beta
+final class IndexedListBatches<T>
+{
+    // The list that holds the elements of each batch, and the index in that list at which the batch starts
+    private final MutableList<List<T>> lists;
+    private final int[] starts;
+    // The index of the first element of each batch, followed by the number of elements in all batches
+    private final int[] offsets;
+
+    private IndexedListBatches(MutableList<List<T>> lists, int[] starts, int[] offsets)
+    {
+        this.lists = lists;
+        this.starts = starts;
+        this.offsets = offsets;
+    }
+
+    static <T> IndexedListBatches<T> evaluate(AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable)
+    {
+        return IndexedListBatches.evaluate(parallelIterable, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the batches of the iterable, of which only the first {@code limit} elements are needed. An evaluated
+     * batch keeps no more than {@code limit} elements, so it may hold fewer elements than the iterable has there. A
+     * root batch also stops being iterated once it has them.
+     */
+    static <T> IndexedListBatches<T> evaluate(
+            AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable,
+            final int limit)
+    {
+        List<T> rootList = parallelIterable.getRootList();
+        if (rootList != null)
+        {
+            return IndexedListBatches.split(rootList, parallelIterable.getRootBatchSize());
+        }
+        MutableList<List<T>> lists = FastList.newList();
+        BatchIterate.collectCombineOrdered(
+                parallelIterable.getExecutorService(),
+                parallelIterable.split(),
+                new Function<ListBatch<T>, List<T>>()
+                {
+                    public List<T> valueOf(ListBatch<T> batch)
+                    {
+                        AddUpToLimit<T> addUpToLimit = new AddUpToLimit<T>(limit);
+                        if (batch instanceof RootBatch<?>)
+                        {
+                            ((RootBatch<T>) batch).anySatisfy(addUpToLimit);
+                        }
+                        else
+                        {
+                            batch.forEach(addUpToLimit);
+                        }
+                        return addUpToLimit.list;
+                    }
+                },
+                new Procedure2<MutableList<List<T>>, List<T>>()
+                {
+                    public void value(MutableList<List<T>> lists, List<T> list)
+                    {
+                        lists.add(list);
+                    }
+                },
+                lists);
+        int batchCount = lists.size();
+        int[] offsets = new int[batchCount + 1];
+        for (int i = 0; i < batchCount; i++)
+        {
+            offsets[i + 1] = offsets[i] + lists.get(i).size();
+        }
+        return new IndexedListBatches<T>(lists, new int[batchCount], offsets);
+    }
+
+    /**
+     * Splits the random access list into batches of batchSize consecutive elements, without copying it.
+     */
+    private static <T> IndexedListBatches<T> split(List<T> list, int batchSize)
+    {
+        int size = list.size();
+        int batchCount = size / batchSize + (size % batchSize == 0 ? 0 : 1);
+        MutableList<List<T>> lists = FastList.newList(batchCount);
+        int[] offsets = new int[batchCount + 1];
+        for (int i = 0; i < batchCount; i++)
+        {
+            lists.add(list);
+            offsets[i + 1] = i == batchCount - 1 ? size : offsets[i] + batchSize;
+        }
+        return new IndexedListBatches<T>(lists, Arrays.copyOf(offsets, batchCount), offsets);
+    }
+
+    public int size()
+    {
+        return this.offsets[this.lists.size()];
+    }
+
+    public int getBatchCount()
+    {
+        return this.lists.size();
+    }
+
+    public int getOffset(int batchIndex)
+    {
+        return this.offsets[batchIndex];
+    }
+
+    public int getBatchSize(int batchIndex)
+    {
+        return this.offsets[batchIndex + 1] - this.offsets[batchIndex];
+    }
+
+    /**
+     * Returns a batch of the elements of the batch from fromIndex, inclusive, to toIndex, exclusive.
+     */
+    public RootListBatch<T> subBatch(int batchIndex, int fromIndex, int toIndex)
+    {
+        int start = this.starts[batchIndex];
+        return new SubListBatch<T>(this.lists.get(batchIndex), start + fromIndex, start + toIndex);
+    }
+
+    /**
+     * Returns a batch that pairs each element of the batch with its index.
+     */
+    public RootListBatch<Pair<T, Integer>> zipWithIndex(int batchIndex)
+    {
+        int start = this.starts[batchIndex];
+        return new ZipWithIndexListBatch<T>(
+                this.lists.get(batchIndex),
+                start,
+                start + this.getBatchSize(batchIndex),
+                this.offsets[batchIndex]);
+    }
+
+    /**
+     * Copies the elements from fromIndex, inclusive, to toIndex, exclusive, which may span several batches.
+     */
+    public MutableList<T> copyRange(int fromIndex, int toIndex)
+    {
+        MutableList<T> result = FastList.newList(toIndex - fromIndex);
+        int batchIndex = this.batchIndexOf(fromIndex);
+        int index = fromIndex;
+        while (index < toIndex)
+        {
+            List<T> list = this.lists.get(batchIndex);
+            int offset = this.offsets[batchIndex];
+            int end = Math.min(this.offsets[batchIndex + 1], toIndex);
+            for (int i = index; i < end; i++)
+            {
+                result.add(list.get(this.starts[batchIndex] + i - offset));
+            }
+            index = end;
+            batchIndex++;
+        }
+        return result;
+    }
+
+    private int batchIndexOf(int index)
+    {
+        int result = Arrays.binarySearch(this.offsets, 0, this.lists.size(), index);
+        return result >= 0 ? result : -result - 2;
+    }
+
+    /**
+     * Adds elements to a list until it holds limit elements, and then accepts the next element to stop a root batch.
+     */
+    private static final class AddUpToLimit<T> implements Procedure<T>, Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final MutableList<T> list = FastList.newList();
+        private final int limit;
+
+        private AddUpToLimit(int limit)
+        {
+            this.limit = limit;
+        }
+
+        public void value(T each)
+        {
+            this.accept(each);
+        }
+
+        public boolean accept(T each)
+        {
+            if (this.list.size() < this.limit)
+            {
+                this.list.add(each);
+            }
+            return this.list.size() >= this.limit;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+@Beta
+class ParallelChunkListIterable<T> extends AbstractParallelIndexedListIterable<T, RichIterable<T>>
+{
+    private final int size;
+
+    ParallelChunkListIterable(AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable, int size)
+    {
+        super(parallelIterable);
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        this.size = size;
+    }
+
+    @Override
+    protected MutableList<RootListBatch<RichIterable<T>>> split(IndexedListBatches<T> batches)
+    {
+        MutableList<RootListBatch<RichIterable<T>>> result = FastList.newList();
+        int chunkIndex = 0;
+        for (int i = 0; i < batches.getBatchCount(); i++)
+        {
+            int end = batches.getOffset(i + 1);
+            // The chunks that start within this batch
+            int endChunkIndex = (int) (((long) end + this.size - 1) / this.size);
+            if (endChunkIndex > chunkIndex)
+            {
+                result.add(new ChunkListBatch<T>(batches, chunkIndex, endChunkIndex - chunkIndex, this.size));
+                chunkIndex = endChunkIndex;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+@Beta
+class ParallelDropListIterable<T> extends AbstractParallelIndexedListIterable<T, T>
+{
+    private final int count;
+
+    ParallelDropListIterable(AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable, int count)
+    {
+        super(parallelIterable);
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        this.count = count;
+    }
+
+    @Override
+    protected MutableList<RootListBatch<T>> split(IndexedListBatches<T> batches)
+    {
+        MutableList<RootListBatch<T>> result = FastList.newList();
+        for (int i = 0; i < batches.getBatchCount(); i++)
+        {
+            int batchSize = batches.getBatchSize(i);
+            int fromIndex = Math.max(0, this.count - batches.getOffset(i));
+            if (fromIndex < batchSize)
+            {
+                result.add(batches.subBatch(i, fromIndex, batchSize));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.mutable.FastList;
+
+@Beta
+class ParallelZipWithIndexListIterable<T> extends AbstractParallelIndexedListIterable<T, Pair<T, Integer>>
+{
+    ParallelZipWithIndexListIterable(AbstractParallelListIterable<T, ? extends ListBatch<T>> parallelIterable)
+    {
+        super(parallelIterable);
+    }
+
+    @Override
+    protected MutableList<RootListBatch<Pair<T, Integer>>> split(IndexedListBatches<T> batches)
+    {
+        MutableList<RootListBatch<Pair<T, Integer>>> result = FastList.newList(batches.getBatchCount());
+        for (int i = 0; i < batches.getBatchCount(); i++)
+        {
+            result.add(batches.zipWithIndex(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import java.util.List;
+
+import com.gs.collections.api.annotation.Beta;
+
+@Beta
+final class SubListBatch<T> extends AbstractIndexedListBatch<T>
+{
+    private final List<T> list;
+    private final int fromIndex;
+    private final int toIndex;
+
+    SubListBatch(List<T> list, int fromIndex, int toIndex)
+    {
+        this.list = list;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    @Override
+    protected int size()
+    {
+        return this.toIndex - this.fromIndex;
+    }
+
+    @Override
+    protected T get(int index)
+    {
+        return this.list.get(this.fromIndex + index);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ParallelMapIterable;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.BatchIterate;
+import com.gs.collections.impl.lazy.parallel.ShortCircuit;
+
+@Beta
+public abstract class AbstractParallelMapIterable<K, V> implements ParallelMapIterable<K, V>
+{
+    public abstract ExecutorService getExecutorService();
+
+    public abstract LazyIterable<MapBatch<K, V>> split();
+
+    public void forEachKeyValue(final Procedure2<? super K, ? super V> procedure)
+    {
+        BatchIterate.forEach(this.getExecutorService(), this.split(), new Procedure<MapBatch<K, V>>()
+        {
+            public void value(MapBatch<K, V> batch)
+            {
+                batch.forEachKeyValue(procedure);
+            }
+        });
+    }
+
+    public Pair<K, V> detect(final Predicate2<? super K, ? super V> predicate)
+    {
+        return BatchIterate.detect(this.getExecutorService(), this.split(), new Function2<MapBatch<K, V>, ShortCircuit, Pair<K, V>>()
+        {
+            public Pair<K, V> value(MapBatch<K, V> batch, ShortCircuit shortCircuit)
+            {
+                return batch.detect(shortCircuit.stopWhenCancelled(predicate, true));
+            }
+        });
+    }
+
+    public ParallelUnsortedSetIterable<K> keysView()
+    {
+        return new ParallelMapKeysIterable<K, V>(this);
+    }
+
+    public ParallelIterable<V> valuesView()
+    {
+        return new ParallelMapValuesIterable<K, V>(this);
+    }
+
+    public ParallelUnsortedSetIterable<Pair<K, V>> keyValuesView()
+    {
+        return new ParallelMapKeyValuesIterable<K, V>(this);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.CollectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import com.gs.collections.impl.tuple.Tuples;
+
+@Beta
+class ParallelMapKeyValuesIterable<K, V> extends AbstractParallelUnsortedSetIterable<Pair<K, V>, RootUnsortedSetBatch<Pair<K, V>>>
+{
+    private final AbstractParallelMapIterable<K, V> parallelMapIterable;
+
+    ParallelMapKeyValuesIterable(AbstractParallelMapIterable<K, V> parallelMapIterable)
+    {
+        this.parallelMapIterable = parallelMapIterable;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelMapIterable.getExecutorService();
+    }
+
+    @Override
+    public LazyIterable<RootUnsortedSetBatch<Pair<K, V>>> split()
+    {
+        return this.parallelMapIterable.split().collect(new Function<MapBatch<K, V>, RootUnsortedSetBatch<Pair<K, V>>>()
+        {
+            public RootUnsortedSetBatch<Pair<K, V>> valueOf(MapBatch<K, V> mapBatch)
+            {
+                return new MapKeyValuesBatch<K, V>(mapBatch);
+            }
+        });
+    }
+
+    public void forEach(Procedure<? super Pair<K, V>> procedure)
+    {
+        forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return allSatisfy(this, predicate);
+    }
+
+    public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+    {
+        return detect(this, predicate);
+    }
+
+    private static final class MapKeyValuesBatch<K, V> extends AbstractBatch<Pair<K, V>> implements RootUnsortedSetBatch<Pair<K, V>>
+    {
+        private final MapBatch<K, V> mapBatch;
+
+        private MapKeyValuesBatch(MapBatch<K, V> mapBatch)
+        {
+            this.mapBatch = mapBatch;
+        }
+
+        public void forEach(final Procedure<? super Pair<K, V>> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(Tuples.pair(key, value));
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.mapBatch.detect(new PairPredicate<K, V>(predicate)) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.mapBatch.detect(new PairPredicate<K, V>(Predicates.not(predicate))) == null;
+        }
+
+        public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+        {
+            return this.mapBatch.detect(new PairPredicate<K, V>(predicate));
+        }
+
+        public UnsortedSetBatch<Pair<K, V>> select(Predicate<? super Pair<K, V>> predicate)
+        {
+            return new SelectUnsortedSetBatch<Pair<K, V>>(this, predicate);
+        }
+
+        public <VV> UnsortedSetBatch<VV> collect(Function<? super Pair<K, V>, ? extends VV> function)
+        {
+            return new CollectUnsortedSetBatch<Pair<K, V>, VV>(this, function);
+        }
+    }
+
+    private static final class PairPredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super Pair<K, V>> predicate;
+
+        private PairPredicate(Predicate<? super Pair<K, V>> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(Tuples.pair(key, value));
+        }
+    }
+}
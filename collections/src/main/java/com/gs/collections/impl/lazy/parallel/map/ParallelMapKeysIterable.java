@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.CollectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+
+@Beta
+class ParallelMapKeysIterable<K, V> extends AbstractParallelUnsortedSetIterable<K, RootUnsortedSetBatch<K>>
+{
+    private final AbstractParallelMapIterable<K, V> parallelMapIterable;
+
+    ParallelMapKeysIterable(AbstractParallelMapIterable<K, V> parallelMapIterable)
+    {
+        this.parallelMapIterable = parallelMapIterable;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelMapIterable.getExecutorService();
+    }
+
+    @Override
+    public LazyIterable<RootUnsortedSetBatch<K>> split()
+    {
+        return this.parallelMapIterable.split().collect(new Function<MapBatch<K, V>, RootUnsortedSetBatch<K>>()
+        {
+            public RootUnsortedSetBatch<K> valueOf(MapBatch<K, V> mapBatch)
+            {
+                return new MapKeysBatch<K, V>(mapBatch);
+            }
+        });
+    }
+
+    public void forEach(Procedure<? super K> procedure)
+    {
+        forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super K> predicate)
+    {
+        return anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super K> predicate)
+    {
+        return allSatisfy(this, predicate);
+    }
+
+    public K detect(Predicate<? super K> predicate)
+    {
+        return detect(this, predicate);
+    }
+
+    private static final class MapKeysBatch<K, V> extends AbstractBatch<K> implements RootUnsortedSetBatch<K>
+    {
+        private final MapBatch<K, V> mapBatch;
+
+        private MapKeysBatch(MapBatch<K, V> mapBatch)
+        {
+            this.mapBatch = mapBatch;
+        }
+
+        public void forEach(final Procedure<? super K> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(key);
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super K> predicate)
+        {
+            return this.mapBatch.detect(new KeyPredicate<K, V>(predicate)) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super K> predicate)
+        {
+            return this.mapBatch.detect(new KeyPredicate<K, V>(Predicates.not(predicate))) == null;
+        }
+
+        public K detect(Predicate<? super K> predicate)
+        {
+            Pair<K, V> result = this.mapBatch.detect(new KeyPredicate<K, V>(predicate));
+            return result == null ? null : result.getOne();
+        }
+
+        public UnsortedSetBatch<K> select(Predicate<? super K> predicate)
+        {
+            return new SelectUnsortedSetBatch<K>(this, predicate);
+        }
+
+        public <VV> UnsortedSetBatch<VV> collect(Function<? super K, ? extends VV> function)
+        {
+            return new CollectUnsortedSetBatch<K, VV>(this, function);
+        }
+    }
+
+    private static final class KeyPredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super K> predicate;
+
+        private KeyPredicate(Predicate<? super K> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(key);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterableImpl;
+import com.gs.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+
+@Beta
+class ParallelMapValuesIterable<K, V> extends AbstractParallelIterableImpl<V, RootUnsortedBagBatch<V>>
+{
+    private final AbstractParallelMapIterable<K, V> parallelMapIterable;
+
+    ParallelMapValuesIterable(AbstractParallelMapIterable<K, V> parallelMapIterable)
+    {
+        this.parallelMapIterable = parallelMapIterable;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelMapIterable.getExecutorService();
+    }
+
+    @Override
+    public LazyIterable<RootUnsortedBagBatch<V>> split()
+    {
+        return this.parallelMapIterable.split().collect(new Function<MapBatch<K, V>, RootUnsortedBagBatch<V>>()
+        {
+            public RootUnsortedBagBatch<V> valueOf(MapBatch<K, V> mapBatch)
+            {
+                return new MapValuesBatch<K, V>(mapBatch);
+            }
+        });
+    }
+
+    public void forEach(Procedure<? super V> procedure)
+    {
+        forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return allSatisfy(this, predicate);
+    }
+
+    public V detect(Predicate<? super V> predicate)
+    {
+        return detect(this, predicate);
+    }
+
+    private static final class MapValuesBatch<K, V> extends AbstractBatch<V> implements RootUnsortedBagBatch<V>
+    {
+        private final MapBatch<K, V> mapBatch;
+
+        private MapValuesBatch(MapBatch<K, V> mapBatch)
+        {
+            this.mapBatch = mapBatch;
+        }
+
+        public void forEach(final Procedure<? super V> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(value);
+                }
+            });
+        }
+
+        public void forEachWithOccurrences(final ObjectIntProcedure<? super V> procedure)
+        {
+            this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(value, 1);
+                }
+            });
+        }
+
+        public boolean anySatisfy(Predicate<? super V> predicate)
+        {
+            return this.mapBatch.detect(new ValuePredicate<K, V>(predicate)) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super V> predicate)
+        {
+            return this.mapBatch.detect(new ValuePredicate<K, V>(Predicates.not(predicate))) == null;
+        }
+
+        public V detect(Predicate<? super V> predicate)
+        {
+            Pair<K, V> result = this.mapBatch.detect(new ValuePredicate<K, V>(predicate));
+            return result == null ? null : result.getTwo();
+        }
+
+        public UnsortedBagBatch<V> select(Predicate<? super V> predicate)
+        {
+            return new SelectUnsortedBagBatch<V>(this, predicate);
+        }
+
+        public <VV> UnsortedBagBatch<VV> collect(Function<? super V, ? extends VV> function)
+        {
+            return new CollectUnsortedBagBatch<V, VV>(this, function);
+        }
+    }
+
+    private static final class ValuePredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super V> predicate;
+
+        private ValuePredicate(Predicate<? super V> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(value);
+        }
+    }
+}
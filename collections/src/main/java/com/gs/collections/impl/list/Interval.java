@@ -26,8 +26,10 @@ import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
@@ -42,7 +44,9 @@ import com.gs.collections.api.block.procedure.primitive.IntObjectProcedure;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.block.procedure.CollectProcedure;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
@@ -50,9 +54,20 @@ import com.gs.collections.impl.block.procedure.RejectProcedure;
 import com.gs.collections.impl.block.procedure.SelectProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.SplittableBatch;
+import com.gs.collections.impl.lazy.parallel.list.AbstractParallelListIterable;
+import com.gs.collections.impl.lazy.parallel.list.CollectListBatch;
+import com.gs.collections.impl.lazy.parallel.list.DistinctBatch;
+import com.gs.collections.impl.lazy.parallel.list.ListBatch;
+import com.gs.collections.impl.lazy.parallel.list.RootListBatch;
+import com.gs.collections.impl.lazy.parallel.list.SelectListBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.MutableListIterator;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.tuple.Tuples;
 
 /**
  * An Interval is a range of integers that may be iterated over using a step value.  Interval
@@ -1086,4 +1101,247 @@ public final class Interval
     {
         return this;
     }
+
+    /**
+     * Returns a parallel view of this interval. The interval is split into batches of batchSize values by arithmetic
+     * on the from, to and step values, so no backing list is built; the values are only boxed as they are passed on.
+     *
+     * @since 5.2
+     */
+    @Beta
+    public ParallelListIterable<Integer> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new IntervalParallelIterable(executorService, batchSize);
+    }
+
+    private final class IntervalBatch extends AbstractBatch<Integer> implements RootListBatch<Integer>, SplittableBatch<RootListBatch<Integer>>
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private IntervalBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public int size()
+        {
+            return this.chunkEndIndex - this.chunkStartIndex;
+        }
+
+        public Twin<RootListBatch<Integer>> split()
+        {
+            int middleIndex = (this.chunkStartIndex + this.chunkEndIndex) >>> 1;
+            return Tuples.<RootListBatch<Integer>>twin(
+                    new IntervalBatch(this.chunkStartIndex, middleIndex),
+                    new IntervalBatch(middleIndex, this.chunkEndIndex));
+        }
+
+        /**
+         * The value at chunkStartIndex. The product may overflow, but as the value itself lies between from and to,
+         * the wrapped arithmetic still yields it exactly.
+         */
+        private int firstValue()
+        {
+            return Interval.this.from + Interval.this.step * this.chunkStartIndex;
+        }
+
+        public void forEach(Procedure<? super Integer> procedure)
+        {
+            int step = Interval.this.step;
+            int value = this.firstValue();
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value(value);
+                value += step;
+            }
+        }
+
+        @Override
+        public int count(Predicate<? super Integer> predicate)
+        {
+            int step = Interval.this.step;
+            int value = this.firstValue();
+            int count = 0;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    count++;
+                }
+                value += step;
+            }
+            return count;
+        }
+
+        public boolean anySatisfy(Predicate<? super Integer> predicate)
+        {
+            return this.detect(predicate) != null;
+        }
+
+        public boolean allSatisfy(Predicate<? super Integer> predicate)
+        {
+            int step = Interval.this.step;
+            int value = this.firstValue();
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (!predicate.accept(value))
+                {
+                    return false;
+                }
+                value += step;
+            }
+            return true;
+        }
+
+        public Integer detect(Predicate<? super Integer> predicate)
+        {
+            int step = Interval.this.step;
+            int value = this.firstValue();
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                Integer each = value;
+                if (predicate.accept(each))
+                {
+                    return each;
+                }
+                value += step;
+            }
+            return null;
+        }
+
+        public ListBatch<Integer> select(Predicate<? super Integer> predicate)
+        {
+            return new SelectListBatch<Integer>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super Integer, ? extends V> function)
+        {
+            return new CollectListBatch<Integer, V>(this, function);
+        }
+
+        public UnsortedSetBatch<Integer> distinct(ConcurrentHashMap<Integer, Boolean> distinct)
+        {
+            return new DistinctBatch<Integer>(this, distinct);
+        }
+    }
+
+    private final class IntervalParallelIterable extends AbstractParallelListIterable<Integer, RootListBatch<Integer>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private IntervalParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootListBatch<Integer>> split()
+        {
+            return new IntervalParallelBatchLazyIterable();
+        }
+
+        @Override
+        protected List<Integer> getRootList()
+        {
+            return Interval.this;
+        }
+
+        @Override
+        protected int getRootBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        public void forEach(Procedure<? super Integer> procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super Integer> predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super Integer> predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        public Integer detect(Predicate<? super Integer> predicate)
+        {
+            return detect(this, predicate);
+        }
+
+        private class IntervalParallelBatchIterator implements Iterator<RootListBatch<Integer>>
+        {
+            private final int size = Interval.this.size();
+            protected int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return (long) this.chunkIndex * IntervalParallelIterable.this.batchSize < this.size;
+            }
+
+            public RootListBatch<Integer> next()
+            {
+                int chunkStartIndex = this.chunkIndex * IntervalParallelIterable.this.batchSize;
+                int truncatedChunkEndIndex = (int) Math.min((long) chunkStartIndex + IntervalParallelIterable.this.batchSize, this.size);
+                this.chunkIndex++;
+                return new IntervalBatch(chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class IntervalParallelBatchLazyIterable
+                extends AbstractLazyIterable<RootListBatch<Integer>>
+        {
+            public void forEach(Procedure<? super RootListBatch<Integer>> procedure)
+            {
+                for (RootListBatch<Integer> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootListBatch<Integer>, ? super P> procedure, P parameter)
+            {
+                for (RootListBatch<Integer> chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootListBatch<Integer>> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootListBatch<Integer>> iterator()
+            {
+                return new IntervalParallelBatchIterator();
+            }
+        }
+    }
 }
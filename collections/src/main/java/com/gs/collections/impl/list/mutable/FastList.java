@@ -86,6 +86,7 @@ import com.gs.collections.impl.block.procedure.FastListSelectProcedure;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
 import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.SplittableBatch;
 import com.gs.collections.impl.lazy.parallel.list.AbstractParallelListIterable;
 import com.gs.collections.impl.lazy.parallel.list.CollectListBatch;
 import com.gs.collections.impl.lazy.parallel.list.DistinctBatch;
@@ -104,6 +105,7 @@ import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.parallel.ParallelArrayIterate;
 import com.gs.collections.impl.partition.list.PartitionFastList;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.tuple.Tuples;
@@ -381,6 +383,25 @@ public class FastList<T>
         return this;
     }
 
+    /**
+     * Sorts this list in place with a stable parallel merge sort that runs on the specified executor. Lists that are
+     * too small to benefit are sorted on the calling thread.
+     *
+     * @param comparator The comparator to sort by, or null to sort by natural order.
+     */
+    @Beta
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        ParallelArrayIterate.sort(this.items, this.size, comparator, executorService);
+        return this;
+    }
+
+    @Beta
+    public FastList<T> sortThisParallel(ExecutorService executorService)
+    {
+        return this.sortThisParallel(null, executorService);
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -1685,7 +1706,7 @@ public class FastList<T>
         return new FastListParallelIterable(executorService, batchSize);
     }
 
-    private final class FastListBatch extends AbstractBatch<T> implements RootListBatch<T>
+    private final class FastListBatch extends AbstractBatch<T> implements RootListBatch<T>, SplittableBatch<RootListBatch<T>>
     {
         private final int chunkStartIndex;
         private final int chunkEndIndex;
@@ -1696,6 +1717,19 @@ public class FastList<T>
             this.chunkEndIndex = chunkEndIndex;
         }
 
+        public int size()
+        {
+            return this.chunkEndIndex - this.chunkStartIndex;
+        }
+
+        public Twin<RootListBatch<T>> split()
+        {
+            int middleIndex = (this.chunkStartIndex + this.chunkEndIndex) >>> 1;
+            return Tuples.<RootListBatch<T>>twin(
+                    new FastListBatch(this.chunkStartIndex, middleIndex),
+                    new FastListBatch(middleIndex, this.chunkEndIndex));
+        }
+
         public void forEach(Procedure<? super T> procedure)
         {
             for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
@@ -1793,6 +1827,18 @@ public class FastList<T>
             return new FastListParallelBatchLazyIterable();
         }
 
+        @Override
+        protected List<T> getRootList()
+        {
+            return FastList.this;
+        }
+
+        @Override
+        protected int getRootBatchSize()
+        {
+            return this.batchSize;
+        }
+
         public void forEach(Procedure<? super T> procedure)
         {
             forEach(this, procedure);
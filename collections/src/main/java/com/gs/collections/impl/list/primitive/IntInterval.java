@@ -19,17 +19,25 @@ package com.gs.collections.impl.list.primitive;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
 import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.IntIntProcedure;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.iterator.IntIterator;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.primitive.ImmutableIntList;
@@ -38,6 +46,12 @@ import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.set.primitive.MutableIntSet;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractIntBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.IntBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.RootIntBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.SelectIntBatch;
 import com.gs.collections.impl.lazy.primitive.CollectIntToObjectIterable;
 import com.gs.collections.impl.lazy.primitive.LazyIntIterableAdapter;
 import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
@@ -788,6 +802,26 @@ public final class IntInterval
         return new LazyIntIterableAdapter(this);
     }
 
+    /**
+     * Returns a parallel view of this interval. The interval is split into batches of batchSize values by arithmetic
+     * on the from, to and step values, so no values are stored or boxed.
+     *
+     * @since 5.2
+     */
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new IntIntervalParallelIterable(executorService, batchSize);
+    }
+
     public ImmutableIntList toImmutable()
     {
         return this;
@@ -813,6 +847,190 @@ public final class IntInterval
         return IntArrayList.newList(this).withoutAll(elements).toImmutable();
     }
 
+    private final class IntIntervalBatch extends AbstractIntBatch implements RootIntBatch
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private IntIntervalBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        /**
+         * The value at chunkStartIndex. The product may overflow, but as the value itself lies between from and to,
+         * the wrapped arithmetic still yields it exactly.
+         */
+        private int firstValue()
+        {
+            return IntInterval.this.from + IntInterval.this.step * this.chunkStartIndex;
+        }
+
+        public void forEach(IntProcedure procedure)
+        {
+            int step = IntInterval.this.step;
+            int value = this.firstValue();
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value(value);
+                value += step;
+            }
+        }
+
+        @Override
+        public int count(IntPredicate predicate)
+        {
+            int step = IntInterval.this.step;
+            int value = this.firstValue();
+            int count = 0;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    count++;
+                }
+                value += step;
+            }
+            return count;
+        }
+
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return this.detectIndex(predicate) >= 0;
+        }
+
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            int index = this.detectIndex(predicate);
+            return index < 0 ? ifNone : IntInterval.this.from + IntInterval.this.step * index;
+        }
+
+        private int detectIndex(IntPredicate predicate)
+        {
+            int step = IntInterval.this.step;
+            int value = this.firstValue();
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    return i;
+                }
+                value += step;
+            }
+            return -1;
+        }
+
+        public IntBatch select(IntPredicate predicate)
+        {
+            return new SelectIntBatch(this, predicate);
+        }
+    }
+
+    private final class IntIntervalParallelIterable extends AbstractParallelIntIterable<RootIntBatch>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private IntIntervalParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootIntBatch> split()
+        {
+            return new IntIntervalParallelBatchLazyIterable();
+        }
+
+        @Override
+        protected boolean isOrdered()
+        {
+            return true;
+        }
+
+        public void forEach(IntProcedure procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            return detectIfNone(this, predicate, ifNone);
+        }
+
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        private class IntIntervalParallelBatchIterator implements Iterator<RootIntBatch>
+        {
+            private final int size = IntInterval.this.size();
+            protected int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return (long) this.chunkIndex * IntIntervalParallelIterable.this.batchSize < this.size;
+            }
+
+            public RootIntBatch next()
+            {
+                int chunkStartIndex = this.chunkIndex * IntIntervalParallelIterable.this.batchSize;
+                int truncatedChunkEndIndex = (int) Math.min((long) chunkStartIndex + IntIntervalParallelIterable.this.batchSize, this.size);
+                this.chunkIndex++;
+                return new IntIntervalBatch(chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class IntIntervalParallelBatchLazyIterable
+                extends AbstractLazyIterable<RootIntBatch>
+        {
+            public void forEach(Procedure<? super RootIntBatch> procedure)
+            {
+                for (RootIntBatch chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootIntBatch, ? super P> procedure, P parameter)
+            {
+                for (RootIntBatch chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootIntBatch> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootIntBatch> iterator()
+            {
+                return new IntIntervalParallelBatchIterator();
+            }
+        }
+    }
+
     private class IntIntervalIterator implements IntIterator
     {
         private int current = IntInterval.this.from;
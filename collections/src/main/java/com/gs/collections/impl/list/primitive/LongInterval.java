@@ -0,0 +1,998 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.primitive;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LazyLongIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.primitive.MutableLongBag;
+import com.gs.collections.api.block.function.primitive.LongToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectLongIntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.LongPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.LongIntProcedure;
+import com.gs.collections.api.block.procedure.primitive.LongProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.primitive.ImmutableLongList;
+import com.gs.collections.api.list.primitive.LongList;
+import com.gs.collections.api.list.primitive.MutableLongList;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.block.factory.primitive.LongPredicates;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractLongBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.LongBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.RootLongBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.SelectLongBatch;
+import com.gs.collections.impl.lazy.primitive.CollectLongToObjectIterable;
+import com.gs.collections.impl.lazy.primitive.LazyLongIterableAdapter;
+import com.gs.collections.impl.lazy.primitive.ReverseLongIterable;
+import com.gs.collections.impl.lazy.primitive.SelectLongIterable;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+
+/**
+ * A LongInterval is a range of longs that may be iterated over using a step value.
+ * <p/>
+ * Unlike an {@link IntInterval}, a LongInterval may hold more than Integer.MAX_VALUE values, up to Long.MAX_VALUE.
+ * Iteration, the aggregate methods and {@link #asParallel(ExecutorService, int)} cover the whole range, while the
+ * methods of {@link LongList} that are defined in terms of int sizes and indexes, such as {@link #size()},
+ * {@link #get(int)} and {@link #toArray()}, throw an {@link IllegalStateException} when the interval is too large for
+ * them. Ranges of more than Long.MAX_VALUE values, such as {@code LongInterval.fromTo(-1L, Long.MAX_VALUE)}, are
+ * rejected by {@link #fromToBy(long, long, long)}.
+ *
+ * @since 5.2
+ */
+public final class LongInterval
+        implements ImmutableLongList, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final long from;
+    private final long to;
+    private final long step;
+
+    private LongInterval(long from, long to, long step)
+    {
+        this.from = from;
+        this.to = to;
+        this.step = step;
+    }
+
+    /**
+     * This static {@code from} method allows LongInterval to act as a fluent builder for itself.
+     * It works in conjunction with the instance methods {@link #to(long)} and {@link #by(long)}.
+     * <p/>
+     * Usage Example:
+     * <pre>
+     * LongInterval interval1 = LongInterval.from(1L).to(5L);          // results in: 1, 2, 3, 4, 5.
+     * LongInterval interval2 = LongInterval.from(1L).to(10L).by(2L);  // results in: 1, 3, 5, 7, 9.
+     * </pre>
+     */
+    public static LongInterval from(long newFrom)
+    {
+        return LongInterval.fromToBy(newFrom, newFrom, 1L);
+    }
+
+    /**
+     * This instance {@code to} method allows LongInterval to act as a fluent builder for itself.
+     * It works in conjunction with the static method {@link #from(long)} and instance method {@link #by(long)}.
+     */
+    public LongInterval to(long newTo)
+    {
+        return LongInterval.fromToBy(this.from, newTo, this.step);
+    }
+
+    /**
+     * This instance {@code by} method allows LongInterval to act as a fluent builder for itself.
+     * It works in conjunction with the static method {@link #from(long)} and instance method {@link #to(long)}.
+     */
+    public LongInterval by(long newStep)
+    {
+        return LongInterval.fromToBy(this.from, this.to, newStep);
+    }
+
+    /**
+     * Returns a LongInterval starting at zero.
+     * <p/>
+     * Usage Example:
+     * <pre>
+     * LongInterval interval1 = LongInterval.zero().to(5L);          // results in: 0, 1, 2, 3, 4, 5.
+     * LongInterval interval2 = LongInterval.zero().to(10L).by(2L);  // results in: 0, 2, 4, 6, 8, 10.
+     * </pre>
+     */
+    public static LongInterval zero()
+    {
+        return LongInterval.from(0L);
+    }
+
+    /**
+     * Returns a LongInterval starting from 1 to the specified count value with a step value of 1.
+     */
+    public static LongInterval oneTo(long count)
+    {
+        return LongInterval.oneToBy(count, 1L);
+    }
+
+    /**
+     * Returns a LongInterval starting from 1 to the specified count value with a step value of step.
+     */
+    public static LongInterval oneToBy(long count, long step)
+    {
+        if (count < 1L)
+        {
+            throw new IllegalArgumentException("Only positive ranges allowed using oneToBy");
+        }
+        return LongInterval.fromToBy(1L, count, step);
+    }
+
+    /**
+     * Returns a LongInterval starting from 0 to the specified count value with a step value of 1.
+     */
+    public static LongInterval zeroTo(long count)
+    {
+        return LongInterval.zeroToBy(count, 1L);
+    }
+
+    /**
+     * Returns a LongInterval starting from 0 to the specified count value with a step value of step.
+     */
+    public static LongInterval zeroToBy(long count, long step)
+    {
+        return LongInterval.fromToBy(0L, count, step);
+    }
+
+    /**
+     * Returns a LongInterval starting from the value from to the specified value to with a step value of 1.
+     */
+    public static LongInterval fromTo(long from, long to)
+    {
+        if (from <= to)
+        {
+            return LongInterval.fromToBy(from, to, 1L);
+        }
+        return LongInterval.fromToBy(from, to, -1L);
+    }
+
+    /**
+     * Returns a LongInterval for the range of longs inclusively between from and to with the specified
+     * stepBy value.
+     *
+     * @throws IllegalArgumentException if the range holds more than Long.MAX_VALUE values
+     */
+    public static LongInterval fromToBy(long from, long to, long stepBy)
+    {
+        if (stepBy == 0L)
+        {
+            throw new IllegalArgumentException("Cannot use a step by of 0");
+        }
+        if (from > to && stepBy > 0L || from < to && stepBy < 0L)
+        {
+            throw new IllegalArgumentException("Step by is incorrect for the range");
+        }
+        if (LongInterval.valueCount(from, to, stepBy) <= 0L)
+        {
+            throw new IllegalArgumentException("Range holds more than Long.MAX_VALUE values");
+        }
+        return new LongInterval(from, to, stepBy);
+    }
+
+    /**
+     * Returns true if the LongInterval contains all of the specified long values.
+     */
+    public boolean containsAll(long... values)
+    {
+        for (long value : values)
+        {
+            if (!this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean containsAll(LongIterable source)
+    {
+        for (LongIterator iterator = source.longIterator(); iterator.hasNext(); )
+        {
+            if (!this.contains(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the LongInterval contains none of the specified long values.
+     */
+    public boolean containsNone(long... values)
+    {
+        for (long value : values)
+        {
+            if (this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the LongInterval contains the specified long value.
+     */
+    public boolean contains(long value)
+    {
+        return this.isWithinBoundaries(value) && this.indexWithinBoundaries(value) >= 0L;
+    }
+
+    private boolean isWithinBoundaries(long value)
+    {
+        return this.step > 0L && this.from <= value && value <= this.to
+                || this.step < 0L && this.to <= value && value <= this.from;
+    }
+
+    /**
+     * Returns the index of a value within the boundaries, or -1 if the value lies between two steps. The distance from
+     * the start may be larger than Long.MAX_VALUE, so it is divided unsigned.
+     */
+    private long indexWithinBoundaries(long value)
+    {
+        long distance = this.step > 0L ? value - this.from : this.from - value;
+        long magnitude = this.step > 0L ? this.step : -this.step;
+        long index = LongInterval.divideUnsigned(distance, magnitude);
+        return index * magnitude == distance ? index : -1L;
+    }
+
+    public void forEachWithIndex(LongIntProcedure procedure)
+    {
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            procedure.value(value, i);
+            value += this.step;
+        }
+    }
+
+    public void forEach(LongProcedure procedure)
+    {
+        long count = this.valueCount();
+        long value = this.from;
+        for (long i = 0L; i < count; i++)
+        {
+            procedure.value(value);
+            value += this.step;
+        }
+    }
+
+    public int count(LongPredicate predicate)
+    {
+        long count = this.valueCount();
+        long value = this.from;
+        int result = 0;
+        for (long i = 0L; i < count; i++)
+        {
+            if (predicate.accept(value))
+            {
+                if (result == Integer.MAX_VALUE)
+                {
+                    throw new IllegalStateException("More than Integer.MAX_VALUE values of the LongInterval satisfy the predicate");
+                }
+                result++;
+            }
+            value += this.step;
+        }
+        return result;
+    }
+
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        return this.detectIndex(predicate) >= 0L;
+    }
+
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        return this.detectIndex(LongPredicates.not(predicate)) < 0L;
+    }
+
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return this.detectIndex(predicate) < 0L;
+    }
+
+    private long detectIndex(LongPredicate predicate)
+    {
+        long count = this.valueCount();
+        long value = this.from;
+        for (long i = 0L; i < count; i++)
+        {
+            if (predicate.accept(value))
+            {
+                return i;
+            }
+            value += this.step;
+        }
+        return -1L;
+    }
+
+    @Override
+    public boolean equals(Object otherList)
+    {
+        if (otherList == this)
+        {
+            return true;
+        }
+        if (otherList instanceof LongInterval)
+        {
+            LongInterval interval = (LongInterval) otherList;
+            long count = this.valueCount();
+            return count == interval.valueCount()
+                    && this.from == interval.from
+                    && (count == 1L || this.step == interval.step);
+        }
+        if (!(otherList instanceof LongList))
+        {
+            return false;
+        }
+        LongList list = (LongList) otherList;
+        if (this.valueCount() != (long) list.size())
+        {
+            return false;
+        }
+        int size = list.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            if (value != list.get(i))
+            {
+                return false;
+            }
+            value += this.step;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        long count = this.valueCount();
+        long value = this.from;
+        int hashCode = 1;
+        for (long i = 0L; i < count; i++)
+        {
+            hashCode = 31 * hashCode + (int) (value ^ value >>> 32);
+            value += this.step;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns a new LongInterval with the from and to values reversed and the step value negated.
+     */
+    public LongInterval toReversed()
+    {
+        return LongInterval.fromToBy(this.getLast(), this.from, -this.step);
+    }
+
+    public ImmutableLongList subList(int fromIndex, int toIndex)
+    {
+        throw new UnsupportedOperationException("subList not yet implemented!");
+    }
+
+    /**
+     * Calculates and returns the number of values in the interval, which may be larger than Integer.MAX_VALUE.
+     */
+    private long valueCount()
+    {
+        return LongInterval.valueCount(this.from, this.to, this.step);
+    }
+
+    /**
+     * Returns the number of values between from and to, or a value of zero or less if there are more than
+     * Long.MAX_VALUE. The span between from and to may be larger than Long.MAX_VALUE, so it is divided unsigned.
+     */
+    private static long valueCount(long from, long to, long step)
+    {
+        long span = step > 0L ? to - from : from - to;
+        long magnitude = step > 0L ? step : -step;
+        return LongInterval.divideUnsigned(span, magnitude) + 1L;
+    }
+
+    private static long divideUnsigned(long dividend, long divisor)
+    {
+        if (divisor < 0L)
+        {
+            // The divisor is at least 2^63, so the quotient is either 0 or 1
+            return dividend + Long.MIN_VALUE >= divisor + Long.MIN_VALUE ? 1L : 0L;
+        }
+        if (dividend >= 0L)
+        {
+            return dividend / divisor;
+        }
+        long quotient = (dividend >>> 1) / divisor << 1;
+        long remainder = dividend - quotient * divisor;
+        return quotient + (remainder + Long.MIN_VALUE >= divisor + Long.MIN_VALUE ? 1L : 0L);
+    }
+
+    /**
+     * Calculates and returns the size of the interval.
+     *
+     * @throws IllegalStateException if the interval holds more than Integer.MAX_VALUE values
+     */
+    public int size()
+    {
+        long count = this.valueCount();
+        if (count > (long) Integer.MAX_VALUE)
+        {
+            throw new IllegalStateException("LongInterval holds " + count + " values, which is more than an int size allows");
+        }
+        return (int) count;
+    }
+
+    public long dotProduct(LongList list)
+    {
+        if (this.valueCount() != (long) list.size())
+        {
+            throw new IllegalArgumentException("Lists used in dotProduct must be the same size");
+        }
+        int size = list.size();
+        long sum = 0L;
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            sum += value * list.get(i);
+            value += this.step;
+        }
+        return sum;
+    }
+
+    public boolean isEmpty()
+    {
+        return false;
+    }
+
+    public boolean notEmpty()
+    {
+        return true;
+    }
+
+    public String makeString()
+    {
+        return this.makeString(", ");
+    }
+
+    public String makeString(String separator)
+    {
+        return this.makeString("", separator, "");
+    }
+
+    public String makeString(String start, String separator, String end)
+    {
+        Appendable stringBuilder = new StringBuilder();
+        this.appendString(stringBuilder, start, separator, end);
+        return stringBuilder.toString();
+    }
+
+    public void appendString(Appendable appendable)
+    {
+        this.appendString(appendable, ", ");
+    }
+
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.appendString(appendable, "", separator, "");
+    }
+
+    public void appendString(
+            Appendable appendable,
+            String start,
+            String separator,
+            String end)
+    {
+        try
+        {
+            appendable.append(start);
+            long count = this.valueCount();
+            long value = this.from;
+            for (long i = 0L; i < count; i++)
+            {
+                if (i > 0L)
+                {
+                    appendable.append(separator);
+                }
+                appendable.append(String.valueOf(value));
+                value += this.step;
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public long[] toArray()
+    {
+        final long[] result = new long[this.size()];
+        this.forEachWithIndex(new LongIntProcedure()
+        {
+            public void value(long each, int index)
+            {
+                result[index] = each;
+            }
+        });
+        return result;
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        long count = this.valueCount();
+        long value = this.from;
+        for (long i = 0L; i < count; i++)
+        {
+            result = function.valueOf(result, value);
+            value += this.step;
+        }
+        return result;
+    }
+
+    public <T> T injectIntoWithIndex(T injectedValue, ObjectLongIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            result = function.valueOf(result, value, i);
+            value += this.step;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.makeString("[", ", ", "]");
+    }
+
+    public LongIterator longIterator()
+    {
+        return new LongIntervalIterator();
+    }
+
+    public long getFirst()
+    {
+        return this.from;
+    }
+
+    public long getLast()
+    {
+        return this.from + this.step * (this.valueCount() - 1L);
+    }
+
+    public long get(int index)
+    {
+        this.checkBounds("index", index);
+        return this.from + this.step * (long) index;
+    }
+
+    private void checkBounds(String name, int index)
+    {
+        if (index < 0 || (long) index >= this.valueCount())
+        {
+            throw new IndexOutOfBoundsException(name + ": " + index + ' ' + this.toString());
+        }
+    }
+
+    public int indexOf(long value)
+    {
+        if (!this.isWithinBoundaries(value))
+        {
+            return -1;
+        }
+        long index = this.indexWithinBoundaries(value);
+        if (index >= 0L)
+        {
+            if (index > (long) Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("Index " + index + " of " + value + " does not fit in an int");
+            }
+            return (int) index;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(long value)
+    {
+        return this.indexOf(value);
+    }
+
+    public ImmutableLongList select(LongPredicate predicate)
+    {
+        return LongArrayList.newList(new SelectLongIterable(this, predicate)).toImmutable();
+    }
+
+    public ImmutableLongList reject(LongPredicate predicate)
+    {
+        return LongArrayList.newList(new SelectLongIterable(this, LongPredicates.not(predicate))).toImmutable();
+    }
+
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        long index = this.detectIndex(predicate);
+        return index < 0L ? ifNone : this.from + this.step * index;
+    }
+
+    public <V> ImmutableList<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        return new CollectLongToObjectIterable<V>(this, function).toList().toImmutable();
+    }
+
+    public LazyLongIterable asReversed()
+    {
+        return ReverseLongIterable.adapt(this);
+    }
+
+    public long sum()
+    {
+        long count = this.valueCount();
+        long value = this.from;
+        long sum = 0L;
+        for (long i = 0L; i < count; i++)
+        {
+            sum += value;
+            value += this.step;
+        }
+        return sum;
+    }
+
+    public long max()
+    {
+        if (this.from >= this.to)
+        {
+            return this.getFirst();
+        }
+        return this.getLast();
+    }
+
+    public long min()
+    {
+        if (this.from <= this.to)
+        {
+            return this.getFirst();
+        }
+        return this.getLast();
+    }
+
+    public long minIfEmpty(long defaultValue)
+    {
+        return this.min();
+    }
+
+    public long maxIfEmpty(long defaultValue)
+    {
+        return this.max();
+    }
+
+    public double average()
+    {
+        return ((double) this.getFirst() + (double) this.getLast()) / 2.0;
+    }
+
+    public double median()
+    {
+        return this.average();
+    }
+
+    public long[] toSortedArray()
+    {
+        long[] array = this.toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    public MutableLongList toList()
+    {
+        return LongArrayList.newList(this);
+    }
+
+    public MutableLongList toSortedList()
+    {
+        return LongArrayList.newList(this).sortThis();
+    }
+
+    public MutableLongSet toSet()
+    {
+        return LongHashSet.newSet(this);
+    }
+
+    public MutableLongBag toBag()
+    {
+        return LongHashBag.newBag(this);
+    }
+
+    public LazyLongIterable asLazy()
+    {
+        return new LazyLongIterableAdapter(this);
+    }
+
+    /**
+     * Returns a parallel view of this interval. The interval is split into batches of batchSize values by arithmetic
+     * on the from, to and step values, so no values are stored or boxed, and intervals of more than
+     * Integer.MAX_VALUE values are split as well.
+     *
+     * @since 5.2
+     */
+    @Beta
+    public ParallelLongIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new LongIntervalParallelIterable(executorService, batchSize);
+    }
+
+    public ImmutableLongList toImmutable()
+    {
+        return this;
+    }
+
+    public ImmutableLongList newWith(long element)
+    {
+        return LongArrayList.newList(this).with(element).toImmutable();
+    }
+
+    public ImmutableLongList newWithout(long element)
+    {
+        return LongArrayList.newList(this).without(element).toImmutable();
+    }
+
+    public ImmutableLongList newWithAll(LongIterable elements)
+    {
+        return LongArrayList.newList(this).withAll(elements).toImmutable();
+    }
+
+    public ImmutableLongList newWithoutAll(LongIterable elements)
+    {
+        return LongArrayList.newList(this).withoutAll(elements).toImmutable();
+    }
+
+    private final class LongIntervalBatch extends AbstractLongBatch implements RootLongBatch
+    {
+        private final long chunkStartIndex;
+        private final long chunkEndIndex;
+
+        private LongIntervalBatch(long chunkStartIndex, long chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEach(LongProcedure procedure)
+        {
+            long step = LongInterval.this.step;
+            long value = LongInterval.this.from + step * this.chunkStartIndex;
+            for (long i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value(value);
+                value += step;
+            }
+        }
+
+        @Override
+        public int count(LongPredicate predicate)
+        {
+            long step = LongInterval.this.step;
+            long value = LongInterval.this.from + step * this.chunkStartIndex;
+            int count = 0;
+            for (long i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    count++;
+                }
+                value += step;
+            }
+            return count;
+        }
+
+        public boolean anySatisfy(LongPredicate predicate)
+        {
+            return this.detectIndex(predicate) >= 0L;
+        }
+
+        public long detectIfNone(LongPredicate predicate, long ifNone)
+        {
+            long index = this.detectIndex(predicate);
+            return index < 0L ? ifNone : LongInterval.this.from + LongInterval.this.step * index;
+        }
+
+        private long detectIndex(LongPredicate predicate)
+        {
+            long step = LongInterval.this.step;
+            long value = LongInterval.this.from + step * this.chunkStartIndex;
+            for (long i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    return i;
+                }
+                value += step;
+            }
+            return -1L;
+        }
+
+        public LongBatch select(LongPredicate predicate)
+        {
+            return new SelectLongBatch(this, predicate);
+        }
+    }
+
+    private final class LongIntervalParallelIterable extends AbstractParallelLongIterable<RootLongBatch>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private LongIntervalParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootLongBatch> split()
+        {
+            return new LongIntervalParallelBatchLazyIterable();
+        }
+
+        @Override
+        protected boolean isOrdered()
+        {
+            return true;
+        }
+
+        public void forEach(LongProcedure procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public long detectIfNone(LongPredicate predicate, long ifNone)
+        {
+            return detectIfNone(this, predicate, ifNone);
+        }
+
+        public boolean anySatisfy(LongPredicate predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(LongPredicate predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        private class LongIntervalParallelBatchIterator implements Iterator<RootLongBatch>
+        {
+            private final long count = LongInterval.this.valueCount();
+            protected long chunkStartIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex < this.count;
+            }
+
+            public RootLongBatch next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                long chunkStartIndex = this.chunkStartIndex;
+                long truncatedChunkEndIndex = chunkStartIndex + Math.min((long) LongIntervalParallelIterable.this.batchSize, this.count - chunkStartIndex);
+                this.chunkStartIndex = truncatedChunkEndIndex;
+                return new LongIntervalBatch(chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class LongIntervalParallelBatchLazyIterable
+                extends AbstractLazyIterable<RootLongBatch>
+        {
+            public void forEach(Procedure<? super RootLongBatch> procedure)
+            {
+                for (RootLongBatch chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootLongBatch, ? super P> procedure, P parameter)
+            {
+                for (RootLongBatch chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootLongBatch> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootLongBatch> iterator()
+            {
+                return new LongIntervalParallelBatchIterator();
+            }
+        }
+    }
+
+    private class LongIntervalIterator implements LongIterator
+    {
+        private final long count = LongInterval.this.valueCount();
+        private long index;
+        private long current = LongInterval.this.from;
+
+        public boolean hasNext()
+        {
+            return this.index < this.count;
+        }
+
+        public long next()
+        {
+            if (this.hasNext())
+            {
+                long result = this.current;
+                this.current += LongInterval.this.step;
+                this.index++;
+                return result;
+            }
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -55,6 +55,8 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
@@ -468,6 +470,38 @@ public abstract class SynchronizedMapIterable<K, V>
         }
     }
 
+    public <VV> ObjectLongMap<VV> sumByInt(Function<? super V, ? extends VV> groupBy, IntFunction<? super V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.mapIterable.sumByInt(groupBy, function);
+        }
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByFloat(Function<? super V, ? extends VV> groupBy, FloatFunction<? super V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.mapIterable.sumByFloat(groupBy, function);
+        }
+    }
+
+    public <VV> ObjectLongMap<VV> sumByLong(Function<? super V, ? extends VV> groupBy, LongFunction<? super V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.mapIterable.sumByLong(groupBy, function);
+        }
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByDouble(Function<? super V, ? extends VV> groupBy, DoubleFunction<? super V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.mapIterable.sumByDouble(groupBy, function);
+        }
+    }
+
     public MutableList<V> toList()
     {
         synchronized (this.lock)
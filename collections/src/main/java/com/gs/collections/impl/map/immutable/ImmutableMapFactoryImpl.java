@@ -171,4 +171,28 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
                 throw new AssertionError();
         }
     }
+
+    public <K, V> ImmutableMap<K, V> ofAllFrozen(Map<K, V> map)
+    {
+        return this.withAllFrozen(map);
+    }
+
+    public <K, V> ImmutableMap<K, V> withAllFrozen(Map<K, V> map)
+    {
+        if (map instanceof ImmutablePerfectHashMap<?, ?>)
+        {
+            return (ImmutableMap<K, V>) map;
+        }
+        if (map.size() <= 4)
+        {
+            return this.withAll(map);
+        }
+        ImmutablePerfectHashMap<K, V> perfectHashMap = ImmutablePerfectHashMap.newMap(map);
+        if (perfectHashMap == null)
+        {
+            // No seed could be found for one of the buckets of the perfect hash function
+            return new ImmutableUnifiedMap<K, V>(map);
+        }
+        return perfectHashMap;
+    }
 }
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.internal.MinimalPerfectHash;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableMap that stores its keys and values in two dense arrays, ordered by a minimal perfect hash function over
+ * the hash codes of the keys. A lookup computes the slot of the key and compares a single key, and the arrays have no
+ * empty slots. Keys whose hash code equals that of another key are stored after the perfectly hashed ones, sorted by
+ * hash, and are found by a binary search when the first comparison misses. The
+ * hash function is computed when the map is built, which takes longer than building an {@link ImmutableUnifiedMap}, so
+ * this map is meant for reference data that is built once and read many times.
+ *
+ * @see com.gs.collections.api.factory.map.ImmutableMapFactory#ofAllFrozen(Map)
+ * @since 5.2
+ */
+@Immutable
+final class ImmutablePerfectHashMap<K, V>
+        extends AbstractImmutableMap<K, V> implements BatchIterable<V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final K[] keys;
+    private final V[] values;
+    // Hash codes need not be stable across JVMs, so the seeds are recomputed on deserialization
+    private final transient int[] seeds;
+    private final transient long[] overflowHashes;
+
+    private ImmutablePerfectHashMap(K[] keys, V[] values, int[] seeds, long[] overflowHashes)
+    {
+        this.keys = keys;
+        this.values = values;
+        this.seeds = seeds;
+        this.overflowHashes = overflowHashes;
+    }
+
+    /**
+     * Returns a copy of the map, or null if no perfect hash function could be found for its keys.
+     */
+    static <K, V> ImmutablePerfectHashMap<K, V> newMap(Map<K, V> map)
+    {
+        Object[] keys = new Object[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<K, V> entry : map.entrySet())
+        {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return ImmutablePerfectHashMap.newMap(keys, values);
+    }
+
+    private static <K, V> ImmutablePerfectHashMap<K, V> newMap(Object[] keys, Object[] values)
+    {
+        int size = keys.length;
+        long[] hashes = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            hashes[i] = MinimalPerfectHash.hash(keys[i]);
+        }
+        MinimalPerfectHash.Layout layout = MinimalPerfectHash.layout(hashes);
+        if (layout == null)
+        {
+            return null;
+        }
+        int[] positions = layout.getPositions();
+        Object[] tableKeys = new Object[size];
+        Object[] tableValues = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            tableKeys[positions[i]] = keys[i];
+            tableValues[positions[i]] = values[i];
+        }
+        return new ImmutablePerfectHashMap<K, V>(
+                (K[]) tableKeys,
+                (V[]) tableValues,
+                layout.getSeeds(),
+                layout.getOverflowHashes());
+    }
+
+    /**
+     * Returns the index of the key in the table, or -1 if the map does not contain it.
+     */
+    private int index(Object key)
+    {
+        long hash = MinimalPerfectHash.hash(key);
+        int distinctCount = this.keys.length - this.overflowHashes.length;
+        int index = MinimalPerfectHash.index(hash, this.seeds, distinctCount);
+        if (Comparators.nullSafeEquals(this.keys[index], key))
+        {
+            return index;
+        }
+        for (int i = MinimalPerfectHash.firstIndexOf(this.overflowHashes, hash);
+                i < this.overflowHashes.length && this.overflowHashes[i] == hash;
+                i++)
+        {
+            if (Comparators.nullSafeEquals(this.keys[distinctCount + i], key))
+            {
+                return distinctCount + i;
+            }
+        }
+        return -1;
+    }
+
+    public int size()
+    {
+        return this.keys.length;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.index(key) >= 0;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (V each : this.values)
+        {
+            if (Comparators.nullSafeEquals(each, value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        int index = this.index(key);
+        return index < 0 ? null : this.values[index];
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return ArrayAdapter.adapt(this.values).asUnmodifiable();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return ArrayAdapter.adapt(this.keys).asLazy();
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return ArrayAdapter.adapt(this.values).asLazy();
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return Interval.zeroTo(this.size() - 1).asLazy().collect(new Function<Integer, Pair<K, V>>()
+        {
+            public Pair<K, V> valueOf(Integer index)
+            {
+                return Tuples.pair(ImmutablePerfectHashMap.this.keys[index], ImmutablePerfectHashMap.this.values[index]);
+            }
+        });
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (other.size() != this.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (!this.keyAndValueEquals(this.keys[i], this.values[i], other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            result += this.keyAndValueHashCode(this.keys[i], this.values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+            builder.append(this.keys[i]).append('=').append(this.values[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            procedure.value(this.keys[i], this.values[i]);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (K each : this.keys)
+        {
+            procedure.value(each);
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (V each : this.values)
+        {
+            procedure.value(each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        for (int i = 0; i < this.values.length; i++)
+        {
+            objectIntProcedure.value(this.values[i], i);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        for (V each : this.values)
+        {
+            procedure.value(each, parameter);
+        }
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size() / batchSize);
+    }
+
+    public void batchForEach(Procedure<? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size() / sectionCount;
+        int start = sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.size() : start + sectionSize;
+        for (int i = start; i < end; i++)
+        {
+            procedure.value(this.values[i]);
+        }
+    }
+
+    private Object readResolve()
+    {
+        ImmutablePerfectHashMap<K, V> map = ImmutablePerfectHashMap.newMap(this.keys, this.values);
+        if (map == null)
+        {
+            // No perfect hash function could be found for the hash codes of this JVM
+            return new ImmutableUnifiedMap<K, V>(this);
+        }
+        return map;
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return Arrays.asList(ImmutablePerfectHashMap.this.keys).iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutablePerfectHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutablePerfectHashMap.this.containsKey(key);
+        }
+    }
+}
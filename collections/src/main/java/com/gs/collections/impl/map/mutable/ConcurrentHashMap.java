@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -37,20 +38,28 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.Function3;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ConcurrentMutableMap;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.procedure.MapEntryToProcedure2;
 import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.MapBatch;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.MapIterate;
 import com.gs.collections.impl.utility.internal.IterableIterate;
@@ -1193,6 +1202,20 @@ public final class ConcurrentHashMap<K, V>
         return replacement;
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ConcurrentHashMapParallelIterable(executorService, batchSize);
+    }
+
     public void parallelForEachKeyValue(List<Procedure2<K, V>> blocks, Executor executor)
     {
         final AtomicReferenceArray currentArray = this.table;
@@ -1610,7 +1633,7 @@ public final class ConcurrentHashMap<K, V>
         @Override
         public int size()
         {
-            return ConcurrentHashMap.this.size;
+            return ConcurrentHashMap.this.size();
         }
 
         @Override
@@ -1643,7 +1666,7 @@ public final class ConcurrentHashMap<K, V>
         @Override
         public int size()
         {
-            return ConcurrentHashMap.this.size;
+            return ConcurrentHashMap.this.size();
         }
 
         @Override
@@ -1693,7 +1716,7 @@ public final class ConcurrentHashMap<K, V>
         @Override
         public int size()
         {
-            return ConcurrentHashMap.this.size;
+            return ConcurrentHashMap.this.size();
         }
 
         @Override
@@ -2199,4 +2222,148 @@ public final class ConcurrentHashMap<K, V>
     {
         return Maps.immutable.ofMap(this);
     }
+
+    /**
+     * A batch covering the buckets [chunkStartIndex, chunkEndIndex) of the table, including their chains. Like the
+     * other bulk operations on this map, it fails fast if it runs into a bucket which is being resized.
+     */
+    private final class ConcurrentHashMapBatch implements MapBatch<K, V>
+    {
+        private final AtomicReferenceArray table;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private ConcurrentHashMapBatch(AtomicReferenceArray table, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.table = table;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                Entry<K, V> e = this.bucket(i);
+                while (e != null)
+                {
+                    procedure.value(e.getKey(), e.getValue());
+                    e = e.getNext();
+                }
+            }
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                Entry<K, V> e = this.bucket(i);
+                while (e != null)
+                {
+                    K key = e.getKey();
+                    V value = e.getValue();
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                    e = e.getNext();
+                }
+            }
+            return null;
+        }
+
+        private Entry<K, V> bucket(int index)
+        {
+            Object o = this.table.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                throw new ConcurrentModificationException("can't iterate while resizing!");
+            }
+            return (Entry<K, V>) o;
+        }
+    }
+
+    private final class ConcurrentHashMapParallelIterable extends AbstractParallelMapIterable<K, V>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ConcurrentHashMapParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<MapBatch<K, V>> split()
+        {
+            return new ConcurrentHashMapParallelBatchLazyIterable();
+        }
+
+        private class ConcurrentHashMapParallelBatchIterator implements Iterator<MapBatch<K, V>>
+        {
+            private final AtomicReferenceArray table = ConcurrentHashMap.this.table;
+            // The last slot of the table is reserved for the resize container
+            private final int tableLength = this.table.length() - 1;
+            private int chunkStartIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex < this.tableLength;
+            }
+
+            public MapBatch<K, V> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                int chunkStartIndex = this.chunkStartIndex;
+                int chunkEndIndex = (int) Math.min((long) chunkStartIndex + ConcurrentHashMapParallelIterable.this.batchSize, this.tableLength);
+                this.chunkStartIndex = chunkEndIndex;
+                return new ConcurrentHashMapBatch(this.table, chunkStartIndex, chunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class ConcurrentHashMapParallelBatchLazyIterable
+                extends AbstractLazyIterable<MapBatch<K, V>>
+        {
+            public void forEach(Procedure<? super MapBatch<K, V>> procedure)
+            {
+                for (MapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super MapBatch<K, V>, ? super P> procedure, P parameter)
+            {
+                for (MapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super MapBatch<K, V>> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<MapBatch<K, V>> iterator()
+            {
+                return new ConcurrentHashMapParallelBatchIterator();
+            }
+        }
+    }
 }
@@ -0,0 +1,1028 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.UnsortedMapIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * OpenAddressingHashMap is a MutableMap that resolves collisions by linear probing instead of chaining. Keys and values
+ * are stored in two parallel arrays, and a key that collides is placed in the next free slot of the keys array, so
+ * unlike {@link UnifiedMap} no chain arrays are ever allocated. The memory used by the map only depends on its
+ * capacity, which makes it a good fit for maps with many colliding keys, or maps that are kept at high load factors.
+ * <p/>
+ * Removal shifts the following entries of the probe sequence back instead of leaving tombstones behind, so lookups
+ * never slow down after many removals.
+ * <p/>
+ * Iteration order is unspecified, like for {@link UnifiedMap}.
+ *
+ * @since 5.2
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class OpenAddressingHashMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "OpenAddressingHashMap.NULL_KEY";
+        }
+    };
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Object[] keys;
+
+    private transient Object[] values;
+
+    private transient int occupied;
+
+    private float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    private int maxSize;
+
+    public OpenAddressingHashMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OpenAddressingHashMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public OpenAddressingHashMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0f || loadFactor >= 1.0f)
+        {
+            throw new IllegalArgumentException("load factor must be between 0 and 1 exclusive but was " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.init((int) Math.ceil(initialCapacity / loadFactor));
+    }
+
+    public OpenAddressingHashMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public OpenAddressingHashMap(Pair<K, V>... pairs)
+    {
+        this(Math.max(pairs.length, DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(
+                this,
+                Functions.<K>firstOfPair(),
+                Functions.<V>secondOfPair()));
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newMap()
+    {
+        return new OpenAddressingHashMap<K, V>();
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newMap(int size)
+    {
+        return new OpenAddressingHashMap<K, V>(size);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newMap(int size, float loadFactor)
+    {
+        return new OpenAddressingHashMap<K, V>(size, loadFactor);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OpenAddressingHashMap<K, V>(map);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new OpenAddressingHashMap<K, V>(pairs);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OpenAddressingHashMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OpenAddressingHashMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OpenAddressingHashMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> OpenAddressingHashMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new OpenAddressingHashMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public OpenAddressingHashMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public OpenAddressingHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OpenAddressingHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public OpenAddressingHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public OpenAddressingHashMap<K, V> clone()
+    {
+        return new OpenAddressingHashMap<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return new OpenAddressingHashMap<K, V>();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return OpenAddressingHashMap.newMap(capacity);
+    }
+
+    private void init(int initialCapacity)
+    {
+        int capacity = 1;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+        this.allocate(capacity);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        // need at least one free slot to terminate every probe sequence
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    private int index(Object key)
+    {
+        // This function ensures that hashCodes that differ only by
+        // constant multiples at each bit position have a bounded
+        // number of collisions (approximately 8 at default load factor).
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h & this.keys.length - 1;
+    }
+
+    /**
+     * Returns the slot that holds the key, or the empty slot that ends its probe sequence if the key is absent.
+     */
+    private int probe(Object key)
+    {
+        int mask = this.keys.length - 1;
+        int index = this.index(key);
+        Object cur = this.keys[index];
+        while (cur != null && !this.nonNullTableObjectEquals(cur, (K) key))
+        {
+            index = index + 1 & mask;
+            cur = this.keys[index];
+        }
+        return index;
+    }
+
+    private void addKeyValueAtIndex(K key, V value, int index)
+    {
+        this.keys[index] = toSentinelIfNull(key);
+        this.values[index] = value;
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.keys.length << 1);
+        }
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            Object cur = oldKeys[i];
+            if (cur != null)
+            {
+                int index = this.index(this.nonSentinel(cur));
+                while (this.keys[index] != null)
+                {
+                    index = index + 1 & mask;
+                }
+                this.keys[index] = cur;
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Empties the slot at index, and moves the entries after it back along their probe sequences so that no probe
+     * sequence runs into the new hole.
+     */
+    private void removeAtIndex(int index)
+    {
+        int mask = this.keys.length - 1;
+        int hole = index;
+        int next = hole + 1 & mask;
+        Object cur = this.keys[next];
+        while (cur != null)
+        {
+            int home = this.index(this.nonSentinel(cur));
+            // the entry may move into the hole unless its home slot lies after the hole
+            if ((next - home & mask) >= (next - hole & mask))
+            {
+                this.keys[hole] = cur;
+                this.values[hole] = this.values[next];
+                hole = next;
+            }
+            next = next + 1 & mask;
+            cur = this.keys[next];
+        }
+        this.keys[hole] = null;
+        this.values[hole] = null;
+        this.occupied--;
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        for (int i = this.keys.length; i-- > 0; )
+        {
+            this.keys[i] = null;
+            this.values[i] = null;
+        }
+    }
+
+    public V put(K key, V value)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] != null)
+        {
+            V result = (V) this.values[index];
+            this.values[index] = value;
+            return result;
+        }
+        this.addKeyValueAtIndex(key, value, index);
+        return null;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] != null)
+        {
+            V newValue = function.valueOf((V) this.values[index]);
+            this.values[index] = newValue;
+            return newValue;
+        }
+        V result = function.valueOf(factory.value());
+        this.addKeyValueAtIndex(key, result, index);
+        return result;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] != null)
+        {
+            V newValue = function.value((V) this.values[index], parameter);
+            this.values[index] = newValue;
+            return newValue;
+        }
+        V result = function.value(factory.value(), parameter);
+        this.addKeyValueAtIndex(key, result, index);
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] != null)
+        {
+            return (V) this.values[index];
+        }
+        V result = function.value();
+        this.addKeyValueAtIndex(key, result, index);
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] != null)
+        {
+            return (V) this.values[index];
+        }
+        this.addKeyValueAtIndex(key, value, index);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] != null)
+        {
+            return (V) this.values[index];
+        }
+        V result = function.valueOf(parameter);
+        this.addKeyValueAtIndex(key, result, index);
+        return result;
+    }
+
+    /**
+     * Returns the number of JVM words that is used by this map.  A word is 4 bytes in a 32bit VM and 8 bytes in a 64bit
+     * VM. Each array has a 2 word header, thus the formula is:
+     * words = (keys length + 2) + (values length + 2)
+     *
+     * @return the number of JVM words that is used by this map.
+     */
+    public int getMapMemoryUsedInWords()
+    {
+        int headerSize = 2;
+        return this.keys.length + this.values.length + headerSize + headerSize;
+    }
+
+    public V get(Object key)
+    {
+        int index = this.probe(key);
+        return (V) this.values[index];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.keys[this.probe(key)] != null;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null && nullSafeEquals(value, this.values[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                procedure.value((V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int index = 0;
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                objectIntProcedure.value((V) this.values[i], index++);
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                procedure.value((V) this.values[i], parameter);
+            }
+        }
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<E, K, V>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public V remove(Object key)
+    {
+        int index = this.probe(key);
+        if (this.keys[index] == null)
+        {
+            return null;
+        }
+        V result = (V) this.values[index];
+        this.removeAtIndex(index);
+        return result;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof UnsortedMapIterable)
+        {
+            MapIterable<K, V> mapIterable = (MapIterable<K, V>) map;
+            mapIterable.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    OpenAddressingHashMap.this.put(key, value);
+                }
+            });
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != null)
+            {
+                Object key = this.nonSentinel(cur);
+                Object value = this.values[i];
+                Object otherValue = other.get(key);
+                if (!nullSafeEquals(value, otherValue) || value == null && !other.containsKey(key))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != null)
+            {
+                Object value = this.values[i];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder buf = new StringBuilder();
+        buf.append('{');
+        boolean first = true;
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != null)
+            {
+                if (!first)
+                {
+                    buf.append(", ");
+                }
+                first = false;
+                Object key = this.nonSentinel(cur);
+                Object value = this.values[i];
+                buf.append(key == this ? "(this Map)" : key);
+                buf.append('=');
+                buf.append(value == this ? "(this Map)" : value);
+            }
+        }
+        buf.append('}');
+        return buf.toString();
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) Math.ceil(size / this.loadFactor), DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != null)
+            {
+                out.writeObject(this.nonSentinel(cur));
+                out.writeObject(this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.withAll(this);
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private boolean nonNullTableObjectEquals(Object cur, K key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    private static boolean nullSafeEquals(Object value, Object other)
+    {
+        if (value == null)
+        {
+            if (other == null)
+            {
+                return true;
+            }
+        }
+        else if (other == value || value.equals(other))
+        {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Walks the slots starting after an empty one. No probe sequence wraps around an empty slot, so removing through
+     * the iterator only ever moves entries from slots that have not been visited yet, and the slot that was just
+     * emptied is looked at again in case an entry moved into it.
+     */
+    private abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        private final int start;
+        private int offset;
+        private int count;
+        private int lastReturned = -1;
+
+        protected PositionalIterator()
+        {
+            Object[] keys = OpenAddressingHashMap.this.keys;
+            int index = 0;
+            while (keys[index] != null)
+            {
+                index++;
+            }
+            this.start = index + 1;
+        }
+
+        public boolean hasNext()
+        {
+            return this.count < OpenAddressingHashMap.this.occupied;
+        }
+
+        protected int nextIndex()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            Object[] keys = OpenAddressingHashMap.this.keys;
+            int mask = keys.length - 1;
+            int index = this.start + this.offset & mask;
+            while (keys[index] == null)
+            {
+                this.offset++;
+                index = this.start + this.offset & mask;
+            }
+            this.offset++;
+            this.count++;
+            this.lastReturned = index;
+            return index;
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException("remove() called before next()");
+            }
+            OpenAddressingHashMap.this.removeAtIndex(this.lastReturned);
+            if (OpenAddressingHashMap.this.keys[this.lastReturned] != null)
+            {
+                this.offset--;
+            }
+            this.count--;
+            this.lastReturned = -1;
+        }
+    }
+
+    private class KeySetIterator extends PositionalIterator<K>
+    {
+        public K next()
+        {
+            return OpenAddressingHashMap.this.nonSentinel(OpenAddressingHashMap.this.keys[this.nextIndex()]);
+        }
+    }
+
+    private class ValuesIterator extends PositionalIterator<V>
+    {
+        public V next()
+        {
+            return (V) OpenAddressingHashMap.this.values[this.nextIndex()];
+        }
+    }
+
+    private class EntrySetIterator extends PositionalIterator<Entry<K, V>>
+    {
+        public Entry<K, V> next()
+        {
+            int index = this.nextIndex();
+            return new BoundEntry(
+                    OpenAddressingHashMap.this.nonSentinel(OpenAddressingHashMap.this.keys[index]),
+                    (V) OpenAddressingHashMap.this.values[index]);
+        }
+    }
+
+    private class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return OpenAddressingHashMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int index = OpenAddressingHashMap.this.probe(key);
+            if (OpenAddressingHashMap.this.keys[index] == null)
+            {
+                return false;
+            }
+            OpenAddressingHashMap.this.removeAtIndex(index);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingHashMap.this.clear();
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntrySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return this.indexOf(o) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int index = this.indexOf(o);
+            if (index < 0)
+            {
+                return false;
+            }
+            OpenAddressingHashMap.this.removeAtIndex(index);
+            return true;
+        }
+
+        private int indexOf(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int index = OpenAddressingHashMap.this.probe(entry.getKey());
+            if (OpenAddressingHashMap.this.keys[index] != null
+                    && nullSafeEquals(OpenAddressingHashMap.this.values[index], entry.getValue()))
+            {
+                return index;
+            }
+            return -1;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingHashMap.this.clear();
+        }
+    }
+
+    private class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return OpenAddressingHashMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingHashMap.this.clear();
+        }
+    }
+
+    private class BoundEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            this.value = value;
+            int index = OpenAddressingHashMap.this.probe(this.key);
+            if (OpenAddressingHashMap.this.keys[index] == null)
+            {
+                return null;
+            }
+            V result = (V) OpenAddressingHashMap.this.values[index];
+            OpenAddressingHashMap.this.values[index] = value;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return nullSafeEquals(this.key, other.getKey())
+                        && nullSafeEquals(this.value, other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode())
+                    ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -29,16 +29,21 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.UnsortedMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
@@ -46,10 +51,14 @@ import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.MapBatch;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.tuple.ImmutableEntry;
+import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.NotThreadSafe;
@@ -1034,6 +1043,20 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new UnifiedMapParallelIterable(executorService, batchSize);
+    }
+
     @Override
     public void forEachKey(Procedure<? super K> procedure)
     {
@@ -2601,4 +2624,165 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         return Maps.immutable.withAll(this);
     }
+
+    /**
+     * A batch covering the buckets [chunkStartIndex, chunkEndIndex) of the table, including their chains.
+     */
+    private final class UnifiedMapBatch implements MapBatch<K, V>
+    {
+        private final Object[] table;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private UnifiedMapBatch(Object[] table, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.table = table;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = this.table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    UnifiedMap.this.chainedForEachEntry((Object[]) this.table[i + 1], procedure);
+                }
+                else if (cur != null)
+                {
+                    procedure.value(UnifiedMap.this.nonSentinel(cur), (V) this.table[i + 1]);
+                }
+            }
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = this.table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Pair<K, V> result = this.chainedDetect((Object[]) this.table[i + 1], predicate);
+                    if (result != null)
+                    {
+                        return result;
+                    }
+                }
+                else if (cur != null)
+                {
+                    K key = UnifiedMap.this.nonSentinel(cur);
+                    V value = (V) this.table[i + 1];
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Pair<K, V> chainedDetect(Object[] chain, Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = 0; i < chain.length; i += 2)
+            {
+                Object cur = chain[i];
+                if (cur == null)
+                {
+                    return null;
+                }
+                K key = UnifiedMap.this.nonSentinel(cur);
+                V value = (V) chain[i + 1];
+                if (predicate.accept(key, value))
+                {
+                    return Tuples.pair(key, value);
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class UnifiedMapParallelIterable extends AbstractParallelMapIterable<K, V>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private UnifiedMapParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<MapBatch<K, V>> split()
+        {
+            return new UnifiedMapParallelBatchLazyIterable();
+        }
+
+        private class UnifiedMapParallelBatchIterator implements Iterator<MapBatch<K, V>>
+        {
+            private final Object[] table = UnifiedMap.this.table;
+            private final int chunkLength = (int) Math.min((long) UnifiedMapParallelIterable.this.batchSize * 2L, Integer.MAX_VALUE);
+            private int chunkStartIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex < this.table.length;
+            }
+
+            public MapBatch<K, V> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                int chunkStartIndex = this.chunkStartIndex;
+                int chunkEndIndex = (int) Math.min((long) chunkStartIndex + this.chunkLength, this.table.length);
+                this.chunkStartIndex = chunkEndIndex;
+                return new UnifiedMapBatch(this.table, chunkStartIndex, chunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class UnifiedMapParallelBatchLazyIterable
+                extends AbstractLazyIterable<MapBatch<K, V>>
+        {
+            public void forEach(Procedure<? super MapBatch<K, V>> procedure)
+            {
+                for (MapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super MapBatch<K, V>, ? super P> procedure, P parameter)
+            {
+                for (MapBatch<K, V> chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super MapBatch<K, V>> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<MapBatch<K, V>> iterator()
+            {
+                return new UnifiedMapParallelBatchIterator();
+            }
+        }
+    }
 }
@@ -56,6 +56,8 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.multimap.set.MutableSetMultimap;
@@ -647,6 +649,26 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().sumOfDouble(function);
     }
 
+    public <VV> ObjectLongMap<VV> sumByInt(Function<? super V, ? extends VV> groupBy, IntFunction<? super V> function)
+    {
+        return this.getMutableMap().sumByInt(groupBy, function);
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByFloat(Function<? super V, ? extends VV> groupBy, FloatFunction<? super V> function)
+    {
+        return this.getMutableMap().sumByFloat(groupBy, function);
+    }
+
+    public <VV> ObjectLongMap<VV> sumByLong(Function<? super V, ? extends VV> groupBy, LongFunction<? super V> function)
+    {
+        return this.getMutableMap().sumByLong(groupBy, function);
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByDouble(Function<? super V, ? extends VV> groupBy, DoubleFunction<? super V> function)
+    {
+        return this.getMutableMap().sumByDouble(groupBy, function);
+    }
+
     public String makeString()
     {
         return this.getMutableMap().makeString();
@@ -16,33 +16,80 @@
 
 package com.gs.collections.impl.map.sorted.immutable;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedMap;
 
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.sorted.ImmutableSortedMap;
 import com.gs.collections.api.tuple.Pair;
-import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
-import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
-import com.gs.collections.impl.set.mutable.UnmodifiableMutableSet;
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.utility.LazyIterate;
+import com.gs.collections.impl.utility.MapIterate;
 import net.jcip.annotations.Immutable;
 
 @Immutable
 /**
+ * ImmutableTreeMap stores its keys in a sorted array and its values in a parallel array. Lookups are binary searches,
+ * and subMap, headMap and tailMap return views that share the arrays of this map. A view covers the entries
+ * [from, to) of the arrays, and remembers the keys it was created with, so that it rejects keys outside of its range
+ * with an IllegalArgumentException, as the views of TreeMap do.
+ *
  * @see ImmutableSortedMap
  */
 public class ImmutableTreeMap<K, V>
         extends AbstractImmutableSortedMap<K, V>
+        implements BatchIterable<V>
 {
-    private final TreeSortedMap<K, V> delegate;
+    private static final Object UNBOUNDED = new Object();
+
+    private final K[] keys;
+    private final V[] values;
+    private final int from;
+    private final int to;
+    private final Comparator<? super K> comparator;
+    // The inclusive low and exclusive high key of a view, or UNBOUNDED
+    private final Object lowKey;
+    private final Object highKey;
 
     public ImmutableTreeMap(SortedMap<K, V> sortedMap)
     {
-        this.delegate = TreeSortedMap.newMap(sortedMap);
+        int size = sortedMap.size();
+        this.keys = (K[]) new Object[size];
+        this.values = (V[]) new Object[size];
+        int index = 0;
+        for (Map.Entry<K, V> entry : sortedMap.entrySet())
+        {
+            this.keys[index] = entry.getKey();
+            this.values[index] = entry.getValue();
+            index++;
+        }
+        this.from = 0;
+        this.to = size;
+        this.comparator = sortedMap.comparator();
+        this.lowKey = UNBOUNDED;
+        this.highKey = UNBOUNDED;
+    }
+
+    private ImmutableTreeMap(K[] keys, V[] values, Comparator<? super K> comparator, Object lowKey, Object highKey)
+    {
+        this.keys = keys;
+        this.values = values;
+        this.comparator = comparator;
+        this.lowKey = lowKey;
+        this.highKey = highKey;
+        this.from = lowKey == UNBOUNDED ? 0 : this.lowerBound((K) lowKey);
+        this.to = highKey == UNBOUNDED ? keys.length : this.lowerBound((K) highKey);
     }
 
     public static <K, V> ImmutableSortedMap<K, V> newMap(SortedMap<K, V> sortedMap)
@@ -50,91 +97,296 @@ public class ImmutableTreeMap<K, V>
         return new ImmutableTreeMap<K, V>(sortedMap);
     }
 
+    private int indexOfKey(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+        return Arrays.binarySearch(this.keys, this.from, this.to, (K) key, this.comparator);
+    }
+
+    /**
+     * Returns the index of the first key in the array that is not less than the key.
+     */
+    private int lowerBound(K key)
+    {
+        int index = Arrays.binarySearch(this.keys, key, this.comparator);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int compare(K one, K two)
+    {
+        return this.comparator == null ? ((Comparable<K>) one).compareTo(two) : this.comparator.compare(one, two);
+    }
+
+    private boolean isTooLow(K key)
+    {
+        return this.lowKey != UNBOUNDED && this.compare(key, (K) this.lowKey) < 0;
+    }
+
+    private boolean isTooHigh(K key, boolean inclusive)
+    {
+        if (this.highKey == UNBOUNDED)
+        {
+            return false;
+        }
+        int comparison = this.compare(key, (K) this.highKey);
+        return comparison > 0 || comparison == 0 && inclusive;
+    }
+
+    private void checkFromKey(K fromKey)
+    {
+        if (this.isTooLow(fromKey) || this.isTooHigh(fromKey, true))
+        {
+            throw new IllegalArgumentException("fromKey out of range");
+        }
+    }
+
+    private void checkToKey(K toKey)
+    {
+        if (this.isTooLow(toKey) || this.isTooHigh(toKey, false))
+        {
+            throw new IllegalArgumentException("toKey out of range");
+        }
+    }
+
     @Override
     public boolean equals(Object o)
     {
-        return this.delegate.equals(o);
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) o;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        for (int i = this.from; i < this.to; i++)
+        {
+            if (!this.keyAndValueEquals(this.keys[i], this.values[i], other))
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode()
     {
-        return this.delegate.hashCode();
+        int hashCode = 0;
+        for (int i = this.from; i < this.to; i++)
+        {
+            hashCode += this.keyAndValueHashCode(this.keys[i], this.values[i]);
+        }
+        return hashCode;
     }
 
     @Override
     public String toString()
     {
-        return this.delegate.toString();
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = this.from; i < this.to; i++)
+        {
+            if (i > this.from)
+            {
+                builder.append(", ");
+            }
+            builder.append(this.keys[i]).append('=').append(this.values[i]);
+        }
+        return builder.append('}').toString();
     }
 
     public int size()
     {
-        return this.delegate.size();
+        return this.to - this.from;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.to == this.from;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.to != this.from;
     }
 
     public boolean containsKey(Object key)
     {
-        return this.delegate.containsKey(key);
+        return this.indexOfKey(key) >= 0;
     }
 
     public boolean containsValue(Object value)
     {
-        return this.delegate.containsValue(value);
+        for (int i = this.from; i < this.to; i++)
+        {
+            V each = this.values[i];
+            if (each == value || each != null && each.equals(value))
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     public V get(Object key)
     {
-        return this.delegate.get(key);
+        int index = this.indexOfKey(key);
+        return index >= 0 ? this.values[index] : null;
     }
 
     public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
     {
-        this.delegate.forEachKeyValue(procedure);
+        for (int i = this.from; i < this.to; i++)
+        {
+            procedure.value(this.keys[i], this.values[i]);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = this.from; i < this.to; i++)
+        {
+            procedure.value(this.keys[i]);
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = this.from; i < this.to; i++)
+        {
+            procedure.value(this.values[i]);
+        }
     }
 
     public ImmutableMap<V, K> flipUniqueValues()
     {
-        return this.delegate.flipUniqueValues().toImmutable();
+        return MapIterate.flipUniqueValues(this).toImmutable();
     }
 
     public RichIterable<K> keysView()
     {
-        return this.delegate.keysView();
+        return ArrayAdapter.adapt(this.keys).subList(this.from, this.to).asLazy();
     }
 
     public RichIterable<V> valuesView()
     {
-        return this.delegate.valuesView();
+        return ArrayAdapter.adapt(this.values).subList(this.from, this.to).asLazy();
     }
 
     public RichIterable<Pair<K, V>> keyValuesView()
     {
-        return this.delegate.keyValuesView();
+        return LazyIterate.zip(this.keysView(), this.valuesView());
     }
 
     public Comparator<? super K> comparator()
     {
-        return this.delegate.comparator();
+        return this.comparator;
     }
 
     public K firstKey()
     {
-        return this.delegate.firstKey();
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keys[this.from];
     }
 
     public K lastKey()
     {
-        return this.delegate.lastKey();
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keys[this.to - 1];
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        this.checkFromKey(fromKey);
+        this.checkToKey(toKey);
+        return new ImmutableTreeMap<K, V>(this.keys, this.values, this.comparator, fromKey, toKey);
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        // Rejects keys that cannot be compared, even if the map is empty, as TreeMap does
+        this.compare(toKey, toKey);
+        this.checkToKey(toKey);
+        return new ImmutableTreeMap<K, V>(this.keys, this.values, this.comparator, this.lowKey, toKey);
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        // Rejects keys that cannot be compared, even if the map is empty, as TreeMap does
+        this.compare(fromKey, fromKey);
+        this.checkFromKey(fromKey);
+        return new ImmutableTreeMap<K, V>(this.keys, this.values, this.comparator, fromKey, this.highKey);
     }
 
     public Set<K> keySet()
     {
-        return UnmodifiableMutableSet.of(this.delegate.keySet());
+        return new ImmutableTreeMapKeySet();
     }
 
     public Collection<V> values()
     {
-        return UnmodifiableMutableCollection.of(this.delegate.values());
+        return ArrayAdapter.adapt(this.values).subList(this.from, this.to).asUnmodifiable();
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size() / batchSize);
+    }
+
+    public void batchForEach(Procedure<? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size() / sectionCount;
+        int start = this.from + sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.to : start + sectionSize;
+        for (int i = start; i < end; i++)
+        {
+            procedure.value(this.values[i]);
+        }
+    }
+
+    private class ImmutableTreeMapKeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return ArrayAdapter.adapt(ImmutableTreeMap.this.keys).subList(ImmutableTreeMap.this.from, ImmutableTreeMap.this.to).asUnmodifiable().iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableTreeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return ImmutableTreeMap.this.containsKey(o);
+        }
     }
 }
@@ -64,6 +64,8 @@ import com.gs.collections.api.list.primitive.MutableLongList;
 import com.gs.collections.api.list.primitive.MutableShortList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.ImmutableSortedMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -612,6 +614,26 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().sumOfDouble(function);
     }
 
+    public <VV> ObjectLongMap<VV> sumByInt(Function<? super V, ? extends VV> groupBy, IntFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().sumByInt(groupBy, function);
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByFloat(Function<? super V, ? extends VV> groupBy, FloatFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().sumByFloat(groupBy, function);
+    }
+
+    public <VV> ObjectLongMap<VV> sumByLong(Function<? super V, ? extends VV> groupBy, LongFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().sumByLong(groupBy, function);
+    }
+
+    public <VV> ObjectDoubleMap<VV> sumByDouble(Function<? super V, ? extends VV> groupBy, DoubleFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().sumByDouble(groupBy, function);
+    }
+
     public String makeString()
     {
         return this.getMutableSortedMap().makeString();
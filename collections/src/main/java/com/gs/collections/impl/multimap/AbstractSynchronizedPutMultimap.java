@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.utility.Iterate;
 
 public abstract class AbstractSynchronizedPutMultimap<K, V, C extends MutableCollection<V>> extends AbstractMutableMultimap<K, V, C>
 {
@@ -98,6 +99,23 @@ public abstract class AbstractSynchronizedPutMultimap<K, V, C extends MutableCol
         }
     }
 
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        MutableCollection<V> collection = this.getIfAbsentPutCollection(key);
+        synchronized (collection)
+        {
+            int oldSize = collection.size();
+            int newSize = Iterate.addAllTo(values, collection).size();
+            this.addToTotalSize(newSize - oldSize);
+            return newSize > oldSize;
+        }
+    }
+
     private C getIfAbsentPutCollection(K key)
     {
         return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * An AdaptiveBatchPolicy decides how to split the work of {@link ParallelIterate#forEachAdaptive(Iterable, com.gs.collections.api.block.procedure.Procedure)}
+ * once the cost of a small sample of elements has been measured.
+ * <p/>
+ * The remaining elements are cut into batches that take roughly {@code targetBatchNanos} each, with at least
+ * {@code TASK_RATIO} batches per thread so that uneven batches can still be balanced. The predicted parallel time
+ * is the serial time divided by the number of threads that can be kept busy, plus {@code taskOverheadNanos} for every
+ * task submitted. When the predicted speedup is below {@code minimumSpeedup} the remaining elements are processed
+ * inline on the calling thread instead.
+ */
+@Beta
+public final class AdaptiveBatchPolicy
+{
+    public static final int DEFAULT_SAMPLE_SIZE = 256;
+    public static final long DEFAULT_TARGET_BATCH_NANOS = 500000L;
+    public static final long DEFAULT_TASK_OVERHEAD_NANOS = 10000L;
+    public static final double DEFAULT_MINIMUM_SPEEDUP = 1.5;
+
+    private static final AdaptiveBatchPolicy DEFAULT = new AdaptiveBatchPolicy(
+            DEFAULT_SAMPLE_SIZE,
+            DEFAULT_TARGET_BATCH_NANOS,
+            DEFAULT_TASK_OVERHEAD_NANOS,
+            DEFAULT_MINIMUM_SPEEDUP,
+            ParallelIterate.AVAILABLE_PROCESSORS);
+
+    private final int sampleSize;
+    private final long targetBatchNanos;
+    private final long taskOverheadNanos;
+    private final double minimumSpeedup;
+    private final int parallelism;
+
+    public AdaptiveBatchPolicy(
+            int sampleSize,
+            long targetBatchNanos,
+            long taskOverheadNanos,
+            double minimumSpeedup,
+            int parallelism)
+    {
+        if (sampleSize < 1)
+        {
+            throw new IllegalArgumentException("Sample size must be positive but was " + sampleSize);
+        }
+        if (targetBatchNanos < 1L)
+        {
+            throw new IllegalArgumentException("Target batch nanos must be positive but was " + targetBatchNanos);
+        }
+        if (taskOverheadNanos < 0L)
+        {
+            throw new IllegalArgumentException("Task overhead nanos must not be negative but was " + taskOverheadNanos);
+        }
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be positive but was " + parallelism);
+        }
+        this.sampleSize = sampleSize;
+        this.targetBatchNanos = targetBatchNanos;
+        this.taskOverheadNanos = taskOverheadNanos;
+        this.minimumSpeedup = minimumSpeedup;
+        this.parallelism = parallelism;
+    }
+
+    public static AdaptiveBatchPolicy defaultPolicy()
+    {
+        return DEFAULT;
+    }
+
+    public int getSampleSize()
+    {
+        return this.sampleSize;
+    }
+
+    public long getTargetBatchNanos()
+    {
+        return this.targetBatchNanos;
+    }
+
+    public long getTaskOverheadNanos()
+    {
+        return this.taskOverheadNanos;
+    }
+
+    public double getMinimumSpeedup()
+    {
+        return this.minimumSpeedup;
+    }
+
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    /**
+     * Decides how to process {@code size} elements, of which the first {@code sampledCount} have already been
+     * processed serially in {@code sampledNanos}.
+     */
+    public BatchDecision decide(int size, int sampledCount, long sampledNanos)
+    {
+        int remaining = size - sampledCount;
+        double nanosPerElement = sampledCount == 0 ? 0.0 : (double) Math.max(0L, sampledNanos) / (double) sampledCount;
+        if (remaining < 2 || this.parallelism < 2)
+        {
+            return BatchDecision.serial(size, sampledCount, nanosPerElement, remaining, 1.0);
+        }
+
+        int batchSize = remaining;
+        if (nanosPerElement > 0.0)
+        {
+            batchSize = (int) Math.min((double) remaining, Math.ceil((double) this.targetBatchNanos / nanosPerElement));
+        }
+        int maximumBatchSize = (int) Math.ceil((double) remaining / (double) (this.parallelism * ParallelIterate.TASK_RATIO));
+        batchSize = Math.max(1, Math.min(batchSize, maximumBatchSize));
+        int taskCount = (int) Math.ceil((double) remaining / (double) batchSize);
+
+        double serialNanos = nanosPerElement * (double) remaining;
+        double parallelNanos = serialNanos / (double) Math.min(this.parallelism, taskCount)
+                + (double) taskCount * (double) this.taskOverheadNanos;
+        double predictedSpeedup = parallelNanos > 0.0 ? serialNanos / parallelNanos : 1.0;
+        if (predictedSpeedup < this.minimumSpeedup)
+        {
+            return BatchDecision.serial(size, sampledCount, nanosPerElement, remaining, predictedSpeedup);
+        }
+        return BatchDecision.parallel(size, sampledCount, nanosPerElement, batchSize, taskCount, predictedSpeedup);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "AdaptiveBatchPolicy{"
+                + "sampleSize=" + this.sampleSize
+                + ", targetBatchNanos=" + this.targetBatchNanos
+                + ", taskOverheadNanos=" + this.taskOverheadNanos
+                + ", minimumSpeedup=" + this.minimumSpeedup
+                + ", parallelism=" + this.parallelism
+                + '}';
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * The outcome of an {@link AdaptiveBatchPolicy}: the measured cost per element, and whether the remaining elements
+ * were run inline or in parallel, with which batch size and task count. It is returned by
+ * {@link ParallelIterate#forEachAdaptive(Iterable, com.gs.collections.api.block.procedure.Procedure)} so that callers
+ * can log how their inputs were handled; {@link #toString()} is meant for that purpose.
+ */
+@Beta
+public final class BatchDecision
+{
+    private final int size;
+    private final int sampledCount;
+    private final double nanosPerElement;
+    private final boolean serial;
+    private final int batchSize;
+    private final int taskCount;
+    private final double predictedSpeedup;
+
+    private BatchDecision(
+            int size,
+            int sampledCount,
+            double nanosPerElement,
+            boolean serial,
+            int batchSize,
+            int taskCount,
+            double predictedSpeedup)
+    {
+        this.size = size;
+        this.sampledCount = sampledCount;
+        this.nanosPerElement = nanosPerElement;
+        this.serial = serial;
+        this.batchSize = batchSize;
+        this.taskCount = taskCount;
+        this.predictedSpeedup = predictedSpeedup;
+    }
+
+    static BatchDecision serial(int size, int sampledCount, double nanosPerElement, int remaining, double predictedSpeedup)
+    {
+        return new BatchDecision(size, sampledCount, nanosPerElement, true, remaining, remaining > 0 ? 1 : 0, predictedSpeedup);
+    }
+
+    static BatchDecision parallel(int size, int sampledCount, double nanosPerElement, int batchSize, int taskCount, double predictedSpeedup)
+    {
+        return new BatchDecision(size, sampledCount, nanosPerElement, false, batchSize, taskCount, predictedSpeedup);
+    }
+
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of elements that were processed serially to measure their cost.
+     */
+    public int getSampledCount()
+    {
+        return this.sampledCount;
+    }
+
+    public double getNanosPerElement()
+    {
+        return this.nanosPerElement;
+    }
+
+    /**
+     * Returns true if the elements after the sample were processed inline on the calling thread.
+     */
+    public boolean isSerial()
+    {
+        return this.serial;
+    }
+
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    public int getTaskCount()
+    {
+        return this.taskCount;
+    }
+
+    public double getPredictedSpeedup()
+    {
+        return this.predictedSpeedup;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BatchDecision{"
+                + (this.serial ? "serial" : "parallel")
+                + ", size=" + this.size
+                + ", sampledCount=" + this.sampledCount
+                + ", nanosPerElement=" + this.nanosPerElement
+                + ", batchSize=" + this.batchSize
+                + ", taskCount=" + this.taskCount
+                + ", predictedSpeedup=" + this.predictedSpeedup
+                + '}';
+    }
+}
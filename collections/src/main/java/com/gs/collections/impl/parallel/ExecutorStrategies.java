@@ -0,0 +1,181 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * Factory methods for the {@link ExecutorStrategy} implementations shipped with GS Collections.
+ *
+ * @since 5.2
+ */
+@Beta
+public final class ExecutorStrategies
+{
+    private static final ExecutorStrategy CPU_BOUND = new CpuBoundExecutorStrategy();
+
+    // Neither executor keeps a thread alive while it is idle, so both are shared for the life of the JVM and refuse
+    // to be shut down
+    private static final ExecutorService THREAD_PER_BATCH_EXECUTOR_SERVICE = new UnclosableExecutorService(
+            new ThreadPerTaskExecutorService(new CollectionsThreadFactory("ThreadPerBatch", true)));
+    private static final ExecutorService VIRTUAL_THREAD_PER_BATCH_EXECUTOR_SERVICE =
+            ExecutorStrategies.newVirtualThreadPerTaskExecutor();
+
+    private ExecutorStrategies()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns the strategy used by default, which runs batches of {@code ParallelIterate.DEFAULT_MIN_FORK_SIZE}
+     * elements on the shared pool of {@link ParallelIterate}.
+     */
+    public static ExecutorStrategy cpuBound()
+    {
+        return CPU_BOUND;
+    }
+
+    /**
+     * Returns a strategy that cuts the input into up to {@code concurrency} batches and runs them on the specified
+     * executor, which must be able to run that many batches at once for all of them to be in flight together.
+     */
+    public static ExecutorStrategy fanOut(ExecutorService executorService, int concurrency)
+    {
+        return new FanOutExecutorStrategy(executorService, concurrency);
+    }
+
+    /**
+     * Returns a strategy that starts a new daemon thread for each of up to {@code concurrency} batches. This suits
+     * procedures that spend most of their time blocked, at the cost of one platform thread per batch.
+     * <p/>
+     * All strategies returned by this method share one executor, which belongs to this class. Its shutdown() and
+     * shutdownNow() throw UnsupportedOperationException.
+     */
+    public static ExecutorStrategy threadPerBatch(int concurrency)
+    {
+        return ExecutorStrategies.fanOut(THREAD_PER_BATCH_EXECUTOR_SERVICE, concurrency);
+    }
+
+    /**
+     * Returns a strategy that runs each of up to {@code concurrency} batches on its own virtual thread, so that
+     * blocked batches do not hold on to platform threads. Virtual threads are only available on newer JDKs; when the
+     * running JDK has none, this falls back to {@link #threadPerBatch(int)}.
+     * <p/>
+     * All strategies returned by this method share one executor, which belongs to this class. Its shutdown() and
+     * shutdownNow() throw UnsupportedOperationException.
+     *
+     * @see #isVirtualThreadSupported()
+     */
+    public static ExecutorStrategy virtualThreadPerBatch(int concurrency)
+    {
+        if (VIRTUAL_THREAD_PER_BATCH_EXECUTOR_SERVICE == null)
+        {
+            return ExecutorStrategies.threadPerBatch(concurrency);
+        }
+        return ExecutorStrategies.fanOut(VIRTUAL_THREAD_PER_BATCH_EXECUTOR_SERVICE, concurrency);
+    }
+
+    /**
+     * Returns true if the running JDK supports virtual threads, in which case {@link #virtualThreadPerBatch(int)}
+     * does not fall back to platform threads.
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return VIRTUAL_THREAD_PER_BATCH_EXECUTOR_SERVICE != null;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor()
+    {
+        try
+        {
+            return new UnclosableExecutorService(
+                    (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        }
+        catch (NoSuchMethodException ignored)
+        {
+            return null;
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw new IllegalStateException("Could not create a virtual thread executor", e.getCause());
+        }
+    }
+
+    private static final class CpuBoundExecutorStrategy implements ExecutorStrategy
+    {
+        public ExecutorService getExecutorService()
+        {
+            return ParallelIterate.EXECUTOR_SERVICE;
+        }
+
+        public int getBatchSize(int size)
+        {
+            return ParallelIterate.DEFAULT_MIN_FORK_SIZE;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "ExecutorStrategies.cpuBound()";
+        }
+    }
+
+    private static final class FanOutExecutorStrategy implements ExecutorStrategy
+    {
+        private final ExecutorService executorService;
+        private final int concurrency;
+
+        private FanOutExecutorStrategy(ExecutorService executorService, int concurrency)
+        {
+            if (executorService == null)
+            {
+                throw new NullPointerException();
+            }
+            if (concurrency < 1)
+            {
+                throw new IllegalArgumentException("Concurrency must be positive but was " + concurrency);
+            }
+            this.executorService = executorService;
+            this.concurrency = concurrency;
+        }
+
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        public int getBatchSize(int size)
+        {
+            int batchSize = size / this.concurrency;
+            return size % this.concurrency == 0 ? Math.max(1, batchSize) : batchSize + 1;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "ExecutorStrategies.fanOut(" + this.executorService + ", " + this.concurrency + ')';
+        }
+    }
+}
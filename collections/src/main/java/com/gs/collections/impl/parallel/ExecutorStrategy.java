@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * An ExecutorStrategy decides where the batches of a parallel operation run and how finely the input is cut into
+ * batches. The default strategy keeps a bounded pool sized to the number of cores, which suits CPU-bound procedures.
+ * Procedures that block on I/O need many more batches in flight than there are cores, so they should use a strategy
+ * that fans out, such as {@link ExecutorStrategies#threadPerBatch(int)} or
+ * {@link ExecutorStrategies#virtualThreadPerBatch(int)}.
+ * <p/>
+ * The same strategy can drive {@link ParallelIterate} and the parallel iterables returned by asParallel().
+ * <p/>
+ * A strategy never shuts down its executor. The executors behind the strategies of {@link ExecutorStrategies} are
+ * shared, live as long as the JVM and cannot be shut down, while the executor passed to {@link ExecutorStrategies#fanOut} stays with the
+ * caller, who shuts it down when it is no longer needed.
+ * <p/>
+ * e.g.
+ * <pre>
+ * ExecutorStrategy strategy = ExecutorStrategies.virtualThreadPerBatch(1000);
+ * ParallelIterate.forEach(keys, lookupProcedure, strategy);
+ * keys.asParallel(strategy.getExecutorService(), strategy.getBatchSize(keys.size())).forEach(lookupProcedure);
+ * </pre>
+ *
+ * @since 5.2
+ */
+@Beta
+public interface ExecutorStrategy
+{
+    ExecutorService getExecutorService();
+
+    /**
+     * Returns the number of elements each batch should hold when an input of the specified size is processed.
+     */
+    int getBatchSize(int size);
+}
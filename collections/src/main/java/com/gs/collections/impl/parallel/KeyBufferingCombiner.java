@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+/**
+ * Flushes the last buffer of each {@link KeyBufferingProcedure} as its task completes.
+ */
+public final class KeyBufferingCombiner<T, K>
+        extends AbstractProcedureCombiner<KeyBufferingProcedure<T, K>>
+{
+    private static final long serialVersionUID = 1L;
+
+    public KeyBufferingCombiner()
+    {
+        super(true);
+    }
+
+    public void combineOne(KeyBufferingProcedure<T, K> procedure)
+    {
+        procedure.flush();
+    }
+}
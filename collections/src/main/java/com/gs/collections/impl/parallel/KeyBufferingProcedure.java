@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * Buffers the elements of a single task by key, and passes all the buffered elements of a key to the groupProcedure
+ * in one call, so a shared result is updated once per key rather than once per element. The buffer is flushed every
+ * bufferSize elements. If the keys of a full buffer repeat on average fewer than keyRepeats times, buffering does not
+ * pay off, and the rest of the elements of the task are passed one at a time to the elementProcedure.
+ * <p/>
+ * The last partly filled buffer is flushed by a {@link KeyBufferingCombiner}.
+ */
+public final class KeyBufferingProcedure<T, K> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends K> function;
+    private final Procedure2<? super K, ? super MutableList<T>> groupProcedure;
+    private final Procedure<? super T> elementProcedure;
+    private final int bufferSize;
+    private final int keyRepeats;
+    private final Function0<MutableList<T>> newGroup = Functions0.newFastList();
+    private MutableMap<K, MutableList<T>> buffer = UnifiedMap.newMap();
+    private int bufferedCount;
+
+    public KeyBufferingProcedure(
+            Function<? super T, ? extends K> function,
+            Procedure2<? super K, ? super MutableList<T>> groupProcedure,
+            Procedure<? super T> elementProcedure,
+            int bufferSize,
+            int keyRepeats)
+    {
+        this.function = function;
+        this.groupProcedure = groupProcedure;
+        this.elementProcedure = elementProcedure;
+        this.bufferSize = bufferSize;
+        this.keyRepeats = keyRepeats;
+    }
+
+    public void value(T each)
+    {
+        if (this.buffer == null)
+        {
+            this.elementProcedure.value(each);
+            return;
+        }
+        this.buffer.getIfAbsentPut(this.function.valueOf(each), this.newGroup).add(each);
+        this.bufferedCount++;
+        if (this.bufferedCount == this.bufferSize)
+        {
+            boolean lowKeyCardinality = this.buffer.size() * this.keyRepeats <= this.bufferedCount;
+            this.flush();
+            if (!lowKeyCardinality)
+            {
+                this.buffer = null;
+            }
+        }
+    }
+
+    /**
+     * Passes the buffered elements to the groupProcedure, and empties the buffer.
+     */
+    public void flush()
+    {
+        if (this.buffer != null && this.bufferedCount > 0)
+        {
+            this.buffer.forEachKeyValue(this.groupProcedure);
+            this.buffer.clear();
+            this.bufferedCount = 0;
+        }
+    }
+
+    public boolean isBuffering()
+    {
+        return this.buffer != null;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+
+/**
+ * Creates a {@link KeyBufferingProcedure} with its own buffer for each task.
+ */
+public final class KeyBufferingProcedureFactory<T, K> implements ProcedureFactory<KeyBufferingProcedure<T, K>>
+{
+    private final Function<? super T, ? extends K> function;
+    private final Procedure2<? super K, ? super MutableList<T>> groupProcedure;
+    private final Procedure<? super T> elementProcedure;
+    private final int bufferSize;
+    private final int keyRepeats;
+
+    public KeyBufferingProcedureFactory(
+            Function<? super T, ? extends K> function,
+            Procedure2<? super K, ? super MutableList<T>> groupProcedure,
+            Procedure<? super T> elementProcedure,
+            int bufferSize,
+            int keyRepeats)
+    {
+        this.function = function;
+        this.groupProcedure = groupProcedure;
+        this.elementProcedure = elementProcedure;
+        this.bufferSize = bufferSize;
+        this.keyRepeats = keyRepeats;
+    }
+
+    public KeyBufferingProcedure<T, K> create()
+    {
+        return new KeyBufferingProcedure<T, K>(
+                this.function,
+                this.groupProcedure,
+                this.elementProcedure,
+                this.bufferSize,
+                this.keyRepeats);
+    }
+}
@@ -16,8 +16,11 @@
 
 package com.gs.collections.impl.parallel;
 
+import java.util.Comparator;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.impl.utility.ArrayIterate;
 
@@ -79,6 +82,39 @@ public final class ParallelArrayIterate
         }
     }
 
+    /**
+     * Sorts the first {@code size} elements of the array with a stable parallel merge sort. Runs of the array are
+     * sorted concurrently on the executor and then merged in parallel. Small arrays are sorted on the calling thread.
+     *
+     * @param comparator The comparator to sort by, or null to sort by natural order.
+     */
+    @Beta
+    public static <T> void sort(T[] array, int size, Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        ParallelMergeSort.sort(array, size, comparator, executorService);
+    }
+
+    /**
+     * Merges adjacent sorted runs of the array in parallel, so that the first {@code runEnds[runEnds.length - 1]}
+     * elements end up sorted. Run {@code i} covers the indices from {@code runEnds[i - 1]} (or 0) to
+     * {@code runEnds[i]}. Equal elements keep the order of their runs.
+     *
+     * @param comparator The comparator the runs are sorted by, or null if they are sorted by natural order.
+     */
+    @Beta
+    public static <T> void mergeSortedRuns(T[] array, int[] runEnds, Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        ParallelMergeSort.mergeRuns(array, runEnds, comparator, executorService);
+    }
+
     private static <T, BT extends Procedure<? super T>> void combineSingleProcedure(Combiner<BT> combiner, BT procedure)
     {
         if (combiner.useCombineOne())
@@ -25,21 +25,44 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
+import com.gs.collections.api.collection.ImmutableCollection;
 import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.impl.block.factory.PrimitiveFunctions;
+import com.gs.collections.impl.block.procedure.ChainedProcedure;
+import com.gs.collections.impl.block.procedure.CountProcedure;
+import com.gs.collections.impl.block.procedure.InjectIntoProcedure;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.fixed.ArrayAdapter;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import com.gs.collections.impl.utility.Iterate;
 
@@ -62,6 +85,8 @@ public final class ParallelIterate
     static final int TASK_RATIO = 2;
     static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
     static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
+    static final int KEY_BUFFER_SIZE = 1024;
+    static final int LOW_CARDINALITY_KEY_REPEATS = 8;
 
     private ParallelIterate()
     {
@@ -293,6 +318,141 @@ public final class ParallelIterate
         ParallelIterate.forEach(iterable, procedure, batchSize, ParallelIterate.calculateTaskCount(iterable, batchSize), executor);
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches cut and run as the specified strategy decides.  Use a
+     * strategy that fans out, such as {@link ExecutorStrategies#virtualThreadPerBatch(int)}, for procedures that block.
+     * The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be shared.
+     * <p/>
+     * e.g.
+     * <pre>
+     * ParallelIterate.<b>forEach</b>(keys, lookupProcedure, ExecutorStrategies.virtualThreadPerBatch(1000));
+     * </pre>
+     */
+    @Beta
+    public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure, ExecutorStrategy strategy)
+    {
+        int batchSize = strategy.getBatchSize(Iterate.sizeOf(iterable));
+        ParallelIterate.forEach(iterable, procedure, batchSize, strategy.getExecutorService());
+    }
+
+    /**
+     * Iterate over the collection specified choosing the batch size and task count from the measured cost of the
+     * elements, using the default {@link AdaptiveBatchPolicy}.  The {@code Procedure} used must be stateless, or use
+     * concurrent aware objects if they are to be shared.
+     *
+     * @return The decision that was taken, which can be logged.
+     * @see #forEachAdaptive(Iterable, Procedure, AdaptiveBatchPolicy, Executor)
+     */
+    @Beta
+    public static <T> BatchDecision forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        return ParallelIterate.forEachAdaptive(iterable, procedure, AdaptiveBatchPolicy.defaultPolicy(), ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Iterate over the collection specified choosing the batch size and task count from the measured cost of the
+     * elements.  The first {@link AdaptiveBatchPolicy#getSampleSize()} elements are processed on the calling thread
+     * and timed.  The policy then either splits the remaining elements into batches run on the executor, or processes
+     * them inline when the predicted speedup does not pay for the task overhead, as is the case for small inputs or
+     * cheap procedures.  The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be
+     * shared.
+     * <p/>
+     * e.g.
+     * <pre>
+     * BatchDecision decision = ParallelIterate.<b>forEachAdaptive</b>(collection, procedure, AdaptiveBatchPolicy.defaultPolicy(), executor);
+     * LOGGER.debug("forEach: {}", decision);
+     * </pre>
+     *
+     * @return The decision that was taken, which can be logged.
+     */
+    @Beta
+    public static <T> BatchDecision forEachAdaptive(
+            Iterable<T> iterable,
+            Procedure<? super T> procedure,
+            AdaptiveBatchPolicy policy,
+            Executor executor)
+    {
+        if (iterable instanceof BatchIterable)
+        {
+            return ParallelIterate.forEachAdaptiveInBatches((BatchIterable<T>) iterable, procedure, policy, executor);
+        }
+        List<T> list = iterable instanceof RandomAccess && iterable instanceof List && !(iterable instanceof ImmutableCollection)
+                ? (List<T>) iterable
+                : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+        int size = list.size();
+        int sampleSize = Math.min(size, policy.getSampleSize());
+        long start = System.nanoTime();
+        for (int i = 0; i < sampleSize; i++)
+        {
+            procedure.value(list.get(i));
+        }
+        BatchDecision decision = policy.decide(size, sampleSize, System.nanoTime() - start);
+        if (decision.isSerial())
+        {
+            for (int i = sampleSize; i < size; i++)
+            {
+                procedure.value(list.get(i));
+            }
+        }
+        else
+        {
+            ParallelIterate.forEachInListOnExecutor(
+                    list.subList(sampleSize, size),
+                    new PassThruProcedureFactory<Procedure<? super T>>(procedure),
+                    new PassThruCombiner<Procedure<? super T>>(),
+                    1,
+                    decision.getTaskCount(),
+                    executor);
+        }
+        return decision;
+    }
+
+    /**
+     * Samples the first section of a BatchIterable, which avoids copying it to an array first. The sections are
+     * sized to hold about {@link AdaptiveBatchPolicy#getSampleSize()} elements each, and the remaining sections are
+     * run inline or spread over the tasks chosen by the policy.
+     */
+    private static <T> BatchDecision forEachAdaptiveInBatches(
+            final BatchIterable<T> batchIterable,
+            final Procedure<? super T> procedure,
+            AdaptiveBatchPolicy policy,
+            Executor executor)
+    {
+        int size = batchIterable.size();
+        final int sectionCount = Math.max(1, batchIterable.getBatchCount(policy.getSampleSize()));
+        CountProcedure<T> sampleCount = new CountProcedure<T>();
+        long start = System.nanoTime();
+        batchIterable.batchForEach(ChainedProcedure.with(procedure, sampleCount), 0, sectionCount);
+        BatchDecision decision = policy.decide(size, sampleCount.getCount(), System.nanoTime() - start);
+        if (sectionCount == 1)
+        {
+            return decision;
+        }
+        Procedure<Integer> sectionProcedure = new Procedure<Integer>()
+        {
+            public void value(Integer sectionIndex)
+            {
+                batchIterable.batchForEach(procedure, sectionIndex, sectionCount);
+            }
+        };
+        Interval remainingSections = Interval.fromTo(1, sectionCount - 1);
+        if (decision.isSerial())
+        {
+            remainingSections.forEach(sectionProcedure);
+        }
+        else
+        {
+            ParallelIterate.forEachInListOnExecutor(
+                    remainingSections,
+                    new PassThruProcedureFactory<Procedure<Integer>>(sectionProcedure),
+                    new PassThruCombiner<Procedure<Integer>>(),
+                    1,
+                    decision.getTaskCount(),
+                    executor);
+        }
+        return decision;
+    }
+
     /**
      * Iterate over the collection specified in parallel batches using default runtime parameter values
      * and the specified executor.
@@ -759,6 +919,24 @@ public final class ParallelIterate
         return ParallelIterate.collect(iterable, function, null, allowReorderedResult);
     }
 
+    /**
+     * Same effect as {@link Iterate#collect(Iterable, Function)}, but executed in parallel batches cut and run as the
+     * specified strategy decides.
+     *
+     * @return The collected elements. The Collection will be of the same type as the input (List or Set)
+     * and will be in the same order as the input (if it is an ordered collection).
+     * @see ParallelIterate#forEach(Iterable, Procedure, ExecutorStrategy)
+     */
+    @Beta
+    public static <T, V> Collection<V> collect(
+            Iterable<T> iterable,
+            Function<? super T, V> function,
+            ExecutorStrategy strategy)
+    {
+        int batchSize = strategy.getBatchSize(Iterate.sizeOf(iterable));
+        return ParallelIterate.collect(iterable, function, null, batchSize, strategy.getExecutorService(), false);
+    }
+
     /**
      * Same effect as {@link Iterate#collect(Iterable, Function)}, but executed in parallel batches,
      * and writing output into the specified collection.
@@ -1032,21 +1210,43 @@ public final class ParallelIterate
                 executor);
     }
 
+    /**
+     * Aggregates the elements into the mutableMap in parallel batches.  Each batch buffers its elements by key, and
+     * while the keys repeat often, it folds all the buffered elements of a key into the mutableMap with a single
+     * update, so the mutableMap is contended on once per key rather than once per element.  A batch whose keys rarely
+     * repeat updates the mutableMap once per element.
+     */
     public static <T, K, V, R extends MutableMap<K, V>> R aggregateBy(
             Iterable<T> iterable,
             Function<? super T, ? extends K> groupBy,
-            Function0<? extends V> zeroValueFactory,
-            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
-            R mutableMap,
+            final Function0<? extends V> zeroValueFactory,
+            final Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            final R mutableMap,
             int batchSize,
             Executor executor)
     {
-        NonMutatingAggregationProcedure<T, K, V> nonMutatingAggregationProcedure =
-                new NonMutatingAggregationProcedure<T, K, V>(mutableMap, groupBy, zeroValueFactory, nonMutatingAggregator);
+        final Function2<V, MutableList<T>, V> groupAggregator = new Function2<V, MutableList<T>, V>()
+        {
+            public V value(V value, MutableList<T> group)
+            {
+                return group.injectInto(value, nonMutatingAggregator);
+            }
+        };
         ParallelIterate.forEach(
                 iterable,
-                new PassThruProcedureFactory<Procedure<T>>(nonMutatingAggregationProcedure),
-                Combiners.<Procedure<T>>passThru(),
+                new KeyBufferingProcedureFactory<T, K>(
+                        groupBy,
+                        new Procedure2<K, MutableList<T>>()
+                        {
+                            public void value(K key, MutableList<T> group)
+                            {
+                                mutableMap.updateValueWith(key, zeroValueFactory, groupAggregator, group);
+                            }
+                        },
+                        new NonMutatingAggregationProcedure<T, K, V>(mutableMap, groupBy, zeroValueFactory, nonMutatingAggregator),
+                        ParallelIterate.KEY_BUFFER_SIZE,
+                        ParallelIterate.LOW_CARDINALITY_KEY_REPEATS),
+                new KeyBufferingCombiner<T, K>(),
                 batchSize,
                 executor);
         return mutableMap;
@@ -1124,36 +1324,428 @@ public final class ParallelIterate
             int batchSize,
             Executor executor)
     {
-        MutableMap<K, V> map = ConcurrentHashMap.newMap();
-        MutatingAggregationProcedure<T, K, V> mutatingAggregationProcedure =
-                new MutatingAggregationProcedure<T, K, V>(map, groupBy, zeroValueFactory, mutatingAggregator);
-        ParallelIterate.forEach(
+        return ParallelIterate.aggregateInPlaceBy(
                 iterable,
-                new PassThruProcedureFactory<Procedure<T>>(mutatingAggregationProcedure),
-                Combiners.<Procedure<T>>passThru(),
+                groupBy,
+                zeroValueFactory,
+                mutatingAggregator,
+                ConcurrentHashMap.<K, V>newMap(),
                 batchSize,
                 executor);
-        return map;
     }
 
+    /**
+     * Aggregates the elements into the mutableMap in parallel batches.  Each batch buffers its elements by key, and
+     * while the keys repeat often, it looks up the value of a key in the mutableMap once for all the buffered elements
+     * of that key.  A batch whose keys rarely repeat looks up the value once per element.
+     */
     public static <T, K, V, R extends MutableMap<K, V>> R aggregateInPlaceBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            final Function0<? extends V> zeroValueFactory,
+            final Procedure2<? super V, ? super T> mutatingAggregator,
+            final R mutableMap,
+            int batchSize,
+            Executor executor)
+    {
+        ParallelIterate.forEach(
+                iterable,
+                new KeyBufferingProcedureFactory<T, K>(
+                        groupBy,
+                        new Procedure2<K, MutableList<T>>()
+                        {
+                            public void value(K key, MutableList<T> group)
+                            {
+                                V value = mutableMap.getIfAbsentPut(key, zeroValueFactory);
+                                for (T each : group)
+                                {
+                                    mutatingAggregator.value(value, each);
+                                }
+                            }
+                        },
+                        new MutatingAggregationProcedure<T, K, V>(mutableMap, groupBy, zeroValueFactory, mutatingAggregator),
+                        ParallelIterate.KEY_BUFFER_SIZE,
+                        ParallelIterate.LOW_CARDINALITY_KEY_REPEATS),
+                new KeyBufferingCombiner<T, K>(),
+                batchSize,
+                executor);
+        return mutableMap;
+    }
+
+    /**
+     * Same effect as {@link #aggregateBy(Iterable, Function, Function0, Function2)}, but each batch aggregates into
+     * its own map, and the maps are merged at the end with the mergeFunction, which combines two partial aggregations
+     * of the same key.  This avoids contention on a shared map when there are few distinct keys.
+     */
+    public static <T, K, V> MutableMap<K, V> aggregateByMerging(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> mergeFunction)
+    {
+        return ParallelIterate.aggregateByMerging(
+                iterable,
+                groupBy,
+                zeroValueFactory,
+                nonMutatingAggregator,
+                mergeFunction,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T, K, V> MutableMap<K, V> aggregateByMerging(
+            Iterable<T> iterable,
+            final Function<? super T, ? extends K> groupBy,
+            final Function0<? extends V> zeroValueFactory,
+            final Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            final Function2<? super V, ? super V, ? extends V> mergeFunction,
+            int batchSize,
+            Executor executor)
+    {
+        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
+        PreAggregationCombiner<T, MutableMap<K, V>> combiner = new PreAggregationCombiner<T, MutableMap<K, V>>(
+                UnifiedMap.<K, V>newMap(),
+                new Procedure2<MutableMap<K, V>, MutableMap<K, V>>()
+                {
+                    public void value(final MutableMap<K, V> target, MutableMap<K, V> partial)
+                    {
+                        partial.forEachKeyValue(new Procedure2<K, V>()
+                        {
+                            public void value(K key, V value)
+                            {
+                                V existing = target.get(key);
+                                target.put(key, existing == null && !target.containsKey(key) ? value : mergeFunction.value(existing, value));
+                            }
+                        });
+                    }
+                },
+                executor);
+        ParallelIterate.forEach(
+                iterable,
+                new PreAggregationProcedureFactory<T, MutableMap<K, V>>()
+                {
+                    @Override
+                    protected MutableMap<K, V> newResult()
+                    {
+                        return UnifiedMap.newMap();
+                    }
+
+                    @Override
+                    protected Procedure<? super T> newProcedure(MutableMap<K, V> result)
+                    {
+                        return new NonMutatingAggregationProcedure<T, K, V>(result, groupBy, zeroValueFactory, nonMutatingAggregator);
+                    }
+                },
+                combiner,
+                batchSize,
+                taskCount,
+                executor);
+        return combiner.getResult();
+    }
+
+    /**
+     * Same effect as {@link #aggregateInPlaceBy(Iterable, Function, Function0, Procedure2)}, but each batch
+     * aggregates into its own map, and the maps are merged at the end with the mutatingMerger, which adds the second
+     * partial aggregation of a key into the first.  This avoids contention on a shared map when there are few distinct
+     * keys.
+     */
+    public static <T, K, V> MutableMap<K, V> aggregateInPlaceByMerging(
             Iterable<T> iterable,
             Function<? super T, ? extends K> groupBy,
             Function0<? extends V> zeroValueFactory,
             Procedure2<? super V, ? super T> mutatingAggregator,
-            R mutableMap,
+            Procedure2<? super V, ? super V> mutatingMerger)
+    {
+        return ParallelIterate.aggregateInPlaceByMerging(
+                iterable,
+                groupBy,
+                zeroValueFactory,
+                mutatingAggregator,
+                mutatingMerger,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T, K, V> MutableMap<K, V> aggregateInPlaceByMerging(
+            Iterable<T> iterable,
+            final Function<? super T, ? extends K> groupBy,
+            final Function0<? extends V> zeroValueFactory,
+            final Procedure2<? super V, ? super T> mutatingAggregator,
+            final Procedure2<? super V, ? super V> mutatingMerger,
             int batchSize,
             Executor executor)
     {
-        MutatingAggregationProcedure<T, K, V> mutatingAggregationProcedure =
-                new MutatingAggregationProcedure<T, K, V>(mutableMap, groupBy, zeroValueFactory, mutatingAggregator);
+        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
+        PreAggregationCombiner<T, MutableMap<K, V>> combiner = new PreAggregationCombiner<T, MutableMap<K, V>>(
+                UnifiedMap.<K, V>newMap(),
+                new Procedure2<MutableMap<K, V>, MutableMap<K, V>>()
+                {
+                    public void value(final MutableMap<K, V> target, MutableMap<K, V> partial)
+                    {
+                        partial.forEachKeyValue(new Procedure2<K, V>()
+                        {
+                            public void value(K key, V value)
+                            {
+                                V existing = target.get(key);
+                                if (existing == null)
+                                {
+                                    target.put(key, value);
+                                }
+                                else
+                                {
+                                    mutatingMerger.value(existing, value);
+                                }
+                            }
+                        });
+                    }
+                },
+                executor);
         ParallelIterate.forEach(
                 iterable,
-                new PassThruProcedureFactory<Procedure<T>>(mutatingAggregationProcedure),
-                Combiners.<Procedure<T>>passThru(),
+                new PreAggregationProcedureFactory<T, MutableMap<K, V>>()
+                {
+                    @Override
+                    protected MutableMap<K, V> newResult()
+                    {
+                        return UnifiedMap.newMap();
+                    }
+
+                    @Override
+                    protected Procedure<? super T> newProcedure(MutableMap<K, V> result)
+                    {
+                        return new MutatingAggregationProcedure<T, K, V>(result, groupBy, zeroValueFactory, mutatingAggregator);
+                    }
+                },
+                combiner,
                 batchSize,
+                taskCount,
                 executor);
-        return mutableMap;
+        return combiner.getResult();
+    }
+
+    /**
+     * Same effect as {@link RichIterable#sumByInt(Function, IntFunction)}, but executed in parallel batches. Each batch
+     * sums into its own map of primitive longs, and the maps are merged at the end.
+     *
+     * @since 5.2
+     */
+    public static <T, V> ObjectLongMap<V> sumByInt(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function)
+    {
+        return ParallelIterate.sumByInt(
+                iterable,
+                groupBy,
+                function,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T, V> ObjectLongMap<V> sumByInt(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function,
+            int batchSize,
+            Executor executor)
+    {
+        return ParallelIterate.sumByToLongMap(
+                iterable,
+                PrimitiveFunctions.<T, V>sumByIntFunction(groupBy, function),
+                batchSize,
+                executor);
+    }
+
+    /**
+     * Same effect as {@link RichIterable#sumByFloat(Function, FloatFunction)}, but executed in parallel batches. Each batch
+     * sums into its own map of primitive doubles, and the maps are merged at the end.
+     *
+     * @since 5.2
+     */
+    public static <T, V> ObjectDoubleMap<V> sumByFloat(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            FloatFunction<? super T> function)
+    {
+        return ParallelIterate.sumByFloat(
+                iterable,
+                groupBy,
+                function,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T, V> ObjectDoubleMap<V> sumByFloat(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            FloatFunction<? super T> function,
+            int batchSize,
+            Executor executor)
+    {
+        return ParallelIterate.sumByToDoubleMap(
+                iterable,
+                PrimitiveFunctions.<T, V>sumByFloatFunction(groupBy, function),
+                batchSize,
+                executor);
+    }
+
+    /**
+     * Same effect as {@link RichIterable#sumByLong(Function, LongFunction)}, but executed in parallel batches. Each batch
+     * sums into its own map of primitive longs, and the maps are merged at the end.
+     *
+     * @since 5.2
+     */
+    public static <T, V> ObjectLongMap<V> sumByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return ParallelIterate.sumByLong(
+                iterable,
+                groupBy,
+                function,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T, V> ObjectLongMap<V> sumByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function,
+            int batchSize,
+            Executor executor)
+    {
+        return ParallelIterate.sumByToLongMap(
+                iterable,
+                PrimitiveFunctions.<T, V>sumByLongFunction(groupBy, function),
+                batchSize,
+                executor);
+    }
+
+    /**
+     * Same effect as {@link RichIterable#sumByDouble(Function, DoubleFunction)}, but executed in parallel batches. Each batch
+     * sums into its own map of primitive doubles, and the maps are merged at the end.
+     *
+     * @since 5.2
+     */
+    public static <T, V> ObjectDoubleMap<V> sumByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return ParallelIterate.sumByDouble(
+                iterable,
+                groupBy,
+                function,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T, V> ObjectDoubleMap<V> sumByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function,
+            int batchSize,
+            Executor executor)
+    {
+        return ParallelIterate.sumByToDoubleMap(
+                iterable,
+                PrimitiveFunctions.<T, V>sumByDoubleFunction(groupBy, function),
+                batchSize,
+                executor);
+    }
+
+    private static <T, V> ObjectLongMap<V> sumByToLongMap(
+            Iterable<T> iterable,
+            final Function2<MutableObjectLongMap<V>, T, MutableObjectLongMap<V>> accumulator,
+            int batchSize,
+            Executor executor)
+    {
+        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
+        PreAggregationCombiner<T, MutableObjectLongMap<V>> combiner = new PreAggregationCombiner<T, MutableObjectLongMap<V>>(
+                ObjectLongHashMap.<V>newMap(),
+                new Procedure2<MutableObjectLongMap<V>, MutableObjectLongMap<V>>()
+                {
+                    public void value(final MutableObjectLongMap<V> target, MutableObjectLongMap<V> partial)
+                    {
+                        partial.forEachKeyValue(new ObjectLongProcedure<V>()
+                        {
+                            public void value(V key, long value)
+                            {
+                                target.addToValue(key, value);
+                            }
+                        });
+                    }
+                },
+                executor);
+        ParallelIterate.forEach(
+                iterable,
+                new PreAggregationProcedureFactory<T, MutableObjectLongMap<V>>()
+                {
+                    @Override
+                    protected MutableObjectLongMap<V> newResult()
+                    {
+                        return ObjectLongHashMap.newMap();
+                    }
+
+                    @Override
+                    protected Procedure<? super T> newProcedure(MutableObjectLongMap<V> result)
+                    {
+                        return new InjectIntoProcedure<T, MutableObjectLongMap<V>>(result, accumulator);
+                    }
+                },
+                combiner,
+                batchSize,
+                taskCount,
+                executor);
+        return combiner.getResult();
+    }
+
+    private static <T, V> ObjectDoubleMap<V> sumByToDoubleMap(
+            Iterable<T> iterable,
+            final Function2<MutableObjectDoubleMap<V>, T, MutableObjectDoubleMap<V>> accumulator,
+            int batchSize,
+            Executor executor)
+    {
+        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
+        PreAggregationCombiner<T, MutableObjectDoubleMap<V>> combiner = new PreAggregationCombiner<T, MutableObjectDoubleMap<V>>(
+                ObjectDoubleHashMap.<V>newMap(),
+                new Procedure2<MutableObjectDoubleMap<V>, MutableObjectDoubleMap<V>>()
+                {
+                    public void value(final MutableObjectDoubleMap<V> target, MutableObjectDoubleMap<V> partial)
+                    {
+                        partial.forEachKeyValue(new ObjectDoubleProcedure<V>()
+                        {
+                            public void value(V key, double value)
+                            {
+                                target.addToValue(key, value);
+                            }
+                        });
+                    }
+                },
+                executor);
+        ParallelIterate.forEach(
+                iterable,
+                new PreAggregationProcedureFactory<T, MutableObjectDoubleMap<V>>()
+                {
+                    @Override
+                    protected MutableObjectDoubleMap<V> newResult()
+                    {
+                        return ObjectDoubleHashMap.newMap();
+                    }
+
+                    @Override
+                    protected Procedure<? super T> newProcedure(MutableObjectDoubleMap<V> result)
+                    {
+                        return new InjectIntoProcedure<T, MutableObjectDoubleMap<V>>(result, accumulator);
+                    }
+                },
+                combiner,
+                batchSize,
+                taskCount,
+                executor);
+        return combiner.getResult();
     }
 
     /**
@@ -1208,19 +1800,102 @@ public final class ParallelIterate
 
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
-     * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
+     * but executed in parallel batches, each batch grouping into its own FastListMultimap, and the results merged at
+     * the end.  This avoids contention on a shared multimap when there are few distinct keys.
+     */
+    public static <K, V> MutableMultimap<K, V> groupByMerging(
+            Iterable<V> iterable,
+            Function<? super V, ? extends K> function)
+    {
+        return ParallelIterate.groupByMerging(iterable, function, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link Iterate#groupBy(Iterable, Function)},
+     * but executed in parallel batches, each batch grouping into its own FastListMultimap, and the results merged at
+     * the end.  This avoids contention on a shared multimap when there are few distinct keys.
+     */
+    public static <K, V> MutableMultimap<K, V> groupByMerging(
+            Iterable<V> iterable,
+            Function<? super V, ? extends K> function,
+            int batchSize)
+    {
+        return ParallelIterate.groupByMerging(iterable, function, batchSize, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same effect as {@link Iterate#groupBy(Iterable, Function)},
+     * but executed in parallel batches, each batch grouping into its own FastListMultimap, and the results merged at
+     * the end.  This avoids contention on a shared multimap when there are few distinct keys.
+     */
+    public static <K, V> MutableMultimap<K, V> groupByMerging(
+            Iterable<V> iterable,
+            final Function<? super V, ? extends K> function,
+            int batchSize,
+            Executor executor)
+    {
+        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
+        PreAggregationCombiner<V, MutableMultimap<K, V>> combiner = new PreAggregationCombiner<V, MutableMultimap<K, V>>(
+                FastListMultimap.<K, V>newMultimap(),
+                new Procedure2<MutableMultimap<K, V>, MutableMultimap<K, V>>()
+                {
+                    public void value(MutableMultimap<K, V> target, MutableMultimap<K, V> partial)
+                    {
+                        target.putAll(partial);
+                    }
+                },
+                executor);
+        ParallelIterate.forEach(
+                iterable,
+                new PreAggregationProcedureFactory<V, MutableMultimap<K, V>>()
+                {
+                    @Override
+                    protected MutableMultimap<K, V> newResult()
+                    {
+                        return FastListMultimap.newMultimap();
+                    }
+
+                    @Override
+                    protected Procedure<? super V> newProcedure(MutableMultimap<K, V> result)
+                    {
+                        return new MultimapPutProcedure<K, V>(result, function);
+                    }
+                },
+                combiner,
+                batchSize,
+                taskCount,
+                executor);
+        return combiner.getResult();
+    }
+
+    /**
+     * Same effect as {@link Iterate#groupBy(Iterable, Function)},
+     * but executed in parallel batches, and writing output into the concurrentMultimap.  Each batch buffers its
+     * elements by key, and while the keys repeat often, it adds all the buffered elements of a key with a single
+     * putAll, so the concurrentMultimap is contended on once per key rather than once per element.
      */
     public static <K, V, R extends MutableMultimap<K, V>> MutableMultimap<K, V> groupBy(
             Iterable<V> iterable,
             Function<? super V, ? extends K> function,
-            R concurrentMultimap,
+            final R concurrentMultimap,
             int batchSize,
             Executor executor)
     {
         ParallelIterate.forEach(
                 iterable,
-                new PassThruProcedureFactory<Procedure<V>>(new MultimapPutProcedure<K, V>(concurrentMultimap, function)),
-                Combiners.<Procedure<V>>passThru(),
+                new KeyBufferingProcedureFactory<V, K>(
+                        function,
+                        new Procedure2<K, MutableList<V>>()
+                        {
+                            public void value(K key, MutableList<V> group)
+                            {
+                                concurrentMultimap.putAll(key, group);
+                            }
+                        },
+                        new MultimapPutProcedure<K, V>(concurrentMultimap, function),
+                        ParallelIterate.KEY_BUFFER_SIZE,
+                        ParallelIterate.LOW_CARDINALITY_KEY_REPEATS),
+                new KeyBufferingCombiner<V, K>(),
                 batchSize,
                 executor);
         return concurrentMultimap;
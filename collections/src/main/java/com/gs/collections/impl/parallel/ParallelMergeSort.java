@@ -0,0 +1,313 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.impl.block.factory.Comparators;
+
+/**
+ * A stable merge sort over the first size elements of an array. The array is cut into runs that are sorted
+ * concurrently, and the runs are then merged pairwise. Each pairwise merge is itself split into independent pieces
+ * by binary searching the split point of one run in the other, so that the last rounds, which only have a couple of
+ * runs left, still keep all the threads busy.
+ */
+final class ParallelMergeSort<T>
+{
+    private static final int MIN_RUN_SIZE = 8192;
+
+    private final Comparator<? super T> comparator;
+    private final ExecutorService executorService;
+    private final int grain;
+
+    private ParallelMergeSort(Comparator<? super T> comparator, ExecutorService executorService, int size)
+    {
+        this.comparator = comparator;
+        this.executorService = executorService;
+        this.grain = Math.max(MIN_RUN_SIZE, size / ParallelIterate.DEFAULT_PARALLEL_TASK_COUNT);
+    }
+
+    static <T> void sort(final T[] items, int size, final Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        int runCount = Math.min(ParallelIterate.DEFAULT_PARALLEL_TASK_COUNT, size / MIN_RUN_SIZE);
+        if (runCount < 2)
+        {
+            Arrays.sort(items, 0, size, comparator);
+            return;
+        }
+        int[] runEnds = new int[runCount];
+        List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(runCount);
+        for (int i = 0; i < runCount; i++)
+        {
+            final int runStart = i == 0 ? 0 : runEnds[i - 1];
+            final int runEnd = (int) ((long) size * (long) (i + 1) / (long) runCount);
+            runEnds[i] = runEnd;
+            tasks.add(new Callable<Object>()
+            {
+                public Object call()
+                {
+                    Arrays.sort(items, runStart, runEnd, comparator);
+                    return null;
+                }
+            });
+        }
+        ParallelMergeSort.invokeAll(executorService, tasks);
+        ParallelMergeSort.mergeRuns(items, runEnds, comparator, executorService);
+    }
+
+    static <T> void mergeRuns(T[] items, int[] runEnds, Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        if (runEnds.length < 2)
+        {
+            return;
+        }
+        int size = runEnds[runEnds.length - 1];
+        Comparator<? super T> nonNullComparator = comparator;
+        if (nonNullComparator == null)
+        {
+            nonNullComparator = Comparators.naturalOrder();
+        }
+        new ParallelMergeSort<T>(nonNullComparator, executorService, size).mergeRuns(items, runEnds, size);
+    }
+
+    private void mergeRuns(T[] items, int[] runEnds, int size)
+    {
+        T[] source = items;
+        T[] target = (T[]) new Object[size];
+        int[] ends = runEnds;
+        while (ends.length > 1)
+        {
+            int[] mergedEnds = new int[(ends.length + 1) / 2];
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            for (int i = 0; i < ends.length; i += 2)
+            {
+                int start = i == 0 ? 0 : ends[i - 1];
+                if (i + 1 < ends.length)
+                {
+                    this.addMergeTasks(tasks, source, start, ends[i], ends[i], ends[i + 1], target, start);
+                    mergedEnds[i / 2] = ends[i + 1];
+                }
+                else
+                {
+                    this.addCopyTasks(tasks, source, start, ends[i], target);
+                    mergedEnds[i / 2] = ends[i];
+                }
+            }
+            ParallelMergeSort.invokeAll(this.executorService, tasks);
+            T[] swap = source;
+            source = target;
+            target = swap;
+            ends = mergedEnds;
+        }
+        if (source != items)
+        {
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            this.addCopyTasks(tasks, source, 0, size, items);
+            ParallelMergeSort.invokeAll(this.executorService, tasks);
+        }
+    }
+
+    private void addMergeTasks(
+            List<Callable<Object>> tasks,
+            T[] source,
+            int leftStart,
+            int leftEnd,
+            int rightStart,
+            int rightEnd,
+            T[] target,
+            int targetStart)
+    {
+        int leftLength = leftEnd - leftStart;
+        int rightLength = rightEnd - rightStart;
+        if (leftLength + rightLength <= this.grain || leftLength == 0 || rightLength == 0)
+        {
+            tasks.add(new MergeTask<T>(source, leftStart, leftEnd, rightStart, rightEnd, target, targetStart, this.comparator));
+            return;
+        }
+        int leftSplit;
+        int rightSplit;
+        if (leftLength >= rightLength)
+        {
+            leftSplit = (leftStart + leftEnd) >>> 1;
+            rightSplit = this.lowerBound(source, rightStart, rightEnd, source[leftSplit]);
+        }
+        else
+        {
+            rightSplit = (rightStart + rightEnd) >>> 1;
+            leftSplit = this.upperBound(source, leftStart, leftEnd, source[rightSplit]);
+        }
+        this.addMergeTasks(tasks, source, leftStart, leftSplit, rightStart, rightSplit, target, targetStart);
+        int secondTargetStart = targetStart + leftSplit - leftStart + rightSplit - rightStart;
+        this.addMergeTasks(tasks, source, leftSplit, leftEnd, rightSplit, rightEnd, target, secondTargetStart);
+    }
+
+    private void addCopyTasks(List<Callable<Object>> tasks, final T[] source, int start, int end, final T[] target)
+    {
+        for (int from = start; from < end; from += this.grain)
+        {
+            final int chunkStart = from;
+            final int chunkLength = Math.min(this.grain, end - from);
+            tasks.add(new Callable<Object>()
+            {
+                public Object call()
+                {
+                    System.arraycopy(source, chunkStart, target, chunkStart, chunkLength);
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the index of the first element in [start, end) that is not less than the key.
+     */
+    private int lowerBound(T[] source, int start, int end, T key)
+    {
+        int low = start;
+        int high = end;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (this.comparator.compare(source[middle], key) < 0)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element in [start, end) that is greater than the key.
+     */
+    private int upperBound(T[] source, int start, int end, T key)
+    {
+        int low = start;
+        int high = end;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (this.comparator.compare(source[middle], key) <= 0)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static void invokeAll(ExecutorService executorService, List<Callable<Object>> tasks)
+    {
+        try
+        {
+            if (tasks.size() == 1)
+            {
+                tasks.get(0).call();
+                return;
+            }
+            for (Future<Object> future : executorService.invokeAll(tasks))
+            {
+                future.get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch (RuntimeException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class MergeTask<T> implements Callable<Object>
+    {
+        private final T[] source;
+        private final int leftStart;
+        private final int leftEnd;
+        private final int rightStart;
+        private final int rightEnd;
+        private final T[] target;
+        private final int targetStart;
+        private final Comparator<? super T> comparator;
+
+        private MergeTask(
+                T[] source,
+                int leftStart,
+                int leftEnd,
+                int rightStart,
+                int rightEnd,
+                T[] target,
+                int targetStart,
+                Comparator<? super T> comparator)
+        {
+            this.source = source;
+            this.leftStart = leftStart;
+            this.leftEnd = leftEnd;
+            this.rightStart = rightStart;
+            this.rightEnd = rightEnd;
+            this.target = target;
+            this.targetStart = targetStart;
+            this.comparator = comparator;
+        }
+
+        public Object call()
+        {
+            int left = this.leftStart;
+            int right = this.rightStart;
+            int index = this.targetStart;
+            while (left < this.leftEnd && right < this.rightEnd)
+            {
+                // Ties are taken from the left run, which keeps the sort stable
+                if (this.comparator.compare(this.source[right], this.source[left]) < 0)
+                {
+                    this.target[index++] = this.source[right++];
+                }
+                else
+                {
+                    this.target[index++] = this.source[left++];
+                }
+            }
+            System.arraycopy(this.source, left, this.target, index, this.leftEnd - left);
+            index += this.leftEnd - left;
+            System.arraycopy(this.source, right, this.target, index, this.rightEnd - right);
+            return null;
+        }
+    }
+}
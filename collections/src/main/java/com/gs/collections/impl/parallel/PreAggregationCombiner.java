@@ -0,0 +1,154 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Merges the private results of the {@link PreAggregationProcedure}s of all the tasks into the target. The results
+ * are merged pairwise in rounds, and the merges of a round run concurrently on the executor, so the time spent
+ * merging grows with the logarithm of the number of tasks rather than linearly. Results are always merged into the
+ * result of an earlier task, so the order of the tasks is kept.
+ */
+public final class PreAggregationCombiner<T, R>
+        extends AbstractProcedureCombiner<PreAggregationProcedure<T, R>>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final R target;
+    private final Procedure2<? super R, ? super R> merger;
+    private final Executor executor;
+
+    /**
+     * @param merger merges the second result into the first
+     */
+    public PreAggregationCombiner(R target, Procedure2<? super R, ? super R> merger, Executor executor)
+    {
+        super(false);
+        this.target = target;
+        this.merger = merger;
+        this.executor = executor;
+    }
+
+    @Override
+    public void combineAll(Iterable<PreAggregationProcedure<T, R>> thingsToCombine)
+    {
+        MutableList<R> results = FastList.newList();
+        results.add(this.target);
+        for (PreAggregationProcedure<T, R> procedure : thingsToCombine)
+        {
+            results.add(procedure.getResult());
+        }
+        while (results.size() > 1)
+        {
+            results = this.mergeRound(results);
+        }
+    }
+
+    private MutableList<R> mergeRound(MutableList<R> results)
+    {
+        int pairCount = results.size() / 2;
+        MutableList<R> merged = FastList.newList(pairCount + 1);
+        CountDownLatch latch = new CountDownLatch(pairCount - 1);
+        MutableList<MergeTask> tasks = FastList.newList(pairCount);
+        for (int i = 0; i < pairCount; i++)
+        {
+            tasks.add(new MergeTask(results.get(2 * i), results.get(2 * i + 1), latch));
+            merged.add(results.get(2 * i));
+        }
+        if (results.size() % 2 == 1)
+        {
+            merged.add(results.getLast());
+        }
+        for (int i = 1; i < pairCount; i++)
+        {
+            this.executor.execute(tasks.get(i));
+        }
+        // The first merge of each round runs on the calling thread
+        tasks.getFirst().merge();
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException("Combine failed", e);
+        }
+        for (MergeTask task : tasks)
+        {
+            if (task.error != null)
+            {
+                throw new RuntimeException("One or more parallel tasks failed", task.error);
+            }
+        }
+        return merged;
+    }
+
+    public void combineOne(PreAggregationProcedure<T, R> procedure)
+    {
+        this.merger.value(this.target, procedure.getResult());
+    }
+
+    public R getResult()
+    {
+        return this.target;
+    }
+
+    private final class MergeTask implements Runnable
+    {
+        private final R left;
+        private final R right;
+        private final CountDownLatch latch;
+        private Throwable error;
+
+        private MergeTask(R left, R right, CountDownLatch latch)
+        {
+            this.left = left;
+            this.right = right;
+            this.latch = latch;
+        }
+
+        private void merge()
+        {
+            try
+            {
+                PreAggregationCombiner.this.merger.value(this.left, this.right);
+            }
+            catch (Throwable e)
+            {
+                this.error = e;
+            }
+        }
+
+        public void run()
+        {
+            try
+            {
+                this.merge();
+            }
+            finally
+            {
+                this.latch.countDown();
+            }
+        }
+    }
+}
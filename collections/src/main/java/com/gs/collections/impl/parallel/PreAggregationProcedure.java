@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.api.block.procedure.Procedure;
+
+/**
+ * Applies a procedure to the elements of a single task, accumulating into a result that is private to the task.
+ * The results of all the tasks are merged by a {@link PreAggregationCombiner}.
+ */
+public final class PreAggregationProcedure<T, R> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final R result;
+    private final Procedure<? super T> procedure;
+
+    public PreAggregationProcedure(R result, Procedure<? super T> procedure)
+    {
+        this.result = result;
+        this.procedure = procedure;
+    }
+
+    public void value(T each)
+    {
+        this.procedure.value(each);
+    }
+
+    public R getResult()
+    {
+        return this.result;
+    }
+}
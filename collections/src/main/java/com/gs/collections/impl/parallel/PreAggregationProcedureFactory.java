@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.api.block.procedure.Procedure;
+
+/**
+ * Creates a {@link PreAggregationProcedure} with a new result for each task.
+ */
+public abstract class PreAggregationProcedureFactory<T, R> implements ProcedureFactory<PreAggregationProcedure<T, R>>
+{
+    public PreAggregationProcedure<T, R> create()
+    {
+        R result = this.newResult();
+        return new PreAggregationProcedure<T, R>(result, this.newProcedure(result));
+    }
+
+    protected abstract R newResult();
+
+    protected abstract Procedure<? super T> newProcedure(R result);
+}
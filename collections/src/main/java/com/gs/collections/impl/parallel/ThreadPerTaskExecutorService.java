@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * An ExecutorService that starts a new thread for every task instead of queueing tasks for a bounded pool.
+ */
+final class ThreadPerTaskExecutorService extends AbstractExecutorService
+{
+    private final ThreadFactory threadFactory;
+    private final Set<Thread> threads = UnifiedSet.newSet();
+    private boolean shutdown;
+
+    ThreadPerTaskExecutorService(ThreadFactory threadFactory)
+    {
+        this.threadFactory = threadFactory;
+    }
+
+    public void execute(final Runnable command)
+    {
+        Thread thread = this.threadFactory.newThread(new Runnable()
+        {
+            public void run()
+            {
+                try
+                {
+                    command.run();
+                }
+                finally
+                {
+                    ThreadPerTaskExecutorService.this.threadTerminated(Thread.currentThread());
+                }
+            }
+        });
+        synchronized (this)
+        {
+            if (this.shutdown)
+            {
+                throw new RejectedExecutionException(this.getClass().getSimpleName() + " has been shut down");
+            }
+            this.threads.add(thread);
+        }
+        thread.start();
+    }
+
+    private synchronized void threadTerminated(Thread thread)
+    {
+        this.threads.remove(thread);
+        if (this.threads.isEmpty())
+        {
+            this.notifyAll();
+        }
+    }
+
+    public synchronized void shutdown()
+    {
+        this.shutdown = true;
+    }
+
+    public synchronized List<Runnable> shutdownNow()
+    {
+        this.shutdown = true;
+        for (Thread thread : this.threads)
+        {
+            thread.interrupt();
+        }
+        return Collections.emptyList();
+    }
+
+    public synchronized boolean isShutdown()
+    {
+        return this.shutdown;
+    }
+
+    public synchronized boolean isTerminated()
+    {
+        return this.shutdown && this.threads.isEmpty();
+    }
+
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long remainingNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remainingNanos;
+        while (!this.isTerminated())
+        {
+            if (remainingNanos <= 0L)
+            {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An ExecutorService that runs its tasks on a shared delegate and refuses to be shut down, so that one caller
+ * cannot stop the executor for everybody else.
+ */
+final class UnclosableExecutorService extends AbstractExecutorService
+{
+    private final ExecutorService delegate;
+
+    UnclosableExecutorService(ExecutorService delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public void execute(Runnable command)
+    {
+        this.delegate.execute(command);
+    }
+
+    public void shutdown()
+    {
+        throw new UnsupportedOperationException("Cannot call shutdown() on a shared " + this.getClass().getSimpleName());
+    }
+
+    public List<Runnable> shutdownNow()
+    {
+        throw new UnsupportedOperationException("Cannot call shutdownNow() on a shared " + this.getClass().getSimpleName());
+    }
+
+    public boolean isShutdown()
+    {
+        return false;
+    }
+
+    public boolean isTerminated()
+    {
+        return false;
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        unit.sleep(timeout);
+        return false;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getClass().getSimpleName() + '[' + this.delegate + ']';
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.utility.internal.MinimalPerfectHash;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableSet that stores its elements in a dense array, ordered by a minimal perfect hash function over the
+ * hash codes of the elements. A lookup computes the slot of the element and compares a single element, and the array
+ * has no empty slots. Elements whose hash code equals that of another element are stored after the perfectly hashed
+ * ones, sorted by hash, and are found by a binary search when the first comparison misses. The hash function is computed when the set is built, which takes longer than building an
+ * {@link ImmutableUnifiedSet}, so this set is meant for reference data that is built once and read many times.
+ *
+ * @see com.gs.collections.api.factory.set.ImmutableSetFactory#ofAllFrozen(Iterable)
+ * @since 5.2
+ */
+@Immutable
+final class ImmutablePerfectHashSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable, BatchIterable<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final T[] elements;
+    // Hash codes need not be stable across JVMs, so the seeds are recomputed on deserialization
+    private final transient int[] seeds;
+    private final transient long[] overflowHashes;
+
+    private ImmutablePerfectHashSet(T[] elements, int[] seeds, long[] overflowHashes)
+    {
+        this.elements = elements;
+        this.seeds = seeds;
+        this.overflowHashes = overflowHashes;
+    }
+
+    /**
+     * Returns a set of the distinct elements, or null if no perfect hash function could be found for them.
+     */
+    static <T> ImmutablePerfectHashSet<T> newSet(Object[] distinctElements)
+    {
+        int size = distinctElements.length;
+        long[] hashes = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            hashes[i] = MinimalPerfectHash.hash(distinctElements[i]);
+        }
+        MinimalPerfectHash.Layout layout = MinimalPerfectHash.layout(hashes);
+        if (layout == null)
+        {
+            return null;
+        }
+        int[] positions = layout.getPositions();
+        Object[] table = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            table[positions[i]] = distinctElements[i];
+        }
+        return new ImmutablePerfectHashSet<T>((T[]) table, layout.getSeeds(), layout.getOverflowHashes());
+    }
+
+    public int size()
+    {
+        return this.elements.length;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        if (set.size() != this.size())
+        {
+            return false;
+        }
+        for (T each : this.elements)
+        {
+            if (!set.contains(each))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        for (T each : this.elements)
+        {
+            result += this.nullSafeHashCode(each);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        long hash = MinimalPerfectHash.hash(object);
+        int distinctCount = this.elements.length - this.overflowHashes.length;
+        if (Comparators.nullSafeEquals(this.elements[MinimalPerfectHash.index(hash, this.seeds, distinctCount)], object))
+        {
+            return true;
+        }
+        for (int i = MinimalPerfectHash.firstIndexOf(this.overflowHashes, hash);
+                i < this.overflowHashes.length && this.overflowHashes[i] == hash;
+                i++)
+        {
+            if (Comparators.nullSafeEquals(this.elements[distinctCount + i], object))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new PerfectHashSetIterator();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.elements[0];
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.elements[this.elements.length - 1];
+    }
+
+    public void forEach(Procedure<? super T> procedure)
+    {
+        for (T each : this.elements)
+        {
+            procedure.value(each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int i = 0; i < this.elements.length; i++)
+        {
+            objectIntProcedure.value(this.elements[i], i);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        for (T each : this.elements)
+        {
+            procedure.value(each, parameter);
+        }
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size() / batchSize);
+    }
+
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size() / sectionCount;
+        int start = sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.size() : start + sectionSize;
+        for (int i = start; i < end; i++)
+        {
+            procedure.value(this.elements[i]);
+        }
+    }
+
+    private Object readResolve()
+    {
+        ImmutablePerfectHashSet<T> set = ImmutablePerfectHashSet.newSet(this.elements);
+        if (set == null)
+        {
+            // No perfect hash function could be found for the hash codes of this JVM
+            return ImmutableUnifiedSet.newSetWith(this.elements);
+        }
+        return set;
+    }
+
+    private class PerfectHashSetIterator
+            extends ImmutableSetIterator
+    {
+        @Override
+        protected T getElement(int i)
+        {
+            return ImmutablePerfectHashSet.this.elements[i];
+        }
+    }
+}
@@ -160,4 +160,30 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
         }
         return this.with((T[]) Iterate.toArray(items));
     }
+
+    public <T> ImmutableSet<T> ofAllFrozen(Iterable<? extends T> items)
+    {
+        return this.withAllFrozen(items);
+    }
+
+    public <T> ImmutableSet<T> withAllFrozen(Iterable<? extends T> items)
+    {
+        if (items instanceof ImmutablePerfectHashSet<?>)
+        {
+            return (ImmutableSet<T>) items;
+        }
+        ImmutableSet<T> set = this.withAll(items);
+        if (set.size() <= 4)
+        {
+            // Removing duplicates may have left few enough items for one of the small sets
+            return this.with((T[]) set.toArray());
+        }
+        ImmutablePerfectHashSet<T> perfectHashSet = ImmutablePerfectHashSet.newSet(set.toArray());
+        if (perfectHashSet == null)
+        {
+            // No seed could be found for one of the buckets of the perfect hash function
+            return set;
+        }
+        return perfectHashSet;
+    }
 }
@@ -22,15 +22,23 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.ByteIterable;
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectByteToObjectFunction;
 import com.gs.collections.api.block.predicate.primitive.BytePredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ByteProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.iterator.ByteIterator;
 import com.gs.collections.api.list.primitive.MutableByteList;
 import com.gs.collections.api.set.ImmutableSet;
@@ -41,6 +49,12 @@ import com.gs.collections.api.set.primitive.MutableByteSet;
 import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
 import com.gs.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import com.gs.collections.impl.factory.primitive.ByteSets;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractByteBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ByteBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.RootByteBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.SelectByteBatch;
 import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
@@ -733,6 +747,20 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new LazyByteIterableAdapter(this);
     }
 
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ByteHashSetParallelIterable(executorService, batchSize);
+    }
+
     public long sum()
     {
         long result = 0L;
@@ -1503,4 +1531,162 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
             throw new NoSuchElementException("no more element, unexpected situation");
         }
     }
+
+    /**
+     * A batch covers the values [from, to) of the byte range, which are looked up in the bit groups.
+     */
+    private final class ByteHashSetBatch extends AbstractByteBatch implements RootByteBatch
+    {
+        private final int from;
+        private final int to;
+
+        private ByteHashSetBatch(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        public void forEach(ByteProcedure procedure)
+        {
+            for (int i = this.from; i < this.to; i++)
+            {
+                if (ByteHashSet.this.contains((byte) i))
+                {
+                    procedure.value((byte) i);
+                }
+            }
+        }
+
+        public boolean anySatisfy(BytePredicate predicate)
+        {
+            for (int i = this.from; i < this.to; i++)
+            {
+                if (ByteHashSet.this.contains((byte) i) && predicate.accept((byte) i))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public byte detectIfNone(BytePredicate predicate, byte ifNone)
+        {
+            for (int i = this.from; i < this.to; i++)
+            {
+                if (ByteHashSet.this.contains((byte) i) && predicate.accept((byte) i))
+                {
+                    return (byte) i;
+                }
+            }
+            return ifNone;
+        }
+
+        public ByteBatch select(BytePredicate predicate)
+        {
+            return new SelectByteBatch(this, predicate);
+        }
+    }
+
+    private final class ByteHashSetParallelIterable extends AbstractParallelByteIterable<RootByteBatch>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ByteHashSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootByteBatch> split()
+        {
+            return new ByteHashSetParallelBatchLazyIterable();
+        }
+
+        @Override
+        protected boolean isOrdered()
+        {
+            return false;
+        }
+
+        public void forEach(ByteProcedure procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public byte detectIfNone(BytePredicate predicate, byte ifNone)
+        {
+            return detectIfNone(this, predicate, ifNone);
+        }
+
+        public boolean anySatisfy(BytePredicate predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(BytePredicate predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        private class ByteHashSetParallelBatchIterator implements Iterator<RootByteBatch>
+        {
+            protected int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return Byte.MIN_VALUE + this.chunkIndex * ByteHashSetParallelIterable.this.batchSize <= Byte.MAX_VALUE;
+            }
+
+            public RootByteBatch next()
+            {
+                int from = Byte.MIN_VALUE + this.chunkIndex * ByteHashSetParallelIterable.this.batchSize;
+                int to = (int) Math.min((long) from + ByteHashSetParallelIterable.this.batchSize, Byte.MAX_VALUE + 1);
+                this.chunkIndex++;
+                return new ByteHashSetBatch(from, to);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class ByteHashSetParallelBatchLazyIterable
+                extends AbstractLazyIterable<RootByteBatch>
+        {
+            public void forEach(Procedure<? super RootByteBatch> procedure)
+            {
+                for (RootByteBatch chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootByteBatch, ? super P> procedure, P parameter)
+            {
+                for (RootByteBatch chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootByteBatch> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootByteBatch> iterator()
+            {
+                return new ByteHashSetParallelBatchIterator();
+            }
+        }
+    }
 }
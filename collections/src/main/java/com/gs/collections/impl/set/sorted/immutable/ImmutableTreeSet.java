@@ -16,96 +16,634 @@
 
 package com.gs.collections.impl.set.sorted.immutable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.set.sorted.ImmutableSortedSet;
+import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.api.set.sorted.SortedSetIterable;
-import com.gs.collections.impl.UnmodifiableIteratorAdapter;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.list.ListBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.AbstractParallelSortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.sorted.CollectSortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.RootSortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.SelectSortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.SortedSetBatch;
+import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import com.gs.collections.impl.utility.internal.SortedSetIterables;
 import net.jcip.annotations.Immutable;
 
+/**
+ * ImmutableTreeSet stores its elements in a sorted array. Lookups are binary searches, the element at an index and the
+ * index of an element are found without walking the set, and subSet, headSet and tailSet return views that share the
+ * array of this set. A view covers the elements [from, to) of the array, and remembers the elements it was created
+ * with, so that it rejects elements outside of its range with an IllegalArgumentException, as the views of TreeSet do.
+ */
 @Immutable
 final class ImmutableTreeSet<T>
         extends AbstractImmutableSortedSet<T>
-        implements Serializable
+        implements Serializable, BatchIterable<T>
 {
     private static final long serialVersionUID = 1L;
-    private final TreeSortedSet<T> delegate;
 
-    private ImmutableTreeSet(TreeSortedSet<T> delegate)
+    // The serialized form is a TreeSortedSet named delegate, so that it stays compatible with earlier versions
+    private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("delegate", TreeSortedSet.class)};
+
+    private static final Object UNBOUNDED = new Object();
+
+    private final T[] elements;
+    private final int from;
+    private final int to;
+    private final Comparator<? super T> comparator;
+    // The inclusive low and exclusive high element of a view, or UNBOUNDED
+    private final Object lowElement;
+    private final Object highElement;
+
+    // Only set on an instance that is being deserialized, which is then replaced by readResolve()
+    private transient TreeSortedSet<T> deserializedDelegate;
+
+    private ImmutableTreeSet(T[] elements, Comparator<? super T> comparator, Object lowElement, Object highElement)
+    {
+        this.elements = elements;
+        this.comparator = comparator;
+        this.lowElement = lowElement;
+        this.highElement = highElement;
+        this.from = lowElement == UNBOUNDED ? 0 : this.lowerBound((T) lowElement);
+        this.to = highElement == UNBOUNDED ? elements.length : this.lowerBound((T) highElement);
+    }
+
+    private static <T> ImmutableTreeSet<T> newSetFromSortedSet(SortedSet<T> set)
+    {
+        T[] elements = (T[]) set.toArray();
+        return new ImmutableTreeSet<T>(elements, set.comparator(), UNBOUNDED, UNBOUNDED);
+    }
+
+    public static <T> ImmutableSortedSet<T> newSetWith(T... elements)
+    {
+        return ImmutableTreeSet.newSetWith(null, elements);
+    }
+
+    public static <T> ImmutableSortedSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        T[] sorted = elements.clone();
+        Arrays.sort(sorted, comparator);
+        // Arrays.sort() is stable, so keeping the first of equal elements keeps the one added first, as TreeSet does
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++)
+        {
+            if (size == 0 || ImmutableTreeSet.compare(comparator, sorted[size - 1], sorted[i]) != 0)
+            {
+                sorted[size++] = sorted[i];
+            }
+        }
+        if (sorted.length == 1)
+        {
+            // TreeSet rejects an incomparable single element
+            ImmutableTreeSet.compare(comparator, sorted[0], sorted[0]);
+        }
+        return new ImmutableTreeSet<T>(size == sorted.length ? sorted : Arrays.copyOf(sorted, size), comparator, UNBOUNDED, UNBOUNDED);
+    }
+
+    public static <T> ImmutableSortedSet<T> newSet(SortedSet<T> set)
+    {
+        return ImmutableTreeSet.newSetFromSortedSet(set);
+    }
+
+    private static <T> int compare(Comparator<? super T> comparator, T one, T two)
+    {
+        return comparator == null ? ((Comparable<T>) one).compareTo(two) : comparator.compare(one, two);
+    }
+
+    /**
+     * Returns the index of the first element in the array that is not less than the object.
+     */
+    private int lowerBound(T object)
+    {
+        int index = Arrays.binarySearch(this.elements, object, this.comparator);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private boolean isTooLow(T object)
+    {
+        return this.lowElement != UNBOUNDED && ImmutableTreeSet.compare(this.comparator, object, (T) this.lowElement) < 0;
+    }
+
+    private boolean isTooHigh(T object, boolean inclusive)
+    {
+        if (this.highElement == UNBOUNDED)
+        {
+            return false;
+        }
+        int comparison = ImmutableTreeSet.compare(this.comparator, object, (T) this.highElement);
+        return comparison > 0 || comparison == 0 && inclusive;
+    }
+
+    private void checkFromElement(T fromElement)
     {
-        this.delegate = delegate;
+        if (this.isTooLow(fromElement) || this.isTooHigh(fromElement, true))
+        {
+            throw new IllegalArgumentException("fromElement out of range");
+        }
+    }
+
+    private void checkToElement(T toElement)
+    {
+        if (this.isTooLow(toElement) || this.isTooHigh(toElement, false))
+        {
+            throw new IllegalArgumentException("toElement out of range");
+        }
     }
 
     public int size()
     {
-        return this.delegate.size();
+        return this.to - this.from;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.to == this.from;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.to != this.from;
     }
 
     @Override
     public boolean equals(Object obj)
     {
-        return this.delegate.equals(obj);
+        if (obj == this)
+        {
+            return true;
+        }
+        if (!(obj instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) obj;
+        if (other.size() != this.size())
+        {
+            return false;
+        }
+        try
+        {
+            for (int i = this.from; i < this.to; i++)
+            {
+                if (!other.contains(this.elements[i]))
+                {
+                    return false;
+                }
+            }
+        }
+        catch (ClassCastException ignored)
+        {
+            return false;
+        }
+        catch (NullPointerException ignored)
+        {
+            return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode()
     {
-        return this.delegate.hashCode();
+        int result = 0;
+        for (int i = this.from; i < this.to; i++)
+        {
+            result += this.elements[i].hashCode();
+        }
+        return result;
     }
 
     @Override
     public boolean contains(Object object)
     {
-        return this.delegate.contains(object);
+        return this.indexOf(object) != -1;
     }
 
-    public Iterator<T> iterator()
+    @Override
+    public boolean containsAll(Collection<?> collection)
     {
-        return new UnmodifiableIteratorAdapter<T>(this.delegate.iterator());
+        for (Object each : collection)
+        {
+            if (!this.contains(each))
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public static <T> ImmutableSortedSet<T> newSetWith(T... elements)
+    public T get(int index)
     {
-        return new ImmutableTreeSet<T>(TreeSortedSet.newSetWith(elements));
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+        return this.elements[this.from + index];
     }
 
-    public static <T> ImmutableSortedSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    public int indexOf(Object object)
     {
-        return new ImmutableTreeSet<T>(TreeSortedSet.newSetWith(comparator, elements));
+        if (object == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+        int index = Arrays.binarySearch(this.elements, this.from, this.to, (T) object, this.comparator);
+        return index >= 0 ? index - this.from : -1;
     }
 
-    public static <T> ImmutableSortedSet<T> newSet(SortedSet<T> set)
+    public Iterator<T> iterator()
     {
-        return new ImmutableTreeSet<T>(TreeSortedSet.newSet(set));
+        return new ImmutableTreeSetIterator();
     }
 
     public void forEach(Procedure<? super T> procedure)
     {
-        this.delegate.forEach(procedure);
+        for (int i = this.from; i < this.to; i++)
+        {
+            procedure.value(this.elements[i]);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int i = this.from; i < this.to; i++)
+        {
+            objectIntProcedure.value(this.elements[i], i - this.from);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        for (int i = this.from; i < this.to; i++)
+        {
+            procedure.value(this.elements[i], parameter);
+        }
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return Arrays.copyOfRange(this.elements, this.from, this.to, Object[].class);
     }
 
     public T first()
     {
-        return this.delegate.first();
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.elements[this.from];
     }
 
     public T last()
     {
-        return this.delegate.last();
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.elements[this.to - 1];
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.elements[this.from];
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : this.elements[this.to - 1];
     }
 
     public Comparator<? super T> comparator()
     {
-        return this.delegate.comparator();
+        return this.comparator;
     }
 
     public int compareTo(SortedSetIterable<T> o)
     {
-        return this.delegate.compareTo(o);
+        return SortedSetIterables.compare(this, o);
+    }
+
+    @Override
+    public SortedSet<T> subSet(T fromElement, T toElement)
+    {
+        if (ImmutableTreeSet.compare(this.comparator, fromElement, toElement) > 0)
+        {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        this.checkFromElement(fromElement);
+        this.checkToElement(toElement);
+        return new ImmutableTreeSet<T>(this.elements, this.comparator, fromElement, toElement);
+    }
+
+    @Override
+    public SortedSet<T> headSet(T toElement)
+    {
+        // Rejects elements that cannot be compared, even if the set is empty, as TreeSet does
+        ImmutableTreeSet.compare(this.comparator, toElement, toElement);
+        this.checkToElement(toElement);
+        return new ImmutableTreeSet<T>(this.elements, this.comparator, this.lowElement, toElement);
+    }
+
+    @Override
+    public SortedSet<T> tailSet(T fromElement)
+    {
+        // Rejects elements that cannot be compared, even if the set is empty, as TreeSet does
+        ImmutableTreeSet.compare(this.comparator, fromElement, fromElement);
+        this.checkFromElement(fromElement);
+        return new ImmutableTreeSet<T>(this.elements, this.comparator, fromElement, this.highElement);
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size() / batchSize);
+    }
+
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size() / sectionCount;
+        int start = this.from + sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.to : start + sectionSize;
+        for (int i = start; i < end; i++)
+        {
+            procedure.value(this.elements[i]);
+        }
+    }
+
+    @Beta
+    public ParallelSortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ImmutableTreeSetParallelIterable(executorService, batchSize);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        ObjectOutputStream.PutField fields = out.putFields();
+        TreeSortedSet<T> delegate = TreeSortedSet.newSet(this.comparator);
+        for (int i = this.from; i < this.to; i++)
+        {
+            delegate.add(this.elements[i]);
+        }
+        fields.put("delegate", delegate);
+        out.writeFields();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        this.deserializedDelegate = (TreeSortedSet<T>) in.readFields().get("delegate", null);
+    }
+
+    private Object readResolve()
+    {
+        return ImmutableTreeSet.newSetFromSortedSet(this.deserializedDelegate);
+    }
+
+    private class ImmutableTreeSetIterator implements Iterator<T>
+    {
+        private int next = ImmutableTreeSet.this.from;
+
+        public boolean hasNext()
+        {
+            return this.next < ImmutableTreeSet.this.to;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return ImmutableTreeSet.this.elements[this.next++];
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableSortedSet");
+        }
+    }
+
+    /**
+     * A batch covers the elements [chunkStartIndex, chunkEndIndex) of the array, so the batches cover disjoint,
+     * contiguous ranges in the sort order of the set.
+     */
+    private final class ImmutableTreeSetBatch extends AbstractBatch<T> implements RootSortedSetBatch<T>
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private ImmutableTreeSetBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value(ImmutableTreeSet.this.elements[i]);
+            }
+        }
+
+        @Override
+        public int count(Predicate<? super T> predicate)
+        {
+            int count = 0;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(ImmutableTreeSet.this.elements[i]))
+                {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(ImmutableTreeSet.this.elements[i]))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (!predicate.accept(ImmutableTreeSet.this.elements[i]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                T each = ImmutableTreeSet.this.elements[i];
+                if (predicate.accept(each))
+                {
+                    return each;
+                }
+            }
+            return null;
+        }
+
+        public SortedSetBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectSortedSetBatch<T>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectSortedSetBatch<T, V>(this, function);
+        }
+    }
+
+    private final class ImmutableTreeSetParallelIterable extends AbstractParallelSortedSetIterable<T, RootSortedSetBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ImmutableTreeSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootSortedSetBatch<T>> split()
+        {
+            return new ImmutableTreeSetParallelSplitLazyIterable();
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return detect(this, predicate);
+        }
+
+        private class ImmutableTreeSetParallelSplitIterator implements Iterator<RootSortedSetBatch<T>>
+        {
+            private int chunkStartIndex = ImmutableTreeSet.this.from;
+
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex < ImmutableTreeSet.this.to;
+            }
+
+            public RootSortedSetBatch<T> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                int chunkEndIndex = (int) Math.min((long) this.chunkStartIndex + ImmutableTreeSetParallelIterable.this.batchSize, ImmutableTreeSet.this.to);
+                ImmutableTreeSetBatch batch = new ImmutableTreeSetBatch(this.chunkStartIndex, chunkEndIndex);
+                this.chunkStartIndex = chunkEndIndex;
+                return batch;
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class ImmutableTreeSetParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootSortedSetBatch<T>>
+        {
+            public void forEach(Procedure<? super RootSortedSetBatch<T>> procedure)
+            {
+                for (RootSortedSetBatch<T> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootSortedSetBatch<T>, ? super P> procedure, P parameter)
+            {
+                for (RootSortedSetBatch<T> chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootSortedSetBatch<T>> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootSortedSetBatch<T>> iterator()
+            {
+                return new ImmutableTreeSetParallelSplitIterator();
+            }
+        }
     }
 }
@@ -23,6 +23,7 @@ import java.io.ObjectOutput;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -43,6 +44,8 @@ import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.primitive.MutableBooleanList;
 import com.gs.collections.api.list.primitive.MutableByteList;
@@ -83,6 +86,14 @@ import com.gs.collections.impl.block.procedure.primitive.CollectLongProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectShortProcedure;
 import com.gs.collections.impl.collection.mutable.AbstractMutableCollection;
 import com.gs.collections.impl.factory.SortedSets;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.list.ListBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.AbstractParallelSortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.sorted.CollectSortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.RootSortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.SelectSortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.sorted.SortedSetBatch;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -193,7 +204,7 @@ public final class TreeSortedSet<T>
         {
             throw new IllegalArgumentException();
         }
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asParallel() not implemented yet");
+        return new TreeSortedSetParallelIterable(executorService, batchSize);
     }
 
     public ImmutableSortedSet<T> toImmutable()
@@ -650,4 +661,199 @@ public final class TreeSortedSet<T>
     {
         return SortedSetIterables.compare(this, otherSet);
     }
+
+    private final class TreeSortedSetBatch extends AbstractBatch<T> implements RootSortedSetBatch<T>
+    {
+        private final SortedSet<T> chunk;
+
+        private TreeSortedSetBatch(SortedSet<T> chunk)
+        {
+            this.chunk = chunk;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            for (T each : this.chunk)
+            {
+                procedure.value(each);
+            }
+        }
+
+        @Override
+        public int count(Predicate<? super T> predicate)
+        {
+            int count = 0;
+            for (T each : this.chunk)
+            {
+                if (predicate.accept(each))
+                {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            for (T each : this.chunk)
+            {
+                if (predicate.accept(each))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            for (T each : this.chunk)
+            {
+                if (!predicate.accept(each))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            for (T each : this.chunk)
+            {
+                if (predicate.accept(each))
+                {
+                    return each;
+                }
+            }
+            return null;
+        }
+
+        public SortedSetBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectSortedSetBatch<T>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectSortedSetBatch<T, V>(this, function);
+        }
+    }
+
+    private final class TreeSortedSetParallelIterable extends AbstractParallelSortedSetIterable<T, RootSortedSetBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private TreeSortedSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public LazyIterable<RootSortedSetBatch<T>> split()
+        {
+            return new TreeSortedSetParallelBatchLazyIterable();
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return allSatisfy(this, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return detect(this, predicate);
+        }
+
+        /**
+         * Walks the tree once, handing out each run of batchSize consecutive elements as a subSet view bounded by the
+         * first element of the run and the first element of the next run. The batches therefore cover disjoint,
+         * contiguous key ranges in the set's sort order.
+         */
+        private class TreeSortedSetParallelBatchIterator implements Iterator<RootSortedSetBatch<T>>
+        {
+            private final Iterator<T> iterator = TreeSortedSet.this.treeSet.iterator();
+            private boolean hasNextChunk = this.iterator.hasNext();
+            private T nextChunkStart = this.hasNextChunk ? this.iterator.next() : null;
+
+            public boolean hasNext()
+            {
+                return this.hasNextChunk;
+            }
+
+            public RootSortedSetBatch<T> next()
+            {
+                if (!this.hasNextChunk)
+                {
+                    throw new NoSuchElementException();
+                }
+                T chunkStart = this.nextChunkStart;
+                for (int i = 1; i < TreeSortedSetParallelIterable.this.batchSize && this.iterator.hasNext(); i++)
+                {
+                    this.iterator.next();
+                }
+                if (this.iterator.hasNext())
+                {
+                    this.nextChunkStart = this.iterator.next();
+                    return new TreeSortedSetBatch(TreeSortedSet.this.treeSet.subSet(chunkStart, this.nextChunkStart));
+                }
+                this.hasNextChunk = false;
+                this.nextChunkStart = null;
+                return new TreeSortedSetBatch(TreeSortedSet.this.treeSet.tailSet(chunkStart));
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class TreeSortedSetParallelBatchLazyIterable
+                extends AbstractLazyIterable<RootSortedSetBatch<T>>
+        {
+            public void forEach(Procedure<? super RootSortedSetBatch<T>> procedure)
+            {
+                for (RootSortedSetBatch<T> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public <P> void forEachWith(Procedure2<? super RootSortedSetBatch<T>, ? super P> procedure, P parameter)
+            {
+                for (RootSortedSetBatch<T> chunk : this)
+                {
+                    procedure.value(chunk, parameter);
+                }
+            }
+
+            public void forEachWithIndex(ObjectIntProcedure<? super RootSortedSetBatch<T>> objectIntProcedure)
+            {
+                throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+            }
+
+            public Iterator<RootSortedSetBatch<T>> iterator()
+            {
+                return new TreeSortedSetParallelBatchIterator();
+            }
+        }
+    }
 }
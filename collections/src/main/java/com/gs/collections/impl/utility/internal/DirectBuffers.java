@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the native memory behind direct ByteBuffers. The JDK frees that memory only when the buffer has been
+ * garbage collected, which for a long lived buffer can take arbitrarily long. {@link #free(ByteBuffer)} runs the
+ * buffer's cleaner straight away: through sun.misc.Unsafe.invokeCleaner on Java 9 and later, where the cleaner itself
+ * is encapsulated, and through DirectByteBuffer.cleaner() on older JVMs. Where neither can be reached,
+ * {@link #canFree()} returns false and the memory is left to the garbage collector.
+ * <p/>
+ * A buffer must never be read or written after it has been freed.
+ *
+ * @since 5.2
+ */
+public final class DirectBuffers
+{
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    private static final Method CLEANER;
+    private static final Method CLEAN;
+
+    static
+    {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        Method cleaner = null;
+        Method clean = null;
+        try
+        {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        }
+        catch (Exception ignored)
+        {
+            // Java 8 or earlier, use the cleaner of the buffer instead
+            invokeCleaner = null;
+            try
+            {
+                cleaner = ByteBuffer.allocateDirect(0).getClass().getMethod("cleaner");
+                cleaner.setAccessible(true);
+                clean = cleaner.getReturnType().getMethod("clean");
+                clean.setAccessible(true);
+            }
+            catch (Exception ignoredToo)
+            {
+                cleaner = null;
+                clean = null;
+            }
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+        CLEANER = cleaner;
+        CLEAN = clean;
+    }
+
+    private DirectBuffers()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns true if {@link #free(ByteBuffer)} releases memory straight away on this JVM.
+     */
+    public static boolean canFree()
+    {
+        return INVOKE_CLEANER != null || CLEAN != null;
+    }
+
+    public static void free(ByteBuffer buffer)
+    {
+        if (buffer == null || !buffer.isDirect() || !DirectBuffers.canFree())
+        {
+            return;
+        }
+        try
+        {
+            if (INVOKE_CLEANER != null)
+            {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            }
+            else
+            {
+                Object cleaner = CLEANER.invoke(buffer);
+                if (cleaner != null)
+                {
+                    CLEAN.invoke(cleaner);
+                }
+            }
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
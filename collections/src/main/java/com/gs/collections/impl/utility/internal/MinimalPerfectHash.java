@@ -0,0 +1,352 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.Arrays;
+
+/**
+ * Builds and evaluates minimal perfect hash functions over a fixed set of distinct 64 bit hashes, using the hash and
+ * displace scheme. The hashes are split into buckets of about two. Starting with the largest, each bucket is assigned
+ * the first seed that places all of its hashes into free slots. Buckets with a single hash are then placed straight
+ * into the slots that are left. The result maps n hashes onto the slots 0..n-1, so a table of exactly n entries can be
+ * looked up with a single probe.
+ * <p/>
+ * Primitive keys are hashed with all of their bits by {@link #hash(long)}, which never maps two keys onto the same
+ * hash. Objects only have an int hash code, so distinct objects may share a hash. {@link #layout(long[])} therefore
+ * places one key per distinct hash with the perfect hash function, and keeps the other keys with the same hash after
+ * them, sorted by hash, where a lookup finds them with {@link #firstIndexOf(long[], long)}.
+ *
+ * @since 5.2
+ */
+public final class MinimalPerfectHash
+{
+    private static final int KEYS_PER_BUCKET = 2;
+    private static final int MAX_SEED = 1 << 20;
+
+    private MinimalPerfectHash()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Spreads the hash code of the object over 64 bits. Distinct hash codes remain distinct.
+     */
+    public static long hash(Object object)
+    {
+        return MinimalPerfectHash.hash((long) (object == null ? 0 : object.hashCode()));
+    }
+
+    /**
+     * Mixes all bits of the key with the finalizer of MurmurHash3. The mix is a bijection, so distinct keys always
+     * have distinct hashes.
+     */
+    public static long hash(long key)
+    {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Returns the seeds of a minimal perfect hash function for the given distinct hashes, or null if there is none
+     * because two of the hashes are equal, or if no seed could be found for a bucket.
+     */
+    public static int[] computeSeeds(long[] hashes)
+    {
+        int size = hashes.length;
+        int bucketCount = MinimalPerfectHash.bucketCount(size);
+
+        // Sort the hashes by bucket
+        int[] bucketStarts = new int[bucketCount + 1];
+        for (long hash : hashes)
+        {
+            bucketStarts[MinimalPerfectHash.bucket(hash, bucketCount) + 1]++;
+        }
+        int maxBucketSize = 0;
+        for (int i = 0; i < bucketCount; i++)
+        {
+            maxBucketSize = Math.max(maxBucketSize, bucketStarts[i + 1]);
+            bucketStarts[i + 1] += bucketStarts[i];
+        }
+        long[] bucketed = new long[size];
+        int[] cursors = bucketStarts.clone();
+        for (long hash : hashes)
+        {
+            bucketed[cursors[MinimalPerfectHash.bucket(hash, bucketCount)]++] = hash;
+        }
+
+        // Sort the buckets by descending size
+        int[] sizeStarts = new int[maxBucketSize + 2];
+        for (int i = 0; i < bucketCount; i++)
+        {
+            sizeStarts[maxBucketSize - (bucketStarts[i + 1] - bucketStarts[i]) + 1]++;
+        }
+        for (int i = 0; i <= maxBucketSize; i++)
+        {
+            sizeStarts[i + 1] += sizeStarts[i];
+        }
+        int[] bucketsBySize = new int[bucketCount];
+        for (int i = 0; i < bucketCount; i++)
+        {
+            bucketsBySize[sizeStarts[maxBucketSize - (bucketStarts[i + 1] - bucketStarts[i])]++] = i;
+        }
+
+        int[] seeds = new int[bucketCount];
+        boolean[] taken = new boolean[size];
+        int[] slots = new int[maxBucketSize];
+        int nextFreeSlot = 0;
+        for (int bucket : bucketsBySize)
+        {
+            int start = bucketStarts[bucket];
+            int bucketSize = bucketStarts[bucket + 1] - start;
+            if (bucketSize == 0)
+            {
+                break;
+            }
+            if (bucketSize == 1)
+            {
+                while (taken[nextFreeSlot])
+                {
+                    nextFreeSlot++;
+                }
+                taken[nextFreeSlot] = true;
+                seeds[bucket] = -nextFreeSlot - 1;
+            }
+            else
+            {
+                if (MinimalPerfectHash.containsDuplicate(bucketed, start, bucketSize))
+                {
+                    return null;
+                }
+                int seed = MinimalPerfectHash.placeBucket(bucketed, start, bucketSize, taken, slots);
+                if (seed == 0)
+                {
+                    return null;
+                }
+                seeds[bucket] = seed;
+            }
+        }
+        return seeds;
+    }
+
+    /**
+     * Returns the slot of the hash in a table of the given size, which is only meaningful if the hash was one of the
+     * hashes the seeds were computed for.
+     */
+    public static int index(long hash, int[] seeds, int size)
+    {
+        int seed = seeds[MinimalPerfectHash.bucket(hash, seeds.length)];
+        return seed < 0 ? -seed - 1 : MinimalPerfectHash.slot(hash, seed, size);
+    }
+
+    /**
+     * Lays out a table for keys with the given hashes, some of which may be equal. The first key of each distinct hash
+     * is placed by a minimal perfect hash function over the distinct hashes, the other keys follow them in the order of
+     * {@link Layout#getOverflowHashes()}. Returns null if no perfect hash function could be found.
+     */
+    public static Layout layout(long[] hashes)
+    {
+        int size = hashes.length;
+        long[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        int distinctCount = 0;
+        for (int i = 0; i < size; i++)
+        {
+            if (i == 0 || sorted[i] != sorted[i - 1])
+            {
+                sorted[distinctCount++] = sorted[i];
+            }
+        }
+        long[] distinct = new long[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        int[] seeds = MinimalPerfectHash.computeSeeds(distinct);
+        if (seeds == null)
+        {
+            return null;
+        }
+
+        long[] overflowHashes = new long[size - distinctCount];
+        boolean[] placed = new boolean[distinctCount];
+        int overflowCount = 0;
+        for (long hash : hashes)
+        {
+            int index = MinimalPerfectHash.index(hash, seeds, distinctCount);
+            if (placed[index])
+            {
+                overflowHashes[overflowCount++] = hash;
+            }
+            placed[index] = true;
+        }
+        Arrays.sort(overflowHashes);
+
+        int[] positions = new int[size];
+        Arrays.fill(placed, false);
+        boolean[] overflowTaken = new boolean[overflowHashes.length];
+        for (int i = 0; i < size; i++)
+        {
+            int index = MinimalPerfectHash.index(hashes[i], seeds, distinctCount);
+            if (placed[index])
+            {
+                int overflowIndex = MinimalPerfectHash.firstIndexOf(overflowHashes, hashes[i]);
+                while (overflowTaken[overflowIndex])
+                {
+                    overflowIndex++;
+                }
+                overflowTaken[overflowIndex] = true;
+                positions[i] = distinctCount + overflowIndex;
+            }
+            else
+            {
+                placed[index] = true;
+                positions[i] = index;
+            }
+        }
+        return new Layout(seeds, overflowHashes, positions);
+    }
+
+    /**
+     * Returns the index of the first occurrence of hash in the sorted hashes, or the index where it would be inserted
+     * if there is none.
+     */
+    public static int firstIndexOf(long[] sortedHashes, long hash)
+    {
+        int low = 0;
+        int high = sortedHashes.length;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (sortedHashes[middle] < hash)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int placeBucket(long[] bucketed, int start, int bucketSize, boolean[] taken, int[] slots)
+    {
+        int size = taken.length;
+        for (int seed = 1; seed < MAX_SEED; seed++)
+        {
+            int placed = 0;
+            while (placed < bucketSize)
+            {
+                int slot = MinimalPerfectHash.slot(bucketed[start + placed], seed, size);
+                if (taken[slot])
+                {
+                    break;
+                }
+                taken[slot] = true;
+                slots[placed] = slot;
+                placed++;
+            }
+            if (placed == bucketSize)
+            {
+                return seed;
+            }
+            for (int i = 0; i < placed; i++)
+            {
+                taken[slots[i]] = false;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean containsDuplicate(long[] bucketed, int start, int bucketSize)
+    {
+        for (int i = start; i < start + bucketSize; i++)
+        {
+            for (int j = i + 1; j < start + bucketSize; j++)
+            {
+                if (bucketed[i] == bucketed[j])
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int bucketCount(int size)
+    {
+        return Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+    }
+
+    private static int bucket(long hash, int bucketCount)
+    {
+        return MinimalPerfectHash.reduce((int) (hash >>> 32), bucketCount);
+    }
+
+    private static int slot(long hash, int seed, int size)
+    {
+        long h = hash ^ seed * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return MinimalPerfectHash.reduce((int) (h >>> 32), size);
+    }
+
+    /**
+     * Maps the hash onto [0, range) by its high bits, which avoids the division of a remainder.
+     */
+    private static int reduce(int hash, int range)
+    {
+        return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+    }
+
+    /**
+     * The result of {@link MinimalPerfectHash#layout(long[])}: the seeds of the perfect hash function over the
+     * distinct hashes, the sorted hashes of the keys that share their hash with an earlier key, and the position of
+     * every key in the table.
+     */
+    public static final class Layout
+    {
+        private final int[] seeds;
+        private final long[] overflowHashes;
+        private final int[] positions;
+
+        private Layout(int[] seeds, long[] overflowHashes, int[] positions)
+        {
+            this.seeds = seeds;
+            this.overflowHashes = overflowHashes;
+            this.positions = positions;
+        }
+
+        public int[] getSeeds()
+        {
+            return this.seeds;
+        }
+
+        public long[] getOverflowHashes()
+        {
+            return this.overflowHashes;
+        }
+
+        public int[] getPositions()
+        {
+            return this.positions;
+        }
+    }
+}
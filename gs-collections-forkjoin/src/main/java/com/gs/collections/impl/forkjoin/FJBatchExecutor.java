@@ -0,0 +1,539 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Twin;
+import com.gs.collections.impl.lazy.parallel.BatchExecutor;
+import com.gs.collections.impl.lazy.parallel.ShortCircuit;
+import com.gs.collections.impl.lazy.parallel.SplittableBatch;
+
+/**
+ * FJBatchExecutor runs the batches of the parallel iterables returned by asParallel() on a ForkJoinPool.
+ * <p/>
+ * Instead of submitting one Future per batch and blocking on each of them in turn, the batches are split recursively
+ * into fork-join tasks. Idle workers steal the unstarted halves, so a batch that happens to hold the expensive elements
+ * does not hold up the others, and smaller batch sizes can be used to spread skewed work more evenly. When a parallel
+ * iterable is evaluated from within a task of the same pool, the calling worker joins in rather than blocking, so
+ * nested parallel calls do not starve the pool.
+ * <p/>
+ * A single batch can be expensive too. When forEach or collectCombine reaches a {@link SplittableBatch} that covers
+ * more than minimumSplitSize indices, it splits the batch in halves and forks them, down to minimumSplitSize. The
+ * short-circuiting anySatisfy and detect cancel work by batch index, so they run each batch whole.
+ * <p/>
+ * e.g.
+ * <pre>
+ * ExecutorService executor = new FJBatchExecutor(new ForkJoinPool());
+ * ParallelListIterable&lt;Integer&gt; parallel = FastList.newList(integers).asParallel(executor, 1000);
+ * </pre>
+ * <p/>
+ * An executor created with {@link #newManagedBlocking(ForkJoinPool)} is meant for batches that block on I/O. It runs
+ * every batch through {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, so the pool starts spare threads
+ * while workers are blocked, and many more batches than the pool's parallelism can be in flight at once.
+ */
+@Beta
+public class FJBatchExecutor extends AbstractExecutorService implements BatchExecutor
+{
+    public static final int DEFAULT_MINIMUM_SPLIT_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final boolean managedBlocking;
+    private final int minimumSplitSize;
+
+    public FJBatchExecutor(ForkJoinPool pool)
+    {
+        this(pool, DEFAULT_MINIMUM_SPLIT_SIZE);
+    }
+
+    /**
+     * @param minimumSplitSize batches that cover more indices than this are split in halves
+     * @since 5.2
+     */
+    public FJBatchExecutor(ForkJoinPool pool, int minimumSplitSize)
+    {
+        this(pool, false, minimumSplitSize);
+    }
+
+    private FJBatchExecutor(ForkJoinPool pool, boolean managedBlocking, int minimumSplitSize)
+    {
+        if (pool == null)
+        {
+            throw new NullPointerException();
+        }
+        if (minimumSplitSize < 1)
+        {
+            throw new IllegalArgumentException("minimumSplitSize must be positive but was " + minimumSplitSize);
+        }
+        this.pool = pool;
+        this.managedBlocking = managedBlocking;
+        this.minimumSplitSize = minimumSplitSize;
+    }
+
+    /**
+     * Returns an executor for batches that block, which tells the pool about each batch through a
+     * {@link ForkJoinPool.ManagedBlocker}. Blocking batches are not split.
+     *
+     * @since 5.2
+     */
+    public static FJBatchExecutor newManagedBlocking(ForkJoinPool pool)
+    {
+        return new FJBatchExecutor(pool, true, Integer.MAX_VALUE);
+    }
+
+    public ForkJoinPool getPool()
+    {
+        return this.pool;
+    }
+
+    public boolean isManagedBlocking()
+    {
+        return this.managedBlocking;
+    }
+
+    public int getMinimumSplitSize()
+    {
+        return this.minimumSplitSize;
+    }
+
+    public <B> void forEach(LazyIterable<B> batches, Procedure<? super B> procedure)
+    {
+        List<B> batchList = batches.toList();
+        this.invoke(new ForEachTask<>(batchList, 0, batchList.size(), this.managedBlocking, this.minimumSplitSize, procedure));
+    }
+
+    public <B, S, V> void collectCombine(
+            LazyIterable<B> batches,
+            Function<? super B, V> function,
+            Procedure2<S, V> combineProcedure,
+            S state)
+    {
+        List<B> batchList = batches.toList();
+        Object[] results = new Object[batchList.size()];
+        this.invoke(new CollectTask<>(batchList, 0, batchList.size(), this.managedBlocking, this.minimumSplitSize, function, results));
+        for (Object result : results)
+        {
+            FJBatchExecutor.combine(result, combineProcedure, state);
+        }
+    }
+
+    private static <S, V> void combine(Object result, Procedure2<S, V> combineProcedure, S state)
+    {
+        if (result instanceof SplitResult)
+        {
+            FJBatchExecutor.combine(((SplitResult) result).first, combineProcedure, state);
+            FJBatchExecutor.combine(((SplitResult) result).second, combineProcedure, state);
+        }
+        else
+        {
+            combineProcedure.value(state, (V) result);
+        }
+    }
+
+    public <B> boolean anySatisfy(LazyIterable<B> batches, Predicate2<? super B, ? super ShortCircuit> predicate)
+    {
+        List<B> batchList = batches.toList();
+        ShortCircuit shortCircuit = new ShortCircuit();
+        this.invoke(new AnySatisfyTask<>(batchList, 0, batchList.size(), this.managedBlocking, this.minimumSplitSize, predicate, shortCircuit));
+        return shortCircuit.isAnyFound();
+    }
+
+    public <B, V> V detect(LazyIterable<B> batches, Function2<? super B, ? super ShortCircuit, V> function)
+    {
+        List<B> batchList = batches.toList();
+        Object[] results = new Object[batchList.size()];
+        ShortCircuit shortCircuit = new ShortCircuit();
+        this.invoke(new DetectTask<>(batchList, 0, batchList.size(), this.managedBlocking, this.minimumSplitSize, function, results, shortCircuit));
+        int index = shortCircuit.getCutoff();
+        return index == Integer.MAX_VALUE ? null : (V) results[index];
+    }
+
+    private void invoke(ForkJoinTask<?> task)
+    {
+        if (ForkJoinTask.getPool() == this.pool)
+        {
+            task.invoke();
+        }
+        else
+        {
+            this.pool.invoke(task);
+        }
+    }
+
+    public void execute(final Runnable command)
+    {
+        if (this.managedBlocking)
+        {
+            this.pool.execute(new Runnable()
+            {
+                public void run()
+                {
+                    ManagedBlockers.run(command);
+                }
+            });
+        }
+        else
+        {
+            this.pool.execute(command);
+        }
+    }
+
+    public void shutdown()
+    {
+        this.pool.shutdown();
+    }
+
+    public List<Runnable> shutdownNow()
+    {
+        return this.pool.shutdownNow();
+    }
+
+    public boolean isShutdown()
+    {
+        return this.pool.isShutdown();
+    }
+
+    public boolean isTerminated()
+    {
+        return this.pool.isTerminated();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return this.pool.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Covers the batches [low, high) of the list, and splits in halves until a single batch is left.
+     */
+    private abstract static class BatchTask<B> extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected final List<B> batches;
+        private final int low;
+        private final int high;
+        protected final boolean managedBlocking;
+        protected final int minimumSplitSize;
+
+        protected BatchTask(List<B> batches, int low, int high, boolean managedBlocking, int minimumSplitSize)
+        {
+            this.batches = batches;
+            this.low = low;
+            this.high = high;
+            this.managedBlocking = managedBlocking;
+            this.minimumSplitSize = minimumSplitSize;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this.isDone(this.low))
+            {
+                return;
+            }
+            if (this.high - this.low == 1)
+            {
+                if (this.managedBlocking)
+                {
+                    ManagedBlockers.run(new Runnable()
+                    {
+                        public void run()
+                        {
+                            BatchTask.this.computeBatch(BatchTask.this.low);
+                        }
+                    });
+                }
+                else
+                {
+                    this.computeBatch(this.low);
+                }
+            }
+            else if (this.high - this.low > 1)
+            {
+                int middle = (this.low + this.high) >>> 1;
+                ForkJoinTask.invokeAll(this.newTask(this.low, middle), this.newTask(middle, this.high));
+            }
+        }
+
+        /**
+         * Returns true if the batches from index onwards no longer need to be evaluated.
+         */
+        protected boolean isDone(int index)
+        {
+            return false;
+        }
+
+        protected abstract void computeBatch(int index);
+
+        protected abstract BatchTask<B> newTask(int low, int high);
+    }
+
+    /**
+     * Returns the halves of the batch if it is a SplittableBatch that covers more than minimumSplitSize indices, or
+     * null otherwise.
+     */
+    private static <B> Twin<B> splitIfLarge(B batch, int minimumSplitSize)
+    {
+        if (batch instanceof SplittableBatch && ((SplittableBatch<?>) batch).size() > minimumSplitSize)
+        {
+            return ((SplittableBatch<B>) batch).split();
+        }
+        return null;
+    }
+
+    private static final class ForEachTask<B> extends BatchTask<B>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Procedure<? super B> procedure;
+
+        private ForEachTask(List<B> batches, int low, int high, boolean managedBlocking, int minimumSplitSize, Procedure<? super B> procedure)
+        {
+            super(batches, low, high, managedBlocking, minimumSplitSize);
+            this.procedure = procedure;
+        }
+
+        @Override
+        protected void computeBatch(int index)
+        {
+            new ForEachSplitTask<>(this.batches.get(index), this.minimumSplitSize, this.procedure).compute();
+        }
+
+        @Override
+        protected BatchTask<B> newTask(int low, int high)
+        {
+            return new ForEachTask<>(this.batches, low, high, this.managedBlocking, this.minimumSplitSize, this.procedure);
+        }
+    }
+
+    /**
+     * Runs the procedure on a single batch, splitting it in halves while it is large.
+     */
+    private static final class ForEachSplitTask<B> extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final B batch;
+        private final int minimumSplitSize;
+        private final Procedure<? super B> procedure;
+
+        private ForEachSplitTask(B batch, int minimumSplitSize, Procedure<? super B> procedure)
+        {
+            this.batch = batch;
+            this.minimumSplitSize = minimumSplitSize;
+            this.procedure = procedure;
+        }
+
+        @Override
+        protected void compute()
+        {
+            Twin<B> halves = FJBatchExecutor.splitIfLarge(this.batch, this.minimumSplitSize);
+            if (halves == null)
+            {
+                this.procedure.value(this.batch);
+            }
+            else
+            {
+                ForkJoinTask.invokeAll(
+                        new ForEachSplitTask<>(halves.getOne(), this.minimumSplitSize, this.procedure),
+                        new ForEachSplitTask<>(halves.getTwo(), this.minimumSplitSize, this.procedure));
+            }
+        }
+    }
+
+    private static final class CollectTask<B, V> extends BatchTask<B>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super B, V> function;
+        private final Object[] results;
+
+        private CollectTask(List<B> batches, int low, int high, boolean managedBlocking, int minimumSplitSize, Function<? super B, V> function, Object[] results)
+        {
+            super(batches, low, high, managedBlocking, minimumSplitSize);
+            this.function = function;
+            this.results = results;
+        }
+
+        @Override
+        protected void computeBatch(int index)
+        {
+            this.results[index] = new CollectSplitTask<>(this.batches.get(index), this.minimumSplitSize, this.function).compute();
+        }
+
+        @Override
+        protected BatchTask<B> newTask(int low, int high)
+        {
+            return new CollectTask<>(this.batches, low, high, this.managedBlocking, this.minimumSplitSize, this.function, this.results);
+        }
+    }
+
+    /**
+     * Applies the function to a single batch, splitting it in halves while it is large. The result of a split batch is
+     * a {@link SplitResult} of the results of its halves.
+     */
+    private static final class CollectSplitTask<B, V> extends RecursiveTask<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final B batch;
+        private final int minimumSplitSize;
+        private final Function<? super B, V> function;
+
+        private CollectSplitTask(B batch, int minimumSplitSize, Function<? super B, V> function)
+        {
+            this.batch = batch;
+            this.minimumSplitSize = minimumSplitSize;
+            this.function = function;
+        }
+
+        @Override
+        protected Object compute()
+        {
+            Twin<B> halves = FJBatchExecutor.splitIfLarge(this.batch, this.minimumSplitSize);
+            if (halves == null)
+            {
+                return this.function.valueOf(this.batch);
+            }
+            CollectSplitTask<B, V> second = new CollectSplitTask<>(halves.getTwo(), this.minimumSplitSize, this.function);
+            second.fork();
+            Object first = new CollectSplitTask<>(halves.getOne(), this.minimumSplitSize, this.function).compute();
+            return new SplitResult(first, second.join());
+        }
+    }
+
+    private static final class SplitResult
+    {
+        private final Object first;
+        private final Object second;
+
+        private SplitResult(Object first, Object second)
+        {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    private static final class AnySatisfyTask<B> extends BatchTask<B>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate2<? super B, ? super ShortCircuit> predicate;
+        private final ShortCircuit shortCircuit;
+
+        private AnySatisfyTask(
+                List<B> batches,
+                int low,
+                int high,
+                boolean managedBlocking,
+                int minimumSplitSize,
+                Predicate2<? super B, ? super ShortCircuit> predicate,
+                ShortCircuit shortCircuit)
+        {
+            super(batches, low, high, managedBlocking, minimumSplitSize);
+            this.predicate = predicate;
+            this.shortCircuit = shortCircuit;
+        }
+
+        @Override
+        protected boolean isDone(int index)
+        {
+            return this.shortCircuit.isAnyFound();
+        }
+
+        @Override
+        protected void computeBatch(int index)
+        {
+            ShortCircuit batchShortCircuit = this.shortCircuit.forBatch(index);
+            if (this.predicate.accept(this.batches.get(index), batchShortCircuit))
+            {
+                batchShortCircuit.cancelAll();
+            }
+        }
+
+        @Override
+        protected BatchTask<B> newTask(int low, int high)
+        {
+            return new AnySatisfyTask<>(this.batches, low, high, this.managedBlocking, this.minimumSplitSize, this.predicate, this.shortCircuit);
+        }
+    }
+
+    private static final class DetectTask<B, V> extends BatchTask<B>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function2<? super B, ? super ShortCircuit, V> function;
+        private final Object[] results;
+        private final ShortCircuit shortCircuit;
+
+        private DetectTask(
+                List<B> batches,
+                int low,
+                int high,
+                boolean managedBlocking,
+                int minimumSplitSize,
+                Function2<? super B, ? super ShortCircuit, V> function,
+                Object[] results,
+                ShortCircuit shortCircuit)
+        {
+            super(batches, low, high, managedBlocking, minimumSplitSize);
+            this.function = function;
+            this.results = results;
+            this.shortCircuit = shortCircuit;
+        }
+
+        @Override
+        protected boolean isDone(int index)
+        {
+            // Batches after one that already found a result cannot change the answer
+            return index > this.shortCircuit.getCutoff();
+        }
+
+        @Override
+        protected void computeBatch(int index)
+        {
+            ShortCircuit batchShortCircuit = this.shortCircuit.forBatch(index);
+            V result = this.function.value(this.batches.get(index), batchShortCircuit);
+            // A batch that was cancelled while running returns a meaningless result
+            if (result != null && !batchShortCircuit.isCancelled())
+            {
+                this.results[index] = result;
+                batchShortCircuit.cancelLaterBatches();
+            }
+        }
+
+        @Override
+        protected BatchTask<B> newTask(int low, int high)
+        {
+            return new DetectTask<>(this.batches, low, high, this.managedBlocking, this.minimumSplitSize, this.function, this.results, this.shortCircuit);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.RandomAccess;
 import java.util.concurrent.ForkJoinPool;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -45,6 +46,8 @@ import com.gs.collections.impl.parallel.Combiner;
 import com.gs.collections.impl.parallel.Combiners;
 import com.gs.collections.impl.parallel.CountCombiner;
 import com.gs.collections.impl.parallel.CountProcedureFactory;
+import com.gs.collections.impl.parallel.ExecutorStrategies;
+import com.gs.collections.impl.parallel.ExecutorStrategy;
 import com.gs.collections.impl.parallel.FastListCollectProcedureCombiner;
 import com.gs.collections.impl.parallel.FastListCollectProcedureFactory;
 import com.gs.collections.impl.parallel.FlatCollectProcedureCombiner;
@@ -287,6 +290,41 @@ public final class FJIterate
         FJIterate.forEach(iterable, procedure, batchSize, FJIterate.calculateTaskCount(iterable, batchSize), executor);
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches, for a {@code Procedure} that blocks, such as one that
+     * does I/O.  Each element is evaluated through a {@link ForkJoinPool.ManagedBlocker}, so the pool starts spare
+     * threads while its workers are blocked.  Pick a small batchSize to have many more elements in flight than the pool
+     * has workers.
+     *
+     * @see ManagedBlockingProcedure
+     * @since 5.2
+     */
+    @Beta
+    public static <T> void forEachBlocking(Iterable<T> iterable, Procedure<? super T> procedure, int batchSize)
+    {
+        FJIterate.forEachBlocking(iterable, procedure, batchSize, FJIterate.FORK_JOIN_POOL);
+    }
+
+    @Beta
+    public static <T> void forEachBlocking(Iterable<T> iterable, Procedure<? super T> procedure, int batchSize, ForkJoinPool executor)
+    {
+        FJIterate.forEach(iterable, new ManagedBlockingProcedure<T>(procedure), batchSize, executor);
+    }
+
+    /**
+     * Returns an {@link ExecutorStrategy} for blocking batches that runs them on the specified pool through a
+     * {@link ForkJoinPool.ManagedBlocker}, cutting the input into up to {@code concurrency} batches.  The strategy can
+     * be passed to {@link ParallelIterate} and its executor to asParallel().
+     *
+     * @see FJBatchExecutor#newManagedBlocking(ForkJoinPool)
+     * @since 5.2
+     */
+    @Beta
+    public static ExecutorStrategy managedBlocking(ForkJoinPool pool, int concurrency)
+    {
+        return ExecutorStrategies.fanOut(FJBatchExecutor.newManagedBlocking(pool), concurrency);
+    }
+
     /**
      * Iterate over the collection specified in parallel batches using default runtime parameter values
      * and the specified executor.
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs blocking work through {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, so that a fork-join
+ * pool can start a spare thread while one of its workers is blocked instead of losing that worker's parallelism.
+ * Outside of a fork-join pool the work is simply run on the calling thread.
+ */
+final class ManagedBlockers
+{
+    private ManagedBlockers()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    static void run(Runnable runnable)
+    {
+        try
+        {
+            ForkJoinPool.managedBlock(new RunnableBlocker(runnable));
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running blocking work", e);
+        }
+    }
+
+    private static final class RunnableBlocker implements ForkJoinPool.ManagedBlocker
+    {
+        private final Runnable runnable;
+        private boolean done;
+
+        private RunnableBlocker(Runnable runnable)
+        {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public boolean block()
+        {
+            this.runnable.run();
+            this.done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable()
+        {
+            return this.done;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+
+/**
+ * A Procedure that tells the fork-join pool it runs on that the wrapped procedure blocks, by evaluating it through
+ * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}. The pool then starts spare threads to keep its
+ * parallelism while workers wait on I/O, so more elements can be in flight than the pool has workers.
+ *
+ * @see FJIterate#forEachBlocking(Iterable, Procedure, int, ForkJoinPool)
+ * @since 5.2
+ */
+@Beta
+public class ManagedBlockingProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Procedure<? super T> procedure;
+
+    public ManagedBlockingProcedure(Procedure<? super T> procedure)
+    {
+        this.procedure = procedure;
+    }
+
+    @Override
+    public void value(final T each)
+    {
+        ManagedBlockers.run(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                ManagedBlockingProcedure.this.procedure.value(each);
+            }
+        });
+    }
+}
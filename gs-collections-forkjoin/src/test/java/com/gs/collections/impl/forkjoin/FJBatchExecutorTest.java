@@ -0,0 +1,270 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FJBatchExecutorTest
+{
+    private static final int SIZE = 10000;
+
+    private ForkJoinPool pool;
+    private FJBatchExecutor executor;
+    private FastList<Integer> integers;
+
+    @Before
+    public void setUp()
+    {
+        this.pool = new ForkJoinPool(4);
+        this.executor = new FJBatchExecutor(this.pool);
+        this.integers = FastList.newList(Interval.oneTo(SIZE));
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void forEach()
+    {
+        final AtomicLong sum = new AtomicLong();
+        this.integers.asParallel(this.executor, 7).forEach(new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                sum.addAndGet(each);
+            }
+        });
+        Assert.assertEquals((long) SIZE * (SIZE + 1) / 2, sum.get());
+    }
+
+    @Test
+    public void collectCombineKeepsOrder()
+    {
+        ParallelListIterable<Integer> parallel = this.integers.asParallel(this.executor, 3);
+        Assert.assertEquals(this.integers, parallel.toList());
+        Assert.assertEquals(
+                this.integers.select(IntegerPredicates.isEven()).collect(Functions.getToString()),
+                parallel.select(IntegerPredicates.isEven()).collect(Functions.getToString()).toList());
+        Assert.assertEquals(HashBag.newBag(this.integers), parallel.toBag());
+        Assert.assertEquals(
+                UnifiedSet.newSet(this.integers),
+                UnifiedSet.newSet(this.integers).asParallel(this.executor, 5).toSet());
+    }
+
+    @Test
+    public void anySatisfyAndAllSatisfy()
+    {
+        ParallelIterable<Integer> parallel = this.integers.asParallel(this.executor, 10);
+        Assert.assertTrue(parallel.anySatisfy(Predicates.equal(SIZE)));
+        Assert.assertFalse(parallel.anySatisfy(Predicates.greaterThan(SIZE)));
+        Assert.assertTrue(parallel.allSatisfy(Predicates.lessThanOrEqualTo(SIZE)));
+        Assert.assertFalse(parallel.allSatisfy(Predicates.lessThan(SIZE)));
+        Assert.assertTrue(parallel.noneSatisfy(Predicates.greaterThan(SIZE)));
+    }
+
+    @Test
+    public void detectReturnsFirstInBatchOrder()
+    {
+        ParallelIterable<Integer> parallel = this.integers.asParallel(this.executor, 10);
+        Assert.assertEquals(Integer.valueOf(501), parallel.detect(Predicates.greaterThan(500)));
+        Assert.assertNull(parallel.detect(Predicates.greaterThan(SIZE)));
+    }
+
+    @Test
+    public void primitive()
+    {
+        IntArrayList list = new IntArrayList();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            list.add(i);
+        }
+        Assert.assertEquals(list.sum(), list.asParallel(this.executor, 100).sum());
+        Assert.assertEquals(SIZE / 2, list.asParallel(this.executor, 100).count(IntPredicates.isEven()));
+        Assert.assertEquals(8, list.asParallel(this.executor, 1).detectIfNone(IntPredicates.greaterThan(7), 0));
+    }
+
+    @Test
+    public void nestedParallelismDoesNotStarveThePool()
+    {
+        FJBatchExecutor singleThreaded = new FJBatchExecutor(new ForkJoinPool(1));
+        try
+        {
+            final FJBatchExecutor executor = singleThreaded;
+            final AtomicInteger count = new AtomicInteger();
+            FastList.newList(Interval.oneTo(10)).asParallel(executor, 1).forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    count.addAndGet(FastList.newList(Interval.oneTo(each)).asParallel(executor, 1).count(Predicates.alwaysTrue()));
+                }
+            });
+            Assert.assertEquals(55, count.get());
+        }
+        finally
+        {
+            singleThreaded.shutdownNow();
+        }
+    }
+
+    @Test
+    public void skewedBatches()
+    {
+        Function<Integer, Integer> slowForSmallValues = new Function<Integer, Integer>()
+        {
+            public Integer valueOf(Integer each)
+            {
+                if (each <= 4)
+                {
+                    try
+                    {
+                        Thread.sleep(20L);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return each;
+            }
+        };
+        Assert.assertEquals(this.integers, this.integers.asParallel(this.executor, 1).collect(slowForSmallValues).toList());
+    }
+
+    @Test
+    public void splitsASkewedBatch()
+    {
+        FJBatchExecutor splitting = new FJBatchExecutor(this.pool, 1);
+        Assert.assertEquals(1, splitting.getMinimumSplitSize());
+        Assert.assertEquals(FJBatchExecutor.DEFAULT_MINIMUM_SPLIT_SIZE, this.executor.getMinimumSplitSize());
+
+        // All the work is in one batch, and four of its elements have to run at the same time to be released
+        final CountDownLatch latch = new CountDownLatch(4);
+        final AtomicInteger released = new AtomicInteger();
+        FastList.newList(Interval.oneTo(64)).asParallel(splitting, 64).forEach(new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                if (FJBatchExecutorTest.awaitAll(latch))
+                {
+                    released.incrementAndGet();
+                }
+            }
+        });
+        Assert.assertEquals(64, released.get());
+
+        Assert.assertEquals(this.integers, this.integers.asParallel(splitting, SIZE).toList());
+        Assert.assertEquals(
+                this.integers.collect(Functions.getToString()),
+                this.integers.asParallel(splitting, SIZE).collect(Functions.getToString()).toList());
+        Assert.assertEquals(Interval.oneTo(SIZE), Interval.oneTo(SIZE).asParallel(splitting, SIZE).toList());
+        Assert.assertEquals(UnifiedSet.newSet(this.integers), UnifiedSet.newSet(this.integers).asParallel(splitting, SIZE).toSet());
+        Assert.assertTrue(this.integers.asParallel(splitting, SIZE).anySatisfy(Predicates.equal(SIZE)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMinimumSplitSize()
+    {
+        new FJBatchExecutor(this.pool, 0);
+    }
+
+    @Test
+    public void managedBlocking()
+    {
+        FJBatchExecutor blocking = FJBatchExecutor.newManagedBlocking(new ForkJoinPool(2));
+        ForkJoinPool strategyPool = new ForkJoinPool(2);
+        try
+        {
+            Assert.assertTrue(blocking.isManagedBlocking());
+            Assert.assertFalse(this.executor.isManagedBlocking());
+
+            // Every batch waits for all the others, which can only happen if the pool grows beyond its parallelism
+            final CountDownLatch batchLatch = new CountDownLatch(8);
+            Assert.assertEquals(8, FastList.newList(Interval.oneTo(8)).asParallel(blocking, 1).count(new Predicate<Integer>()
+            {
+                public boolean accept(Integer each)
+                {
+                    return FJBatchExecutorTest.awaitAll(batchLatch);
+                }
+            }));
+
+            final CountDownLatch taskLatch = new CountDownLatch(8);
+            final AtomicInteger released = new AtomicInteger();
+            ParallelIterate.forEach(Interval.oneTo(8).toList(), new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    if (FJBatchExecutorTest.awaitAll(taskLatch))
+                    {
+                        released.incrementAndGet();
+                    }
+                }
+            }, FJIterate.managedBlocking(strategyPool, 8));
+            Assert.assertEquals(8, released.get());
+        }
+        finally
+        {
+            blocking.shutdownNow();
+            strategyPool.shutdownNow();
+        }
+    }
+
+    private static boolean awaitAll(CountDownLatch latch)
+    {
+        latch.countDown();
+        try
+        {
+            return latch.await(10L, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullPool()
+    {
+        new FJBatchExecutor(null);
+    }
+}
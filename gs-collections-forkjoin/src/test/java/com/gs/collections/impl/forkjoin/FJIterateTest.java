@@ -22,7 +22,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.gs.collections.api.LazyIterable;
@@ -188,6 +190,33 @@ public class FJIterateTest
         Assert.assertEquals(5050, sum4.getSum());
     }
 
+    @Test
+    public void forEachBlocking()
+    {
+        // Every element waits for all the others, which can only happen if the pool grows beyond its parallelism of 2
+        final CountDownLatch latch = new CountDownLatch(8);
+        final AtomicInteger released = new AtomicInteger();
+        FJIterate.forEachBlocking(Interval.oneTo(8).toList(), new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                latch.countDown();
+                try
+                {
+                    if (latch.await(10L, TimeUnit.SECONDS))
+                    {
+                        released.incrementAndGet();
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        }, 1, this.executor);
+        Assert.assertEquals(8, released.get());
+    }
+
     @Test
     public void testForEachUsingMap()
     {
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.collector;
+
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.partition.list.PartitionMutableList;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.partition.list.PartitionFastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * Collectors2 holds java.util.stream.Collectors that build GS Collections directly, instead of collecting into a JDK
+ * collection and copying it. The combiners used by parallel streams merge the partial results in place, adding the
+ * smaller one into the larger one when the result is unordered.
+ * <p/>
+ * e.g.
+ * <pre>
+ * MutableList&lt;String&gt; names = people.parallelStream().map(Person::getName).collect(Collectors2.toList());
+ * MutableListMultimap&lt;String, Person&gt; byCity = people.stream().collect(Collectors2.groupBy(Person::getCity));
+ * </pre>
+ */
+public final class Collectors2
+{
+    private static final Collector.Characteristics[] UNORDERED = {Collector.Characteristics.UNORDERED};
+
+    private Collectors2()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T> Collector<T, ?, MutableList<T>> toList()
+    {
+        return Collector.<T, MutableList<T>>of(
+                FastList::new,
+                MutableList::add,
+                Collectors2::mergeLists);
+    }
+
+    public static <T> Collector<T, ?, ImmutableList<T>> toImmutableList()
+    {
+        return Collector.<T, MutableList<T>, ImmutableList<T>>of(
+                FastList::new,
+                MutableList::add,
+                Collectors2::mergeLists,
+                MutableList::toImmutable);
+    }
+
+    public static <T> Collector<T, ?, MutableSet<T>> toSet()
+    {
+        return Collector.<T, MutableSet<T>>of(
+                UnifiedSet::new,
+                MutableSet::add,
+                Collectors2::mergeSets,
+                UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, ImmutableSet<T>> toImmutableSet()
+    {
+        return Collector.<T, MutableSet<T>, ImmutableSet<T>>of(
+                UnifiedSet::new,
+                MutableSet::add,
+                Collectors2::mergeSets,
+                MutableSet::toImmutable,
+                UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, MutableBag<T>> toBag()
+    {
+        return Collector.<T, MutableBag<T>>of(
+                HashBag::new,
+                MutableBag::add,
+                Collectors2::mergeBags,
+                UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, ImmutableBag<T>> toImmutableBag()
+    {
+        return Collector.<T, MutableBag<T>, ImmutableBag<T>>of(
+                HashBag::new,
+                MutableBag::add,
+                Collectors2::mergeBags,
+                MutableBag::toImmutable,
+                UNORDERED);
+    }
+
+    /**
+     * Returns a Collector that puts each element into a UnifiedMap under the keyFunction and valueFunction. Unlike
+     * {@link java.util.stream.Collectors#toMap(java.util.function.Function, java.util.function.Function)}, a later
+     * element replaces an earlier one with the same key instead of throwing.
+     */
+    public static <T, K, V> Collector<T, ?, MutableMap<K, V>> toMap(
+            Function<? super T, ? extends K> keyFunction,
+            Function<? super T, ? extends V> valueFunction)
+    {
+        return Collector.<T, MutableMap<K, V>>of(
+                UnifiedMap::new,
+                (map, each) -> map.put(keyFunction.valueOf(each), valueFunction.valueOf(each)),
+                (map1, map2) -> {
+                    map1.putAll(map2);
+                    return map1;
+                });
+    }
+
+    public static <T, K> Collector<T, ?, MutableListMultimap<K, T>> groupBy(Function<? super T, ? extends K> groupBy)
+    {
+        return Collectors2.groupBy(groupBy, FastListMultimap::new);
+    }
+
+    public static <T, K, R extends MutableMultimap<K, T>> Collector<T, ?, R> groupBy(
+            Function<? super T, ? extends K> groupBy,
+            Supplier<R> supplier)
+    {
+        return Collector.<T, R>of(
+                supplier,
+                (multimap, each) -> multimap.put(groupBy.valueOf(each), each),
+                (multimap1, multimap2) -> {
+                    multimap1.putAll(multimap2);
+                    return multimap1;
+                });
+    }
+
+    public static <T, V> Collector<T, ?, MutableObjectLongMap<V>> sumByLong(
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return Collector.<T, MutableObjectLongMap<V>>of(
+                ObjectLongHashMap::new,
+                (map, each) -> map.addToValue(groupBy.valueOf(each), function.longValueOf(each)),
+                (map1, map2) -> {
+                    if (map1.size() < map2.size())
+                    {
+                        map1.forEachKeyValue(map2::addToValue);
+                        return map2;
+                    }
+                    map2.forEachKeyValue(map1::addToValue);
+                    return map1;
+                },
+                UNORDERED);
+    }
+
+    public static <T, V> Collector<T, ?, MutableObjectDoubleMap<V>> sumByDouble(
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return Collector.<T, MutableObjectDoubleMap<V>>of(
+                ObjectDoubleHashMap::new,
+                (map, each) -> map.addToValue(groupBy.valueOf(each), function.doubleValueOf(each)),
+                (map1, map2) -> {
+                    if (map1.size() < map2.size())
+                    {
+                        map1.forEachKeyValue(map2::addToValue);
+                        return map2;
+                    }
+                    map2.forEachKeyValue(map1::addToValue);
+                    return map1;
+                },
+                UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, PartitionMutableList<T>> partition(Predicate<? super T> predicate)
+    {
+        return Collector.<T, PartitionMutableList<T>>of(
+                PartitionFastList::new,
+                (partition, each) -> (predicate.accept(each) ? partition.getSelected() : partition.getRejected()).add(each),
+                (partition1, partition2) -> {
+                    partition1.getSelected().addAll(partition2.getSelected());
+                    partition1.getRejected().addAll(partition2.getRejected());
+                    return partition1;
+                });
+    }
+
+    private static <T> MutableList<T> mergeLists(MutableList<T> list1, MutableList<T> list2)
+    {
+        list1.addAll(list2);
+        return list1;
+    }
+
+    private static <T> MutableSet<T> mergeSets(MutableSet<T> set1, MutableSet<T> set2)
+    {
+        if (set1.size() < set2.size())
+        {
+            set2.addAll(set1);
+            return set2;
+        }
+        set1.addAll(set2);
+        return set1;
+    }
+
+    private static <T> MutableBag<T> mergeBags(MutableBag<T> bag1, MutableBag<T> bag2)
+    {
+        if (bag1.sizeDistinct() < bag2.sizeDistinct())
+        {
+            bag1.forEachWithOccurrences(bag2::addOccurrences);
+            return bag2;
+        }
+        bag2.forEachWithOccurrences(bag1::addOccurrences);
+        return bag1;
+    }
+}
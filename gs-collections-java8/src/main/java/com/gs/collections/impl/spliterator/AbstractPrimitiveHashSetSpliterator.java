@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.Spliterator;
+
+/**
+ * The section bookkeeping shared by the Spliterators over the hash tables of the primitive hash sets. The table is cut
+ * into sections of {@value BatchIterableSpliterator#SECTION_SIZE} slots, and splitting hands half of the remaining
+ * sections to the new Spliterator without copying. Only the Spliterator over the whole table knows its exact size.
+ * <p/>
+ * Subclasses read the elements of a section, either into their own buffer for tryAdvance, or straight into the action
+ * for forEachRemaining.
+ */
+abstract class AbstractPrimitiveHashSetSpliterator<T, C, S extends Spliterator.OfPrimitive<T, C, S>>
+        implements Spliterator.OfPrimitive<T, C, S>
+{
+    private final int sectionCount;
+    private int characteristics;
+    private int sectionIndex;
+    private int sectionFence;
+    private long estimatedSize;
+    private int bufferSize;
+    private int bufferIndex;
+
+    protected AbstractPrimitiveHashSetSpliterator(int sectionCount, int size)
+    {
+        this(sectionCount, Spliterator.SIZED | Spliterator.DISTINCT | Spliterator.NONNULL, 0, sectionCount, (long) size);
+    }
+
+    protected AbstractPrimitiveHashSetSpliterator(
+            int sectionCount,
+            int characteristics,
+            int sectionIndex,
+            int sectionFence,
+            long estimatedSize)
+    {
+        this.sectionCount = sectionCount;
+        this.characteristics = characteristics;
+        this.sectionIndex = sectionIndex;
+        this.sectionFence = sectionFence;
+        this.estimatedSize = estimatedSize;
+    }
+
+    /**
+     * Replaces the contents of the buffer with the elements of the section, and returns their number.
+     */
+    protected abstract int fillBuffer(int sectionIndex);
+
+    protected abstract void acceptBuffered(int bufferIndex, C action);
+
+    protected abstract void forEachInSection(int sectionIndex, C action);
+
+    protected abstract S newSpliterator(int characteristics, int sectionIndex, int sectionFence, long estimatedSize);
+
+    protected int getSectionCount()
+    {
+        return this.sectionCount;
+    }
+
+    public boolean tryAdvance(C action)
+    {
+        while (this.bufferIndex == this.bufferSize)
+        {
+            if (this.sectionIndex >= this.sectionFence)
+            {
+                return false;
+            }
+            this.bufferSize = this.fillBuffer(this.sectionIndex++);
+            this.bufferIndex = 0;
+        }
+        this.acceptBuffered(this.bufferIndex++, action);
+        if (this.estimatedSize > 0L)
+        {
+            this.estimatedSize--;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(C action)
+    {
+        while (this.bufferIndex < this.bufferSize)
+        {
+            this.acceptBuffered(this.bufferIndex++, action);
+        }
+        int from = this.sectionIndex;
+        this.sectionIndex = this.sectionFence;
+        this.estimatedSize = 0L;
+        for (int i = from; i < this.sectionFence; i++)
+        {
+            this.forEachInSection(i, action);
+        }
+    }
+
+    public S trySplit()
+    {
+        int low = this.sectionIndex;
+        int middle = (low + this.sectionFence) >>> 1;
+        if (low >= middle)
+        {
+            return null;
+        }
+        this.sectionIndex = middle;
+        this.estimatedSize >>>= 1;
+        this.characteristics &= ~Spliterator.SIZED;
+        return this.newSpliterator(this.characteristics, low, middle, this.estimatedSize);
+    }
+
+    public long estimateSize()
+    {
+        return this.estimatedSize;
+    }
+
+    public int characteristics()
+    {
+        return this.characteristics;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.BatchIterable;
+
+/**
+ * A Spliterator over the sections of a {@link BatchIterable}, such as {@link com.gs.collections.impl.set.mutable.UnifiedSet}
+ * or the key set, values and entry set of {@link com.gs.collections.impl.map.mutable.UnifiedMap}. The hash table is cut
+ * into sections of {@value #SECTION_SIZE} slots, including any chains hanging off them, and splitting hands half of
+ * the remaining sections to the new Spliterator. Only the Spliterator over the whole table knows its exact size.
+ */
+public final class BatchIterableSpliterator<T> implements Spliterator<T>
+{
+    static final int SECTION_SIZE = 64;
+
+    private final BatchIterable<T> batchIterable;
+    private final int sectionCount;
+    private int characteristics;
+    private int sectionIndex;
+    private int sectionFence;
+    private long estimatedSize;
+    private FastList<T> buffer;
+    private int bufferIndex;
+
+    public BatchIterableSpliterator(BatchIterable<T> batchIterable, int additionalCharacteristics)
+    {
+        this.batchIterable = batchIterable;
+        this.sectionCount = batchIterable.getBatchCount(SECTION_SIZE);
+        this.characteristics = additionalCharacteristics | Spliterator.SIZED;
+        this.sectionIndex = 0;
+        this.sectionFence = this.sectionCount;
+        this.estimatedSize = (long) batchIterable.size();
+    }
+
+    private BatchIterableSpliterator(
+            BatchIterable<T> batchIterable,
+            int sectionCount,
+            int characteristics,
+            int sectionIndex,
+            int sectionFence,
+            long estimatedSize)
+    {
+        this.batchIterable = batchIterable;
+        this.sectionCount = sectionCount;
+        this.characteristics = characteristics;
+        this.sectionIndex = sectionIndex;
+        this.sectionFence = sectionFence;
+        this.estimatedSize = estimatedSize;
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        while (this.buffer == null || this.bufferIndex == this.buffer.size())
+        {
+            if (this.sectionIndex >= this.sectionFence)
+            {
+                return false;
+            }
+            if (this.buffer == null)
+            {
+                this.buffer = FastList.newList();
+            }
+            else
+            {
+                this.buffer.clear();
+            }
+            this.bufferIndex = 0;
+            this.batchIterable.batchForEach(this.buffer::add, this.sectionIndex++, this.sectionCount);
+        }
+        action.accept(this.buffer.get(this.bufferIndex++));
+        if (this.estimatedSize > 0L)
+        {
+            this.estimatedSize--;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action)
+    {
+        if (this.buffer != null)
+        {
+            while (this.bufferIndex < this.buffer.size())
+            {
+                action.accept(this.buffer.get(this.bufferIndex++));
+            }
+        }
+        int from = this.sectionIndex;
+        this.sectionIndex = this.sectionFence;
+        this.estimatedSize = 0L;
+        for (int i = from; i < this.sectionFence; i++)
+        {
+            this.batchIterable.batchForEach(action::accept, i, this.sectionCount);
+        }
+    }
+
+    public Spliterator<T> trySplit()
+    {
+        int low = this.sectionIndex;
+        int middle = (low + this.sectionFence) >>> 1;
+        if (low >= middle)
+        {
+            return null;
+        }
+        this.sectionIndex = middle;
+        this.estimatedSize >>>= 1;
+        this.characteristics &= ~Spliterator.SIZED;
+        return new BatchIterableSpliterator<T>(
+                this.batchIterable,
+                this.sectionCount,
+                this.characteristics,
+                low,
+                middle,
+                this.estimatedSize);
+    }
+
+    public long estimateSize()
+    {
+        return this.estimatedSize;
+    }
+
+    public int characteristics()
+    {
+        return this.characteristics;
+    }
+}
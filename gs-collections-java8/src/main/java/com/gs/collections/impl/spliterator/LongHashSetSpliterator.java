@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+
+/**
+ * A Spliterator.OfLong over the sections of the hash table of a {@link LongHashSet}.
+ *
+ * @see AbstractPrimitiveHashSetSpliterator
+ */
+public final class LongHashSetSpliterator
+        extends AbstractPrimitiveHashSetSpliterator<Long, LongConsumer, Spliterator.OfLong>
+        implements Spliterator.OfLong
+{
+    private final LongHashSet set;
+    private LongArrayList buffer;
+
+    public LongHashSetSpliterator(LongHashSet set)
+    {
+        super(set.getBatchCount(BatchIterableSpliterator.SECTION_SIZE), set.size());
+        this.set = set;
+    }
+
+    private LongHashSetSpliterator(
+            LongHashSet set,
+            int sectionCount,
+            int characteristics,
+            int sectionIndex,
+            int sectionFence,
+            long estimatedSize)
+    {
+        super(sectionCount, characteristics, sectionIndex, sectionFence, estimatedSize);
+        this.set = set;
+    }
+
+    @Override
+    protected int fillBuffer(int sectionIndex)
+    {
+        if (this.buffer == null)
+        {
+            this.buffer = new LongArrayList();
+        }
+        else
+        {
+            this.buffer.clear();
+        }
+        this.set.batchForEach(this.buffer::add, sectionIndex, this.getSectionCount());
+        return this.buffer.size();
+    }
+
+    @Override
+    protected void acceptBuffered(int bufferIndex, LongConsumer action)
+    {
+        action.accept(this.buffer.get(bufferIndex));
+    }
+
+    @Override
+    protected void forEachInSection(int sectionIndex, LongConsumer action)
+    {
+        this.set.batchForEach(action::accept, sectionIndex, this.getSectionCount());
+    }
+
+    @Override
+    protected Spliterator.OfLong newSpliterator(int characteristics, int sectionIndex, int sectionFence, long estimatedSize)
+    {
+        return new LongHashSetSpliterator(
+                this.set,
+                this.getSectionCount(),
+                characteristics,
+                sectionIndex,
+                sectionFence,
+                estimatedSize);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import com.gs.collections.api.list.primitive.LongList;
+
+/**
+ * A Spliterator.OfLong over an index range of a {@link LongList} such as
+ * {@link com.gs.collections.impl.list.mutable.primitive.LongArrayList}. It splits the range in halves without boxing or
+ * copying, so every split knows its exact size, and it binds to the size of the list on first use.
+ */
+public final class LongListSpliterator implements Spliterator.OfLong
+{
+    private final LongList list;
+    private int index;
+    private int fence;
+
+    public LongListSpliterator(LongList list)
+    {
+        this(list, 0, -1);
+    }
+
+    private LongListSpliterator(LongList list, int origin, int fence)
+    {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    private int getFence()
+    {
+        if (this.fence < 0)
+        {
+            this.fence = this.list.size();
+        }
+        return this.fence;
+    }
+
+    public boolean tryAdvance(LongConsumer action)
+    {
+        if (this.index < this.getFence())
+        {
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action)
+    {
+        int to = this.getFence();
+        for (int i = this.index; i < to; i++)
+        {
+            action.accept(this.list.get(i));
+        }
+        this.index = to;
+    }
+
+    public Spliterator.OfLong trySplit()
+    {
+        int low = this.index;
+        int middle = (low + this.getFence()) >>> 1;
+        if (low >= middle)
+        {
+            return null;
+        }
+        this.index = middle;
+        return new LongListSpliterator(this.list, low, middle);
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.getFence() - this.index);
+    }
+
+    public int characteristics()
+    {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * A Spliterator over an index range of a {@link RandomAccess} list such as {@link FastList} or
+ * {@link com.gs.collections.impl.list.mutable.ArrayListAdapter}. It splits the range in halves, so every split knows
+ * its exact size, and it binds to the size of the list on first use rather than on creation.
+ */
+public final class RandomAccessListSpliterator<T> implements Spliterator<T>
+{
+    private final List<T> list;
+    private int index;
+    private int fence;
+
+    public RandomAccessListSpliterator(List<T> list)
+    {
+        this(list, 0, -1);
+    }
+
+    private RandomAccessListSpliterator(List<T> list, int origin, int fence)
+    {
+        if (!(list instanceof RandomAccess))
+        {
+            throw new IllegalArgumentException(list.getClass().getSimpleName() + " does not implement RandomAccess");
+        }
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    private int getFence()
+    {
+        if (this.fence < 0)
+        {
+            this.fence = this.list.size();
+        }
+        return this.fence;
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        if (this.index < this.getFence())
+        {
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action)
+    {
+        int from = this.index;
+        int to = this.getFence();
+        this.index = to;
+        if (from >= to)
+        {
+            return;
+        }
+        if (this.list instanceof FastList)
+        {
+            ((FastList<T>) this.list).forEach(from, to - 1, action::accept);
+        }
+        else
+        {
+            for (int i = from; i < to; i++)
+            {
+                action.accept(this.list.get(i));
+            }
+        }
+    }
+
+    public Spliterator<T> trySplit()
+    {
+        int low = this.index;
+        int middle = (low + this.getFence()) >>> 1;
+        if (low >= middle)
+        {
+            return null;
+        }
+        this.index = middle;
+        return new RandomAccessListSpliterator<T>(this.list, low, middle);
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.getFence() - this.index);
+    }
+
+    public int characteristics()
+    {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
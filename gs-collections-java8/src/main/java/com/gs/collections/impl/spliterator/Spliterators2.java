@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gs.collections.api.DoubleIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.iterator.DoubleIterator;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.api.list.primitive.DoubleList;
+import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.api.list.primitive.LongList;
+import com.gs.collections.api.set.primitive.DoubleSet;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.api.set.primitive.LongSet;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.set.mutable.primitive.DoubleHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+
+/**
+ * Spliterators2 creates Spliterators for GS Collections that split the way the underlying data structure is laid out,
+ * instead of the iterator based default of {@link Collection#spliterator()}, which splits badly and does not report
+ * SIZED or SUBSIZED.
+ * <p/>
+ * e.g.
+ * <pre>
+ * long count = Spliterators2.parallelStream(FastList.newList(integers)).filter(each -&gt; each % 2 == 0).count();
+ * </pre>
+ */
+public final class Spliterators2
+{
+    private Spliterators2()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a Spliterator that splits RandomAccess lists by index range and {@link BatchIterable}s such as UnifiedSet
+     * and the views of UnifiedMap by hash table section. Any other Collection gets a SIZED iterator based Spliterator.
+     */
+    public static <T> Spliterator<T> spliterator(Iterable<T> iterable)
+    {
+        int characteristics = iterable instanceof Set ? Spliterator.DISTINCT : 0;
+        if (iterable instanceof List && iterable instanceof RandomAccess)
+        {
+            return new RandomAccessListSpliterator<T>((List<T>) iterable);
+        }
+        if (iterable instanceof BatchIterable)
+        {
+            return new BatchIterableSpliterator<T>((BatchIterable<T>) iterable, characteristics);
+        }
+        if (iterable instanceof Collection)
+        {
+            int ordered = iterable instanceof List ? Spliterator.ORDERED : 0;
+            return Spliterators.spliterator((Collection<T>) iterable, characteristics | ordered);
+        }
+        return Spliterators.spliteratorUnknownSize(iterable.iterator(), 0);
+    }
+
+    public static <T> Stream<T> stream(Iterable<T> iterable)
+    {
+        return StreamSupport.stream(Spliterators2.spliterator(iterable), false);
+    }
+
+    public static <T> Stream<T> parallelStream(Iterable<T> iterable)
+    {
+        return StreamSupport.stream(Spliterators2.spliterator(iterable), true);
+    }
+
+    /**
+     * Returns a Spliterator.OfInt that splits an IntList by index range and an IntHashSet by hash table section.
+     * Any other IntIterable gets a SIZED iterator based Spliterator.OfInt.
+     */
+    public static Spliterator.OfInt spliterator(IntIterable iterable)
+    {
+        if (iterable instanceof IntList)
+        {
+            return new IntListSpliterator((IntList) iterable);
+        }
+        if (iterable instanceof IntHashSet)
+        {
+            return new IntHashSetSpliterator((IntHashSet) iterable);
+        }
+        int characteristics = iterable instanceof IntSet ? Spliterator.DISTINCT | Spliterator.NONNULL : Spliterator.NONNULL;
+        IntIterator iterator = iterable.intIterator();
+        return Spliterators.spliterator(new PrimitiveIterator.OfInt()
+        {
+            public int nextInt()
+            {
+                return iterator.next();
+            }
+
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+        }, (long) iterable.size(), characteristics);
+    }
+
+    /**
+     * Returns a Spliterator.OfLong that splits a LongList by index range and a LongHashSet by hash table section.
+     * Any other LongIterable gets a SIZED iterator based Spliterator.OfLong.
+     */
+    public static Spliterator.OfLong spliterator(LongIterable iterable)
+    {
+        if (iterable instanceof LongList)
+        {
+            return new LongListSpliterator((LongList) iterable);
+        }
+        if (iterable instanceof LongHashSet)
+        {
+            return new LongHashSetSpliterator((LongHashSet) iterable);
+        }
+        int characteristics = iterable instanceof LongSet ? Spliterator.DISTINCT | Spliterator.NONNULL : Spliterator.NONNULL;
+        LongIterator iterator = iterable.longIterator();
+        return Spliterators.spliterator(new PrimitiveIterator.OfLong()
+        {
+            public long nextLong()
+            {
+                return iterator.next();
+            }
+
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+        }, (long) iterable.size(), characteristics);
+    }
+
+    /**
+     * Returns a Spliterator.OfDouble that splits a DoubleList by index range and a DoubleHashSet by hash table section.
+     * Any other DoubleIterable gets a SIZED iterator based Spliterator.OfDouble.
+     */
+    public static Spliterator.OfDouble spliterator(DoubleIterable iterable)
+    {
+        if (iterable instanceof DoubleList)
+        {
+            return new DoubleListSpliterator((DoubleList) iterable);
+        }
+        if (iterable instanceof DoubleHashSet)
+        {
+            return new DoubleHashSetSpliterator((DoubleHashSet) iterable);
+        }
+        int characteristics = iterable instanceof DoubleSet ? Spliterator.DISTINCT | Spliterator.NONNULL : Spliterator.NONNULL;
+        DoubleIterator iterator = iterable.doubleIterator();
+        return Spliterators.spliterator(new PrimitiveIterator.OfDouble()
+        {
+            public double nextDouble()
+            {
+                return iterator.next();
+            }
+
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+        }, (long) iterable.size(), characteristics);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.gs.collections.api.ByteIterable;
+import com.gs.collections.api.CharIterable;
+import com.gs.collections.api.DoubleIterable;
+import com.gs.collections.api.FloatIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.ShortIterable;
+import com.gs.collections.api.iterator.ByteIterator;
+import com.gs.collections.api.iterator.CharIterator;
+import com.gs.collections.api.iterator.FloatIterator;
+import com.gs.collections.api.iterator.ShortIterator;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.primitive.DoubleDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import com.gs.collections.impl.set.mutable.primitive.DoubleHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.spliterator.Spliterators2;
+
+/**
+ * PrimitiveStreams connects the primitive collections with the primitive streams of JDK 8 in both directions, without
+ * boxing.
+ * <p/>
+ * The stream methods return views that read the backing arrays of the lists and hash sets through the Spliterators of
+ * {@link Spliterators2}, so no copy of the collection is made and the stream can be made parallel. The byte, char,
+ * short and float collections are widened to IntStream and DoubleStream. The to methods collect a primitive stream
+ * straight into a primitive collection, merging the partial results of a parallel stream with addAll() or putAll().
+ * <p/>
+ * e.g.
+ * <pre>
+ * IntHashSet evens = PrimitiveStreams.toIntSet(PrimitiveStreams.intStream(intArrayList).parallel().filter(each -&gt; each % 2 == 0));
+ * </pre>
+ */
+public final class PrimitiveStreams
+{
+    private PrimitiveStreams()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static IntStream intStream(IntIterable iterable)
+    {
+        return StreamSupport.intStream(Spliterators2.spliterator(iterable), false);
+    }
+
+    public static LongStream longStream(LongIterable iterable)
+    {
+        return StreamSupport.longStream(Spliterators2.spliterator(iterable), false);
+    }
+
+    public static DoubleStream doubleStream(DoubleIterable iterable)
+    {
+        return StreamSupport.doubleStream(Spliterators2.spliterator(iterable), false);
+    }
+
+    public static IntStream intStream(ByteIterable iterable)
+    {
+        return PrimitiveStreams.sizedIntStream(new PrimitiveIterator.OfInt()
+        {
+            private ByteIterator iterator;
+
+            public int nextInt()
+            {
+                return (int) this.iterator().next();
+            }
+
+            public boolean hasNext()
+            {
+                return this.iterator().hasNext();
+            }
+
+            private ByteIterator iterator()
+            {
+                if (this.iterator == null)
+                {
+                    this.iterator = iterable.byteIterator();
+                }
+                return this.iterator;
+            }
+        }, iterable.size());
+    }
+
+    public static IntStream intStream(CharIterable iterable)
+    {
+        return PrimitiveStreams.sizedIntStream(new PrimitiveIterator.OfInt()
+        {
+            private CharIterator iterator;
+
+            public int nextInt()
+            {
+                return (int) this.iterator().next();
+            }
+
+            public boolean hasNext()
+            {
+                return this.iterator().hasNext();
+            }
+
+            private CharIterator iterator()
+            {
+                if (this.iterator == null)
+                {
+                    this.iterator = iterable.charIterator();
+                }
+                return this.iterator;
+            }
+        }, iterable.size());
+    }
+
+    public static IntStream intStream(ShortIterable iterable)
+    {
+        return PrimitiveStreams.sizedIntStream(new PrimitiveIterator.OfInt()
+        {
+            private ShortIterator iterator;
+
+            public int nextInt()
+            {
+                return (int) this.iterator().next();
+            }
+
+            public boolean hasNext()
+            {
+                return this.iterator().hasNext();
+            }
+
+            private ShortIterator iterator()
+            {
+                if (this.iterator == null)
+                {
+                    this.iterator = iterable.shortIterator();
+                }
+                return this.iterator;
+            }
+        }, iterable.size());
+    }
+
+    public static DoubleStream doubleStream(FloatIterable iterable)
+    {
+        PrimitiveIterator.OfDouble doubleIterator = new PrimitiveIterator.OfDouble()
+        {
+            private FloatIterator iterator;
+
+            public double nextDouble()
+            {
+                return (double) this.iterator().next();
+            }
+
+            public boolean hasNext()
+            {
+                return this.iterator().hasNext();
+            }
+
+            private FloatIterator iterator()
+            {
+                if (this.iterator == null)
+                {
+                    this.iterator = iterable.floatIterator();
+                }
+                return this.iterator;
+            }
+        };
+        return StreamSupport.doubleStream(Spliterators.spliterator(doubleIterator, (long) iterable.size(), 0), false);
+    }
+
+    /**
+     * The iterator is created by the first call to tryAdvance or forEachRemaining of the Spliterator, so a stream that
+     * is never consumed does not iterate the collection.
+     */
+    private static IntStream sizedIntStream(PrimitiveIterator.OfInt iterator, int size)
+    {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator, (long) size, 0), false);
+    }
+
+    public static IntArrayList toIntList(IntStream stream)
+    {
+        return stream.collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll);
+    }
+
+    public static LongArrayList toLongList(LongStream stream)
+    {
+        return stream.collect(LongArrayList::new, LongArrayList::add, LongArrayList::addAll);
+    }
+
+    public static DoubleArrayList toDoubleList(DoubleStream stream)
+    {
+        return stream.collect(DoubleArrayList::new, DoubleArrayList::add, DoubleArrayList::addAll);
+    }
+
+    public static IntHashSet toIntSet(IntStream stream)
+    {
+        return stream.collect(IntHashSet::new, IntHashSet::add, IntHashSet::addAll);
+    }
+
+    public static LongHashSet toLongSet(LongStream stream)
+    {
+        return stream.collect(LongHashSet::new, LongHashSet::add, LongHashSet::addAll);
+    }
+
+    public static DoubleHashSet toDoubleSet(DoubleStream stream)
+    {
+        return stream.collect(DoubleHashSet::new, DoubleHashSet::add, DoubleHashSet::addAll);
+    }
+
+    /**
+     * Puts each value of the stream into an IntIntHashMap under the key computed by the keyFunction. When two values
+     * map to the same key, the later one wins, and across the partial results of a parallel stream the one from the
+     * later part of the stream wins.
+     */
+    public static IntIntHashMap toIntIntMap(IntStream stream, IntUnaryOperator keyFunction, IntUnaryOperator valueFunction)
+    {
+        return stream.collect(
+                IntIntHashMap::new,
+                (map, each) -> map.put(keyFunction.applyAsInt(each), valueFunction.applyAsInt(each)),
+                IntIntHashMap::putAll);
+    }
+
+    /**
+     * @see #toIntIntMap(IntStream, IntUnaryOperator, IntUnaryOperator)
+     */
+    public static LongLongHashMap toLongLongMap(LongStream stream, LongUnaryOperator keyFunction, LongUnaryOperator valueFunction)
+    {
+        return stream.collect(
+                LongLongHashMap::new,
+                (map, each) -> map.put(keyFunction.applyAsLong(each), valueFunction.applyAsLong(each)),
+                LongLongHashMap::putAll);
+    }
+
+    /**
+     * @see #toIntIntMap(IntStream, IntUnaryOperator, IntUnaryOperator)
+     */
+    public static DoubleDoubleHashMap toDoubleDoubleMap(DoubleStream stream, DoubleUnaryOperator keyFunction, DoubleUnaryOperator valueFunction)
+    {
+        return stream.collect(
+                DoubleDoubleHashMap::new,
+                (map, each) -> map.put(keyFunction.applyAsDouble(each), valueFunction.applyAsDouble(each)),
+                DoubleDoubleHashMap::putAll);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.collector;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.multimap.set.MutableSetMultimap;
+import com.gs.collections.api.partition.list.PartitionMutableList;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Collectors2Test
+{
+    private static final int SIZE = 10_000;
+
+    private final List<Integer> integers = Interval.oneTo(SIZE);
+
+    @Test
+    public void toList()
+    {
+        MutableList<Integer> expected = FastList.newList(this.integers);
+        MutableList<Integer> list = this.integers.stream().collect(Collectors2.toList());
+        Verify.assertInstanceOf(FastList.class, list);
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(expected, this.integers.parallelStream().collect(Collectors2.toList()));
+
+        ImmutableList<Integer> immutableList = this.integers.parallelStream().collect(Collectors2.toImmutableList());
+        Assert.assertEquals(expected, immutableList);
+    }
+
+    @Test
+    public void toSet()
+    {
+        MutableSet<Integer> expected = UnifiedSet.newSet(this.integers);
+        MutableSet<Integer> set = this.integers.parallelStream().map(each -> each % 100).collect(Collectors2.toSet());
+        Verify.assertInstanceOf(UnifiedSet.class, set);
+        Assert.assertEquals(Interval.zeroTo(99).toSet(), set);
+        Assert.assertEquals(expected, this.integers.parallelStream().collect(Collectors2.toSet()));
+
+        ImmutableSet<Integer> immutableSet = this.integers.parallelStream().collect(Collectors2.toImmutableSet());
+        Assert.assertEquals(expected, immutableSet);
+    }
+
+    @Test
+    public void toBag()
+    {
+        MutableBag<Integer> bag = this.integers.parallelStream().map(each -> each % 10).collect(Collectors2.toBag());
+        Verify.assertInstanceOf(HashBag.class, bag);
+        Assert.assertEquals(SIZE, bag.size());
+        Assert.assertEquals(SIZE / 10, bag.occurrencesOf(0));
+
+        ImmutableBag<Integer> immutableBag = this.integers.parallelStream().map(each -> each % 10).collect(Collectors2.toImmutableBag());
+        Assert.assertEquals(bag, immutableBag);
+    }
+
+    @Test
+    public void toMap()
+    {
+        MutableMap<Integer, Integer> map = this.integers.parallelStream().collect(Collectors2.toMap(each -> each % 10, each -> each));
+        Assert.assertEquals(10, map.size());
+        Assert.assertEquals(
+                this.integers.stream().collect(Collectors.toMap(each -> each, each -> each * 2)),
+                this.integers.parallelStream().collect(Collectors2.toMap(each -> each, each -> each * 2)));
+    }
+
+    @Test
+    public void groupBy()
+    {
+        MutableListMultimap<Integer, Integer> multimap = this.integers.parallelStream().collect(Collectors2.groupBy(each -> each % 3));
+        Assert.assertEquals(FastList.newList(this.integers).groupBy(each -> each % 3), multimap);
+
+        MutableSetMultimap<Boolean, Integer> setMultimap = this.integers.stream().collect(
+                Collectors2.groupBy(each -> each % 2 == 0, UnifiedSetMultimap::new));
+        Verify.assertSize(SIZE / 2, setMultimap.get(true));
+    }
+
+    @Test
+    public void sumBy()
+    {
+        MutableObjectLongMap<Integer> sumByLong = this.integers.parallelStream().collect(Collectors2.sumByLong(each -> each % 2, Integer::longValue));
+        Assert.assertEquals(FastList.newList(this.integers).sumByLong(each -> each % 2, Integer::longValue), sumByLong);
+
+        MutableObjectDoubleMap<Integer> sumByDouble = this.integers.parallelStream().collect(Collectors2.sumByDouble(each -> each % 2, Integer::doubleValue));
+        Assert.assertEquals(FastList.newList(this.integers).sumByDouble(each -> each % 2, Integer::doubleValue), sumByDouble);
+    }
+
+    @Test
+    public void partition()
+    {
+        PartitionMutableList<Integer> partition = IntStream.rangeClosed(1, SIZE).boxed().parallel().collect(Collectors2.partition(each -> each % 2 == 0));
+        Assert.assertEquals(FastList.newList(this.integers).select(each -> each % 2 == 0), partition.getSelected());
+        Assert.assertEquals(FastList.newList(this.integers).reject(each -> each % 2 == 0), partition.getRejected());
+    }
+
+    @Test
+    public void classIsNonInstantiable()
+    {
+        Verify.assertClassNonInstantiable(Collectors2.class);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.spliterator;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.ArrayListAdapter;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Spliterators2Test
+{
+    private static final int SIZE = 10_000;
+    private static final long SUM = (long) SIZE * (SIZE + 1) / 2;
+
+    @Test
+    public void fastList()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(SIZE));
+        Assert.assertEquals(list, Spliterators2.stream(list).collect(Collectors.toList()));
+        Assert.assertEquals(list, Spliterators2.parallelStream(list).collect(Collectors.toList()));
+        Assert.assertEquals(SUM, Spliterators2.parallelStream(list).mapToLong(Integer::longValue).sum());
+
+        Spliterator<Integer> spliterator = Spliterators2.spliterator(list);
+        Assert.assertTrue(spliterator instanceof RandomAccessListSpliterator);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(SIZE / 2, prefix.getExactSizeIfKnown());
+        Assert.assertEquals(SIZE / 2, spliterator.getExactSizeIfKnown());
+        Assert.assertTrue(prefix.tryAdvance(each -> Assert.assertEquals(Integer.valueOf(1), each)));
+        Assert.assertTrue(spliterator.tryAdvance(each -> Assert.assertEquals(Integer.valueOf(SIZE / 2 + 1), each)));
+        Assert.assertEquals(SIZE / 2 - 1, prefix.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void arrayListAdapter()
+    {
+        ArrayListAdapter<Integer> list = ArrayListAdapter.adapt(new ArrayList<>(Interval.oneTo(SIZE)));
+        Assert.assertTrue(Spliterators2.spliterator(list) instanceof RandomAccessListSpliterator);
+        Assert.assertEquals(list, Spliterators2.parallelStream(list).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void emptyList()
+    {
+        Spliterator<Object> spliterator = Spliterators2.spliterator(FastList.newList());
+        Assert.assertNull(spliterator.trySplit());
+        Assert.assertFalse(spliterator.tryAdvance(each -> Assert.fail()));
+        Assert.assertEquals(0L, spliterator.estimateSize());
+    }
+
+    @Test
+    public void unifiedSet()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(SIZE));
+        Spliterator<Integer> spliterator = Spliterators2.spliterator(set);
+        Assert.assertTrue(spliterator instanceof BatchIterableSpliterator);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        Assert.assertNotNull(spliterator.trySplit());
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        Assert.assertEquals(set, Spliterators2.stream(set).collect(Collectors.toSet()));
+        Assert.assertEquals(set, Spliterators2.parallelStream(set).collect(Collectors.toSet()));
+        Assert.assertEquals(SIZE, Spliterators2.parallelStream(set).count());
+    }
+
+    @Test
+    public void unifiedSetWithCollisionsAndTryAdvance()
+    {
+        MutableSet<CollidingInteger> set = UnifiedSet.newSet();
+        for (int i = 1; i <= 1000; i++)
+        {
+            set.add(new CollidingInteger(i));
+        }
+        Spliterator<CollidingInteger> spliterator = Spliterators2.spliterator(set);
+        MutableList<CollidingInteger> result = FastList.newList();
+        while (spliterator.tryAdvance(result::add))
+        {
+        }
+        Assert.assertEquals(HashBag.newBag(set), HashBag.newBag(result));
+        Assert.assertEquals(0L, spliterator.estimateSize());
+    }
+
+    @Test
+    public void unifiedMap()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        Assert.assertTrue(Spliterators2.spliterator(map.keySet()).hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertEquals(map.keySet(), Spliterators2.parallelStream(map.keySet()).collect(Collectors.toSet()));
+        Assert.assertEquals(
+                HashBag.newBag(map.values()),
+                HashBag.newBag(Spliterators2.parallelStream(map.values()).collect(Collectors.toList())));
+        Assert.assertEquals(
+                map,
+                Spliterators2.parallelStream(map.entrySet()).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    @Test
+    public void intList()
+    {
+        IntArrayList list = new IntArrayList();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            list.add(i);
+        }
+        Spliterator.OfInt spliterator = Spliterators2.spliterator(list);
+        Assert.assertTrue(spliterator instanceof IntListSpliterator);
+        Assert.assertEquals(SIZE / 2, spliterator.trySplit().getExactSizeIfKnown());
+        Assert.assertEquals(SUM, StreamSupport.intStream(Spliterators2.spliterator(list), true).asLongStream().sum());
+    }
+
+    @Test
+    public void longAndDoubleLists()
+    {
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        for (int i = 1; i <= SIZE; i++)
+        {
+            longs.add(i);
+            doubles.add(i);
+        }
+        Assert.assertEquals(SUM, StreamSupport.longStream(Spliterators2.spliterator(longs), true).sum());
+        Assert.assertEquals((double) SUM, StreamSupport.doubleStream(Spliterators2.spliterator(doubles), true).sum(), 0.0);
+    }
+
+    @Test
+    public void primitiveSets()
+    {
+        IntHashSet ints = new IntHashSet();
+        LongHashSet longs = new LongHashSet();
+        for (int i = 0; i < SIZE; i++)
+        {
+            ints.add(i);
+            longs.add(i);
+        }
+        Spliterator.OfInt spliterator = Spliterators2.spliterator(ints);
+        Assert.assertTrue(spliterator instanceof IntHashSetSpliterator);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        IntHashSet result = new IntHashSet();
+        while (prefix.tryAdvance((int each) -> result.add(each)))
+        {
+        }
+        spliterator.forEachRemaining((int each) -> result.add(each));
+        Assert.assertEquals(ints, result);
+        Assert.assertEquals(SUM - SIZE, StreamSupport.intStream(Spliterators2.spliterator(ints), true).asLongStream().sum());
+        Assert.assertEquals(SUM - SIZE, StreamSupport.longStream(Spliterators2.spliterator(longs), true).sum());
+    }
+
+    private static final class CollidingInteger
+    {
+        private final int value;
+
+        private CollidingInteger(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingInteger && ((CollidingInteger) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value % 10;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.stream;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.gs.collections.api.ByteIterable;
+import com.gs.collections.api.CharIterable;
+import com.gs.collections.api.FloatIterable;
+import com.gs.collections.api.ShortIterable;
+import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
+import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.map.mutable.primitive.DoubleDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import com.gs.collections.impl.set.mutable.primitive.DoubleHashSet;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitiveStreamsTest
+{
+    private static final int SIZE = 10_000;
+    private static final long SUM = (long) SIZE * (SIZE - 1) / 2;
+
+    @Test
+    public void intStream()
+    {
+        IntArrayList list = PrimitiveStreams.toIntList(IntStream.range(0, SIZE));
+        Assert.assertEquals(SIZE, list.size());
+        Assert.assertEquals(SUM, PrimitiveStreams.intStream(list).asLongStream().sum());
+        Assert.assertEquals(SUM, PrimitiveStreams.intStream(list).parallel().asLongStream().sum());
+        Assert.assertArrayEquals(list.toArray(), PrimitiveStreams.intStream(list).parallel().toArray());
+
+        IntHashSet set = IntHashSet.newSet(list);
+        Assert.assertEquals(SUM, PrimitiveStreams.intStream(set).parallel().asLongStream().sum());
+        Assert.assertEquals(set, PrimitiveStreams.toIntSet(PrimitiveStreams.intStream(set).parallel()));
+        Assert.assertEquals(SIZE / 2, PrimitiveStreams.intStream(set).parallel().filter(each -> each % 2 == 0).count());
+    }
+
+    @Test
+    public void longStream()
+    {
+        LongArrayList list = PrimitiveStreams.toLongList(LongStream.range(0L, (long) SIZE).parallel());
+        Assert.assertEquals(PrimitiveStreams.toLongList(LongStream.range(0L, (long) SIZE)), list);
+        Assert.assertEquals(SUM, PrimitiveStreams.longStream(list).parallel().sum());
+
+        LongHashSet set = PrimitiveStreams.toLongSet(PrimitiveStreams.longStream(list).parallel());
+        Assert.assertEquals(LongHashSet.newSet(list), set);
+        Assert.assertEquals(SUM, PrimitiveStreams.longStream(set).parallel().sum());
+    }
+
+    @Test
+    public void doubleStream()
+    {
+        DoubleArrayList list = PrimitiveStreams.toDoubleList(IntStream.range(0, SIZE).asDoubleStream());
+        Assert.assertEquals((double) SUM, PrimitiveStreams.doubleStream(list).parallel().sum(), 0.0);
+
+        DoubleHashSet set = PrimitiveStreams.toDoubleSet(PrimitiveStreams.doubleStream(list).parallel());
+        Assert.assertEquals(DoubleHashSet.newSet(list), set);
+        Assert.assertEquals((double) SUM, PrimitiveStreams.doubleStream(set).parallel().sum(), 0.0);
+    }
+
+    @Test
+    public void widening()
+    {
+        Assert.assertEquals(6, PrimitiveStreams.intStream(ByteArrayList.newListWith((byte) 1, (byte) 2, (byte) 3)).sum());
+        Assert.assertEquals(6, PrimitiveStreams.intStream(ShortArrayList.newListWith((short) 1, (short) 2, (short) 3)).sum());
+        Assert.assertEquals(197, PrimitiveStreams.intStream(CharArrayList.newListWith('a', 'd')).sum());
+        Assert.assertEquals(3.0, PrimitiveStreams.doubleStream(FloatArrayList.newListWith(1.5f, 1.5f)).parallel().sum(), 0.0);
+    }
+
+    @Test
+    public void wideningCreatesTheIteratorLazily()
+    {
+        AtomicInteger iterators = new AtomicInteger();
+        IntStream bytes = PrimitiveStreams.intStream(countingIterators(ByteArrayList.newListWith((byte) 1, (byte) 2), ByteIterable.class, iterators));
+        IntStream shorts = PrimitiveStreams.intStream(countingIterators(ShortArrayList.newListWith((short) 1, (short) 2), ShortIterable.class, iterators));
+        IntStream chars = PrimitiveStreams.intStream(countingIterators(CharArrayList.newListWith('a', 'd'), CharIterable.class, iterators));
+        DoubleStream floats = PrimitiveStreams.doubleStream(countingIterators(FloatArrayList.newListWith(1.5f, 1.5f), FloatIterable.class, iterators));
+        Assert.assertEquals(0, iterators.get());
+        Assert.assertEquals(3, bytes.sum());
+        Assert.assertEquals(3, shorts.sum());
+        Assert.assertEquals(197, chars.sum());
+        Assert.assertEquals(3.0, floats.sum(), 0.0);
+        Assert.assertEquals(4, iterators.get());
+    }
+
+    private static <T> T countingIterators(T delegate, Class<T> type, AtomicInteger iterators)
+    {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().endsWith("Iterator"))
+            {
+                iterators.incrementAndGet();
+            }
+            return method.invoke(delegate, args);
+        }));
+    }
+
+    @Test
+    public void toMap()
+    {
+        IntIntHashMap ints = PrimitiveStreams.toIntIntMap(IntStream.range(0, SIZE).parallel(), each -> each, each -> each * 2);
+        Assert.assertEquals(SIZE, ints.size());
+        Assert.assertEquals(2 * (SIZE - 1), ints.get(SIZE - 1));
+
+        LongLongHashMap longs = PrimitiveStreams.toLongLongMap(LongStream.range(0L, 100L), each -> each % 10L, each -> each);
+        Assert.assertEquals(10, longs.size());
+        Assert.assertEquals(99L, longs.get(9L));
+
+        DoubleDoubleHashMap doubles = PrimitiveStreams.toDoubleDoubleMap(DoubleStream.of(1.0, 2.0), each -> -each, Math::sqrt);
+        Assert.assertEquals(DoubleDoubleHashMap.newWithKeysValues(-1.0, 1.0, -2.0, Math.sqrt(2.0)), doubles);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.primitive.ImmutableIntIntMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.factory.primitive.IntIntMaps;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares lookups in the immutable maps built by withAll, which wrap a hash table, with the frozen maps built by
+ * withAllFrozen, which are indexed by a minimal perfect hash function.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FrozenMapGetTest
+{
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private String[] keys;
+    private int[] intKeys;
+    private ImmutableMap<String, Integer> unifiedMap;
+    private ImmutableMap<String, Integer> frozenMap;
+    private ImmutableIntIntMap intIntHashMap;
+    private ImmutableIntIntMap frozenIntIntMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.keys = new String[this.size];
+        this.intKeys = new int[this.size];
+        UnifiedMap<String, Integer> map = UnifiedMap.newMap(this.size);
+        IntIntHashMap intIntMap = new IntIntHashMap(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = "key" + i;
+            this.intKeys[i] = random.nextInt();
+            map.put(this.keys[i], i);
+            intIntMap.put(this.intKeys[i], i);
+        }
+        this.unifiedMap = Maps.immutable.withAll(map);
+        this.frozenMap = Maps.immutable.withAllFrozen(map);
+        this.intIntHashMap = IntIntMaps.immutable.withAll(intIntMap);
+        this.frozenIntIntMap = IntIntMaps.immutable.withAllFrozen(intIntMap);
+    }
+
+    @GenerateMicroBenchmark
+    public int getImmutableUnifiedMap()
+    {
+        return this.get(this.unifiedMap);
+    }
+
+    @GenerateMicroBenchmark
+    public int getFrozenMap()
+    {
+        return this.get(this.frozenMap);
+    }
+
+    @GenerateMicroBenchmark
+    public long getImmutableIntIntHashMap()
+    {
+        return this.get(this.intIntHashMap);
+    }
+
+    @GenerateMicroBenchmark
+    public long getFrozenIntIntMap()
+    {
+        return this.get(this.frozenIntIntMap);
+    }
+
+    private int get(ImmutableMap<String, Integer> map)
+    {
+        int sum = 0;
+        for (String key : this.keys)
+        {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    private long get(ImmutableIntIntMap map)
+    {
+        long sum = 0L;
+        for (int key : this.intKeys)
+        {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+}
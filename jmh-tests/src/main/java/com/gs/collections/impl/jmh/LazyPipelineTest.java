@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares consuming a multi-stage serial lazy pipeline through its terminal operations, which push each element
+ * through the fused stage procedures from the source's forEach, with pulling the same elements through the chain
+ * of stage iterators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyPipelineTest
+{
+    private static final int SIZE = 1_000_000;
+    private final MutableList<Integer> integersGSC = Interval.oneTo(SIZE).toList();
+
+    private LazyIterable<Integer> pipeline()
+    {
+        return this.integersGSC.asLazy()
+                .select(each -> each % 3 != 0)
+                .collect(each -> each + 1)
+                .reject(each -> each % 5 == 0)
+                .collect(each -> each * 2)
+                .select(each -> each % 7 != 0);
+    }
+
+    @GenerateMicroBenchmark
+    public long serial_lazy_sumOfInt_push_gsc()
+    {
+        return this.pipeline().sumOfInt(each -> each);
+    }
+
+    @GenerateMicroBenchmark
+    public long serial_lazy_sumOfInt_iterator_gsc()
+    {
+        long sum = 0L;
+        for (Integer each : this.pipeline())
+        {
+            sum += each;
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public long serial_lazy_injectInto_push_gsc()
+    {
+        return this.pipeline().injectInto(0L, (long result, Integer each) -> result + each);
+    }
+
+    @GenerateMicroBenchmark
+    public MutableList<Integer> serial_lazy_toList_push_gsc()
+    {
+        return this.pipeline().toList();
+    }
+
+    @GenerateMicroBenchmark
+    public MutableList<Integer> serial_lazy_toList_iterator_gsc()
+    {
+        MutableList<Integer> result = FastList.newList();
+        for (Integer each : this.pipeline())
+        {
+            result.add(each);
+        }
+        return result;
+    }
+
+    @GenerateMicroBenchmark
+    public int serial_lazy_distinct_push_gsc()
+    {
+        return this.pipeline().collect(each -> each % 1000).distinct().count(each -> each > 500);
+    }
+
+    @GenerateMicroBenchmark
+    public int serial_lazy_distinct_iterator_gsc()
+    {
+        int count = 0;
+        for (Integer each : this.pipeline().collect(each -> each % 1000).distinct())
+        {
+            if (each > 500)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
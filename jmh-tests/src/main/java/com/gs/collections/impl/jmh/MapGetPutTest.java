@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.map.mutable.OpenAddressingHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares UnifiedMap, which chains colliding keys, with OpenAddressingHashMap, which probes linearly, at load factors
+ * where collisions are frequent. The number of keys is chosen so that both maps are filled right up to their load
+ * factor without growing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MapGetPutTest
+{
+    private static final int CAPACITY = 1 << 17;
+
+    @Param({"0.5", "0.75", "0.9"})
+    public float loadFactor;
+
+    private Integer[] keys;
+    private Integer[] missingKeys;
+    private UnifiedMap<Integer, Integer> unifiedMap;
+    private OpenAddressingHashMap<Integer, Integer> openAddressingMap;
+
+    @Setup
+    public void setUp()
+    {
+        int size = (int) (CAPACITY * this.loadFactor) - 1;
+        Random random = new Random(123456789L);
+        this.keys = new Integer[size];
+        this.missingKeys = new Integer[size];
+        this.unifiedMap = UnifiedMap.newMap(size, this.loadFactor);
+        this.openAddressingMap = OpenAddressingHashMap.newMap(size, this.loadFactor);
+        for (int i = 0; i < size; i++)
+        {
+            // even keys are put into the maps, odd keys are looked up to measure misses
+            Integer key = random.nextInt() & ~1;
+            this.keys[i] = key;
+            this.missingKeys[i] = key | 1;
+            this.unifiedMap.put(key, i);
+            this.openAddressingMap.put(key, i);
+        }
+    }
+
+    @GenerateMicroBenchmark
+    public int getUnifiedMap()
+    {
+        return this.get(this.unifiedMap, this.keys);
+    }
+
+    @GenerateMicroBenchmark
+    public int getOpenAddressingHashMap()
+    {
+        return this.get(this.openAddressingMap, this.keys);
+    }
+
+    @GenerateMicroBenchmark
+    public int getMissingUnifiedMap()
+    {
+        return this.get(this.unifiedMap, this.missingKeys);
+    }
+
+    @GenerateMicroBenchmark
+    public int getMissingOpenAddressingHashMap()
+    {
+        return this.get(this.openAddressingMap, this.missingKeys);
+    }
+
+    @GenerateMicroBenchmark
+    public MutableMap<Integer, Integer> putUnifiedMap()
+    {
+        return this.put(UnifiedMap.<Integer, Integer>newMap(this.keys.length, this.loadFactor));
+    }
+
+    @GenerateMicroBenchmark
+    public MutableMap<Integer, Integer> putOpenAddressingHashMap()
+    {
+        return this.put(OpenAddressingHashMap.<Integer, Integer>newMap(this.keys.length, this.loadFactor));
+    }
+
+    @GenerateMicroBenchmark
+    public MutableMap<Integer, Integer> putGrowingUnifiedMap()
+    {
+        return this.put(UnifiedMap.<Integer, Integer>newMap(0, this.loadFactor));
+    }
+
+    @GenerateMicroBenchmark
+    public MutableMap<Integer, Integer> putGrowingOpenAddressingHashMap()
+    {
+        return this.put(OpenAddressingHashMap.<Integer, Integer>newMap(0, this.loadFactor));
+    }
+
+    private int get(MutableMap<Integer, Integer> map, Integer[] keysToGet)
+    {
+        int found = 0;
+        for (Integer key : keysToGet)
+        {
+            if (map.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private MutableMap<Integer, Integer> put(MutableMap<Integer, Integer> map)
+    {
+        Integer[] keysToPut = this.keys;
+        for (int i = 0; i < keysToPut.length; i++)
+        {
+            map.put(keysToPut[i], i);
+        }
+        return map;
+    }
+}
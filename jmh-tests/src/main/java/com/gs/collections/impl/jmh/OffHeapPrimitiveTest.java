@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongOffHeapArrayList;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongLongOffHeapHashMap;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the off-heap LongLongOffHeapHashMap and LongOffHeapArrayList with their on-heap counterparts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OffHeapPrimitiveTest
+{
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private long[] keys;
+    private LongLongHashMap longLongHashMap;
+    private LongLongOffHeapHashMap longLongOffHeapHashMap;
+    private LongArrayList longArrayList;
+    private LongOffHeapArrayList longOffHeapArrayList;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.keys = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = random.nextLong();
+        }
+        this.longLongHashMap = new LongLongHashMap();
+        this.longLongOffHeapHashMap = new LongLongOffHeapHashMap();
+        this.longArrayList = new LongArrayList();
+        this.longOffHeapArrayList = new LongOffHeapArrayList();
+        for (int i = 0; i < this.size; i++)
+        {
+            this.longLongHashMap.put(this.keys[i], i);
+            this.longLongOffHeapHashMap.put(this.keys[i], i);
+            this.longArrayList.add(this.keys[i]);
+            this.longOffHeapArrayList.add(this.keys[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.longLongOffHeapHashMap.close();
+        this.longOffHeapArrayList.close();
+    }
+
+    @GenerateMicroBenchmark
+    public LongLongHashMap putLongLongHashMap()
+    {
+        LongLongHashMap map = new LongLongHashMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            map.put(this.keys[i], i);
+        }
+        return map;
+    }
+
+    @GenerateMicroBenchmark
+    public int putLongLongOffHeapHashMap()
+    {
+        LongLongOffHeapHashMap map = new LongLongOffHeapHashMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            map.put(this.keys[i], i);
+        }
+        int result = map.size();
+        map.close();
+        return result;
+    }
+
+    @GenerateMicroBenchmark
+    public long getLongLongHashMap()
+    {
+        long sum = 0L;
+        for (long key : this.keys)
+        {
+            sum += this.longLongHashMap.get(key);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public long getLongLongOffHeapHashMap()
+    {
+        long sum = 0L;
+        for (long key : this.keys)
+        {
+            sum += this.longLongOffHeapHashMap.get(key);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public long getLongArrayList()
+    {
+        long sum = 0L;
+        for (int i = 0; i < this.size; i++)
+        {
+            sum += this.longArrayList.get(i);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public long getLongOffHeapArrayList()
+    {
+        long sum = 0L;
+        for (int i = 0; i < this.size; i++)
+        {
+            sum += this.longOffHeapArrayList.get(i);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public long sumLongArrayList()
+    {
+        return this.longArrayList.sum();
+    }
+
+    @GenerateMicroBenchmark
+    public long sumLongOffHeapArrayList()
+    {
+        return this.longOffHeapArrayList.sum();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Insert/delete churn on the primitive hash collections: every operation adds a new key and removes the oldest one, so
+ * the number of live keys stays constant while every slot of the table is reused over and over. The misses are looked
+ * up after the same churn, which is where tables that leave tombstones behind get slower.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveHashChurnTest
+{
+    private static final int OPERATIONS = 1 << 20;
+
+    @Param({"1000", "100000"})
+    public int liveKeys;
+
+    private int[] keys;
+    private int[] missingKeys;
+    private IntIntHashMap churnedIntIntMap;
+    private HashMap<Integer, Integer> churnedJdkMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.keys = new int[OPERATIONS];
+        this.missingKeys = new int[this.liveKeys];
+        for (int i = 0; i < OPERATIONS; i++)
+        {
+            // even keys are put into the collections, odd keys are looked up to measure misses
+            this.keys[i] = random.nextInt() & ~1;
+        }
+        for (int i = 0; i < this.liveKeys; i++)
+        {
+            this.missingKeys[i] = random.nextInt() | 1;
+        }
+        this.churnedIntIntMap = this.churnIntIntMap();
+        this.churnedJdkMap = this.churnJdkMap();
+    }
+
+    @GenerateMicroBenchmark
+    public IntIntHashMap churnIntIntMap()
+    {
+        int[] keys = this.keys;
+        int window = this.liveKeys;
+        IntIntHashMap map = new IntIntHashMap();
+        for (int i = 0; i < keys.length; i++)
+        {
+            map.put(keys[i], i);
+            if (i >= window)
+            {
+                map.remove(keys[i - window]);
+            }
+        }
+        return map;
+    }
+
+    @GenerateMicroBenchmark
+    public HashMap<Integer, Integer> churnJdkMap()
+    {
+        int[] keys = this.keys;
+        int window = this.liveKeys;
+        HashMap<Integer, Integer> map = new HashMap<Integer, Integer>();
+        for (int i = 0; i < keys.length; i++)
+        {
+            map.put(keys[i], i);
+            if (i >= window)
+            {
+                map.remove(keys[i - window]);
+            }
+        }
+        return map;
+    }
+
+    @GenerateMicroBenchmark
+    public LongHashSet churnLongSet()
+    {
+        int[] keys = this.keys;
+        int window = this.liveKeys;
+        LongHashSet set = new LongHashSet();
+        for (int i = 0; i < keys.length; i++)
+        {
+            set.add(keys[i]);
+            if (i >= window)
+            {
+                set.remove(keys[i - window]);
+            }
+        }
+        return set;
+    }
+
+    @GenerateMicroBenchmark
+    public HashSet<Long> churnJdkSet()
+    {
+        int[] keys = this.keys;
+        int window = this.liveKeys;
+        HashSet<Long> set = new HashSet<Long>();
+        for (int i = 0; i < keys.length; i++)
+        {
+            set.add((long) keys[i]);
+            if (i >= window)
+            {
+                set.remove((long) keys[i - window]);
+            }
+        }
+        return set;
+    }
+
+    @GenerateMicroBenchmark
+    public int getMissAfterChurnIntIntMap()
+    {
+        int count = 0;
+        for (int key : this.missingKeys)
+        {
+            if (this.churnedIntIntMap.containsKey(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @GenerateMicroBenchmark
+    public int getMissAfterChurnJdkMap()
+    {
+        int count = 0;
+        for (int key : this.missingKeys)
+        {
+            if (this.churnedJdkMap.containsKey(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.map.sorted.mutable.primitive.LongObjectTreeMap;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares lookups, floor searches and range scans in the array-backed LongObjectTreeMap with the boxed red-black
+ * trees.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveSortedMapTest
+{
+    private static final int RANGE_COUNT = 100;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private long[] keys;
+    private long[] probes;
+    private LongObjectTreeMap<Integer> longObjectTreeMap;
+    private TreeSortedMap<Long, Integer> treeSortedMap;
+    private TreeMap<Long, Integer> treeMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.keys = new long[this.size];
+        this.probes = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = random.nextLong();
+            this.probes[i] = random.nextLong();
+        }
+        long[] sortedKeys = this.keys.clone();
+        Arrays.sort(sortedKeys);
+        this.longObjectTreeMap = LongObjectTreeMap.newMap();
+        this.treeSortedMap = TreeSortedMap.newMap();
+        this.treeMap = new TreeMap<Long, Integer>();
+        for (int i = 0; i < this.size; i++)
+        {
+            // Ascending insertion keeps the sorted array appends cheap for the larger sizes
+            this.longObjectTreeMap.put(sortedKeys[i], i);
+            this.treeSortedMap.put(sortedKeys[i], i);
+            this.treeMap.put(sortedKeys[i], i);
+        }
+    }
+
+    @GenerateMicroBenchmark
+    public int getLongObjectTreeMap()
+    {
+        int sum = 0;
+        for (long key : this.keys)
+        {
+            sum += this.longObjectTreeMap.get(key);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public int getTreeSortedMap()
+    {
+        int sum = 0;
+        for (long key : this.keys)
+        {
+            sum += this.treeSortedMap.get(key);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public int floorValueLongObjectTreeMap()
+    {
+        int count = 0;
+        for (long probe : this.probes)
+        {
+            if (this.longObjectTreeMap.floorValue(probe) != null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @GenerateMicroBenchmark
+    public int floorEntryTreeMap()
+    {
+        int count = 0;
+        for (long probe : this.probes)
+        {
+            if (this.treeMap.floorEntry(probe) != null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @GenerateMicroBenchmark
+    public long rangeLongObjectTreeMap()
+    {
+        long sum = 0L;
+        for (int i = 0; i < RANGE_COUNT; i++)
+        {
+            long from = Math.min(this.probes[i % this.size], this.keys[i % this.size]);
+            long to = Math.max(this.probes[i % this.size], this.keys[i % this.size]);
+            for (Integer value : this.longObjectTreeMap.subMap(from, to))
+            {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public long rangeTreeSortedMap()
+    {
+        long sum = 0L;
+        for (int i = 0; i < RANGE_COUNT; i++)
+        {
+            long from = Math.min(this.probes[i % this.size], this.keys[i % this.size]);
+            long to = Math.max(this.probes[i % this.size], this.keys[i % this.size]);
+            for (Map.Entry<Long, Integer> entry : this.treeSortedMap.subMap(from, to).entrySet())
+            {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.sorted.ImmutableSortedMap;
+import com.gs.collections.api.set.sorted.ImmutableSortedSet;
+import com.gs.collections.impl.factory.SortedMaps;
+import com.gs.collections.impl.factory.SortedSets;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares lookups in the array-backed immutable sorted sets and maps with the red-black trees they are built from.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortedLookupTest
+{
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private Integer[] keys;
+    private TreeSortedSet<Integer> treeSortedSet;
+    private ImmutableSortedSet<Integer> immutableSortedSet;
+    private TreeSortedMap<Integer, Integer> treeSortedMap;
+    private ImmutableSortedMap<Integer, Integer> immutableSortedMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.keys = new Integer[this.size];
+        this.treeSortedSet = TreeSortedSet.newSet();
+        this.treeSortedMap = TreeSortedMap.newMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = random.nextInt();
+            this.treeSortedSet.add(this.keys[i]);
+            this.treeSortedMap.put(this.keys[i], i);
+        }
+        this.immutableSortedSet = SortedSets.immutable.ofSortedSet(this.treeSortedSet);
+        this.immutableSortedMap = SortedMaps.immutable.ofSortedMap(this.treeSortedMap);
+    }
+
+    @GenerateMicroBenchmark
+    public int containsTreeSortedSet()
+    {
+        int count = 0;
+        for (Integer key : this.keys)
+        {
+            if (this.treeSortedSet.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @GenerateMicroBenchmark
+    public int containsImmutableSortedSet()
+    {
+        int count = 0;
+        for (Integer key : this.keys)
+        {
+            if (this.immutableSortedSet.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @GenerateMicroBenchmark
+    public int getTreeSortedMap()
+    {
+        int sum = 0;
+        for (Integer key : this.keys)
+        {
+            sum += this.treeSortedMap.get(key);
+        }
+        return sum;
+    }
+
+    @GenerateMicroBenchmark
+    public int getImmutableSortedMap()
+    {
+        int sum = 0;
+        for (Integer key : this.keys)
+        {
+            sum += this.immutableSortedMap.get(key);
+        }
+        return sum;
+    }
+}
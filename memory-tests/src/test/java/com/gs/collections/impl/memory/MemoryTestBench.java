@@ -18,9 +18,13 @@
 
 package com.gs.collections.impl.memory;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.text.NumberFormat;
 
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.impl.list.Interval;
 import org.slf4j.Logger;
@@ -50,15 +54,28 @@ public final class MemoryTestBench
      * to estimate memory usage by objects.
      */
     public long calculateMemoryUsage(Function0<?> factory)
+    {
+        return this.calculateMemoryUsage(factory, null);
+    }
+
+    /**
+     * Same as {@link #calculateMemoryUsage(Function0)}, but passes each container to the release procedure once it
+     * is no longer needed.
+     */
+    private <T> long calculateMemoryUsage(Function0<T> factory, Procedure<? super T> release)
     {
         // Clean the slate and prep
         this.forceGCAndSleepMultipleTimes();
-        Object container = factory.value();
+        T container = factory.value();
         if (!this.clazz.isInstance(container))
         {
             throw new RuntimeException();
         }
         long memory = this.currentUsedMemory();
+        if (release != null)
+        {
+            release.value(container);
+        }
         //noinspection UnusedAssignment,ReuseOfLocalVariable
         container = null;
         this.forceGCAndSleepMultipleTimes();
@@ -70,7 +87,12 @@ public final class MemoryTestBench
         // Get rid of transient garbage
         this.forceGCAndSleepMultipleTimes();
         // Calculate new used memory
-        return this.currentUsedMemory() - memory2;
+        long memoryUsed = this.currentUsedMemory() - memory2;
+        if (release != null)
+        {
+            release.value(container);
+        }
+        return memoryUsed;
     }
 
     private long currentUsedMemory()
@@ -91,6 +113,39 @@ public final class MemoryTestBench
         LOGGER.info("{} {} size {} bytes {}", category, this.clazz.getName(), sizeFormatted, memoryUsedInBytes);
     }
 
+    /**
+     * Same as {@link #printContainerMemoryUsage(String, int, Function0)}, for containers that keep their data outside
+     * of the heap. The off-heap bytes are logged next to the heap bytes, and each container is closed once it has been
+     * measured, so that its direct memory does not pile up until the next garbage collection.
+     */
+    public <T extends Closeable> void printOffHeapContainerMemoryUsage(
+            String category,
+            int size,
+            Function0<T> factory,
+            final Function<? super T, Long> offHeapSizeInBytes)
+    {
+        final long[] offHeapMemoryUsed = new long[1];
+        long memoryUsed = this.calculateMemoryUsage(factory, new Procedure<T>()
+        {
+            public void value(T container)
+            {
+                offHeapMemoryUsed[0] = offHeapSizeInBytes.valueOf(container);
+                try
+                {
+                    container.close();
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        String memoryUsedInBytes = NumberFormat.getInstance().format(memoryUsed);
+        String offHeapMemoryUsedInBytes = NumberFormat.getInstance().format(offHeapMemoryUsed[0]);
+        String sizeFormatted = NumberFormat.getInstance().format(size);
+        LOGGER.info("{} {} size {} bytes {} off-heap bytes {}", category, this.clazz.getName(), sizeFormatted, memoryUsedInBytes, offHeapMemoryUsedInBytes);
+    }
+
     private static class GCAndSleepProcedure implements IntProcedure
     {
         @Override
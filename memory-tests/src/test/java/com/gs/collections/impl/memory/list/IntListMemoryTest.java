@@ -18,10 +18,12 @@ package com.gs.collections.impl.memory.list;
 
 import java.util.ArrayList;
 
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.list.primitive.IntList;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntOffHeapArrayList;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import com.gs.collections.impl.memory.TestDataFactory;
 import gnu.trove.list.array.TIntArrayList;
@@ -32,13 +34,21 @@ import org.slf4j.LoggerFactory;
 public class IntListMemoryTest
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(IntListMemoryTest.class);
+    private static final Function<IntOffHeapArrayList, Long> OFF_HEAP_SIZE_IN_BYTES = new Function<IntOffHeapArrayList, Long>()
+    {
+        public Long valueOf(IntOffHeapArrayList container)
+        {
+            return container.offHeapSizeInBytes();
+        }
+    };
 
     @Test
     public void memoryForScaledLists()
     {
-        LOGGER.info("Comparing Items: Trove {}, GSC {}, JDK {}",
+        LOGGER.info("Comparing Items: Trove {}, GSC {}, GSC off-heap {}, JDK {}",
                 TIntArrayList.class.getSimpleName(),
                 IntArrayList.class.getSimpleName(),
+                IntOffHeapArrayList.class.getSimpleName(),
                 ArrayList.class.getSimpleName());
 
         for (int size = 0; size < 1000001; size += 25000)
@@ -54,6 +64,8 @@ public class IntListMemoryTest
                 .printContainerMemoryUsage("IntList", size, new TIntArrayListFactory(size));
         MemoryTestBench.on(IntArrayList.class)
                 .printContainerMemoryUsage("IntList", size, new IntArrayListFactory(size));
+        MemoryTestBench.on(IntOffHeapArrayList.class)
+                .printOffHeapContainerMemoryUsage("IntList", size, new IntOffHeapArrayListFactory(size), OFF_HEAP_SIZE_IN_BYTES);
         MemoryTestBench.on(ArrayList.class)
                 .printContainerMemoryUsage("IntList", size, new IntegerArrayListFactory(size));
     }
@@ -82,6 +94,30 @@ public class IntListMemoryTest
         }
     }
 
+    public static class IntOffHeapArrayListFactory implements Function0<IntOffHeapArrayList>
+    {
+        private final IntList data;
+
+        public IntOffHeapArrayListFactory(int size)
+        {
+            this.data = TestDataFactory.create(size);
+        }
+
+        @Override
+        public IntOffHeapArrayList value()
+        {
+            final IntOffHeapArrayList list = new IntOffHeapArrayList();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    list.add(each);
+                }
+            });
+            return list;
+        }
+    }
+
     public static class TIntArrayListFactory implements Function0<TIntArrayList>
     {
         private final IntList data;
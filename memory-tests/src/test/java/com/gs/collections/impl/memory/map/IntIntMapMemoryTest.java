@@ -18,11 +18,13 @@ package com.gs.collections.impl.memory.map;
 
 import java.util.HashMap;
 
+import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.list.primitive.IntList;
 import com.gs.collections.api.set.primitive.IntSet;
 import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntOffHeapHashMap;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import com.gs.collections.impl.memory.TestDataFactory;
 import gnu.trove.map.hash.TIntIntHashMap;
@@ -33,13 +35,21 @@ import org.slf4j.LoggerFactory;
 public class IntIntMapMemoryTest
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(IntIntMapMemoryTest.class);
+    private static final Function<IntIntOffHeapHashMap, Long> OFF_HEAP_SIZE_IN_BYTES = new Function<IntIntOffHeapHashMap, Long>()
+    {
+        public Long valueOf(IntIntOffHeapHashMap container)
+        {
+            return container.offHeapSizeInBytes();
+        }
+    };
 
     @Test
     public void memoryForScaledMaps()
     {
-        LOGGER.info("Comparing Items: Trove {}, GSC {}, JDK {}",
+        LOGGER.info("Comparing Items: Trove {}, GSC {}, GSC off-heap {}, JDK {}",
                 TIntIntHashMap.class.getSimpleName(),
                 IntIntHashMap.class.getSimpleName(),
+                IntIntOffHeapHashMap.class.getSimpleName(),
                 HashMap.class.getSimpleName());
         for (int size = 0; size < 1000001; size += 25000)
         {
@@ -54,6 +64,8 @@ public class IntIntMapMemoryTest
                 .printContainerMemoryUsage("IntIntMap", size, new TIntIntHashMapFactory(size));
         MemoryTestBench.on(IntIntHashMap.class)
                 .printContainerMemoryUsage("IntIntMap", size, new IntIntHashMapFactory(size));
+        MemoryTestBench.on(IntIntOffHeapHashMap.class)
+                .printOffHeapContainerMemoryUsage("IntIntMap", size, new IntIntOffHeapHashMapFactory(size), OFF_HEAP_SIZE_IN_BYTES);
         MemoryTestBench.on(HashMap.class)
                 .printContainerMemoryUsage("IntIntMap", size, new IntegerIntegerHashMapFactory(size));
     }
@@ -82,6 +94,30 @@ public class IntIntMapMemoryTest
         }
     }
 
+    public static class IntIntOffHeapHashMapFactory implements Function0<IntIntOffHeapHashMap>
+    {
+        private final IntSet data;
+
+        public IntIntOffHeapHashMapFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomSet(size);
+        }
+
+        @Override
+        public IntIntOffHeapHashMap value()
+        {
+            final IntIntOffHeapHashMap map = new IntIntOffHeapHashMap();
+            this.data.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    map.put(each, each);
+                }
+            });
+            return map;
+        }
+    }
+
     public static class TIntIntHashMapFactory implements Function0<TIntIntHashMap>
     {
         private final IntList data;
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutablePerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLkltbXV0YWJsZVBl\n"
+                        + "cmZlY3RIYXNoTWFwAAAAAAAAAAECAAJbAARrZXlzdAATW0xqYXZhL2xhbmcvT2JqZWN0O1sABnZh\n"
+                        + "bHVlc3EAfgABeHB1cgATW0xqYXZhLmxhbmcuT2JqZWN0O5DOWJ8QcylsAgAAeHAAAAAFc3IAEWph\n"
+                        + "dmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyV\n"
+                        + "HQuU4IsCAAB4cAAAAAJzcQB+AAUAAAAEc3EAfgAFAAAABXNxAH4ABQAAAAFzcQB+AAUAAAADdXEA\n"
+                        + "fgADAAAABXEAfgAHcQB+AAhxAH4ACXEAfgAKcQB+AAs=",
+                ImmutablePerfectHashMap.newMap(UnifiedMap.newWithKeysValues(1, 1, 2, 2, 3, 3, 4, 4).withKeyValue(5, 5)));
+    }
+}
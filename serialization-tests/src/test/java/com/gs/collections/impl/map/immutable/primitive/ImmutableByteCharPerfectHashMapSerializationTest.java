@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import com.gs.collections.impl.factory.primitive.ByteCharMaps;
+import com.gs.collections.impl.map.mutable.primitive.ByteCharHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableByteCharPerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAE9jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLnByaW1pdGl2ZS5J\n"
+                        + "bW11dGFibGVCeXRlQ2hhclBlcmZlY3RIYXNoTWFwAAAAAAAAAAECAANbAARrZXlzdAACW0JbAAVz\n"
+                        + "ZWVkc3QAAltJWwAGdmFsdWVzdAACW0N4cHVyAAJbQqzzF/gGCFTgAgAAeHAAAAACAQJ1cgACW0lN\n"
+                        + "umAmduqypQIAAHhwAAAAAQAAAAN1cgACW0OwJmaw4l2ErAIAAHhwAAAAAgABAAI=",
+                ByteCharMaps.immutable.withAllFrozen(ByteCharHashMap.newWithKeysValues((byte) 1, (char) 1, (byte) 2, (char) 2)));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import com.gs.collections.impl.factory.primitive.CharDoubleMaps;
+import com.gs.collections.impl.map.mutable.primitive.CharDoubleHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableCharDoublePerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFFjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLnByaW1pdGl2ZS5J\n"
+                        + "bW11dGFibGVDaGFyRG91YmxlUGVyZmVjdEhhc2hNYXAAAAAAAAAAAQIAA1sABGtleXN0AAJbQ1sA\n"
+                        + "BXNlZWRzdAACW0lbAAZ2YWx1ZXN0AAJbRHhwdXIAAltDsCZmsOJdhKwCAAB4cAAAAAIAAQACdXIA\n"
+                        + "AltJTbpgJnbqsqUCAAB4cAAAAAEAAAADdXIAAltEPqaMFKtjWh4CAAB4cAAAAAI/8AAAAAAAAEAA\n"
+                        + "AAAAAAAA",
+                CharDoubleMaps.immutable.withAllFrozen(CharDoubleHashMap.newWithKeysValues((char) 1, 1.0, (char) 2, 2.0)));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import com.gs.collections.impl.factory.primitive.FloatBooleanMaps;
+import com.gs.collections.impl.map.mutable.primitive.FloatBooleanHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableFloatBooleanPerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFNjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLnByaW1pdGl2ZS5J\n"
+                        + "bW11dGFibGVGbG9hdEJvb2xlYW5QZXJmZWN0SGFzaE1hcAAAAAAAAAABAgADWwAEa2V5c3QAAltG\n"
+                        + "WwAFc2VlZHN0AAJbSVsABnZhbHVlc3QAAltaeHB1cgACW0YLnIGJIuAMQgIAAHhwAAAAAj+AAABA\n"
+                        + "AAAAdXIAAltJTbpgJnbqsqUCAAB4cAAAAAEAAAABdXIAAltaV48gORS4XeICAAB4cAAAAAIBAA==\n",
+                FloatBooleanMaps.immutable.withAllFrozen(FloatBooleanHashMap.newWithKeysValues(1.0f, true, 2.0f, false)));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import com.gs.collections.impl.factory.primitive.IntBooleanMaps;
+import com.gs.collections.impl.map.mutable.primitive.IntBooleanHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableIntBooleanPerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFFjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLnByaW1pdGl2ZS5J\n"
+                        + "bW11dGFibGVJbnRCb29sZWFuUGVyZmVjdEhhc2hNYXAAAAAAAAAAAQIAA1sABGtleXN0AAJbSVsA\n"
+                        + "BXNlZWRzcQB+AAFbAAZ2YWx1ZXN0AAJbWnhwdXIAAltJTbpgJnbqsqUCAAB4cAAAAAIAAAABAAAA\n"
+                        + "AnVxAH4ABAAAAAEAAAADdXIAAltaV48gORS4XeICAAB4cAAAAAIBAA==",
+                IntBooleanMaps.immutable.withAllFrozen(IntBooleanHashMap.newWithKeysValues(1, true, 2, false)));
+    }
+}
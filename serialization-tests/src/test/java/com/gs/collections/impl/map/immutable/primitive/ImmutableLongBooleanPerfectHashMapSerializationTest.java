@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import com.gs.collections.impl.factory.primitive.LongBooleanMaps;
+import com.gs.collections.impl.map.mutable.primitive.LongBooleanHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableLongBooleanPerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFJjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLnByaW1pdGl2ZS5J\n"
+                        + "bW11dGFibGVMb25nQm9vbGVhblBlcmZlY3RIYXNoTWFwAAAAAAAAAAECAANbAARrZXlzdAACW0pb\n"
+                        + "AAVzZWVkc3QAAltJWwAGdmFsdWVzdAACW1p4cHVyAAJbSnggBLUSsXWTAgAAeHAAAAACAAAAAAAA\n"
+                        + "AAEAAAAAAAAAAnVyAAJbSU26YCZ26rKlAgAAeHAAAAABAAAAA3VyAAJbWlePIDkUuF3iAgAAeHAA\n"
+                        + "AAACAQA=",
+                LongBooleanMaps.immutable.withAllFrozen(LongBooleanHashMap.newWithKeysValues(1L, true, 2L, false)));
+    }
+}
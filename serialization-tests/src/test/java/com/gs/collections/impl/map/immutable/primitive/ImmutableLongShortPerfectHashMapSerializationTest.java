@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import com.gs.collections.impl.factory.primitive.LongShortMaps;
+import com.gs.collections.impl.map.mutable.primitive.LongShortHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableLongShortPerfectHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFBjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLnByaW1pdGl2ZS5J\n"
+                        + "bW11dGFibGVMb25nU2hvcnRQZXJmZWN0SGFzaE1hcAAAAAAAAAABAgADWwAEa2V5c3QAAltKWwAF\n"
+                        + "c2VlZHN0AAJbSVsABnZhbHVlc3QAAltTeHB1cgACW0p4IAS1ErF1kwIAAHhwAAAAAgAAAAAAAAAB\n"
+                        + "AAAAAAAAAAJ1cgACW0lNumAmduqypQIAAHhwAAAAAQAAAAN1cgACW1Pvgy4G5V2w+gIAAHhwAAAA\n"
+                        + "AgABAAI=",
+                LongShortMaps.immutable.withAllFrozen(LongShortHashMap.newWithKeysValues(1L, (short) 1, 2L, (short) 2)));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableByteObjectTreeMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAGFjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkJ5dGVPYmplY3RUcmVlTWFwJEltbXV0YWJsZUJ5dGVPYmplY3RUcmVlTWFwAAAAAAAAAAEC\n"
+                        + "AAFMAAhkZWxlZ2F0ZXQASExjb20vZ3MvY29sbGVjdGlvbnMvaW1wbC9tYXAvc29ydGVkL211dGFi\n"
+                        + "bGUvcHJpbWl0aXZlL0J5dGVPYmplY3RUcmVlTWFwO3hwc3IARmNvbS5ncy5jb2xsZWN0aW9ucy5p\n"
+                        + "bXBsLm1hcC5zb3J0ZWQubXV0YWJsZS5wcmltaXRpdmUuQnl0ZU9iamVjdFRyZWVNYXAAAAAAAAAA\n"
+                        + "AQwAAHhwdwQAAAAAeA==",
+                new ByteObjectTreeMap<Object>().toImmutable());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableDoubleObjectTreeMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAGVjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkRvdWJsZU9iamVjdFRyZWVNYXAkSW1tdXRhYmxlRG91YmxlT2JqZWN0VHJlZU1hcAAAAAAA\n"
+                        + "AAABAgABTAAIZGVsZWdhdGV0AEpMY29tL2dzL2NvbGxlY3Rpb25zL2ltcGwvbWFwL3NvcnRlZC9t\n"
+                        + "dXRhYmxlL3ByaW1pdGl2ZS9Eb3VibGVPYmplY3RUcmVlTWFwO3hwc3IASGNvbS5ncy5jb2xsZWN0\n"
+                        + "aW9ucy5pbXBsLm1hcC5zb3J0ZWQubXV0YWJsZS5wcmltaXRpdmUuRG91YmxlT2JqZWN0VHJlZU1h\n"
+                        + "cAAAAAAAAAABDAAAeHB3BAAAAAB4",
+                new DoubleObjectTreeMap<Object>().toImmutable());
+    }
+}
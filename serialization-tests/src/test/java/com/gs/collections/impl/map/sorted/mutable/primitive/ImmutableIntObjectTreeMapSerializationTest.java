@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableIntObjectTreeMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAF9jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkludE9iamVjdFRyZWVNYXAkSW1tdXRhYmxlSW50T2JqZWN0VHJlZU1hcAAAAAAAAAABAgAB\n"
+                        + "TAAIZGVsZWdhdGV0AEdMY29tL2dzL2NvbGxlY3Rpb25zL2ltcGwvbWFwL3NvcnRlZC9tdXRhYmxl\n"
+                        + "L3ByaW1pdGl2ZS9JbnRPYmplY3RUcmVlTWFwO3hwc3IARWNvbS5ncy5jb2xsZWN0aW9ucy5pbXBs\n"
+                        + "Lm1hcC5zb3J0ZWQubXV0YWJsZS5wcmltaXRpdmUuSW50T2JqZWN0VHJlZU1hcAAAAAAAAAABDAAA\n"
+                        + "eHB3BAAAAAB4",
+                new IntObjectTreeMap<Object>().toImmutable());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableShortObjectTreeMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAGNjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5tYXAuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLlNob3J0T2JqZWN0VHJlZU1hcCRJbW11dGFibGVTaG9ydE9iamVjdFRyZWVNYXAAAAAAAAAA\n"
+                        + "AQIAAUwACGRlbGVnYXRldABJTGNvbS9ncy9jb2xsZWN0aW9ucy9pbXBsL21hcC9zb3J0ZWQvbXV0\n"
+                        + "YWJsZS9wcmltaXRpdmUvU2hvcnRPYmplY3RUcmVlTWFwO3hwc3IAR2NvbS5ncy5jb2xsZWN0aW9u\n"
+                        + "cy5pbXBsLm1hcC5zb3J0ZWQubXV0YWJsZS5wcmltaXRpdmUuU2hvcnRPYmplY3RUcmVlTWFwAAAA\n"
+                        + "AAAAAAEMAAB4cHcEAAAAAHg=",
+                new ShortObjectTreeMap<Object>().toImmutable());
+    }
+}
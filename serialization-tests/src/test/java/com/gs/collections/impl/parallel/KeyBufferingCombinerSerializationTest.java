@@ -0,0 +1,34 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class KeyBufferingCombinerSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADVjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5wYXJhbGxlbC5LZXlCdWZmZXJpbmdDb21i\n"
+                        + "aW5lcgAAAAAAAAABAgAAeHIAOmNvbS5ncy5jb2xsZWN0aW9ucy5pbXBsLnBhcmFsbGVsLkFic3Ry\n"
+                        + "YWN0UHJvY2VkdXJlQ29tYmluZXIAAAAAAAAAAQIAAVoADXVzZUNvbWJpbmVPbmV4cAE=",
+                new KeyBufferingCombiner<Object, Object>());
+    }
+}
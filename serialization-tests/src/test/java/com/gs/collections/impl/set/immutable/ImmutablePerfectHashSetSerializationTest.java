@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutablePerfectHashSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuaW1tdXRhYmxlLkltbXV0YWJsZVBl\n"
+                        + "cmZlY3RIYXNoU2V0AAAAAAAAAAECAAFbAAhlbGVtZW50c3QAE1tMamF2YS9sYW5nL09iamVjdDt4\n"
+                        + "cHVyABNbTGphdmEubGFuZy5PYmplY3Q7kM5YnxBzKWwCAAB4cAAAAAVzcgARamF2YS5sYW5nLklu\n"
+                        + "dGVnZXIS4qCk94GHOAIAAUkABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhw\n"
+                        + "AAAAAnNxAH4ABQAAAARzcQB+AAUAAAAFc3EAfgAFAAAAAXNxAH4ABQAAAAM=",
+                ImmutablePerfectHashSet.newSet(UnifiedSet.newSetWith(1, 2, 3, 4, 5).toArray()));
+    }
+}
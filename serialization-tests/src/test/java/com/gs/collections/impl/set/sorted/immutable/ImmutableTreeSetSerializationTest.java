@@ -16,7 +16,12 @@
 
 package com.gs.collections.impl.set.sorted.immutable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+
 import com.gs.collections.impl.test.Verify;
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ImmutableTreeSetSerializationTest
@@ -27,11 +32,28 @@ public class ImmutableTreeSetSerializationTest
         Verify.assertSerializedForm(
                 1L,
                 "rO0ABXNyAD1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuc29ydGVkLmltbXV0YWJsZS5JbW11\n"
-                        + "dGFibGVUcmVlU2V0AAAAAAAAAAECAAFMAAhkZWxlZ2F0ZXQAOkxjb20vZ3MvY29sbGVjdGlvbnMv\n"
+                        + "dGFibGVUcmVlU2V0AAAAAAAAAAEDAAFMAAhkZWxlZ2F0ZXQAOkxjb20vZ3MvY29sbGVjdGlvbnMv\n"
                         + "aW1wbC9zZXQvc29ydGVkL211dGFibGUvVHJlZVNvcnRlZFNldDt4cHNyADhjb20uZ3MuY29sbGVj\n"
                         + "dGlvbnMuaW1wbC5zZXQuc29ydGVkLm11dGFibGUuVHJlZVNvcnRlZFNldAAAAAAAAAABDAAAeHBw\n"
                         + "dwQAAAAEc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxh\n"
-                        + "bmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAFzcQB+AAUAAAACc3EAfgAFAAAAA3NxAH4ABQAAAAR4\n",
+                        + "bmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAFzcQB+AAUAAAACc3EAfgAFAAAAA3NxAH4ABQAAAAR4\n"
+                        + "eA==",
                 ImmutableTreeSet.newSetWith(1, 2, 3, 4));
     }
+
+    @Test
+    public void deserializePreviousForm() throws Exception
+    {
+        byte[] bytes = Base64.decodeBase64(
+                "rO0ABXNyAD1jb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuc29ydGVkLmltbXV0YWJsZS5JbW11\n"
+                        + "dGFibGVUcmVlU2V0AAAAAAAAAAECAAFMAAhkZWxlZ2F0ZXQAOkxjb20vZ3MvY29sbGVjdGlvbnMv\n"
+                        + "aW1wbC9zZXQvc29ydGVkL211dGFibGUvVHJlZVNvcnRlZFNldDt4cHNyADhjb20uZ3MuY29sbGVj\n"
+                        + "dGlvbnMuaW1wbC5zZXQuc29ydGVkLm11dGFibGUuVHJlZVNvcnRlZFNldAAAAAAAAAABDAAAeHBw\n"
+                        + "dwQAAAAEc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxh\n"
+                        + "bmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAFzcQB+AAUAAAACc3EAfgAFAAAAA3NxAH4ABQAAAAR4\n");
+        ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        Object actual = objectInputStream.readObject();
+        Verify.assertInstanceOf(ImmutableTreeSet.class, actual);
+        Assert.assertEquals(ImmutableTreeSet.newSetWith(1, 2, 3, 4), actual);
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableCharTreeSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFVjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkNoYXJUcmVlU2V0JEltbXV0YWJsZUNoYXJUcmVlU2V0AAAAAAAAAAECAAFMAAhkZWxlZ2F0\n"
+                        + "ZXQAQkxjb20vZ3MvY29sbGVjdGlvbnMvaW1wbC9zZXQvc29ydGVkL211dGFibGUvcHJpbWl0aXZl\n"
+                        + "L0NoYXJUcmVlU2V0O3hwc3IAQGNvbS5ncy5jb2xsZWN0aW9ucy5pbXBsLnNldC5zb3J0ZWQubXV0\n"
+                        + "YWJsZS5wcmltaXRpdmUuQ2hhclRyZWVTZXQAAAAAAAAAAQwAAHhwdwQAAAAAeA==",
+                new CharTreeSet().toImmutable());
+    }
+}
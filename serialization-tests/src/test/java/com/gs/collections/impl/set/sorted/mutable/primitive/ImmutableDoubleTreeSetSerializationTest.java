@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableDoubleTreeSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFljb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkRvdWJsZVRyZWVTZXQkSW1tdXRhYmxlRG91YmxlVHJlZVNldAAAAAAAAAABAgABTAAIZGVs\n"
+                        + "ZWdhdGV0AERMY29tL2dzL2NvbGxlY3Rpb25zL2ltcGwvc2V0L3NvcnRlZC9tdXRhYmxlL3ByaW1p\n"
+                        + "dGl2ZS9Eb3VibGVUcmVlU2V0O3hwc3IAQmNvbS5ncy5jb2xsZWN0aW9ucy5pbXBsLnNldC5zb3J0\n"
+                        + "ZWQubXV0YWJsZS5wcmltaXRpdmUuRG91YmxlVHJlZVNldAAAAAAAAAABDAAAeHB3BAAAAAB4",
+                new DoubleTreeSet().toImmutable());
+    }
+}
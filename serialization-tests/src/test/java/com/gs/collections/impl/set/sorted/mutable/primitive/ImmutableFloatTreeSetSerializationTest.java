@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableFloatTreeSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFdjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkZsb2F0VHJlZVNldCRJbW11dGFibGVGbG9hdFRyZWVTZXQAAAAAAAAAAQIAAUwACGRlbGVn\n"
+                        + "YXRldABDTGNvbS9ncy9jb2xsZWN0aW9ucy9pbXBsL3NldC9zb3J0ZWQvbXV0YWJsZS9wcmltaXRp\n"
+                        + "dmUvRmxvYXRUcmVlU2V0O3hwc3IAQWNvbS5ncy5jb2xsZWN0aW9ucy5pbXBsLnNldC5zb3J0ZWQu\n"
+                        + "bXV0YWJsZS5wcmltaXRpdmUuRmxvYXRUcmVlU2V0AAAAAAAAAAEMAAB4cHcEAAAAAHg=",
+                new FloatTreeSet().toImmutable());
+    }
+}
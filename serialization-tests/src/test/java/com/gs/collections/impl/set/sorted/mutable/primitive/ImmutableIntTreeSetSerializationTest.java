@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.mutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableIntTreeSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFNjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5zZXQuc29ydGVkLm11dGFibGUucHJpbWl0\n"
+                        + "aXZlLkludFRyZWVTZXQkSW1tdXRhYmxlSW50VHJlZVNldAAAAAAAAAABAgABTAAIZGVsZWdhdGV0\n"
+                        + "AEFMY29tL2dzL2NvbGxlY3Rpb25zL2ltcGwvc2V0L3NvcnRlZC9tdXRhYmxlL3ByaW1pdGl2ZS9J\n"
+                        + "bnRUcmVlU2V0O3hwc3IAP2NvbS5ncy5jb2xsZWN0aW9ucy5pbXBsLnNldC5zb3J0ZWQubXV0YWJs\n"
+                        + "ZS5wcmltaXRpdmUuSW50VHJlZVNldAAAAAAAAAABDAAAeHB3BAAAAAB4",
+                new IntTreeSet().toImmutable());
+    }
+}
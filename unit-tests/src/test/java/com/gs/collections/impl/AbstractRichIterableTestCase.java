@@ -46,6 +46,8 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -85,6 +87,8 @@ import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
@@ -809,6 +813,38 @@ public abstract class AbstractRichIterableTestCase
         Assert.assertEquals(expected, actual);
     }
 
+    @Test
+    public void sumByInt()
+    {
+        RichIterable<Integer> objects = this.newWith(1, 2, 3, 4, 5);
+        ObjectLongMap<Integer> result = objects.sumByInt(each -> each % 2, each -> each);
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(1, 9L, 0, 6L), result);
+    }
+
+    @Test
+    public void sumByFloat()
+    {
+        RichIterable<Integer> objects = this.newWith(1, 2, 3, 4, 5);
+        ObjectDoubleMap<Integer> result = objects.sumByFloat(each -> each % 2, Integer::floatValue);
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(1, 9.0, 0, 6.0), result);
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        RichIterable<Integer> objects = this.newWith(1, 2, 3, 4, 5);
+        ObjectLongMap<Integer> result = objects.sumByLong(each -> each % 2, Integer::longValue);
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(1, 9L, 0, 6L), result);
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        RichIterable<Integer> objects = this.newWith(1, 2, 3, 4, 5);
+        ObjectDoubleMap<Integer> result = objects.sumByDouble(each -> each % 2, Integer::doubleValue);
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(1, 9.0, 0, 6.0), result);
+    }
+
     @Test
     public void toArray()
     {
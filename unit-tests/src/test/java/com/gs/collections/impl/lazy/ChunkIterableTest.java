@@ -62,4 +62,18 @@ public class ChunkIterableTest
         }, 'A');
         Assert.assertEquals("|[1, 2]A|[3, 4]A|[5]A", this.buffer.toString());
     }
+
+    @Test
+    public void forEachWithExactMultipleOfSize()
+    {
+        new ChunkIterable<Integer>(FastList.newListWith(1, 2, 3, 4), 2).forEach(Procedures.cast(this.buffer::append));
+        Assert.assertEquals("[1, 2][3, 4]", this.buffer.toString());
+    }
+
+    @Test
+    public void forEachEmpty()
+    {
+        new ChunkIterable<Integer>(FastList.<Integer>newList(), 2).forEach(Procedures.cast(this.buffer::append));
+        Assert.assertEquals("", this.buffer.toString());
+    }
 }
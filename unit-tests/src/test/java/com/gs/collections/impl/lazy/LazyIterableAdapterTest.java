@@ -16,7 +16,10 @@
 
 package com.gs.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.function.AddFunction;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
@@ -100,4 +103,38 @@ public class LazyIterableAdapterTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1, 5),
                 iterable.distinct().toList());
     }
+
+    @Test
+    public void terminalOperationsDoNotUseIterators()
+    {
+        FastList<Integer> source = new FastList<Integer>(Interval.oneTo(10))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("Terminal operations should push elements through forEach");
+            }
+        };
+        LazyIterable<Integer> pipeline = new LazyIterableAdapter<Integer>(source)
+                .select(each -> each > 2)
+                .collect(each -> each * 2)
+                .reject(each -> each == 12)
+                .distinct()
+                .zipWithIndex()
+                .collect(Pair::getOne);
+        Assert.assertEquals(FastList.newListWith(6, 8, 10, 14, 16, 18, 20), pipeline.toList());
+        Assert.assertEquals(Integer.valueOf(92), pipeline.injectInto(Integer.valueOf(0), (Integer value, Integer each) -> value + each));
+        Assert.assertEquals(92, pipeline.injectInto(0, (int value, Integer each) -> value + each));
+        Assert.assertEquals(92L, pipeline.sumOfInt(Integer::intValue));
+        Assert.assertEquals(92L, pipeline.sumOfLong(Integer::longValue));
+        Assert.assertEquals(92.0, pipeline.sumOfDouble(Integer::doubleValue), 0.0);
+        Assert.assertEquals(92.0, pipeline.sumOfFloat(Integer::floatValue), 0.0);
+        Assert.assertEquals(Integer.valueOf(6), pipeline.minBy(each -> each));
+        Assert.assertEquals(Integer.valueOf(20), pipeline.maxBy(each -> each));
+        Assert.assertEquals(Integer.valueOf(6), pipeline.min());
+        Assert.assertEquals(4, pipeline.count(each -> each > 10));
+        Assert.assertEquals(FastList.newListWith(6, 8, 10), pipeline.select(each -> each <= 10, FastList.<Integer>newList()));
+        Assert.assertEquals(FastList.newListWith(FastList.newListWith(6, 8, 10), FastList.newListWith(14, 16, 18), FastList.newListWith(20)), pipeline.chunk(3).toList());
+        Assert.assertEquals(FastList.newListWith(6, 8, 10), pipeline.partition(each -> each <= 10).getSelected());
+    }
 }
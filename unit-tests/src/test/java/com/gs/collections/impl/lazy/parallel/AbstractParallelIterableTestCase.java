@@ -30,6 +30,7 @@ import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.mutable.HashBag;
@@ -743,6 +744,66 @@ public abstract class AbstractParallelIterableTestCase
                 0.0);
     }
 
+    @Test
+    public void injectInto()
+    {
+        Assert.assertEquals(
+                this.getExpected().injectInto(0L, (Long sum, Integer each) -> sum + each),
+                this.classUnderTest().injectInto(() -> 0L, (Long sum, Integer each) -> sum + each, Long::sum));
+
+        MutableList<Integer> concatenated = this.classUnderTest().injectInto(
+                FastList::<Integer>newList,
+                (MutableList<Integer> list, Integer each) -> list.with(each),
+                (MutableList<Integer> list1, MutableList<Integer> list2) -> list1.withAll(list2));
+        if (this.isOrdered())
+        {
+            Assert.assertEquals(this.getExpected().toList(), concatenated);
+        }
+        else
+        {
+            Assert.assertEquals(this.getExpected().toBag(), concatenated.toBag());
+        }
+    }
+
+    @Test
+    public void injectIntoPrimitive()
+    {
+        Assert.assertEquals(
+                this.getExpected().injectInto(0, (int sum, Integer each) -> sum + each),
+                this.classUnderTest().injectIntoInt(0, (int sum, Integer each) -> sum + each, (int sum1, int sum2) -> sum1 + sum2));
+        Assert.assertEquals(
+                this.getExpected().injectInto(0L, (long sum, Integer each) -> sum + each),
+                this.classUnderTest().injectIntoLong(0L, (long sum, Integer each) -> sum + each, (long sum1, long sum2) -> sum1 + sum2));
+        Assert.assertEquals(
+                this.getExpected().injectInto(0.0f, (float sum, Integer each) -> sum + each),
+                this.classUnderTest().injectIntoFloat(0.0f, (float sum, Integer each) -> sum + each, (float sum1, float sum2) -> sum1 + sum2),
+                0.0f);
+        Assert.assertEquals(
+                this.getExpected().injectInto(0.0, (double sum, Integer each) -> sum + each),
+                this.classUnderTest().injectIntoDouble(0.0, (double sum, Integer each) -> sum + each, (double sum1, double sum2) -> sum1 + sum2),
+                0.0);
+        Assert.assertEquals(
+                this.getExpected().injectInto(Integer.MIN_VALUE, (int max, Integer each) -> Math.max(max, each)),
+                this.classUnderTest().injectIntoInt(Integer.MIN_VALUE, (int max, Integer each) -> Math.max(max, each), Math::max));
+    }
+
+    @Test
+    public void sumBy()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumByInt(each -> each % 3, Integer::intValue),
+                this.classUnderTest().sumByInt(each -> each % 3, Integer::intValue));
+        Assert.assertEquals(
+                this.getExpected().sumByLong(each -> each % 3, Integer::longValue),
+                this.classUnderTest().sumByLong(each -> each % 3, Integer::longValue));
+        Assert.assertEquals(
+                this.getExpected().sumByFloat(each -> each % 3, Integer::floatValue),
+                this.classUnderTest().sumByFloat(each -> each % 3, Integer::floatValue));
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(each -> each % 3, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(each -> each % 3, Integer::doubleValue));
+    }
+
     @Test
     public void asUnique()
     {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ShortCircuitTest
+{
+    @Test
+    public void cancelLaterBatches()
+    {
+        ShortCircuit shortCircuit = new ShortCircuit();
+        ShortCircuit first = shortCircuit.forBatch(0);
+        ShortCircuit third = shortCircuit.forBatch(2);
+        ShortCircuit fifth = shortCircuit.forBatch(4);
+        Assert.assertFalse(shortCircuit.isAnyFound());
+        Assert.assertEquals(Integer.MAX_VALUE, shortCircuit.getCutoff());
+
+        fifth.cancelLaterBatches();
+        third.cancelLaterBatches();
+        fifth.cancelLaterBatches();
+        Assert.assertTrue(shortCircuit.isAnyFound());
+        Assert.assertEquals(2, shortCircuit.getCutoff());
+        Assert.assertFalse(first.isCancelled());
+        Assert.assertFalse(third.isCancelled());
+        Assert.assertTrue(fifth.isCancelled());
+    }
+
+    @Test
+    public void cancelAll()
+    {
+        ShortCircuit shortCircuit = new ShortCircuit();
+        shortCircuit.forBatch(3).cancelAll();
+        Assert.assertTrue(shortCircuit.forBatch(0).isCancelled());
+        Assert.assertTrue(shortCircuit.forBatch(3).isCancelled());
+    }
+
+    @Test
+    public void stopWhenCancelled()
+    {
+        ShortCircuit shortCircuit = new ShortCircuit().forBatch(1);
+        AtomicInteger count = new AtomicInteger();
+        Predicate<Integer> predicate = shortCircuit.stopWhenCancelled(each -> count.incrementAndGet() < 0, true);
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertFalse(predicate.accept(i));
+        }
+        shortCircuit.forBatch(0).cancelLaterBatches();
+
+        // The cutoff is only checked once per block of elements
+        int calls = 1000;
+        while (!predicate.accept(calls))
+        {
+            calls++;
+        }
+        Assert.assertEquals(1023, calls);
+        Assert.assertEquals(1023, count.get());
+
+        Predicate2<Integer, Integer> predicate2 = shortCircuit.stopWhenCancelled((each, parameter) -> true, false);
+        for (int i = 0; i < 1023; i++)
+        {
+            Assert.assertTrue(predicate2.accept(i, i));
+        }
+        Assert.assertFalse(predicate2.accept(1023, 1023));
+    }
+}
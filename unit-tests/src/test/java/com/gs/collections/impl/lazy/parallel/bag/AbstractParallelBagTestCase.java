@@ -422,6 +422,27 @@ public abstract class AbstractParallelBagTestCase extends AbstractParallelIterab
         super.aggregateInPlaceBy();
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    @Override
+    public void injectInto()
+    {
+        super.injectInto();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @Override
+    public void injectIntoPrimitive()
+    {
+        super.injectIntoPrimitive();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @Override
+    public void sumBy()
+    {
+        super.sumBy();
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     @Override
     public void asUnique()
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag.sorted;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.api.bag.sorted.ParallelSortedBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.function.NegativeIntervalFunction;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterableTestCase;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public abstract class AbstractParallelSortedBagTestCase extends AbstractParallelIterableTestCase
+{
+    @Override
+    protected abstract ParallelSortedBag<Integer> classUnderTest();
+
+    @Override
+    protected MutableList<Integer> getExpected()
+    {
+        return FastList.newListWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    protected MutableSortedBag<Integer> getExpectedBag()
+    {
+        return TreeBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected <T> RichIterable<T> getActual(ParallelIterable<T> actual)
+    {
+        return actual.toList();
+    }
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return true;
+    }
+
+    @Test
+    public void forEachWithOccurrences()
+    {
+        MutableSortedBag<Integer> actual = TreeBag.newBag();
+        this.classUnderTest().forEachWithOccurrences((each, occurrences) -> {
+            synchronized (actual)
+            {
+                actual.addOccurrences(each, occurrences);
+            }
+        });
+        Assert.assertEquals(this.getExpectedBag(), actual);
+    }
+
+    @Test
+    public void toBag()
+    {
+        Assert.assertEquals(HashBag.newBag(this.getExpectedBag()), this.classUnderTest().toBag());
+    }
+
+    @Test
+    @Override
+    public void groupBy()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpectedBag().groupBy(isOddFunction),
+                this.classUnderTest().groupBy(isOddFunction));
+    }
+
+    @Test
+    @Override
+    public void groupByEach()
+    {
+        Assert.assertEquals(
+                this.getExpectedBag().groupByEach(new NegativeIntervalFunction()),
+                this.classUnderTest().groupByEach(new NegativeIntervalFunction()));
+    }
+
+    @Test
+    @Override
+    public void sumOfInt()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumOfInt(Integer::intValue),
+                this.classUnderTest().sumOfInt(Integer::intValue));
+    }
+
+    @Test
+    @Override
+    public void sumOfLong()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumOfLong(Integer::longValue),
+                this.classUnderTest().sumOfLong(Integer::longValue));
+    }
+
+    @Test
+    @Override
+    public void sumOfFloat()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumOfFloat(Integer::floatValue),
+                this.classUnderTest().sumOfFloat(Integer::floatValue),
+                0.0);
+    }
+
+    @Test
+    @Override
+    public void sumOfDouble()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumOfDouble(Integer::doubleValue),
+                this.classUnderTest().sumOfDouble(Integer::doubleValue),
+                0.0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @Override
+    public void asUnique()
+    {
+        super.asUnique();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag.sorted;
+
+import com.gs.collections.api.bag.sorted.ParallelSortedBag;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelSortedBagTest extends AbstractParallelSortedBagTestCase
+{
+    @Override
+    protected ParallelSortedBag<Integer> classUnderTest()
+    {
+        return TreeBag.newBagWith(4, 4, 4, 4, 3, 3, 3, 2, 2, 1).asParallel(this.executorService, 2);
+    }
+
+    @Test
+    public void skewedOccurrences()
+    {
+        TreeBag<Integer> bag = TreeBag.newBag(Comparators.<Integer>reverseNaturalOrder());
+        bag.addOccurrences(1, 1000);
+        for (int i = 2; i <= 50; i++)
+        {
+            bag.add(i);
+        }
+        bag.addOccurrences(51, 37);
+        for (int batchSize = 1; batchSize <= 1100; batchSize += 99)
+        {
+            ParallelSortedBag<Integer> parallel = bag.asParallel(this.executorService, batchSize);
+            Assert.assertEquals(bag.toList(), parallel.toList());
+            Assert.assertEquals(bag.toSortedList(), parallel.toSortedList());
+            Assert.assertEquals(bag.select(IntegerPredicates.isOdd()).toList(), parallel.select(IntegerPredicates.isOdd()).toList());
+            Assert.assertEquals(bag.collect(String::valueOf), parallel.collect(String::valueOf).toList());
+            Assert.assertEquals(bag.sumOfInt(Integer::intValue), parallel.sumOfInt(Integer::intValue));
+            Assert.assertEquals(bag.groupBy(IntegerPredicates.isOdd()::accept), parallel.groupBy(IntegerPredicates.isOdd()::accept));
+            Assert.assertEquals(bag.count(Predicates.lessThan(10)), parallel.count(Predicates.lessThan(10)));
+            Assert.assertEquals(Integer.valueOf(51), parallel.detect(Predicates.greaterThan(10)));
+        }
+    }
+
+    @Test
+    public void forEachWithOccurrencesMergesSplitKeys()
+    {
+        TreeBag<Integer> bag = TreeBag.newBag(Comparators.<Integer>reverseNaturalOrder());
+        bag.addOccurrences(1, 1000);
+        bag.add(2);
+        bag.addOccurrences(3, 500);
+        bag.add(4);
+        for (int batchSize = 1; batchSize <= 1100; batchSize += 99)
+        {
+            ParallelSortedBag<Integer> parallel = bag.asParallel(this.executorService, batchSize);
+            MutableMap<Integer, Integer> occurrences = UnifiedMap.newMap();
+            parallel.forEachWithOccurrences((each, count) -> {
+                synchronized (occurrences)
+                {
+                    Assert.assertNull(occurrences.put(each, count));
+                }
+            });
+            Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 1000, 2, 1, 3, 500, 4, 1), occurrences);
+
+            MutableMap<Integer, Integer> oddOccurrences = UnifiedMap.newMap();
+            parallel.select(IntegerPredicates.isOdd()).forEachWithOccurrences((each, count) -> {
+                synchronized (oddOccurrences)
+                {
+                    Assert.assertNull(oddOccurrences.put(each, count));
+                }
+            });
+            Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 1000, 3, 500), oddOccurrences);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        TreeBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        TreeBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(null, 2);
+    }
+}
@@ -20,8 +20,12 @@ import com.gs.collections.api.ParallelIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.partition.list.PartitionList;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterableTestCase;
 import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
 import org.junit.Test;
 
 public abstract class AbstractParallelListIterableTestCase extends AbstractParallelIterableTestCase
@@ -47,6 +51,80 @@ public abstract class AbstractParallelListIterableTestCase extends AbstractParal
         return true;
     }
 
+    @Test
+    public void partition()
+    {
+        PartitionList<Integer> expected = this.getExpected().partition(IntegerPredicates.isEven());
+        PartitionList<Integer> actual = this.classUnderTest().partition(IntegerPredicates.isEven());
+        Assert.assertEquals(expected.getSelected(), actual.getSelected());
+        Assert.assertEquals(expected.getRejected(), actual.getRejected());
+
+        PartitionList<Integer> actualWith = this.classUnderTest().partitionWith(Predicates2.<Integer>greaterThan(), 2);
+        Assert.assertEquals(this.getExpected().select(each -> each > 2), actualWith.getSelected());
+        Assert.assertEquals(this.getExpected().reject(each -> each > 2), actualWith.getRejected());
+    }
+
+    @Test
+    public void zipWithIndex()
+    {
+        Assert.assertEquals(this.getExpected().zipWithIndex(), this.classUnderTest().zipWithIndex().toList());
+        Assert.assertEquals(
+                this.getExpected().select(IntegerPredicates.isEven()).zipWithIndex(),
+                this.classUnderTest().select(IntegerPredicates.isEven()).zipWithIndex().toList());
+        Assert.assertTrue(this.classUnderTest().zipWithIndex().anySatisfy(each -> each.getTwo() == this.getExpected().size() - 1));
+    }
+
+    @Test
+    public void take()
+    {
+        for (int count : new int[]{0, 1, 3, 9, 10, 11, 100})
+        {
+            Assert.assertEquals(this.getExpected().asLazy().take(count).toList(), this.classUnderTest().take(count).toList());
+        }
+        Assert.assertEquals(
+                this.getExpected().asLazy().drop(2).take(5).collect(String::valueOf).toList(),
+                this.classUnderTest().drop(2).take(5).collect(String::valueOf).toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void take_throws()
+    {
+        this.classUnderTest().take(-1);
+    }
+
+    @Test
+    public void drop()
+    {
+        for (int count : new int[]{0, 1, 3, 9, 10, 11, 100})
+        {
+            Assert.assertEquals(this.getExpected().asLazy().drop(count).toList(), this.classUnderTest().drop(count).toList());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void drop_throws()
+    {
+        this.classUnderTest().drop(-1);
+    }
+
+    @Test
+    public void chunk()
+    {
+        for (int size : new int[]{1, 2, 3, 4, 9, 10, 11})
+        {
+            Assert.assertEquals(this.getExpected().chunk(size), this.classUnderTest().chunk(size).toList());
+        }
+        Assert.assertEquals(
+                this.getExpected().chunk(3).collect(RichIterable::size),
+                this.classUnderTest().chunk(3).collect(RichIterable::size).toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunk_throws()
+    {
+        this.classUnderTest().chunk(0);
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     @Override
     public void groupBy()
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedListBatchesTest
+{
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void rootListIsSplitByIndex()
+    {
+        // Evaluating the batches of this interval would not fit into memory
+        Interval interval = Interval.oneTo(Integer.MAX_VALUE);
+        Assert.assertEquals(
+                FastList.newListWith(1, 2, 3),
+                interval.asParallel(this.executorService, 1000).take(3).toList());
+        Assert.assertEquals(
+                FastList.newListWith(Integer.MAX_VALUE - 1, Integer.MAX_VALUE),
+                interval.asParallel(this.executorService, 1000).drop(Integer.MAX_VALUE - 2).toList());
+        Assert.assertEquals(
+                FastList.newListWith(Tuples.pair(1, 0), Tuples.pair(2, 1)),
+                interval.asParallel(this.executorService, 1000).take(2).zipWithIndex().toList());
+    }
+
+    @Test
+    public void rootListBatches()
+    {
+        AbstractParallelListIterable<Integer, ?> parallelIterable =
+                (AbstractParallelListIterable<Integer, ?>) FastList.newList(Interval.oneTo(10)).asParallel(this.executorService, 4);
+        IndexedListBatches<Integer> batches = IndexedListBatches.evaluate(parallelIterable);
+        Assert.assertEquals(10, batches.size());
+        Assert.assertEquals(3, batches.getBatchCount());
+        Assert.assertEquals(8, batches.getOffset(2));
+        Assert.assertEquals(2, batches.getBatchSize(2));
+        Assert.assertEquals(FastList.newListWith(4, 5, 6, 7, 8, 9), batches.copyRange(3, 9));
+    }
+
+    @Test
+    public void evaluateKeepsLimit()
+    {
+        AbstractParallelListIterable<Integer, ?> parallelIterable =
+                (AbstractParallelListIterable<Integer, ?>) FastList.newList(Interval.oneTo(100)).asParallel(this.executorService, 10).select(each -> each % 2 == 0);
+        IndexedListBatches<Integer> batches = IndexedListBatches.evaluate(parallelIterable, 3);
+        Assert.assertEquals(10, batches.getBatchCount());
+        for (int i = 0; i < batches.getBatchCount(); i++)
+        {
+            Assert.assertEquals(3, batches.getBatchSize(i));
+        }
+        Assert.assertEquals(FastList.newListWith(2, 4, 6, 12, 14), batches.copyRange(0, 5));
+        Assert.assertEquals(
+                FastList.newListWith(2, 4, 6, 8, 10, 12, 14),
+                FastList.newList(Interval.oneTo(100)).asParallel(this.executorService, 10).select(each -> each % 2 == 0).take(7).toList());
+    }
+}
@@ -16,8 +16,14 @@
 
 package com.gs.collections.impl.lazy.parallel.list;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelListIterableTest extends AbstractParallelListIterableTestCase
@@ -39,4 +45,42 @@ public class ParallelListIterableTest extends AbstractParallelListIterableTestCa
     {
         FastList.newListWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(null, 2);
     }
+
+    @Test
+    public void shortCircuitSkipsLaterBatches()
+    {
+        ExecutorService singleThreaded = Executors.newSingleThreadExecutor();
+        try
+        {
+            ParallelListIterable<Integer> parallel = FastList.newList(Interval.oneTo(100000)).asParallel(singleThreaded, 1000);
+
+            AtomicInteger anySatisfyCount = new AtomicInteger();
+            Assert.assertTrue(parallel.anySatisfy(each -> anySatisfyCount.incrementAndGet() > 0 && each == 10));
+            Assert.assertEquals(10, anySatisfyCount.get());
+
+            AtomicInteger allSatisfyCount = new AtomicInteger();
+            Assert.assertFalse(parallel.allSatisfy(each -> allSatisfyCount.incrementAndGet() > 0 && each < 10));
+            Assert.assertEquals(10, allSatisfyCount.get());
+
+            AtomicInteger detectCount = new AtomicInteger();
+            Assert.assertEquals(Integer.valueOf(1500), parallel.detect(each -> detectCount.incrementAndGet() > 0 && each >= 1500));
+            Assert.assertEquals(1500, detectCount.get());
+        }
+        finally
+        {
+            singleThreaded.shutdownNow();
+        }
+    }
+
+    @Test
+    public void detectReturnsFirstInOrder()
+    {
+        ParallelListIterable<Integer> parallel = FastList.newList(Interval.oneTo(100000)).asParallel(this.executorService, 100);
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(5000), parallel.detect(each -> each % 5000 == 0));
+            Assert.assertEquals(Integer.valueOf(99999), parallel.detect(each -> each == 99999));
+            Assert.assertNull(parallel.detect(each -> each > 100000));
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.block.HashingStrategy;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelMapIterableTest
+{
+    private static final HashingStrategy<Integer> COLLIDING_HASHING_STRATEGY = new HashingStrategy<Integer>()
+    {
+        public int computeHashCode(Integer object)
+        {
+            return object.intValue() % 7;
+        }
+
+        public boolean equals(Integer object1, Integer object2)
+        {
+            return object1.equals(object2);
+        }
+    };
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(10);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void unifiedMap()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        for (int i = 1; i <= 2000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        map.put(0, null);
+        for (int batchSize = 1; batchSize <= 5000; batchSize *= 7)
+        {
+            this.assertParallelViews(map, map.asParallel(this.executorService, batchSize));
+        }
+    }
+
+    @Test
+    public void unifiedMapWithHashingStrategy()
+    {
+        UnifiedMapWithHashingStrategy<Integer, String> map = UnifiedMapWithHashingStrategy.newMap(COLLIDING_HASHING_STRATEGY);
+        for (int i = 1; i <= 2000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        for (int batchSize = 1; batchSize <= 5000; batchSize *= 7)
+        {
+            this.assertParallelViews(map, map.asParallel(this.executorService, batchSize));
+        }
+    }
+
+    @Test
+    public void concurrentHashMap()
+    {
+        ConcurrentHashMap<Integer, String> map = ConcurrentHashMap.newMap();
+        for (int i = 1; i <= 2000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        for (int batchSize = 1; batchSize <= 5000; batchSize *= 7)
+        {
+            this.assertParallelViews(map, map.asParallel(this.executorService, batchSize));
+        }
+    }
+
+    @Test
+    public void largeBatchSize()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        UnifiedMapWithHashingStrategy<Integer, String> mapWithHashingStrategy = UnifiedMapWithHashingStrategy.newMap(COLLIDING_HASHING_STRATEGY);
+        for (int i = 1; i <= 2000; i++)
+        {
+            map.put(i, String.valueOf(i));
+            mapWithHashingStrategy.put(i, String.valueOf(i));
+        }
+        this.assertParallelViews(map, map.asParallel(this.executorService, Integer.MAX_VALUE / 2 + 1));
+        this.assertParallelViews(map, map.asParallel(this.executorService, Integer.MAX_VALUE));
+        this.assertParallelViews(mapWithHashingStrategy, mapWithHashingStrategy.asParallel(this.executorService, Integer.MAX_VALUE / 2 + 1));
+        this.assertParallelViews(mapWithHashingStrategy, mapWithHashingStrategy.asParallel(this.executorService, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void empty()
+    {
+        ParallelMapIterable<Integer, String> parallel = UnifiedMap.<Integer, String>newMap().asParallel(this.executorService, 2);
+        Assert.assertNull(parallel.detect((key, value) -> true));
+        Assert.assertTrue(parallel.keysView().toSet().isEmpty());
+        Assert.assertFalse(parallel.valuesView().anySatisfy(value -> true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        UnifiedMap.newWithKeysValues(1, "1").asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        ConcurrentHashMap.newMap().asParallel(null, 2);
+    }
+
+    private void assertParallelViews(MutableMap<Integer, String> expected, ParallelMapIterable<Integer, String> parallel)
+    {
+        ConcurrentHashMap<Integer, String> actual = ConcurrentHashMap.newMap();
+        parallel.forEachKeyValue((key, value) -> {
+            if (value != null)
+            {
+                actual.put(key, value);
+            }
+        });
+        Assert.assertEquals(expected.reject((key, value) -> value == null), actual);
+
+        Assert.assertEquals(expected.keySet(), parallel.keysView().toSet());
+        Assert.assertEquals(HashBag.newBag(expected.values()), parallel.valuesView().toBag());
+        Assert.assertEquals(expected.keyValuesView().toSet(), parallel.keyValuesView().toSet());
+        Assert.assertEquals(
+                expected.keysView().count(IntegerPredicates.isEven()),
+                parallel.keysView().count(IntegerPredicates.isEven()));
+
+        Pair<Integer, String> detected = parallel.detect((key, value) -> "1000".equals(value));
+        Assert.assertEquals(Tuples.pair(1000, "1000"), detected);
+        Assert.assertNull(parallel.detect((key, value) -> "nothing".equals(value)));
+        Assert.assertEquals(Integer.valueOf(1500), parallel.keysView().detect(key -> key == 1500));
+        Assert.assertTrue(parallel.valuesView().anySatisfy("2000"::equals));
+        Assert.assertFalse(parallel.keyValuesView().allSatisfy(pair -> pair.getTwo() != null && pair.getTwo().startsWith("1")));
+    }
+}
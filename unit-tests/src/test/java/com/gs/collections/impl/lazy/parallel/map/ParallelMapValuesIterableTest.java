@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.function.NegativeIntervalFunction;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterableTestCase;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelMapValuesIterableTest extends AbstractParallelIterableTestCase
+{
+    @Override
+    protected ParallelIterable<Integer> classUnderTest()
+    {
+        ConcurrentHashMap<String, Integer> map = ConcurrentHashMap.newMap();
+        map.put("1", 1);
+        map.put("2a", 2);
+        map.put("2b", 2);
+        map.put("3a", 3);
+        map.put("3b", 3);
+        map.put("3c", 3);
+        map.put("4a", 4);
+        map.put("4b", 4);
+        map.put("4c", 4);
+        map.put("4d", 4);
+        return map.asParallel(this.executorService, 2).valuesView();
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpected()
+    {
+        return HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected <T> RichIterable<T> getActual(ParallelIterable<T> actual)
+    {
+        return actual.toBag();
+    }
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return false;
+    }
+
+    @Test
+    @Override
+    public void groupBy()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().toBag().groupBy(isOddFunction),
+                this.classUnderTest().groupBy(isOddFunction));
+    }
+
+    @Test
+    @Override
+    public void groupByEach()
+    {
+        Assert.assertEquals(
+                this.getExpected().toBag().groupByEach(new NegativeIntervalFunction()),
+                this.classUnderTest().groupByEach(new NegativeIntervalFunction()));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.set.sorted;
+
+import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelSortedSetIterableTest extends AbstractParallelSortedSetIterableTestCase
+{
+    @Override
+    protected ParallelSortedSetIterable<Integer> classUnderTest()
+    {
+        return TreeSortedSet.newSetWith(4, 3, 2, 1).asParallel(this.executorService, 2);
+    }
+
+    @Test
+    public void batchesPreserveComparatorOrder()
+    {
+        TreeSortedSet<Integer> set = TreeSortedSet.newSet(Comparators.<Integer>reverseNaturalOrder(), Interval.oneTo(100));
+        for (int batchSize = 1; batchSize <= 101; batchSize += 10)
+        {
+            ParallelSortedSetIterable<Integer> parallel = set.asParallel(this.executorService, batchSize);
+            Assert.assertEquals(set.toList(), parallel.toList());
+            Assert.assertEquals(set.select(Predicates.greaterThan(50)).toList(), parallel.select(Predicates.greaterThan(50)).toList());
+            Assert.assertEquals(set.collect(String::valueOf), parallel.collect(String::valueOf).toList());
+            Assert.assertEquals(set.detect(Predicates.lessThan(30)), parallel.detect(Predicates.lessThan(30)));
+            Assert.assertEquals(100, parallel.count(Predicates.alwaysTrue()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        TreeSortedSet.newSetWith(1, 2, 3, 4).asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        TreeSortedSet.newSetWith(1, 2, 3, 4).asParallel(null, 2);
+    }
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.TimeUnit;
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.impl.block.factory.IntegerPredicates;
 import com.gs.collections.impl.block.factory.Predicates;
@@ -816,6 +817,27 @@ public class IntervalTest
         Verify.assertThrows(IllegalArgumentException.class, () -> { Interval.fromTo(1, 3).drop(-1); });
     }
 
+    @Test
+    public void asParallel() throws InterruptedException
+    {
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        Interval interval = Interval.fromToBy(-10, 1000, 7);
+        ParallelListIterable<Integer> parallel = interval.asParallel(service, 10);
+        Assert.assertEquals(interval, parallel.toList());
+        Assert.assertEquals(interval.select(IntegerPredicates.isEven()).toList(), parallel.select(IntegerPredicates.isEven()).toList());
+        Assert.assertEquals(interval.count(IntegerPredicates.isOdd()), parallel.count(IntegerPredicates.isOdd()));
+        Assert.assertEquals(Integer.valueOf(4), parallel.detect(Predicates.greaterThan(0)));
+        Assert.assertTrue(parallel.allSatisfy(Predicates.lessThan(1000)));
+        Assert.assertFalse(parallel.anySatisfy(Predicates.greaterThan(1000)));
+        Assert.assertEquals(
+                FastList.newListWith(Integer.MIN_VALUE + 20, Integer.MIN_VALUE + 13, Integer.MIN_VALUE + 6),
+                Interval.fromToBy(Integer.MIN_VALUE + 20, Integer.MIN_VALUE, -7).asParallel(service, 2).toList());
+        Verify.assertThrows(IllegalArgumentException.class, () -> { interval.asParallel(service, 0); });
+        Verify.assertThrows(NullPointerException.class, () -> { interval.asParallel(null, 1); });
+        service.shutdown();
+        service.awaitTermination(20, TimeUnit.SECONDS);
+    }
+
     @Test
     public void distinct()
     {
@@ -20,11 +20,14 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.block.function.Function0;
@@ -33,6 +36,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.tuple.Twin;
+import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.Procedures;
@@ -1094,6 +1098,41 @@ public class FastListTest extends AbstractListTestCase
         }
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            for (int size : new int[]{1, 24, 100000})
+            {
+                FastList<Integer> actual = FastList.newList(Interval.oneTo(size));
+                Collections.shuffle(actual);
+                Assert.assertEquals(Interval.oneTo(size), actual.sortThisParallel(executorService));
+                Assert.assertEquals(Interval.oneTo(size).reverseThis(), actual.sortThisParallel(Collections.<Integer>reverseOrder(), executorService));
+            }
+
+            Verify.assertEmpty(FastList.<Integer>newList().sortThisParallel(executorService));
+
+            // Sorting by the last digit only must keep the original order of equal elements
+            FastList<Integer> stable = FastList.newList(Interval.oneTo(100000));
+            Comparator<Integer> byLastDigit = Comparators.byFunction(each -> each % 10);
+            Assert.assertEquals(
+                    FastList.newList(Interval.oneTo(100000)).sortThis(byLastDigit),
+                    stable.sortThisParallel(byLastDigit, executorService));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void sortThisParallel_throws_nullExecutorService()
+    {
+        this.newWith(2, 1).sortThisParallel(null);
+    }
+
     @Test
     public void testNewListWithCollection()
     {
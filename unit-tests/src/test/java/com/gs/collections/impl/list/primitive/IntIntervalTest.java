@@ -17,8 +17,12 @@
 package com.gs.collections.impl.list.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.iterator.IntIterator;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
@@ -623,4 +627,31 @@ public class IntIntervalTest
         Assert.assertTrue(IntInterval.fromTo(1, 3).containsAll(1, 2, 3));
         Assert.assertFalse(IntInterval.fromTo(1, 3).containsAll(1, 2, 4));
     }
+
+    @Test
+    public void asParallel() throws InterruptedException
+    {
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        IntInterval interval = IntInterval.fromToBy(1000, -10, -7);
+        ParallelIntIterable parallel = interval.asParallel(service, 10);
+        Assert.assertEquals(interval, parallel.toList());
+        Assert.assertEquals(interval.sum(), parallel.sum());
+        Assert.assertEquals(interval.select(IntPredicates.isEven()), parallel.select(IntPredicates.isEven()).toList());
+        Assert.assertEquals(interval.count(IntPredicates.isOdd()), parallel.count(IntPredicates.isOdd()));
+        Assert.assertEquals(496, parallel.detectIfNone(IntPredicates.lessThan(500), 0));
+        Assert.assertEquals(0, parallel.detectIfNone(IntPredicates.lessThan(-10), 0));
+        Assert.assertTrue(parallel.allSatisfy(IntPredicates.greaterThan(-10)));
+        Assert.assertFalse(parallel.anySatisfy(IntPredicates.greaterThan(1000)));
+        Assert.assertEquals(interval.max(), parallel.max());
+        Assert.assertEquals(interval.min(), parallel.min());
+
+        Assert.assertEquals(
+                IntArrayList.newListWith(Integer.MAX_VALUE - 20, Integer.MAX_VALUE - 13, Integer.MAX_VALUE - 6),
+                IntInterval.fromToBy(Integer.MAX_VALUE - 20, Integer.MAX_VALUE, 7).asParallel(service, 2).toList());
+
+        Verify.assertThrows(IllegalArgumentException.class, () -> { interval.asParallel(service, 0); });
+        Verify.assertThrows(NullPointerException.class, () -> { interval.asParallel(null, 1); });
+        service.shutdown();
+        service.awaitTermination(20, TimeUnit.SECONDS);
+    }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.block.factory.primitive.LongPredicates;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongIntervalTest
+{
+    private static final long BILLION = 1000000000L;
+
+    private final LongInterval longInterval = LongInterval.oneTo(3L);
+
+    @Test
+    public void fromAndToAndBy()
+    {
+        LongInterval interval = LongInterval.from(1L);
+        LongInterval interval2 = interval.to(10L);
+        LongInterval interval3 = interval2.by(2L);
+        Verify.assertEqualsAndHashCode(interval, LongInterval.fromTo(1L, 1L));
+        Verify.assertEqualsAndHashCode(interval2, LongInterval.fromTo(1L, 10L));
+        Verify.assertEqualsAndHashCode(interval3, LongInterval.fromToBy(1L, 10L, 2L));
+        Verify.assertEqualsAndHashCode(LongArrayList.newListWith(0L, 2L, 4L), LongInterval.zero().to(4L).by(2L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromToBy_throws_step_size_zero()
+    {
+        LongInterval.fromToBy(0L, 0L, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromToBy_throws_wrong_direction()
+    {
+        LongInterval.fromToBy(0L, 10L, -1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oneTo_throws_non_positive_count()
+    {
+        LongInterval.oneTo(0L);
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        LongInterval interval1 = LongInterval.oneTo(5L);
+        Verify.assertPostSerializedEqualsAndHashCode(interval1);
+        Verify.assertEqualsAndHashCode(interval1, LongInterval.oneTo(5L));
+        Assert.assertNotEquals(interval1, LongInterval.zeroTo(5L));
+        Verify.assertEqualsAndHashCode(LongInterval.fromToBy(1L, 5L, 2L), LongInterval.fromToBy(1L, 6L, 2L));
+        Verify.assertEqualsAndHashCode(LongArrayList.newListWith(3L, 2L, 1L), LongInterval.fromTo(3L, 1L));
+        Verify.assertEqualsAndHashCode(
+                LongArrayList.newListWith(Long.MAX_VALUE - 1L, Long.MAX_VALUE),
+                LongInterval.fromTo(Long.MAX_VALUE - 1L, Long.MAX_VALUE));
+        Assert.assertNotEquals(LongArrayList.newListWith(1L, 2L, 3L, 4L), LongInterval.fromTo(1L, 3L));
+        Assert.assertNotEquals(LongArrayList.newListWith(1L, 2L, 4L), LongInterval.fromTo(1L, 3L));
+        Assert.assertNotEquals(LongInterval.oneTo(3L), FastList.newListWith(1L, 2L, 3L));
+    }
+
+    @Test
+    public void iterator()
+    {
+        LongIterator iterator = this.longInterval.longIterator();
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(1L, iterator.next());
+        Assert.assertEquals(2L, iterator.next());
+        Assert.assertEquals(3L, iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, () -> { iterator.next(); });
+    }
+
+    @Test
+    public void forEachDoesNotOverflowNearMaxValue()
+    {
+        LongArrayList values = new LongArrayList();
+        LongInterval.fromToBy(Long.MAX_VALUE - 20L, Long.MAX_VALUE, 7L).forEach(values::add);
+        Assert.assertEquals(LongArrayList.newListWith(Long.MAX_VALUE - 20L, Long.MAX_VALUE - 13L, Long.MAX_VALUE - 6L), values);
+
+        LongArrayList reversed = new LongArrayList();
+        LongInterval.fromTo(Long.MIN_VALUE + 1L, Long.MIN_VALUE).forEach(reversed::add);
+        Assert.assertEquals(LongArrayList.newListWith(Long.MIN_VALUE + 1L, Long.MIN_VALUE), reversed);
+    }
+
+    @Test
+    public void forEachWithIndex()
+    {
+        long[] sum = new long[1];
+        LongInterval.fromTo(10L, 12L).forEachWithIndex((each, index) -> { sum[0] += each * (index + 1); });
+        Assert.assertEquals(10L + 22L + 36L, sum[0]);
+    }
+
+    @Test
+    public void injectInto()
+    {
+        Assert.assertEquals(Long.valueOf(6L), this.longInterval.injectInto(0L, (Long result, long each) -> result + each));
+        Assert.assertEquals(
+                Long.valueOf(1L * 0L + 2L * 1L + 3L * 2L),
+                this.longInterval.injectIntoWithIndex(0L, (Long result, long each, int index) -> result + each * index));
+    }
+
+    @Test
+    public void sizeAndValuesAboveIntRange()
+    {
+        LongInterval interval = LongInterval.fromTo(3L * BILLION, 3L * BILLION + 4L);
+        Assert.assertEquals(5, interval.size());
+        Assert.assertEquals(3L * BILLION + 2L, interval.get(2));
+        Assert.assertEquals(3L * BILLION + 4L, interval.getLast());
+        Assert.assertEquals(15L * BILLION + 10L, interval.sum());
+        Assert.assertEquals(3L * BILLION + 2L, interval.median(), 0.0);
+        Assert.assertEquals(3, interval.indexOf(3L * BILLION + 3L));
+        Assert.assertTrue(interval.notEmpty());
+        Assert.assertFalse(interval.isEmpty());
+    }
+
+    @Test
+    public void moreValuesThanIntSizeAllows()
+    {
+        LongInterval interval = LongInterval.zeroTo(5L * BILLION);
+        Verify.assertThrows(IllegalStateException.class, () -> { interval.size(); });
+        Verify.assertThrows(IllegalStateException.class, () -> { interval.toArray(); });
+        Assert.assertEquals(5L * BILLION, interval.getLast());
+        Assert.assertEquals(5L * BILLION, interval.max());
+        Assert.assertEquals(2.5 * BILLION, interval.average(), 0.0);
+        Assert.assertTrue(interval.contains(4L * BILLION));
+        Assert.assertEquals(10L, interval.detectIfNone(LongPredicates.equal(10L), -1L));
+        Assert.assertEquals(LongInterval.fromToBy(5L * BILLION, 0L, -1L), interval.toReversed());
+    }
+
+    @Test
+    public void rangesWithMoreThanLongMaxValueValuesAreRejected()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> { LongInterval.fromTo(-1L, Long.MAX_VALUE); });
+        Verify.assertThrows(IllegalArgumentException.class, () -> { LongInterval.zeroTo(Long.MAX_VALUE); });
+        Verify.assertThrows(IllegalArgumentException.class, () -> { LongInterval.fromTo(Long.MAX_VALUE, Long.MIN_VALUE); });
+        Verify.assertThrows(IllegalArgumentException.class, () -> { LongInterval.fromToBy(Long.MIN_VALUE, Long.MAX_VALUE, 2L); });
+        Assert.assertEquals(Long.MAX_VALUE, LongInterval.oneTo(Long.MAX_VALUE).getLast());
+    }
+
+    @Test
+    public void spanWiderThanLongMaxValue()
+    {
+        LongInterval interval = LongInterval.fromToBy(Long.MIN_VALUE, Long.MAX_VALUE, 3L);
+        Assert.assertEquals(Long.MAX_VALUE, interval.getLast());
+        Assert.assertTrue(interval.contains(Long.MIN_VALUE + 3L));
+        Assert.assertTrue(interval.contains(Long.MAX_VALUE));
+        Assert.assertFalse(interval.contains(Long.MIN_VALUE + 1L));
+        Assert.assertFalse(interval.contains(0L));
+        Assert.assertEquals(2, interval.indexOf(Long.MIN_VALUE + 6L));
+        Assert.assertEquals(-1, interval.indexOf(Long.MAX_VALUE - 1L));
+        Assert.assertTrue(interval.anySatisfy(LongPredicates.alwaysTrue()));
+        Assert.assertEquals(Long.MIN_VALUE + 3L, interval.detectIfNone(LongPredicates.greaterThan(Long.MIN_VALUE), 0L));
+        Verify.assertThrows(IllegalStateException.class, () -> { interval.size(); });
+
+        LongInterval reversed = LongInterval.fromToBy(Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE);
+        Assert.assertEquals(LongArrayList.newListWith(Long.MAX_VALUE, -1L), reversed);
+        Assert.assertTrue(reversed.contains(-1L));
+        Assert.assertFalse(reversed.contains(Long.MIN_VALUE));
+        Assert.assertEquals(1, reversed.indexOf(-1L));
+    }
+
+    @Test
+    public void getAndIndexOf()
+    {
+        LongInterval interval = LongInterval.fromTo(-10L, 12L).by(5L);
+        Assert.assertEquals(-10L, interval.get(0));
+        Assert.assertEquals(10L, interval.get(4));
+        Assert.assertEquals(10L, interval.getLast());
+        Assert.assertEquals(2, interval.indexOf(0L));
+        Assert.assertEquals(2, interval.lastIndexOf(0L));
+        Assert.assertEquals(-1, interval.indexOf(1L));
+        Assert.assertEquals(-1, interval.indexOf(15L));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> { interval.get(-1); });
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> { interval.get(5); });
+    }
+
+    @Test
+    public void contains()
+    {
+        Assert.assertTrue(LongInterval.fromTo(1L, 3L).containsAll(1L, 2L, 3L));
+        Assert.assertFalse(LongInterval.fromTo(1L, 3L).containsAll(1L, 2L, 4L));
+        Assert.assertTrue(LongInterval.fromTo(1L, 3L).containsAll(LongArrayList.newListWith(1L, 3L)));
+        Assert.assertTrue(LongInterval.fromTo(1L, 3L).containsNone(0L, 4L));
+        Assert.assertFalse(LongInterval.fromToBy(1L, 9L, 2L).contains(4L));
+        Assert.assertTrue(LongInterval.fromToBy(9L, 1L, -2L).contains(5L));
+    }
+
+    @Test
+    public void predicates()
+    {
+        Assert.assertEquals(2, LongInterval.oneTo(5L).count(LongPredicates.isEven()));
+        Assert.assertTrue(LongInterval.oneTo(5L).anySatisfy(LongPredicates.equal(5L)));
+        Assert.assertTrue(LongInterval.oneTo(5L).allSatisfy(LongPredicates.greaterThan(0L)));
+        Assert.assertFalse(LongInterval.oneTo(5L).allSatisfy(LongPredicates.greaterThan(1L)));
+        Assert.assertTrue(LongInterval.oneTo(5L).noneSatisfy(LongPredicates.greaterThan(5L)));
+        Assert.assertEquals(LongArrayList.newListWith(2L, 4L), LongInterval.oneTo(5L).select(LongPredicates.isEven()));
+        Assert.assertEquals(LongArrayList.newListWith(1L, 3L, 5L), LongInterval.oneTo(5L).reject(LongPredicates.isEven()));
+        Assert.assertEquals(FastList.newListWith("1", "2", "3"), this.longInterval.collect(String::valueOf));
+        Assert.assertEquals(0L, LongInterval.oneTo(5L).detectIfNone(LongPredicates.greaterThan(5L), 0L));
+    }
+
+    @Test
+    public void conversions()
+    {
+        LongInterval interval = LongInterval.fromTo(3L, 1L);
+        Assert.assertArrayEquals(new long[]{3L, 2L, 1L}, interval.toArray());
+        Assert.assertArrayEquals(new long[]{1L, 2L, 3L}, interval.toSortedArray());
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L), interval.toList());
+        Assert.assertEquals(LongArrayList.newListWith(1L, 2L, 3L), interval.toSortedList());
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L, 3L), interval.toSet());
+        Assert.assertEquals(LongHashBag.newBagWith(1L, 2L, 3L), interval.toBag());
+        Assert.assertEquals(LongArrayList.newListWith(1L, 2L, 3L), interval.asReversed().toList());
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L), interval.asLazy().toList());
+        Assert.assertSame(interval, interval.toImmutable());
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L, 0L), interval.newWith(0L));
+        Assert.assertEquals(LongArrayList.newListWith(3L, 1L), interval.newWithout(2L));
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L, 4L, 5L), interval.newWithAll(LongArrayList.newListWith(4L, 5L)));
+        Assert.assertEquals(LongArrayList.newListWith(2L), interval.newWithoutAll(LongArrayList.newListWith(1L, 3L)));
+        Assert.assertEquals(10L, interval.dotProduct(LongArrayList.newListWith(1L, 2L, 3L)));
+        Verify.assertThrows(IllegalArgumentException.class, () -> { interval.dotProduct(LongArrayList.newListWith(1L)); });
+        Assert.assertEquals(LongInterval.fromToBy(9L, 1L, -2L), LongInterval.fromToBy(1L, 10L, 2L).toReversed());
+    }
+
+    @Test
+    public void minAndMax()
+    {
+        Assert.assertEquals(1L, LongInterval.fromTo(3L, 1L).min());
+        Assert.assertEquals(3L, LongInterval.fromTo(3L, 1L).max());
+        Assert.assertEquals(1L, LongInterval.fromTo(1L, 3L).minIfEmpty(0L));
+        Assert.assertEquals(3L, LongInterval.fromTo(1L, 3L).maxIfEmpty(0L));
+        Assert.assertEquals(2.0, LongInterval.fromTo(1L, 3L).average(), 0.0);
+    }
+
+    @Test
+    public void makeString()
+    {
+        Assert.assertEquals("[1, 2, 3]", this.longInterval.toString());
+        Assert.assertEquals("1/2/3", this.longInterval.makeString("/"));
+        Assert.assertEquals("1, 2, 3", this.longInterval.makeString());
+        StringBuilder builder = new StringBuilder();
+        this.longInterval.appendString(builder, "<", "|", ">");
+        Assert.assertEquals("<1|2|3>", builder.toString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void subList()
+    {
+        this.longInterval.subList(0, 1);
+    }
+
+    @Test
+    public void asParallel() throws InterruptedException
+    {
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        LongInterval interval = LongInterval.fromToBy(1000L, -10L, -7L);
+        ParallelLongIterable parallel = interval.asParallel(service, 10);
+        Assert.assertEquals(interval, parallel.toList());
+        Assert.assertEquals(interval.sum(), parallel.sum());
+        Assert.assertEquals(interval.select(LongPredicates.isEven()), parallel.select(LongPredicates.isEven()).toList());
+        Assert.assertEquals(interval.count(LongPredicates.isOdd()), parallel.count(LongPredicates.isOdd()));
+        Assert.assertEquals(496L, parallel.detectIfNone(LongPredicates.lessThan(500L), 0L));
+        Assert.assertEquals(0L, parallel.detectIfNone(LongPredicates.lessThan(-10L), 0L));
+        Assert.assertTrue(parallel.allSatisfy(LongPredicates.greaterThan(-10L)));
+        Assert.assertFalse(parallel.anySatisfy(LongPredicates.greaterThan(1000L)));
+        Assert.assertEquals(
+                LongArrayList.newListWith(Long.MAX_VALUE - 20L, Long.MAX_VALUE - 13L, Long.MAX_VALUE - 6L),
+                LongInterval.fromToBy(Long.MAX_VALUE - 20L, Long.MAX_VALUE, 7L).asParallel(service, 2).toList());
+        Verify.assertThrows(IllegalArgumentException.class, () -> { interval.asParallel(service, 0); });
+        Verify.assertThrows(NullPointerException.class, () -> { interval.asParallel(null, 1); });
+        service.shutdown();
+        service.awaitTermination(20, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void asParallelSplitsMoreValuesThanIntSizeAllows() throws InterruptedException
+    {
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        LongInterval interval = LongInterval.zeroTo(3L * BILLION).by(BILLION / 4L);
+        AtomicLong sum = new AtomicLong();
+        interval.asParallel(service, 3).forEach(sum::addAndGet);
+        Assert.assertEquals(interval.sum(), sum.get());
+        Assert.assertEquals(3L * BILLION, interval.asParallel(service, 5).max());
+        service.shutdown();
+        service.awaitTermination(20, TimeUnit.SECONDS);
+    }
+}
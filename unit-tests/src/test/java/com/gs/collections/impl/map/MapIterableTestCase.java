@@ -73,6 +73,8 @@ import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.math.IntegerSum;
 import com.gs.collections.impl.math.Sum;
@@ -1024,6 +1026,17 @@ public abstract class MapIterableTestCase
         Assert.assertEquals(10.0d, actual, 0.01);
     }
 
+    @Test
+    public void sumBy()
+    {
+        MapIterable<String, Integer> map = this.newMapWithKeysValues("1", 1, "2", 2, "3", 3, "4", 4);
+
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(1, 4L, 0, 6L), map.sumByInt(each -> each % 2, each -> each));
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(1, 4L, 0, 6L), map.sumByLong(each -> each % 2, Integer::longValue));
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(1, 4.0, 0, 6.0), map.sumByFloat(each -> each % 2, Integer::floatValue));
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(1, 4.0, 0, 6.0), map.sumByDouble(each -> each % 2, Integer::doubleValue));
+    }
+
     @Test
     public void makeString()
     {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.math.IntegerSum;
+import com.gs.collections.impl.math.Sum;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutablePerfectHashMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutablePerfectHashMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest();
+        Assert.assertEquals(map.keysView().collect(each -> each + "=" + each).makeString("{", ", ", "}"), map.toString());
+    }
+
+    @Test
+    public void withAllFrozen()
+    {
+        UnifiedMap<Integer, String> source = UnifiedMap.newMap();
+        for (int i = 0; i < 1000; i++)
+        {
+            source.put(i * 7 + 1, String.valueOf(i));
+        }
+        source.put(null, "null");
+        ImmutableMap<Integer, String> map = Maps.immutable.withAllFrozen(source);
+        Verify.assertInstanceOf(ImmutablePerfectHashMap.class, map);
+        Verify.assertEqualsAndHashCode(source, map);
+        for (int i = 0; i < 7000; i++)
+        {
+            Assert.assertEquals(source.get(i), map.get(i));
+            Assert.assertEquals(source.containsKey(i), map.containsKey(i));
+        }
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertSame(map, Maps.immutable.ofAllFrozen(map.castToMap()));
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+
+    @Test
+    public void withAllFrozenSmallMaps()
+    {
+        Verify.assertInstanceOf(ImmutableEmptyMap.class, Maps.immutable.withAllFrozen(UnifiedMap.newMap()));
+        Verify.assertInstanceOf(ImmutableQuadrupletonMap.class, Maps.immutable.withAllFrozen(UnifiedMap.newWithKeysValues(1, 1, 2, 2, 3, 3, 4, 4)));
+        Verify.assertInstanceOf(ImmutablePerfectHashMap.class, Maps.immutable.withAllFrozen(Interval.oneTo(5).toMap(each -> each, each -> each)));
+    }
+
+    @Test
+    public void withAllFrozenCollidingHashCodes()
+    {
+        // "Aa", "BB", "AaAa", "AaBB" and "BBAa" all have the same hash code
+        UnifiedMap<String, Integer> source = UnifiedMap.newWithKeysValues("Aa", 1, "BB", 2, "AaAa", 3, "AaBB", 4);
+        source.put("C", 5);
+        source.put("D", 6);
+        ImmutableMap<String, Integer> map = Maps.immutable.withAllFrozen(source);
+        Verify.assertInstanceOf(ImmutablePerfectHashMap.class, map);
+        Assert.assertEquals(source, map);
+        Assert.assertEquals(Integer.valueOf(1), map.get("Aa"));
+        Assert.assertEquals(Integer.valueOf(2), map.get("BB"));
+        Assert.assertEquals(Integer.valueOf(3), map.get("AaAa"));
+        Assert.assertEquals(Integer.valueOf(4), map.get("AaBB"));
+        Assert.assertNull(map.get("BBAa"));
+        Assert.assertFalse(map.containsKey("BBAa"));
+        Assert.assertTrue(map.containsKey("AaBB"));
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+
+    @Test
+    public void getBatchCount()
+    {
+        BatchIterable<String> batchIterable = (BatchIterable<String>) this.classUnderTest();
+        Assert.assertEquals(2, batchIterable.getBatchCount(2));
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        Sum sum = new IntegerSum(0);
+        BatchIterable<String> batchIterable = (BatchIterable<String>) this.classUnderTest();
+        int batchCount = batchIterable.getBatchCount(1);
+        for (int i = 0; i < batchCount; i++)
+        {
+            batchIterable.batchForEach(each -> { sum.add(Integer.valueOf(each)); }, i, batchCount);
+        }
+        Assert.assertEquals(10, sum.getValue());
+    }
+}
@@ -138,6 +138,19 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         Assert.assertNull(map.replace(3, 3));
     }
 
+    @Test
+    public void viewSizesOfLargeMap()
+    {
+        MutableMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        for (int i = 0; i < 20000; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertSize(20000, map.keySet());
+        Verify.assertSize(20000, map.values());
+        Verify.assertSize(20000, map.entrySet());
+    }
+
     @Test
     public void entrySetContains()
     {
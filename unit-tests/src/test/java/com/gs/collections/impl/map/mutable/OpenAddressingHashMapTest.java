@@ -0,0 +1,260 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.ImmutableEntry;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OpenAddressingHashMapTest extends MutableMapTestCase
+{
+    // With the default capacity of 16, every one of these keys has the last slot as its home slot
+    private static final int LAST_SLOT_HASH = 15;
+
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OpenAddressingHashMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OpenAddressingHashMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OpenAddressingHashMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OpenAddressingHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return OpenAddressingHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newMapWithNegativeInitialCapacity()
+    {
+        new OpenAddressingHashMap<Integer, Integer>(-1, 0.5f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newMapWithFullLoadFactor()
+    {
+        new OpenAddressingHashMap<Integer, Integer>(10, 1.0f);
+    }
+
+    @Test
+    public void constructorOfPairs()
+    {
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(1, "one", 2, "two", 3, "three"),
+                OpenAddressingHashMap.newMapWith(Tuples.pair(1, "one"), Tuples.pair(2, "two"), Tuples.pair(3, "three")));
+    }
+
+    @Test
+    public void collisionsWrapAroundTheTable()
+    {
+        OpenAddressingHashMap<CollidingKey, Integer> map = OpenAddressingHashMap.newMap();
+        for (int i = 0; i < 6; i++)
+        {
+            map.put(new CollidingKey(i, LAST_SLOT_HASH), i);
+        }
+        map.put(null, -1);
+        Verify.assertSize(7, map);
+        Assert.assertEquals(36, map.getMapMemoryUsedInWords());
+
+        Assert.assertEquals(Integer.valueOf(2), map.remove(new CollidingKey(2, LAST_SLOT_HASH)));
+        Assert.assertEquals(Integer.valueOf(0), map.removeKey(new CollidingKey(0, LAST_SLOT_HASH)));
+        Assert.assertNull(map.remove(new CollidingKey(0, LAST_SLOT_HASH)));
+        Assert.assertEquals(Integer.valueOf(-1), map.remove(null));
+        Assert.assertFalse(map.containsKey(null));
+        for (int i : new int[]{1, 3, 4, 5})
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i, LAST_SLOT_HASH)));
+        }
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(
+                        new CollidingKey(1, LAST_SLOT_HASH), 1,
+                        new CollidingKey(3, LAST_SLOT_HASH), 3,
+                        new CollidingKey(4, LAST_SLOT_HASH), 4,
+                        new CollidingKey(5, LAST_SLOT_HASH), 5),
+                map);
+    }
+
+    @Test
+    public void iteratorRemoveVisitsEveryEntryOnce()
+    {
+        OpenAddressingHashMap<CollidingKey, Integer> map = OpenAddressingHashMap.newMap();
+        for (int i = 0; i < 5; i++)
+        {
+            map.put(new CollidingKey(i, LAST_SLOT_HASH), i);
+            map.put(new CollidingKey(i + 5, i), i + 5);
+        }
+
+        HashBag<Integer> visited = HashBag.newBag();
+        Iterator<Integer> iterator = map.values().iterator();
+        while (iterator.hasNext())
+        {
+            Integer value = iterator.next();
+            visited.add(value);
+            if (value % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(HashBag.newBag(Interval.zeroTo(9)), visited);
+        Verify.assertSize(5, map);
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertEquals(i % 2 != 0, map.containsKey(new CollidingKey(i, LAST_SLOT_HASH)));
+            Assert.assertEquals((i + 5) % 2 != 0, map.containsKey(new CollidingKey(i + 5, i)));
+        }
+        Verify.assertThrows(IllegalStateException.class, () -> { map.keySet().iterator().remove(); });
+    }
+
+    @Test
+    public void keySetAndEntrySetRemove()
+    {
+        OpenAddressingHashMap<CollidingKey, Integer> map = OpenAddressingHashMap.newMap();
+        for (int i = 0; i < 4; i++)
+        {
+            map.put(new CollidingKey(i, LAST_SLOT_HASH), i);
+        }
+        Assert.assertTrue(map.keySet().remove(new CollidingKey(0, LAST_SLOT_HASH)));
+        Assert.assertFalse(map.keySet().remove(new CollidingKey(0, LAST_SLOT_HASH)));
+        Assert.assertFalse(map.entrySet().remove(ImmutableEntry.of(new CollidingKey(1, LAST_SLOT_HASH), 2)));
+        Assert.assertTrue(map.entrySet().remove(ImmutableEntry.of(new CollidingKey(1, LAST_SLOT_HASH), 1)));
+        Assert.assertTrue(map.entrySet().contains(ImmutableEntry.of(new CollidingKey(3, LAST_SLOT_HASH), 3)));
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(new CollidingKey(2, LAST_SLOT_HASH), 2, new CollidingKey(3, LAST_SLOT_HASH), 3),
+                map);
+    }
+
+    @Test
+    public void entrySetValue()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeyValue(1, "One");
+        Map.Entry<Integer, String> entry = map.entrySet().iterator().next();
+        Assert.assertEquals("One", entry.setValue("Ninety-Nine"));
+        Assert.assertEquals("Ninety-Nine", entry.getValue());
+        Verify.assertContainsKeyValue(1, "Ninety-Nine", map);
+
+        map.remove(1);
+        Assert.assertNull(entry.setValue("Ignored"));
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void highLoadFactor()
+    {
+        OpenAddressingHashMap<Integer, Integer> map = OpenAddressingHashMap.newMap(0, 0.95f);
+        for (int i = 0; i < 10000; i++)
+        {
+            map.put(i * 16, i);
+        }
+        Assert.assertEquals(16384 * 2 + 4, map.getMapMemoryUsedInWords());
+        for (int i = 0; i < 10000; i += 2)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.remove(i * 16));
+        }
+        Verify.assertSize(5000, map);
+        for (int i = 0; i < 10000; i++)
+        {
+            Assert.assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(i * 16));
+        }
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+
+    @Test
+    public void randomOperationsMatchHashMap()
+    {
+        Random random = new Random(42L);
+        OpenAddressingHashMap<Integer, Integer> map = OpenAddressingHashMap.newMap(0, 0.9f);
+        Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        for (int i = 0; i < 100000; i++)
+        {
+            Integer key = random.nextInt(2000);
+            switch (random.nextInt(3))
+            {
+                case 0:
+                    Assert.assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                case 1:
+                    Assert.assertEquals(expected.get(key), map.get(key));
+                    break;
+                default:
+                    Assert.assertEquals(expected.put(key, i), map.put(key, i));
+                    break;
+            }
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    private static final class CollidingKey
+    {
+        private final int id;
+        private final int hashCode;
+
+        private CollidingKey(int id, int hashCode)
+        {
+            this.id = id;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "CollidingKey(" + this.id + ')';
+        }
+    }
+}
@@ -17,11 +17,18 @@
 package com.gs.collections.impl.map.sorted.immutable;
 
 import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
 
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.sorted.ImmutableSortedMap;
 import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.factory.SortedMaps;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.sorted.ImmutableSortedMapTestCase;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -52,4 +59,118 @@ public class ImmutableTreeMapTest extends ImmutableSortedMapTestCase
         Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
         Assert.assertEquals("{4=4, 3=3, 2=2, 1=1}", this.classUnderTest(Comparators.<Integer>reverseNaturalOrder()).toString());
     }
+
+    @Test
+    public void subMap()
+    {
+        final SortedMap<Integer, String> subMap = this.classUnderTest().castToSortedMap().subMap(2, 4);
+        Assert.assertEquals(TreeSortedMap.newMapWith(2, "2", 3, "3"), subMap);
+        Assert.assertEquals(Integer.valueOf(2), subMap.firstKey());
+        Assert.assertEquals(Integer.valueOf(3), subMap.lastKey());
+        Assert.assertEquals("3", subMap.get(3));
+        Assert.assertNull(subMap.get(4));
+        Assert.assertFalse(subMap.containsKey(1));
+        Assert.assertEquals(TreeSortedMap.newMapWith(3, "3"), subMap.subMap(3, 4));
+        Verify.assertEmpty(subMap.subMap(2, 2));
+        Assert.assertEquals(TreeSortedMap.newMapWith(1, "1"), this.classUnderTest().castToSortedMap().subMap(0, 2));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                subMap.subMap(3, 10);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                subMap.subMap(0, 3);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                subMap.subMap(4, 4);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                ImmutableTreeMapTest.this.classUnderTest().castToSortedMap().subMap(10, 6);
+            }
+        });
+        Assert.assertEquals(
+                TreeSortedMap.newMapWith(Comparators.<Integer>reverseNaturalOrder(), 3, "3", 2, "2"),
+                this.classUnderTest(Comparators.<Integer>reverseNaturalOrder()).castToSortedMap().subMap(3, 1));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                ImmutableTreeMapTest.this.classUnderTest().castToSortedMap().subMap(4, 1);
+            }
+        });
+    }
+
+    @Test
+    public void headMapAndTailMap()
+    {
+        final SortedMap<Integer, String> headMap = this.classUnderTest().castToSortedMap().headMap(3);
+        Assert.assertEquals(TreeSortedMap.newMapWith(1, "1", 2, "2"), headMap);
+        Assert.assertEquals(FastList.newListWith(1, 2), FastList.newList(headMap.keySet()));
+        Assert.assertEquals(FastList.newListWith("1", "2"), FastList.newList(headMap.values()));
+        Assert.assertEquals("{1=1, 2=2}", headMap.toString());
+
+        final SortedMap<Integer, String> tailMap = this.classUnderTest().castToSortedMap().tailMap(3);
+        Assert.assertEquals(TreeSortedMap.newMapWith(3, "3", 4, "4"), tailMap);
+        Assert.assertEquals(TreeSortedMap.newMapWith(3, "3", 4, "4").hashCode(), tailMap.hashCode());
+        Assert.assertTrue(tailMap.keySet().contains(4));
+        Assert.assertFalse(tailMap.keySet().contains(2));
+        Assert.assertTrue(tailMap.containsValue("4"));
+        Assert.assertFalse(tailMap.containsValue("2"));
+        Verify.assertEmpty(tailMap.tailMap(5));
+        Assert.assertEquals(TreeSortedMap.newMapWith(1, "1"), headMap.headMap(2));
+        Assert.assertEquals(TreeSortedMap.newMapWith(4, "4"), tailMap.tailMap(4));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                headMap.headMap(4);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                headMap.tailMap(3);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                tailMap.headMap(2);
+            }
+        });
+        Verify.assertThrows(NoSuchElementException.class, new Runnable()
+        {
+            public void run()
+            {
+                ImmutableTreeMapTest.this.classUnderTest().castToSortedMap().tailMap(5).firstKey();
+            }
+        });
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        ImmutableTreeMap<Integer, String> map = (ImmutableTreeMap<Integer, String>) this.classUnderTest();
+        Assert.assertEquals(2, map.getBatchCount(2));
+        MutableList<String> result = FastList.newList();
+        map.batchForEach(CollectionAddProcedure.on(result), 0, 2);
+        Assert.assertEquals(FastList.newListWith("1", "2"), result);
+        map.batchForEach(CollectionAddProcedure.on(result), 1, 2);
+        Assert.assertEquals(FastList.newListWith("1", "2", "3", "4"), result);
+    }
 }
@@ -20,8 +20,10 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.multimap.AbstractMutableMultimapTestCase;
+import com.gs.collections.impl.parallel.ParallelIterate;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
@@ -112,4 +114,15 @@ public class SynchronizedPutFastListMultimapTest extends AbstractMutableMultimap
                 this.newMultimapWithKeysValues("One", 1, "One", 2);
         Assert.assertEquals("{One=[1, 2]}", multimap.toString());
     }
+
+    @Test
+    public void putAllConcurrently()
+    {
+        MutableMultimap<Integer, Integer> multimap = this.newMultimap();
+        ParallelIterate.forEach(Interval.oneTo(100), each -> { multimap.putAll(each % 2, Interval.oneTo(100)); }, 1);
+        Assert.assertEquals(10000, multimap.size());
+        Verify.assertSize(5000, multimap.get(0));
+        Verify.assertSize(5000, multimap.get(1));
+        Assert.assertFalse(multimap.putAll(0, FastList.<Integer>newList()));
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveBatchPolicyTest
+{
+    private final AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(100, 1000000L, 20000L, 2.0, 8);
+
+    @Test
+    public void smallInputIsSerial()
+    {
+        BatchDecision decision = this.policy.decide(50, 50, 50000L);
+        Assert.assertTrue(decision.isSerial());
+        Assert.assertEquals(0, decision.getTaskCount());
+        Assert.assertEquals(1000.0, decision.getNanosPerElement(), 0.0);
+    }
+
+    @Test
+    public void cheapElementsAreSerial()
+    {
+        // 1000 elements at 10ns each cannot pay for a single task
+        BatchDecision decision = this.policy.decide(1100, 100, 1000L);
+        Assert.assertTrue(decision.isSerial());
+        Assert.assertEquals(1000, decision.getBatchSize());
+        Assert.assertEquals(1, decision.getTaskCount());
+        Assert.assertTrue(decision.getPredictedSpeedup() < 2.0);
+    }
+
+    @Test
+    public void largeInputIsSplitIntoTargetSizedBatches()
+    {
+        // 10ns per element, so batches of 100,000 elements take 1ms each
+        BatchDecision decision = this.policy.decide(50000100, 100, 1000L);
+        Assert.assertFalse(decision.isSerial());
+        Assert.assertEquals(100000, decision.getBatchSize());
+        Assert.assertEquals(500, decision.getTaskCount());
+        Assert.assertTrue(decision.getPredictedSpeedup() >= 2.0);
+    }
+
+    @Test
+    public void expensiveElementsAreSplitIntoSingleElementBatches()
+    {
+        // 1ms per element, so each batch holds a single element
+        BatchDecision decision = this.policy.decide(1100, 100, 100000000L);
+        Assert.assertFalse(decision.isSerial());
+        Assert.assertEquals(1, decision.getBatchSize());
+        Assert.assertEquals(1000, decision.getTaskCount());
+    }
+
+    @Test
+    public void keepsEnoughBatchesPerThread()
+    {
+        // 1us per element would give batches of 1000 elements, but 2 batches per thread are needed to balance the load
+        BatchDecision decision = this.policy.decide(3300, 100, 100000L);
+        Assert.assertFalse(decision.isSerial());
+        Assert.assertEquals(200, decision.getBatchSize());
+        Assert.assertEquals(16, decision.getTaskCount());
+    }
+
+    @Test
+    public void singleThreadIsSerial()
+    {
+        AdaptiveBatchPolicy singleThreaded = new AdaptiveBatchPolicy(100, 1000000L, 0L, 1.0, 1);
+        Assert.assertTrue(singleThreaded.decide(1000000, 100, 100000000L).isSerial());
+    }
+
+    @Test
+    public void decisionToString()
+    {
+        String decision = this.policy.decide(50000100, 100, 1000L).toString();
+        Assert.assertTrue(decision, decision.startsWith("BatchDecision{parallel"));
+        Assert.assertTrue(decision, decision.contains("batchSize=100000"));
+    }
+
+    @Test
+    public void defaultPolicy()
+    {
+        AdaptiveBatchPolicy defaultPolicy = AdaptiveBatchPolicy.defaultPolicy();
+        Assert.assertEquals(AdaptiveBatchPolicy.DEFAULT_SAMPLE_SIZE, defaultPolicy.getSampleSize());
+        Assert.assertEquals(ParallelIterate.AVAILABLE_PROCESSORS, defaultPolicy.getParallelism());
+        Assert.assertTrue(defaultPolicy.toString().startsWith("AdaptiveBatchPolicy{"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSampleSize()
+    {
+        new AdaptiveBatchPolicy(0, 1000000L, 0L, 1.0, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidParallelism()
+    {
+        new AdaptiveBatchPolicy(100, 1000000L, 0L, 1.0, 0);
+    }
+}
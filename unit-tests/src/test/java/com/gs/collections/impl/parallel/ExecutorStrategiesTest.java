@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExecutorStrategiesTest
+{
+    private static final int CONCURRENCY = 16;
+
+    @Test
+    public void cpuBound()
+    {
+        ExecutorStrategy strategy = ExecutorStrategies.cpuBound();
+        Assert.assertSame(ParallelIterate.EXECUTOR_SERVICE, strategy.getExecutorService());
+        Assert.assertEquals(ParallelIterate.DEFAULT_MIN_FORK_SIZE, strategy.getBatchSize(1000000));
+    }
+
+    @Test
+    public void fanOutBatchSize()
+    {
+        ExecutorStrategy strategy = ExecutorStrategies.fanOut(ParallelIterate.EXECUTOR_SERVICE, 4);
+        Assert.assertEquals(1, strategy.getBatchSize(0));
+        Assert.assertEquals(1, strategy.getBatchSize(3));
+        Assert.assertEquals(2, strategy.getBatchSize(8));
+        Assert.assertEquals(3, strategy.getBatchSize(9));
+        Assert.assertEquals(536870912, strategy.getBatchSize(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fanOutRequiresPositiveConcurrency()
+    {
+        ExecutorStrategies.fanOut(ParallelIterate.EXECUTOR_SERVICE, 0);
+    }
+
+    @Test
+    public void threadPerBatchRunsAllBatchesAtOnce()
+    {
+        ExecutorStrategy strategy = ExecutorStrategies.threadPerBatch(CONCURRENCY);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        AtomicInteger released = new AtomicInteger();
+        ParallelIterate.forEach(Interval.oneTo(CONCURRENCY).toList(), each -> {
+            if (ExecutorStrategiesTest.awaitAll(latch))
+            {
+                released.incrementAndGet();
+            }
+        }, strategy);
+        Assert.assertEquals(CONCURRENCY, released.get());
+    }
+
+    @Test
+    public void strategiesShareTheirExecutor()
+    {
+        Assert.assertSame(
+                ExecutorStrategies.threadPerBatch(1).getExecutorService(),
+                ExecutorStrategies.threadPerBatch(CONCURRENCY).getExecutorService());
+        Assert.assertSame(
+                ExecutorStrategies.virtualThreadPerBatch(1).getExecutorService(),
+                ExecutorStrategies.virtualThreadPerBatch(CONCURRENCY).getExecutorService());
+        Assert.assertFalse(ExecutorStrategies.threadPerBatch(1).getExecutorService().isShutdown());
+    }
+
+    @Test
+    public void sharedExecutorsCannotBeShutDown()
+    {
+        for (ExecutorStrategy strategy : FastList.newListWith(ExecutorStrategies.threadPerBatch(1), ExecutorStrategies.virtualThreadPerBatch(1)))
+        {
+            ExecutorService executorService = strategy.getExecutorService();
+            Verify.assertThrows(UnsupportedOperationException.class, executorService::shutdown);
+            Verify.assertThrows(UnsupportedOperationException.class, () -> { executorService.shutdownNow(); });
+            Assert.assertFalse(executorService.isShutdown());
+            Assert.assertFalse(executorService.isTerminated());
+        }
+        ExecutorStrategy strategy = ExecutorStrategies.threadPerBatch(CONCURRENCY);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        AtomicInteger released = new AtomicInteger();
+        ParallelIterate.forEach(Interval.oneTo(CONCURRENCY).toList(), each -> {
+            if (ExecutorStrategiesTest.awaitAll(latch))
+            {
+                released.incrementAndGet();
+            }
+        }, strategy);
+        Assert.assertEquals(CONCURRENCY, released.get());
+    }
+
+    @Test
+    public void virtualThreadPerBatch()
+    {
+        ExecutorStrategy strategy = ExecutorStrategies.virtualThreadPerBatch(CONCURRENCY);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        MutableList<Integer> integers = Interval.oneTo(CONCURRENCY).toList();
+        Verify.assertListsEqual(
+                integers,
+                (MutableList<Integer>) ParallelIterate.collect(integers, each -> ExecutorStrategiesTest.awaitAll(latch) ? each : null, strategy));
+        String javaVersion = System.getProperty("java.specification.version");
+        Assert.assertEquals(!javaVersion.startsWith("1.") && Integer.parseInt(javaVersion) >= 21, ExecutorStrategies.isVirtualThreadSupported());
+    }
+
+    @Test
+    public void asParallel()
+    {
+        ExecutorStrategy strategy = ExecutorStrategies.threadPerBatch(CONCURRENCY);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        FastList<Integer> integers = FastList.newList(Interval.oneTo(CONCURRENCY * 2));
+        Assert.assertEquals(
+                integers.size(),
+                integers.asParallel(strategy.getExecutorService(), strategy.getBatchSize(integers.size()))
+                        .count(each -> ExecutorStrategiesTest.awaitAll(latch)));
+    }
+
+    @Test
+    public void threadPerTaskExecutorServiceShutdown() throws InterruptedException
+    {
+        ExecutorService executorService = new ThreadPerTaskExecutorService(new CollectionsThreadFactory("ExecutorStrategiesTest", true));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executorService.execute(() -> {
+            started.countDown();
+            try
+            {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1L));
+            }
+            catch (InterruptedException ignored)
+            {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertTrue(started.await(10L, TimeUnit.SECONDS));
+        executorService.shutdown();
+        Assert.assertTrue(executorService.isShutdown());
+        Assert.assertFalse(executorService.isTerminated());
+        Verify.assertEmpty(executorService.shutdownNow());
+        Assert.assertTrue(interrupted.await(10L, TimeUnit.SECONDS));
+        Assert.assertTrue(executorService.awaitTermination(10L, TimeUnit.SECONDS));
+        Assert.assertTrue(executorService.isTerminated());
+        Verify.assertThrows(RejectedExecutionException.class, () -> executorService.execute(() -> { }));
+    }
+
+    /**
+     * Returns true once all the batches have reached the latch, which only happens if they run at the same time.
+     */
+    private static boolean awaitAll(CountDownLatch latch)
+    {
+        latch.countDown();
+        try
+        {
+            return latch.await(10L, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -16,7 +16,14 @@
 
 package com.gs.collections.impl.parallel;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.math.IntegerSum;
 import com.gs.collections.impl.math.LongSum;
@@ -149,4 +156,69 @@ public class ParallelArrayIterateTest
     {
         Verify.assertClassNonInstantiable(ParallelArrayIterate.class);
     }
+
+    @Test
+    public void sort()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            Integer[] array = Interval.oneTo(100000).toArray();
+            Collections.shuffle(Arrays.asList(array));
+            ParallelArrayIterate.sort(array, array.length, null, executorService);
+            Assert.assertArrayEquals(Interval.oneTo(100000).toArray(), array);
+
+            // Only the first size elements are sorted
+            Integer[] partial = {3, 2, 1, 0};
+            ParallelArrayIterate.sort(partial, 3, null, executorService);
+            Assert.assertArrayEquals(new Integer[]{1, 2, 3, 0}, partial);
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void mergeSortedRuns()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            // Runs of uneven length, including empty ones, with the run index in the last digit of each element
+            int[] runEnds = {0, 50000, 50000, 50001, 80000, 100000};
+            Integer[] array = new Integer[100000];
+            for (int i = 0; i < runEnds.length; i++)
+            {
+                int start = i == 0 ? 0 : runEnds[i - 1];
+                for (int j = start; j < runEnds[i]; j++)
+                {
+                    array[j] = (j - start) * 10 + i;
+                }
+            }
+            Integer[] copy = array.clone();
+
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+            ParallelArrayIterate.mergeSortedRuns(array, runEnds, null, executorService);
+            Assert.assertArrayEquals(expected, array);
+
+            // Equal elements keep the order of their runs, as with a stable serial sort
+            Comparator<Integer> byTenThousands = Comparators.byFunction(each -> each / 10000);
+            Integer[] expectedStable = copy.clone();
+            Arrays.sort(expectedStable, byTenThousands);
+            ParallelArrayIterate.mergeSortedRuns(copy, runEnds, byTenThousands, executorService);
+            Assert.assertArrayEquals(expectedStable, copy);
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void sort_throws_nullExecutorService()
+    {
+        ParallelArrayIterate.sort(new Integer[]{2, 1}, 2, null, null);
+    }
 }
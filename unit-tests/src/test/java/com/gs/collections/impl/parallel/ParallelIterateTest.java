@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
@@ -39,6 +41,8 @@ import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
@@ -55,9 +59,13 @@ import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.ListAdapter;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.multimap.bag.HashBagMultimap;
 import com.gs.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import com.gs.collections.impl.multimap.set.UnifiedSetMultimap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
 import com.gs.collections.impl.test.Verify;
@@ -181,6 +189,90 @@ public class ParallelIterateTest
         Assert.assertEquals(5050, sum3.getSum());
     }
 
+    @Test
+    public void forEachAdaptive()
+    {
+        this.iterables.forEach(Procedures.cast(this::basicForEachAdaptive));
+
+        AtomicInteger count = new AtomicInteger();
+        BatchDecision small = ParallelIterate.forEachAdaptive(Interval.oneTo(50), each -> count.incrementAndGet());
+        Assert.assertEquals(50, count.get());
+        Assert.assertTrue(small.toString(), small.isSerial());
+        Assert.assertEquals(50, small.getSampledCount());
+
+        AtomicInteger slowCount = new AtomicInteger();
+        AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(4, 1000000L, 0L, 1.5, 2);
+        BatchDecision slow = ParallelIterate.forEachAdaptive(Interval.oneTo(40).toList(), each -> {
+            this.sleep(1L);
+            slowCount.incrementAndGet();
+        }, policy, this.executor);
+        Assert.assertEquals(40, slowCount.get());
+        Assert.assertFalse(slow.toString(), slow.isSerial());
+        Assert.assertEquals(4, slow.getSampledCount());
+        Assert.assertTrue(slow.getTaskCount() >= 4);
+    }
+
+    private void basicForEachAdaptive(RichIterable<Integer> iterable)
+    {
+        AtomicLong sum = new AtomicLong();
+        AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(10, 1L, 0L, 0.0, 2);
+        BatchDecision decision = ParallelIterate.forEachAdaptive(iterable, each -> sum.addAndGet(each), policy, this.executor);
+        Assert.assertEquals(iterable.sumOfInt(Integer::intValue), sum.get());
+        Assert.assertEquals(iterable.size(), decision.getSize());
+        if (iterable instanceof BatchIterable)
+        {
+            Assert.assertTrue(decision.toString(), decision.getSampledCount() <= iterable.size());
+        }
+        else
+        {
+            Assert.assertEquals(10, decision.getSampledCount());
+        }
+    }
+
+    @Test
+    public void forEachAdaptiveOnBatchIterable()
+    {
+        this.assertForEachAdaptiveInBatches(UnifiedSet.newSet(Interval.oneTo(20000)), Functions.getIntegerPassThru());
+        this.assertForEachAdaptiveInBatches(
+                (UnifiedMap<String, Integer>) Interval.oneTo(20000).toMap(String::valueOf, Functions.getIntegerPassThru()),
+                Functions.getIntegerPassThru());
+    }
+
+    private <T> void assertForEachAdaptiveInBatches(BatchIterable<T> batchIterable, Function<? super T, Integer> function)
+    {
+        int size = batchIterable.size();
+        AdaptiveBatchPolicy serialPolicy = new AdaptiveBatchPolicy(100, 1L, 0L, 1.0, 1);
+        AdaptiveBatchPolicy parallelPolicy = new AdaptiveBatchPolicy(100, 1L, 0L, 0.0, 4);
+        for (AdaptiveBatchPolicy policy : Arrays.asList(serialPolicy, parallelPolicy))
+        {
+            AtomicIntegerArray counts = new AtomicIntegerArray(size + 1);
+            BatchDecision decision = ParallelIterate.forEachAdaptive(
+                    (Iterable<T>) batchIterable,
+                    each -> { counts.incrementAndGet(function.valueOf(each)); },
+                    policy,
+                    this.executor);
+            Assert.assertEquals(size, decision.getSize());
+            Assert.assertEquals(policy == serialPolicy, decision.isSerial());
+            Assert.assertTrue(decision.toString(), decision.getSampledCount() < size);
+            for (int i = 1; i <= size; i++)
+            {
+                Assert.assertEquals(1, counts.get(i));
+            }
+        }
+    }
+
+    private void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Test
     public void testForEach()
     {
@@ -553,6 +645,133 @@ public class ParallelIterateTest
         Assert.assertEquals(9000, aggregation.get("3").intValue());
     }
 
+    @Test
+    public void aggregateByMerging()
+    {
+        Function2<Integer, Integer, Integer> sumAggregator = (aggregate, value) -> aggregate + value;
+        MutableList<Integer> list = LazyIterate.adapt(Collections.nCopies(1000, 1))
+                .concatenate(Collections.nCopies(2000, 2))
+                .concatenate(Collections.nCopies(3000, 3))
+                .toList();
+        Collections.shuffle(list);
+        MapIterable<String, Integer> aggregation =
+                ParallelIterate.aggregateByMerging(list, String::valueOf, () -> 0, sumAggregator, Integer::sum, 100, ParallelIterate.EXECUTOR_SERVICE);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("1", 1000, "2", 4000, "3", 9000), aggregation);
+        Assert.assertEquals(aggregation, ParallelIterate.aggregateByMerging(list, String::valueOf, () -> 0, sumAggregator, Integer::sum));
+
+        List<Integer> distinct = Interval.oneTo(20000);
+        MutableMap<String, Integer> distinctAggregation =
+                ParallelIterate.aggregateByMerging(distinct, String::valueOf, () -> 0, sumAggregator, Integer::sum, 100, ParallelIterate.EXECUTOR_SERVICE);
+        Verify.assertSize(20000, distinctAggregation);
+        Assert.assertEquals(Integer.valueOf(20000), distinctAggregation.get("20000"));
+    }
+
+    @Test
+    public void aggregateInPlaceByMerging()
+    {
+        Procedure2<AtomicInteger, AtomicInteger> merger = (aggregate, partial) -> { aggregate.addAndGet(partial.get()); };
+        List<Integer> list = Interval.oneTo(20000);
+        MutableMap<String, AtomicInteger> aggregation =
+                ParallelIterate.aggregateInPlaceByMerging(list, EVEN_OR_ODD, AtomicInteger::new, AtomicInteger::addAndGet, merger, 100, ParallelIterate.EXECUTOR_SERVICE);
+        Assert.assertEquals(100010000, aggregation.get("Even").intValue());
+        Assert.assertEquals(100000000, aggregation.get("Odd").intValue());
+        MutableMap<String, AtomicInteger> defaultAggregation =
+                ParallelIterate.aggregateInPlaceByMerging(list, EVEN_OR_ODD, AtomicInteger::new, AtomicInteger::addAndGet, merger);
+        Assert.assertEquals(100010000, defaultAggregation.get("Even").intValue());
+        Assert.assertEquals(100000000, defaultAggregation.get("Odd").intValue());
+    }
+
+    @Test
+    public void sumBy()
+    {
+        List<Integer> list = Interval.oneTo(20000);
+        ObjectLongMap<String> sumByInt = ParallelIterate.sumByInt(list, EVEN_OR_ODD, Integer::intValue, 100, ParallelIterate.EXECUTOR_SERVICE);
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues("Even", 100010000L, "Odd", 100000000L), sumByInt);
+        Assert.assertEquals(sumByInt, ParallelIterate.sumByInt(list, EVEN_OR_ODD, Integer::intValue));
+        Assert.assertEquals(sumByInt, ParallelIterate.sumByLong(list, EVEN_OR_ODD, Integer::longValue));
+        ObjectDoubleMap<String> sumByDouble = ParallelIterate.sumByDouble(list, EVEN_OR_ODD, Integer::doubleValue, 100, ParallelIterate.EXECUTOR_SERVICE);
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues("Even", 100010000.0, "Odd", 100000000.0), sumByDouble);
+        Assert.assertEquals(sumByDouble, ParallelIterate.sumByFloat(list, EVEN_OR_ODD, Integer::floatValue));
+
+        ObjectLongMap<Integer> distinct = ParallelIterate.sumByInt(list, each -> each, each -> 1, 100, ParallelIterate.EXECUTOR_SERVICE);
+        Assert.assertEquals(20000, distinct.size());
+        Assert.assertEquals(Interval.oneTo(20000).toBag(), distinct.keysView().toBag());
+    }
+
+    @Test
+    public void groupByAndAggregateByBufferKeys()
+    {
+        MutableList<Integer> list = Interval.oneTo(20000).toList();
+        Collections.shuffle(list);
+        Function<Integer, Integer> mod3 = each -> each % 3;
+        Function<Integer, String> toString = String::valueOf;
+        Function2<Integer, Integer, Integer> sumAggregator = (aggregate, value) -> aggregate + value;
+        Procedure2<AtomicInteger, Integer> mutatingSumAggregator = (aggregate, value) -> { aggregate.addAndGet(value); };
+        for (int batchSize : new int[]{100, 5000, 20000})
+        {
+            Assert.assertEquals(
+                    HashBagMultimap.newMultimap(list.groupBy(mod3)),
+                    HashBagMultimap.newMultimap(ParallelIterate.groupBy(list, mod3, batchSize)));
+            Assert.assertEquals(
+                    HashBagMultimap.newMultimap(list.groupBy(toString)),
+                    HashBagMultimap.newMultimap(ParallelIterate.groupBy(list, toString, batchSize)));
+            Assert.assertEquals(
+                    list.aggregateBy(mod3, () -> 0, sumAggregator),
+                    ParallelIterate.aggregateBy(list, mod3, () -> 0, sumAggregator, batchSize));
+            Assert.assertEquals(
+                    list.aggregateBy(toString, () -> 0, sumAggregator),
+                    ParallelIterate.aggregateBy(list, toString, () -> 0, sumAggregator, batchSize));
+            MutableMap<Integer, AtomicInteger> inPlace =
+                    ParallelIterate.aggregateInPlaceBy(list, mod3, AtomicInteger::new, mutatingSumAggregator, batchSize);
+            Assert.assertEquals(
+                    list.aggregateBy(mod3, () -> 0, sumAggregator),
+                    inPlace.collectValues((key, value) -> value.get()));
+        }
+    }
+
+    @Test
+    public void keyBufferingProcedure()
+    {
+        MutableMultimap<Integer, Integer> groups = FastListMultimap.newMultimap();
+        MutableList<Integer> elements = FastList.newList();
+        KeyBufferingProcedure<Integer, Integer> lowCardinality =
+                new KeyBufferingProcedure<Integer, Integer>(each -> each % 3, groups::putAll, elements::add, 30, 8);
+        Interval.oneTo(100).forEach(lowCardinality);
+        Assert.assertTrue(lowCardinality.isBuffering());
+        Assert.assertEquals(90, groups.size());
+        Verify.assertEmpty(elements);
+        lowCardinality.flush();
+        Assert.assertEquals(Interval.oneTo(100).groupBy(each -> each % 3), groups);
+
+        groups.clear();
+        KeyBufferingProcedure<Integer, Integer> highCardinality =
+                new KeyBufferingProcedure<Integer, Integer>(each -> each, groups::putAll, elements::add, 30, 8);
+        Interval.oneTo(100).forEach(highCardinality);
+        Assert.assertFalse(highCardinality.isBuffering());
+        Assert.assertEquals(Interval.oneTo(30).groupBy(each -> each), groups);
+        Assert.assertEquals(Interval.fromTo(31, 100), elements);
+        highCardinality.flush();
+        Assert.assertEquals(30, groups.size());
+    }
+
+    @Test
+    public void groupByMergingKeepsOrder()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(20000));
+        Function<Integer, Integer> mod3 = each -> each % 3;
+        Multimap<Integer, Integer> result = ParallelIterate.groupByMerging(list, mod3, 100);
+        Assert.assertEquals(list.groupBy(mod3), result);
+        Assert.assertEquals(list.groupBy(mod3), ParallelIterate.groupByMerging(list, mod3));
+        Assert.assertEquals(list.groupBy(mod3), ParallelIterate.groupByMerging(list, mod3, 100, ParallelIterate.EXECUTOR_SERVICE));
+        Assert.assertEquals(
+                list.toSet().groupBy(mod3),
+                UnifiedSetMultimap.newMultimap(ParallelIterate.groupByMerging(UnifiedSet.newSet(list), mod3, 100)));
+        Verify.assertEmpty(ParallelIterate.groupByMerging(FastList.<Integer>newList(), mod3, 100));
+
+        Function<Integer, String> toString = String::valueOf;
+        Assert.assertEquals(list.groupBy(toString), ParallelIterate.groupByMerging(list, toString, 100));
+    }
+
     private static List<Integer> createIntegerList(int size)
     {
         return Collections.nCopies(size, Integer.valueOf(1));
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.math.IntegerSum;
+import com.gs.collections.impl.math.Sum;
+import com.gs.collections.impl.math.SumProcedure;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutablePerfectHashSet}.
+ */
+public class ImmutablePerfectHashSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        Object[] distinctElements = UnifiedSet.newSetWith(elements).toArray();
+        if (distinctElements.length == 0)
+        {
+            return Sets.immutable.of();
+        }
+        return ImmutablePerfectHashSet.newSet(distinctElements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return this.newSet(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return this.newSet(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return this.newSet(bigElements);
+    }
+
+    @Override
+    @Test
+    public void forEachWithIndex()
+    {
+        ImmutableSet<Integer> set = this.newSetWith(1, 2, 3, 4);
+        MutableList<Integer> indices = Lists.mutable.of();
+        set.forEachWithIndex((object, index) -> {
+            Assert.assertEquals(set.toList().get(index), object);
+            indices.add(index);
+        });
+        Assert.assertEquals(Interval.zeroTo(3), indices);
+    }
+
+    @Override
+    @Test
+    public void getFirst()
+    {
+        ImmutableSet<Integer> set = this.newSetWith(1, 2, 3);
+        Assert.assertEquals(set.iterator().next(), set.getFirst());
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        ImmutableSet<Integer> set = this.newSetWith(1, 2, 3);
+        MutableList<Integer> result = Lists.mutable.of();
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            result.add(iterator.next());
+        }
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), result.toSet());
+        Verify.assertSize(3, result);
+    }
+
+    @Test
+    public void withAllFrozen()
+    {
+        Interval interval = Interval.fromToBy(-5000, 5000, 3);
+        ImmutableSet<Integer> set = Sets.immutable.withAllFrozen(interval);
+        Verify.assertInstanceOf(ImmutablePerfectHashSet.class, set);
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSet(interval), set);
+        for (int i = -5001; i <= 5001; i++)
+        {
+            Assert.assertEquals(interval.contains(i), set.contains(i));
+        }
+        Assert.assertSame(set, Sets.immutable.ofAllFrozen(set));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Test
+    public void withAllFrozenSmallSets()
+    {
+        Assert.assertSame(Sets.immutable.of(), Sets.immutable.withAllFrozen(UnifiedSet.newSet()));
+        Verify.assertInstanceOf(ImmutableQuadrupletonSet.class, Sets.immutable.withAllFrozen(Interval.oneTo(4)));
+        Verify.assertInstanceOf(ImmutableQuadrupletonSet.class, Sets.immutable.withAllFrozen(Interval.oneTo(4).toList().withAll(Interval.oneTo(4))));
+        Verify.assertInstanceOf(ImmutablePerfectHashSet.class, Sets.immutable.withAllFrozen(Interval.oneTo(5)));
+    }
+
+    @Test
+    public void withAllFrozenCollidingHashCodes()
+    {
+        // "Aa", "BB", "AaAa", "AaBB" and "BBAa" all have the same hash code
+        ImmutableSet<String> set = Sets.immutable.withAllFrozen(UnifiedSet.newSetWith("Aa", "BB", "AaAa", "AaBB", "C", "D"));
+        Verify.assertInstanceOf(ImmutablePerfectHashSet.class, set);
+        Assert.assertEquals(UnifiedSet.newSetWith("Aa", "BB", "AaAa", "AaBB", "C", "D"), set);
+        Assert.assertTrue(set.containsAllArguments("Aa", "BB", "AaAa", "AaBB", "C", "D"));
+        Assert.assertFalse(set.contains("BBAa"));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Test
+    public void containsNull()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.withAllFrozen(UnifiedSet.newSetWith(1, 2, 3, 4, null));
+        Assert.assertTrue(set.contains(null));
+        Assert.assertFalse(this.newSet(1, 2, 3, 4, 5).contains(null));
+    }
+
+    @Test
+    public void getBatchCount()
+    {
+        BatchIterable<Integer> integerBatchIterable = (BatchIterable<Integer>) this.newSet(1, 2, 3, 4, 5, 6);
+        Assert.assertEquals(2, integerBatchIterable.getBatchCount(3));
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        Sum sum = new IntegerSum(0);
+        BatchIterable<Integer> integerBatchIterable = (BatchIterable<Integer>) this.newSet(1, 2, 3, 4, 5);
+        integerBatchIterable.batchForEach(new SumProcedure<Integer>(sum), 0, 1);
+        Assert.assertEquals(15, sum.getValue());
+    }
+}
@@ -20,6 +20,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.list.ImmutableList;
@@ -605,6 +607,24 @@ public class ImmutableEmptySortedSetTest extends AbstractImmutableSortedSetTestC
         Assert.assertEquals(Comparators.<Integer>reverseNaturalOrder(), map.comparator());
     }
 
+    @Test
+    public void getAndIndexOf()
+    {
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> this.classUnderTest().get(0));
+        Assert.assertEquals(-1, this.classUnderTest().indexOf(1));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try
+        {
+            Assert.assertEquals(
+                    FastList.newList(),
+                    this.classUnderTest(Comparators.<Integer>reverseNaturalOrder()).asParallel(executorService, 2).toList());
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Override
     @Test(expected = UnsupportedOperationException.class)
     public void subSet()
@@ -18,12 +18,20 @@ package com.gs.collections.impl.set.sorted.immutable;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.set.sorted.ImmutableSortedSet;
 import com.gs.collections.api.set.sorted.SortedSetIterable;
 import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.factory.SortedSets;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -61,24 +69,157 @@ public class ImmutableTreeSetTest
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void subSet()
     {
-        this.classUnderTest().castToSortedSet().subSet(1, 4);
+        final SortedSet<Integer> subSet = this.classUnderTest().castToSortedSet().subSet(2, 4);
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(2, 3), subSet);
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(3), subSet.subSet(3, 4));
+        Verify.assertEmpty(subSet.subSet(2, 2));
+        Verify.assertEmpty(this.classUnderTest().castToSortedSet().subSet(-1, 0));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                subSet.subSet(3, 10);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                subSet.subSet(0, 2);
+            }
+        });
+        Verify.assertSortedSetsEqual(
+                TreeSortedSet.newSetWith(Collections.<Integer>reverseOrder(), 3, 2),
+                this.classUnderTest(Collections.<Integer>reverseOrder()).castToSortedSet().subSet(3, 1));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                ImmutableTreeSetTest.this.classUnderTest().castToSortedSet().subSet(4, 1);
+            }
+        });
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void headSet()
     {
-        this.classUnderTest().castToSortedSet().headSet(4);
+        final SortedSet<Integer> headSet = this.classUnderTest().castToSortedSet().headSet(3);
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(1, 2), headSet);
+        Assert.assertEquals(Integer.valueOf(2), headSet.last());
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(1), headSet.headSet(2));
+        Verify.assertEmpty(this.classUnderTest().castToSortedSet().headSet(0));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                headSet.headSet(4);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                headSet.tailSet(3);
+            }
+        });
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void tailSet()
     {
-        this.classUnderTest().castToSortedSet().tailSet(1);
+        final SortedSet<Integer> tailSet = this.classUnderTest().castToSortedSet().tailSet(2);
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(2, 3, 4), tailSet);
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(3, 4), tailSet.tailSet(3));
+        Verify.assertEmpty(tailSet.tailSet(5));
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                tailSet.tailSet(0);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                tailSet.headSet(1);
+            }
+        });
+        Assert.assertEquals(tailSet, SortedSets.mutable.of(2, 3, 4));
+        Assert.assertEquals(SortedSets.mutable.of(2, 3, 4).hashCode(), tailSet.hashCode());
+    }
+
+    @Test
+    public void get()
+    {
+        ImmutableSortedSet<Integer> set = this.classUnderTest(Collections.<Integer>reverseOrder());
+        Assert.assertEquals(Integer.valueOf(4), set.get(0));
+        Assert.assertEquals(Integer.valueOf(1), set.get(3));
+        Verify.assertThrows(IndexOutOfBoundsException.class, new Runnable()
+        {
+            public void run()
+            {
+                ImmutableTreeSetTest.this.classUnderTest().get(4);
+            }
+        });
+        Verify.assertThrows(IndexOutOfBoundsException.class, new Runnable()
+        {
+            public void run()
+            {
+                ImmutableTreeSetTest.this.classUnderTest().get(-1);
+            }
+        });
+    }
+
+    @Test
+    public void indexOf()
+    {
+        ImmutableSortedSet<Integer> set = ImmutableTreeSet.newSetWith(10, 30, 20, 10);
+        Assert.assertEquals(3, set.size());
+        Assert.assertEquals(0, set.indexOf(10));
+        Assert.assertEquals(2, set.indexOf(30));
+        Assert.assertEquals(-1, set.indexOf(15));
+        Assert.assertEquals(3, this.classUnderTest(Collections.<Integer>reverseOrder()).indexOf(1));
+    }
+
+    @Test
+    public void asParallel()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.ofAll(Interval.oneTo(100));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            Assert.assertEquals(Interval.oneTo(100), set.asParallel(executorService, 3).toList());
+            Assert.assertEquals(50, set.asParallel(executorService, 7).count(IntegerPredicates.isEven()));
+            Assert.assertEquals(Integer.valueOf(51), set.asParallel(executorService, 5).detect(Predicates.greaterThan(50)));
+            Assert.assertTrue(set.asParallel(executorService, 10).anySatisfy(Predicates.equal(100)));
+            Assert.assertTrue(set.asParallel(executorService, 10).allSatisfy(Predicates.lessThan(101)));
+            Assert.assertEquals(
+                    Interval.fromTo(20, 29),
+                    ((ImmutableSortedSet<Integer>) set.castToSortedSet().subSet(20, 30)).asParallel(executorService, 4).toList());
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        ImmutableTreeSet<Integer> set = (ImmutableTreeSet<Integer>) SortedSets.immutable.ofAll(Interval.oneTo(10));
+        Assert.assertEquals(3, set.getBatchCount(3));
+        MutableList<Integer> result = FastList.newList();
+        for (int i = 0; i < 3; i++)
+        {
+            set.batchForEach(CollectionAddProcedure.on(result), i, 3);
+        }
+        Assert.assertEquals(Interval.oneTo(10), result);
     }
 
     @Override
@@ -53,6 +53,8 @@ import com.gs.collections.impl.factory.Stacks;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
@@ -730,6 +732,16 @@ public abstract class StackIterableTestCase
         Assert.assertEquals(10.0f, stack.sumOfFloat(Integer::floatValue), 0.001);
     }
 
+    @Test
+    public void sumBy()
+    {
+        StackIterable<Integer> stack = this.newStackFromTopToBottom(1, 2, 3, 4);
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(1, 4L, 0, 6L), stack.sumByInt(each -> each % 2, each -> each));
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(1, 4L, 0, 6L), stack.sumByLong(each -> each % 2, Integer::longValue));
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(1, 4.0, 0, 6.0), stack.sumByDouble(each -> each % 2, Integer::doubleValue));
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(1, 4.0, 0, 6.0), stack.sumByFloat(each -> each % 2, Integer::floatValue));
+    }
+
     @Test
     public void max()
     {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link DirectBuffers}.
+ */
+public class DirectBuffersTest
+{
+    private static final int CAPACITY = 8 << 20;
+
+    @Test
+    public void freeReleasesMemory()
+    {
+        Assert.assertTrue(DirectBuffers.canFree());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACITY);
+        long usedBeforeFree = DirectBuffersTest.directMemoryUsed();
+        DirectBuffers.free(buffer);
+        long usedAfterFree = DirectBuffersTest.directMemoryUsed();
+        // The buffer is still reachable, so the memory was not released by the garbage collector
+        Assert.assertEquals(CAPACITY, buffer.capacity());
+        Assert.assertTrue(usedBeforeFree - usedAfterFree >= CAPACITY);
+    }
+
+    @Test
+    public void freeIgnoresHeapBuffersAndNull()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        DirectBuffers.free(buffer);
+        DirectBuffers.free(null);
+        buffer.putLong(0, 1L);
+        Assert.assertEquals(1L, buffer.getLong(0));
+    }
+
+    public static long directMemoryUsed()
+    {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class))
+        {
+            if ("direct".equals(pool.getName()))
+            {
+                return pool.getMemoryUsed();
+            }
+        }
+        throw new AssertionError("No direct buffer pool");
+    }
+}